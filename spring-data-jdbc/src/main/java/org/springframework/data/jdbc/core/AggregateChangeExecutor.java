@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.AggregateChange;
@@ -47,7 +50,34 @@ class AggregateChangeExecutor {
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		// consecutive inserts of the same property path get executed together
+		List<DbAction.Insert<?>> inserts = new ArrayList<>();
+
+		try {
+
+			aggregateChange.forEachAction(action -> {
+
+				if (action instanceof DbAction.Insert) {
+
+					DbAction.Insert<?> insert = (DbAction.Insert<?>) action;
+
+					if (!inserts.isEmpty() && !inserts.get(0).getPropertyPath().equals(insert.getPropertyPath())) {
+						executeInserts(inserts, executionContext);
+					}
+
+					inserts.add(insert);
+					return;
+				}
+
+				executeInserts(inserts, executionContext);
+				execute(action, executionContext);
+			});
+
+			executeInserts(inserts, executionContext);
+			accessStrategy.flush();
+		} finally {
+			accessStrategy.afterAggregateChange();
+		}
 
 		T root = executionContext.populateIdsIfNecessary();
 		root = root == null ? aggregateChange.getEntity() : root;
@@ -59,6 +89,28 @@ class AggregateChangeExecutor {
 		return root;
 	}
 
+	private void executeInserts(List<DbAction.Insert<?>> inserts, JdbcAggregateChangeExecutionContext executionContext) {
+
+		if (inserts.isEmpty()) {
+			return;
+		}
+
+		try {
+
+			if (inserts.size() == 1) {
+				execute(inserts.get(0), executionContext);
+			} else {
+				executionContext.executeInserts(inserts);
+			}
+		} catch (DbActionExecutionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DbActionExecutionException(inserts, e);
+		} finally {
+			inserts.clear();
+		}
+	}
+
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
 
 		try {
@@ -70,6 +122,10 @@ class AggregateChangeExecutor {
 				executionContext.executeUpdateRoot((DbAction.UpdateRoot<?>) action);
 			} else if (action instanceof DbAction.Update) {
 				executionContext.executeUpdate((DbAction.Update<?>) action);
+			} else if (action instanceof DbAction.MergeRoot) {
+				executionContext.executeMergeRoot((DbAction.MergeRoot<?>) action);
+			} else if (action instanceof DbAction.Merge) {
+				executionContext.executeMerge((DbAction.Merge<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Collects the ids of all aggregates referenced through {@link AggregateReference}s from a set of aggregates,
+ * including references held by entities nested in the aggregates. Ids get deduplicated per referenced aggregate type.
+ *
+ * @since 2.3
+ */
+class AggregateReferenceCollector {
+
+	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
+	private final Map<Class<?>, Set<Object>> ids = new LinkedHashMap<>();
+
+	AggregateReferenceCollector(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context) {
+		this.context = context;
+	}
+
+	/**
+	 * Collects the references of the given aggregates.
+	 *
+	 * @param aggregates the aggregates to inspect.
+	 * @param domainType the type of the aggregate roots.
+	 * @return the referenced ids by the type of the referenced aggregate root.
+	 */
+	Map<Class<?>, Set<Object>> collect(Iterable<?> aggregates, Class<?> domainType) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+
+		for (Object aggregate : aggregates) {
+			collect(entity, aggregate);
+		}
+
+		return ids;
+	}
+
+	private void collect(RelationalPersistentEntity<?> entity, @Nullable Object bean) {
+
+		if (bean == null) {
+			return;
+		}
+
+		PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(bean);
+
+		entity.doWithAll(property -> {
+
+			Object value = accessor.getProperty(property);
+			if (value == null) {
+				return;
+			}
+
+			if (AggregateReference.class.isAssignableFrom(property.getActualType())) {
+				forEachElement(property, value, reference -> addReference(property, (AggregateReference<?, ?>) reference));
+			} else if (property.isEntity()) {
+
+				RelationalPersistentEntity<?> nestedEntity = context.getRequiredPersistentEntity(property.getActualType());
+				forEachElement(property, value, element -> collect(nestedEntity, element));
+			}
+		});
+	}
+
+	private void addReference(RelationalPersistentProperty property, @Nullable AggregateReference<?, ?> reference) {
+
+		if (reference == null || reference.getId() == null) {
+			return;
+		}
+
+		TypeInformation<?> referenceType = property.getTypeInformation().getRequiredActualType()
+				.getRequiredSuperTypeInformation(AggregateReference.class);
+		Class<?> targetType = referenceType.getTypeArguments().get(0).getType();
+
+		ids.computeIfAbsent(targetType, it -> new LinkedHashSet<>()).add(reference.getId());
+	}
+
+	private static void forEachElement(RelationalPersistentProperty property, Object value,
+			Consumer<Object> action) {
+
+		if (property.isMap()) {
+			((Map<?, ?>) value).values().forEach(action);
+		} else if (value instanceof Collection) {
+			((Collection<?>) value).forEach(action);
+		} else if (value instanceof Object[]) {
+			Arrays.asList((Object[]) value).forEach(action);
+		} else {
+			action.accept(value);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The aggregates referenced through {@link AggregateReference}s of a set of aggregates, loaded in bulk by
+ * {@link JdbcAggregateOperations#resolveReferences(Iterable, Class)}. Aggregates are looked up by their type and id.
+ *
+ * @since 2.3
+ */
+public final class AggregateReferences {
+
+	private final Map<Class<?>, Map<Object, Object>> aggregatesByType;
+
+	AggregateReferences(Map<Class<?>, Map<Object, Object>> aggregatesByType) {
+		this.aggregatesByType = aggregatesByType;
+	}
+
+	/**
+	 * Returns the aggregate the given {@link AggregateReference} points to.
+	 *
+	 * @param reference the reference to resolve. Must not be {@literal null}.
+	 * @param type the type of the referenced aggregate root. Must not be {@literal null}.
+	 * @param <T> the type of the referenced aggregate root.
+	 * @return the referenced aggregate or {@literal null} if the reference was not part of the resolved aggregates or
+	 *         the referenced aggregate doesn't exist.
+	 */
+	@Nullable
+	public <T> T get(AggregateReference<T, ?> reference, Class<T> type) {
+
+		Assert.notNull(reference, "Reference must not be null!");
+
+		Object id = reference.getId();
+		return id == null ? null : getAggregates(type).get(id);
+	}
+
+	/**
+	 * Returns all resolved aggregates of the given type.
+	 *
+	 * @param type the type of the referenced aggregate root. Must not be {@literal null}.
+	 * @param <T> the type of the referenced aggregate root.
+	 * @return the aggregates by their id. Guaranteed to be not {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Map<Object, T> getAggregates(Class<T> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		Map<Object, T> aggregates = (Map<Object, T>) aggregatesByType.get(type);
+		return aggregates == null ? Collections.emptyMap() : Collections.unmodifiableMap(aggregates);
+	}
+}
@@ -25,13 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
-import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -43,6 +44,7 @@ import org.springframework.data.relational.core.mapping.PersistentPropertyPathEx
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -62,6 +64,8 @@ class JdbcAggregateChangeExecutionContext {
 	private final DataAccessStrategy accessStrategy;
 
 	private final Map<DbAction<?>, DbActionExecutionResult> results = new LinkedHashMap<>();
+	private final List<DbActionExecutionResult> resultsWithGeneratedId = new ArrayList<>();
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, PathInfo> pathInfos = new HashMap<>();
 	@Nullable private Long version;
 
 	JdbcAggregateChangeExecutionContext(JdbcConverter converter, DataAccessStrategy accessStrategy) {
@@ -104,6 +108,62 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(insert, id));
 	}
 
+	/**
+	 * Executes consecutive inserts of entities of the same property path. Unless an id of one of the entities needs to
+	 * be generated by the database, all entities get passed to {@link DataAccessStrategy#insertAll(List, Class, List)}
+	 * together.
+	 *
+	 * @param inserts the inserts, all for the same property path.
+	 */
+	@SuppressWarnings("unchecked")
+	void executeInserts(List<DbAction.Insert<?>> inserts) {
+
+		if (inserts.size() == 1 || requiresGeneratedIds(inserts)) {
+
+			for (DbAction.Insert<?> insert : inserts) {
+				executeInsert(insert);
+			}
+			return;
+		}
+
+		Class<Object> entityType = (Class<Object>) inserts.get(0).getEntityType();
+		List<Object> entities = new ArrayList<>(inserts.size());
+		List<Identifier> identifiers = new ArrayList<>(inserts.size());
+
+		for (DbAction.Insert<?> insert : inserts) {
+
+			entities.add(insert.getEntity());
+			identifiers.add(getParentKeys(insert, converter));
+		}
+
+		List<Object> ids = accessStrategy.insertAll(entities, entityType, identifiers);
+
+		for (int i = 0; i < inserts.size(); i++) {
+			add(new DbActionExecutionResult(inserts.get(i), ids.get(i)));
+		}
+	}
+
+	private boolean requiresGeneratedIds(List<DbAction.Insert<?>> inserts) {
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(inserts.get(0).getEntityType());
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+
+		if (idProperty == null) {
+			return false;
+		}
+
+		for (DbAction.Insert<?> insert : inserts) {
+
+			Object id = persistentEntity.getIdentifierAccessor(insert.getEntity()).getIdentifier();
+
+			if (id == null || (idProperty.getType().isPrimitive() && ((Number) id).longValue() == 0)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	<T> void executeUpdateRoot(DbAction.UpdateRoot<T> update) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
@@ -118,7 +178,7 @@ class JdbcAggregateChangeExecutionContext {
 
 	<T> void executeUpdate(DbAction.Update<T> update) {
 
-		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
+		if (!accessStrategy.update(update.getEntity(), update.getEntityType(), update.getPropertyPath())) {
 
 			throw new IncorrectUpdateSemanticsDataAccessException(
 					String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
@@ -155,16 +215,14 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.deleteAll(delete.getPropertyPath());
 	}
 
-	<T> void executeMerge(DbAction.Merge<T> merge) {
+	<T> void executeMergeRoot(DbAction.MergeRoot<T> merge) {
+		accessStrategy.upsert(merge.getEntity(), merge.getEntityType(), Identifier.empty());
+	}
 
-		// temporary implementation
-		if (!accessStrategy.update(merge.getEntity(), merge.getEntityType())) {
+	<T> void executeMerge(DbAction.Merge<T> merge) {
 
-			Object id = accessStrategy.insert(merge.getEntity(), merge.getEntityType(), getParentKeys(merge, converter));
-			add(new DbActionExecutionResult(merge, id));
-		} else {
-			add(new DbActionExecutionResult());
-		}
+		Object id = accessStrategy.upsert(merge.getEntity(), merge.getEntityType(), getParentKeys(merge, converter));
+		add(new DbActionExecutionResult(merge, id));
 	}
 
 	<T> void executeAcquireLock(DbAction.AcquireLockRoot<T> acquireLock) {
@@ -176,29 +234,41 @@ class JdbcAggregateChangeExecutionContext {
 	}
 
 	private void add(DbActionExecutionResult result) {
+
 		results.put(result.getAction(), result);
+
+		if (result.getAction() instanceof DbAction.WithGeneratedId) {
+			resultsWithGeneratedId.add(result);
+		}
 	}
 
 	private Identifier getParentKeys(DbAction.WithDependingOn<?> action, JdbcConverter converter) {
 
-		Object id = getParentId(action);
+		PathInfo pathInfo = getPathInfo(action.getPropertyPath());
+		Object id = getParentId(action, pathInfo);
 
-		JdbcIdentifierBuilder identifier = JdbcIdentifierBuilder //
-				.forBackReferences(converter, new PersistentPropertyPathExtension(context, action.getPropertyPath()), id);
+		Identifier identifier = Identifier.of(pathInfo.getReverseColumnName(), id, pathInfo.getReverseColumnType());
 
 		for (Map.Entry<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifier : action.getQualifiers()
 				.entrySet()) {
-			identifier = identifier.withQualifier(new PersistentPropertyPathExtension(context, qualifier.getKey()),
-					qualifier.getValue());
+
+			Assert.notNull(qualifier.getValue(), "Value must not be null");
+
+			PathInfo qualifierInfo = getPathInfo(qualifier.getKey());
+			identifier = identifier.withPart(qualifierInfo.getQualifierColumn(), qualifier.getValue(),
+					qualifierInfo.getQualifierColumnType());
 		}
 
-		return identifier.build();
+		return identifier;
+	}
+
+	private PathInfo getPathInfo(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return pathInfos.computeIfAbsent(path, it -> new PathInfo(new PersistentPropertyPathExtension(context, it)));
 	}
 
-	private Object getParentId(DbAction.WithDependingOn<?> action) {
+	private Object getParentId(DbAction.WithDependingOn<?> action, PathInfo pathInfo) {
 
-		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, action.getPropertyPath());
-		PersistentPropertyPathExtension idPath = path.getIdDefiningParentPath();
+		PersistentPropertyPathExtension idPath = pathInfo.getIdDefiningParentPath();
 
 		DbAction.WithEntity<?> idOwningAction = getIdOwningAction(action, idPath);
 
@@ -287,33 +357,37 @@ class JdbcAggregateChangeExecutionContext {
 
 		T newRoot = null;
 
-		// have the results so that the inserts on the leaves come first.
-		List<DbActionExecutionResult> reverseResults = new ArrayList<>(results.values());
-		Collections.reverse(reverseResults);
+		StagedValues cascadingValues = new StagedValues(this::getPropertyValue);
 
-		StagedValues cascadingValues = new StagedValues();
-
-		for (DbActionExecutionResult result : reverseResults) {
+		// process the results in reverse order so that the inserts on the leaves come first.
+		for (int i = resultsWithGeneratedId.size() - 1; i >= 0; i--) {
 
+			DbActionExecutionResult result = resultsWithGeneratedId.get(i);
 			DbAction<?> action = result.getAction();
+			DbAction.WithEntity<?> withEntity = (DbAction.WithGeneratedId<?>) action;
 
-			if (!(action instanceof DbAction.WithGeneratedId)) {
+			// neither an id nor a changed child to set, so the entity stays as it is.
+			if (result.getId() == null && !cascadingValues.hasValues(action)) {
 				continue;
 			}
 
-			DbAction.WithEntity<?> withEntity = (DbAction.WithGeneratedId<?>) action;
 			Object newEntity = setIdAndCascadingProperties(withEntity, result.getId(), cascadingValues);
 
 			// the id property was immutable so we have to propagate changes up the tree
 			if (newEntity != withEntity.getEntity()) {
 
-				if (action instanceof DbAction.Insert) {
-					DbAction.Insert<?> insert = (DbAction.Insert<?>) action;
+				if (action instanceof DbAction.WithDependingOn) {
+					DbAction.WithDependingOn<?> dependent = (DbAction.WithDependingOn<?>) action;
+
+					// only entities of actions with generated ids get replaced, values staged for other actions would be lost
+					if (!(dependent.getDependingOn() instanceof DbAction.WithGeneratedId)) {
+						continue;
+					}
 
-					Pair<?, ?> qualifier = insert.getQualifier();
+					Pair<?, ?> qualifier = dependent.getQualifier();
 
-					cascadingValues.stage(insert.getDependingOn(), insert.getPropertyPath(),
-							qualifier == null ? null : qualifier.getSecond(), newEntity);
+					cascadingValues.stage(dependent.getDependingOn(), dependent.getPropertyPath(),
+							qualifier == null ? null : qualifier.getSecond(), dependent.getEntity(), newEntity);
 
 				} else if (action instanceof DbAction.InsertRoot) {
 					newRoot = (T) newEntity;
@@ -347,17 +421,38 @@ class JdbcAggregateChangeExecutionContext {
 	@SuppressWarnings("unchecked")
 	private PersistentPropertyPath<?> getRelativePath(DbAction<?> action, PersistentPropertyPath<?> pathToValue) {
 
-		if (action instanceof DbAction.Insert) {
-			return pathToValue.getExtensionForBaseOf(((DbAction.Insert) action).getPropertyPath());
+		if (action instanceof DbAction.WithDependingOn) {
+			return pathToValue.getExtensionForBaseOf(((DbAction.WithDependingOn) action).getPropertyPath());
 		}
 
-		if (action instanceof DbAction.InsertRoot) {
+		if (action instanceof DbAction.InsertRoot || action instanceof DbAction.MergeRoot) {
 			return pathToValue;
 		}
 
 		throw new IllegalArgumentException(String.format("DbAction of type %s is not supported.", action.getClass()));
 	}
 
+	/**
+	 * Returns the value {@code pathToValue} currently points to in the entity of {@code action}.
+	 */
+	@Nullable
+	private Object getPropertyValue(DbAction<?> action, PersistentPropertyPath<?> pathToValue) {
+
+		Object value = ((DbAction.WithEntity<?>) action).getEntity();
+
+		for (Object property : getRelativePath(action, pathToValue)) {
+
+			if (value == null) {
+				return null;
+			}
+
+			value = context.getRequiredPersistentEntity(value.getClass()).getPropertyAccessor(value)
+					.getProperty((RelationalPersistentProperty) property);
+		}
+
+		return value;
+	}
+
 	private <T> RelationalPersistentEntity<T> getRequiredPersistentEntity(Class<T> type) {
 		return (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type);
 	}
@@ -390,17 +485,86 @@ class JdbcAggregateChangeExecutionContext {
 		}
 	}
 
+	/**
+	 * Back reference and qualifier columns of a property path, resolved once per path instead of once per row, so
+	 * building the {@link Identifier} of a row allocates nothing but the identifier itself.
+	 */
+	private final class PathInfo {
+
+		private final PersistentPropertyPathExtension extension;
+
+		@Nullable private PersistentPropertyPathExtension idDefiningParentPath;
+		@Nullable private SqlIdentifier reverseColumnName;
+		@Nullable private Class<?> reverseColumnType;
+		@Nullable private SqlIdentifier qualifierColumn;
+		@Nullable private Class<?> qualifierColumnType;
+
+		PathInfo(PersistentPropertyPathExtension extension) {
+			this.extension = extension;
+		}
+
+		PersistentPropertyPathExtension getIdDefiningParentPath() {
+
+			if (idDefiningParentPath == null) {
+				idDefiningParentPath = extension.getIdDefiningParentPath();
+			}
+			return idDefiningParentPath;
+		}
+
+		SqlIdentifier getReverseColumnName() {
+
+			if (reverseColumnName == null) {
+				reverseColumnName = extension.getReverseColumnName();
+			}
+			return reverseColumnName;
+		}
+
+		Class<?> getReverseColumnType() {
+
+			if (reverseColumnType == null) {
+				reverseColumnType = converter.getColumnType(getIdDefiningParentPath().getRequiredIdProperty());
+			}
+			return reverseColumnType;
+		}
+
+		SqlIdentifier getQualifierColumn() {
+
+			if (qualifierColumn == null) {
+				qualifierColumn = extension.getQualifierColumn();
+			}
+			return qualifierColumn;
+		}
+
+		Class<?> getQualifierColumnType() {
+
+			if (qualifierColumnType == null) {
+				qualifierColumnType = extension.getQualifierColumnType();
+			}
+			return qualifierColumnType;
+		}
+	}
+
 	/**
 	 * Accumulates information about staged immutable objects in an aggregate that require updating because their state
-	 * changed because of {@link DbAction} execution.
+	 * changed because of {@link DbAction} execution. Multivalued properties get staged as a copy of their current value
+	 * in which only the changed elements are replaced.
 	 */
 	private static class StagedValues {
 
 		static final List<MultiValueAggregator> aggregators = Arrays.asList(SetAggregator.INSTANCE, MapAggregator.INSTANCE,
 				ListAggregator.INSTANCE, SingleElementAggregator.INSTANCE);
 
+		private final BiFunction<DbAction<?>, PersistentPropertyPath<?>, Object> currentValues;
+
 		Map<DbAction, Map<PersistentPropertyPath, Object>> values = new HashMap<>();
 
+		/**
+		 * @param currentValues looks up the value a path currently points to in the entity of an action.
+		 */
+		StagedValues(BiFunction<DbAction<?>, PersistentPropertyPath<?>, Object> currentValues) {
+			this.currentValues = currentValues;
+		}
+
 		/**
 		 * Adds a value that needs to be set in an entity higher up in the tree of entities in the aggregate. If the
 		 * attribute to be set is multivalued this method expects only a single element.
@@ -410,20 +574,22 @@ class JdbcAggregateChangeExecutionContext {
 		 * @param path The path to the property in which to set the value. Must not be {@literal null}.
 		 * @param qualifier If {@code path} is a qualified multivalued properties this parameter contains the qualifier. May
 		 *          be {@literal null}.
+		 * @param originalValue The value replaced by {@code value}. Must not be {@literal null}.
 		 * @param value The value to be set. Must not be {@literal null}.
 		 */
 		@SuppressWarnings("unchecked")
-		<T> void stage(DbAction<?> action, PersistentPropertyPath path, @Nullable Object qualifier, Object value) {
+		<T> void stage(DbAction<?> action, PersistentPropertyPath path, @Nullable Object qualifier, Object originalValue,
+				Object value) {
 
 			MultiValueAggregator<T> aggregator = getAggregatorFor(path);
 
 			Map<PersistentPropertyPath, Object> valuesForPath = this.values.computeIfAbsent(action,
 					dbAction -> new HashMap<>());
 
-			T currentValue = (T) valuesForPath.computeIfAbsent(path,
-					persistentPropertyPath -> aggregator.createEmptyInstance());
+			T currentValue = (T) valuesForPath.computeIfAbsent(path, persistentPropertyPath -> aggregator
+					.createInstance(() -> (T) currentValues.apply(action, persistentPropertyPath)));
 
-			Object newValue = aggregator.add(currentValue, qualifier, value);
+			Object newValue = aggregator.add(currentValue, qualifier, originalValue, value);
 
 			valuesForPath.put(path, newValue);
 		}
@@ -449,6 +615,13 @@ class JdbcAggregateChangeExecutionContext {
 		void forEachPath(DbAction<?> dbAction, BiConsumer<PersistentPropertyPath, Object> action) {
 			values.getOrDefault(dbAction, Collections.emptyMap()).forEach(action);
 		}
+
+		/**
+		 * Returns whether values got staged for the given {@link DbAction}.
+		 */
+		boolean hasValues(DbAction<?> dbAction) {
+			return values.containsKey(dbAction);
+		}
 	}
 
 	interface MultiValueAggregator<T> {
@@ -461,10 +634,15 @@ class JdbcAggregateChangeExecutionContext {
 			return handledType().isAssignableFrom(property.getType());
 		}
 
+		/**
+		 * Creates the instance to add values to.
+		 *
+		 * @param currentValue supplies the value the property currently holds. Might supply {@literal null}.
+		 */
 		@Nullable
-		T createEmptyInstance();
+		T createInstance(Supplier<T> currentValue);
 
-		T add(@Nullable T aggregate, @Nullable Object qualifier, Object value);
+		T add(@Nullable T aggregate, @Nullable Object qualifier, Object originalValue, Object value);
 
 	}
 
@@ -477,17 +655,21 @@ class JdbcAggregateChangeExecutionContext {
 			return Set.class;
 		}
 
+		@SuppressWarnings("unchecked")
 		@Override
-		public Set createEmptyInstance() {
-			return new HashSet();
+		public Set createInstance(Supplier<Set> currentValue) {
+
+			Set set = currentValue.get();
+			return set == null ? new HashSet() : new HashSet(set);
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
-		public Set add(@Nullable Set set, @Nullable Object qualifier, Object value) {
+		public Set add(@Nullable Set set, @Nullable Object qualifier, Object originalValue, Object value) {
 
 			Assert.notNull(set, "Set must not be null");
 
+			set.remove(originalValue);
 			set.add(value);
 			return set;
 		}
@@ -502,19 +684,24 @@ class JdbcAggregateChangeExecutionContext {
 			return property.isCollectionLike();
 		}
 
+		@SuppressWarnings("unchecked")
 		@Override
-		public List createEmptyInstance() {
-			return new ArrayList();
+		public List createInstance(Supplier<List> currentValue) {
+
+			List list = currentValue.get();
+			return list == null ? new ArrayList() : new ArrayList(list);
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
-		public List add(@Nullable List list, @Nullable Object qualifier, Object value) {
+		public List add(@Nullable List list, @Nullable Object qualifier, Object originalValue, Object value) {
 
 			Assert.notNull(list, "List must not be null.");
 
 			int index = (int) qualifier;
-			if (index >= list.size()) {
+			if (index < list.size() && list.get(index) == originalValue) {
+				list.set(index, value);
+			} else if (index >= list.size()) {
 				list.add(value);
 			} else {
 				list.add(index, value);
@@ -533,14 +720,17 @@ class JdbcAggregateChangeExecutionContext {
 			return Map.class;
 		}
 
+		@SuppressWarnings("unchecked")
 		@Override
-		public Map createEmptyInstance() {
-			return new HashMap();
+		public Map createInstance(Supplier<Map> currentValue) {
+
+			Map map = currentValue.get();
+			return map == null ? new HashMap() : new HashMap(map);
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
-		public Map add(@Nullable Map map, @Nullable Object qualifier, Object value) {
+		public Map add(@Nullable Map map, @Nullable Object qualifier, Object originalValue, Object value) {
 
 			Assert.notNull(map, "Map must not be null.");
 
@@ -555,12 +745,12 @@ class JdbcAggregateChangeExecutionContext {
 
 		@Override
 		@Nullable
-		public Object createEmptyInstance() {
+		public Object createInstance(Supplier<Object> currentValue) {
 			return null;
 		}
 
 		@Override
-		public Object add(@Nullable Object __null, @Nullable Object qualifier, Object value) {
+		public Object add(@Nullable Object __null, @Nullable Object qualifier, Object originalValue, Object value) {
 			return value;
 		}
 	}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -123,6 +125,17 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all aggregates of a given type as a {@link Stream}. Aggregates may get read lazily from an open database
+	 * cursor, so the stream must be closed once it is no longer needed, for example by using try-with-resources.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.3
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
 	/**
 	 * Checks if an aggregate identified by type and id exists in the database.
 	 *
@@ -154,4 +167,18 @@ public interface JdbcAggregateOperations {
 	 * @since 2.0
 	 */
 	<T> Page<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Loads the aggregates referenced through {@link org.springframework.data.jdbc.core.mapping.AggregateReference}s by
+	 * the given aggregates, including references held by entities contained in these aggregates. Referenced aggregates
+	 * get loaded with a single {@link #findAllById(Iterable, Class)} per referenced aggregate type, so resolving the
+	 * references of many aggregates doesn't require a query per reference.
+	 *
+	 * @param aggregates the aggregates whose references get resolved. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a lookup for the referenced aggregates. Guaranteed to be not {@code null}.
+	 * @since 2.3
+	 */
+	<T> AggregateReferences resolveReferences(Iterable<? extends T> aggregates, Class<T> domainType);
 }
@@ -16,10 +16,12 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,11 +31,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.callback.EntityCallback;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityMergeWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -60,11 +64,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final RelationalEntityDeleteWriter jdbcEntityDeleteWriter;
 	private final RelationalEntityInsertWriter jdbcEntityInsertWriter;
 	private final RelationalEntityUpdateWriter jdbcEntityUpdateWriter;
+	private final RelationalEntityMergeWriter jdbcEntityMergeWriter;
 
 	private final DataAccessStrategy accessStrategy;
 	private final AggregateChangeExecutor executor;
 
+	private final RelationalEventObservers observers;
+
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean detectCallbacks = false;
+	private @Nullable QueryResultCache queryResultCache;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -89,11 +98,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
+		this.jdbcEntityMergeWriter = new RelationalEntityMergeWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 
-		setEntityCallbacks(EntityCallbacks.create(publisher));
+		this.observers = RelationalEventObservers.of(publisher);
+		this.entityCallbacks = EntityCallbacks.create(publisher);
+		this.detectCallbacks = true;
 	}
 
 	/**
@@ -118,8 +130,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
+		this.jdbcEntityMergeWriter = new RelationalEntityMergeWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
+
+		this.observers = RelationalEventObservers.of(publisher);
 	}
 
 	/**
@@ -131,6 +146,17 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(entityCallbacks, "Callbacks must not be null.");
 
 		this.entityCallbacks = entityCallbacks;
+		this.detectCallbacks = false;
+	}
+
+	/**
+	 * Configures a {@link QueryResultCache} to evict results from when aggregates get saved or deleted.
+	 *
+	 * @param queryResultCache the {@link QueryResultCache}. May be {@literal null}.
+	 * @since 2.3
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
 	}
 
 	/*
@@ -144,8 +170,15 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
 
-		Function<T, MutableAggregateChange<T>> changeCreator = persistentEntity.isNew(instance) ? this::createInsertChange
-				: this::createUpdateChange;
+		Function<T, MutableAggregateChange<T>> changeCreator;
+		if (persistentEntity.isNew(instance)) {
+			changeCreator = this::createInsertChange;
+		} else if (persistentEntity.hasAssignedId() && !persistentEntity.hasVersionProperty()) {
+			// the row of an assigned id might not exist yet
+			changeCreator = this::createMergeChange;
+		} else {
+			changeCreator = this::createUpdateChange;
+		}
 
 		return store(instance, changeCreator, persistentEntity);
 	}
@@ -236,7 +269,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> all = accessStrategy.findAll(domainType, sort);
-		return triggerAfterLoad(all);
+		return triggerAfterLoad(all, domainType);
 	}
 
 	/*
@@ -248,8 +281,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
-		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+		List<T> content = triggerAfterLoad(accessStrategy.findAll(domainType, pageable), domainType);
 
 		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(domainType));
 	}
@@ -264,7 +296,19 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> all = accessStrategy.findAll(domainType);
-		return triggerAfterLoad(all);
+		return triggerAfterLoad(all, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return accessStrategy.streamAll(domainType).map(this::triggerAfterLoad);
 	}
 
 	/*
@@ -278,7 +322,36 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
-		return triggerAfterLoad(allById);
+		return triggerAfterLoad(allById, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#resolveReferences(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> AggregateReferences resolveReferences(Iterable<? extends T> aggregates, Class<T> domainType) {
+
+		Assert.notNull(aggregates, "Aggregates must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		Map<Class<?>, Set<Object>> referencedIds = new AggregateReferenceCollector(context).collect(aggregates,
+				domainType);
+		Map<Class<?>, Map<Object, Object>> aggregatesByType = new HashMap<>(referencedIds.size());
+
+		referencedIds.forEach((type, ids) -> {
+
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+			Map<Object, Object> aggregatesById = new HashMap<>(ids.size());
+
+			for (Object aggregate : findAllById(ids, type)) {
+				aggregatesById.put(entity.getIdentifierAccessor(aggregate).getRequiredIdentifier(), aggregate);
+			}
+
+			aggregatesByType.put(type, aggregatesById);
+		});
+
+		return new AggregateReferences(aggregatesByType);
 	}
 
 	/*
@@ -321,6 +394,15 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		MutableAggregateChange<?> change = createDeletingChange(domainType);
 		executor.execute(change);
+
+		evictQueryResults(domainType);
+	}
+
+	private void evictQueryResults(Class<?> domainType) {
+
+		if (queryResultCache != null) {
+			queryResultCache.evict(domainType);
+		}
 	}
 
 	private <T> T store(T aggregateRoot, Function<T, MutableAggregateChange<T>> changeCreator,
@@ -338,6 +420,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		T entityAfterExecution = executor.execute(change);
 
+		evictQueryResults(persistentEntity.getType());
+
 		Object identifier = persistentEntity.getIdentifierAccessor(entityAfterExecution).getIdentifier();
 
 		Assert.notNull(identifier, "After saving the identifier must not be null!");
@@ -354,6 +438,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		executor.execute(change);
 
+		evictQueryResults(domainType);
+
 		triggerAfterDelete(entity, id, change);
 	}
 
@@ -371,6 +457,13 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
+	private <T> MutableAggregateChange<T> createMergeChange(T instance) {
+
+		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		jdbcEntityMergeWriter.write(instance, aggregateChange);
+		return aggregateChange;
+	}
+
 	private <T> MutableAggregateChange<T> createDeletingChange(Object id, @Nullable T entity, Class<T> domainType) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forDelete(domainType, entity);
@@ -385,7 +478,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
-	private <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
+	private <T> List<T> triggerAfterLoad(Iterable<T> all, Class<T> domainType) {
 
 		List<T> result = new ArrayList<>();
 
@@ -393,42 +486,74 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 			result.add(triggerAfterLoad(e));
 		}
 
+		if (observers.hasListeners(AfterLoadAllEvent.class, domainType)) {
+			publisher.publishEvent(new AfterLoadAllEvent<>(result, domainType));
+		}
+
 		return result;
 	}
 
 	private <T> T triggerAfterLoad(T entity) {
 
-		publisher.publishEvent(new AfterLoadEvent<>(entity));
+		Class<?> entityType = entity.getClass();
+
+		if (observers.hasListeners(AfterLoadEvent.class, entityType)) {
+			publisher.publishEvent(new AfterLoadEvent<>(entity));
+		}
 
-		return entityCallbacks.callback(AfterLoadCallback.class, entity);
+		return hasCallbacks(AfterLoadCallback.class, entityType)
+				? entityCallbacks.callback(AfterLoadCallback.class, entity)
+				: entity;
 	}
 
 	private <T> T triggerBeforeConvert(T aggregateRoot) {
 
-		publisher.publishEvent(new BeforeConvertEvent<>(aggregateRoot));
+		Class<?> entityType = aggregateRoot.getClass();
 
-		return entityCallbacks.callback(BeforeConvertCallback.class, aggregateRoot);
+		if (observers.hasListeners(BeforeConvertEvent.class, entityType)) {
+			publisher.publishEvent(new BeforeConvertEvent<>(aggregateRoot));
+		}
+
+		return hasCallbacks(BeforeConvertCallback.class, entityType)
+				? entityCallbacks.callback(BeforeConvertCallback.class, aggregateRoot)
+				: aggregateRoot;
 	}
 
 	private <T> T triggerBeforeSave(T aggregateRoot, AggregateChange<T> change) {
 
-		publisher.publishEvent(new BeforeSaveEvent<>(aggregateRoot, change));
+		Class<?> entityType = change.getEntityType();
+
+		if (observers.hasListeners(BeforeSaveEvent.class, entityType)) {
+			publisher.publishEvent(new BeforeSaveEvent<>(aggregateRoot, change));
+		}
 
-		return entityCallbacks.callback(BeforeSaveCallback.class, aggregateRoot, change);
+		return hasCallbacks(BeforeSaveCallback.class, entityType)
+				? entityCallbacks.callback(BeforeSaveCallback.class, aggregateRoot, change)
+				: aggregateRoot;
 	}
 
 	private <T> T triggerAfterSave(T aggregateRoot, AggregateChange<T> change) {
 
-		publisher.publishEvent(new AfterSaveEvent<>(aggregateRoot, change));
+		Class<?> entityType = change.getEntityType();
 
-		return entityCallbacks.callback(AfterSaveCallback.class, aggregateRoot);
+		if (observers.hasListeners(AfterSaveEvent.class, entityType)) {
+			publisher.publishEvent(new AfterSaveEvent<>(aggregateRoot, change));
+		}
+
+		return hasCallbacks(AfterSaveCallback.class, entityType)
+				? entityCallbacks.callback(AfterSaveCallback.class, aggregateRoot)
+				: aggregateRoot;
 	}
 
 	private <T> void triggerAfterDelete(@Nullable T aggregateRoot, Object id, MutableAggregateChange<T> change) {
 
-		publisher.publishEvent(new AfterDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		Class<?> entityType = change.getEntityType();
 
-		if (aggregateRoot != null) {
+		if (observers.hasListeners(AfterDeleteEvent.class, entityType)) {
+			publisher.publishEvent(new AfterDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		}
+
+		if (aggregateRoot != null && hasCallbacks(AfterDeleteCallback.class, entityType)) {
 			entityCallbacks.callback(AfterDeleteCallback.class, aggregateRoot);
 		}
 	}
@@ -436,12 +561,26 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	@Nullable
 	private <T> T triggerBeforeDelete(@Nullable T aggregateRoot, Object id, MutableAggregateChange<T> change) {
 
-		publisher.publishEvent(new BeforeDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		Class<?> entityType = change.getEntityType();
+
+		if (observers.hasListeners(BeforeDeleteEvent.class, entityType)) {
+			publisher.publishEvent(new BeforeDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		}
 
 		if (aggregateRoot != null) {
-			return entityCallbacks.callback(BeforeDeleteCallback.class, aggregateRoot, change);
+			return hasCallbacks(BeforeDeleteCallback.class, entityType)
+					? entityCallbacks.callback(BeforeDeleteCallback.class, aggregateRoot, change)
+					: aggregateRoot;
 		}
 
 		return null;
 	}
+
+	/**
+	 * Callbacks can only be detected if they got looked up from the {@link ApplicationContext}. Callbacks configured
+	 * through {@link #setEntityCallbacks(EntityCallbacks)} always get invoked.
+	 */
+	private boolean hasCallbacks(Class<? extends EntityCallback> callbackType, Class<?> entityType) {
+		return !detectCallbacks || observers.hasCallbacks(callbackType, entityType);
+	}
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Local cache for the results of query methods, organized in {@link Region regions} of limited size. Each region
+ * depends on a set of tables and gets cleared when one of them gets {@link #evict(Collection) modified}.
+ * <p>
+ * Modifications within a transaction clear the affected regions right away and again when the transaction completes.
+ * Until then the transaction bypasses these regions, so results based on its uncommitted changes never get cached.
+ * <p>
+ * Results are cached per schema, so they don't leak between tenants when the schema is
+ * {@link org.springframework.data.relational.core.mapping.NamingStrategy#isSchemaPerCall() resolved on each call}.
+ * <p>
+ * Results must be read from the primary database. A read-only replica may still return the state before a
+ * modification after the corresponding eviction, which would then stay cached. Query methods routed to a replica
+ * therefore bypass the cache.
+ *
+ * @since 2.3
+ * @see org.springframework.data.jdbc.repository.query.CachedQuery
+ */
+public class QueryResultCache {
+
+	private static final Object NULL = new Object();
+
+	private final RelationalMappingContext context;
+	private final Map<Class<?>, Set<String>> tablesByType = new ConcurrentHashMap<>();
+	private final Map<String, Set<Region>> regionsByTable = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link QueryResultCache}.
+	 *
+	 * @param context used to determine the tables of aggregates. Must not be {@literal null}.
+	 */
+	public QueryResultCache(RelationalMappingContext context) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null!");
+
+		this.context = context;
+	}
+
+	/**
+	 * Creates a new {@link Region} depending on the tables of {@code domainType} and {@code additionalTables}.
+	 *
+	 * @param domainType the aggregate type the cached results are made of. Must not be {@literal null}.
+	 * @param additionalTables names of other tables the results depend on. Must not be {@literal null}.
+	 * @param maxEntries the maximum number of cached results.
+	 * @return the new {@link Region}. Guaranteed to be not {@literal null}.
+	 */
+	public Region createRegion(Class<?> domainType, Collection<String> additionalTables, int maxEntries) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(additionalTables, "Additional tables must not be null!");
+		Assert.isTrue(maxEntries > 0, "Maximum number of entries must be greater than zero!");
+
+		Set<String> tables = new HashSet<>(getTables(domainType));
+		additionalTables.forEach(it -> tables.add(normalize(it)));
+
+		Region region = new Region(tables, maxEntries);
+		tables.forEach(it -> regionsByTable.computeIfAbsent(it, key -> new CopyOnWriteArraySet<>()).add(region));
+		return region;
+	}
+
+	/**
+	 * Evicts all results depending on the tables of the aggregate {@code domainType}.
+	 *
+	 * @param domainType the modified aggregate type. Must not be {@literal null}.
+	 */
+	public void evict(Class<?> domainType) {
+		evict(getTables(domainType));
+	}
+
+	/**
+	 * Evicts all results depending on the tables of the aggregate {@code domainType} or on any of
+	 * {@code additionalTables}.
+	 *
+	 * @param domainType the modified aggregate type. Must not be {@literal null}.
+	 * @param additionalTables names of other modified tables. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public void evict(Class<?> domainType, Collection<String> additionalTables) {
+
+		Assert.notNull(additionalTables, "Additional tables must not be null!");
+
+		if (additionalTables.isEmpty()) {
+			evict(domainType);
+			return;
+		}
+
+		Set<String> tables = new HashSet<>(getTables(domainType));
+		tables.addAll(additionalTables);
+		evict(tables);
+	}
+
+	/**
+	 * Evicts all results depending on any of the given tables.
+	 *
+	 * @param tables names of the modified tables. Must not be {@literal null}.
+	 */
+	public void evict(Collection<String> tables) {
+
+		Assert.notNull(tables, "Tables must not be null!");
+
+		Set<String> normalized = new HashSet<>();
+		tables.forEach(it -> normalized.add(normalize(it)));
+
+		clear(normalized);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		Set<String> pending = getPendingTables();
+		if (pending == null) {
+
+			Set<String> newPending = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, newPending);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+					clear(newPending);
+				}
+			});
+			pending = newPending;
+		}
+
+		pending.addAll(normalized);
+	}
+
+	private Set<String> getTables(Class<?> domainType) {
+
+		return tablesByType.computeIfAbsent(domainType, type -> {
+
+			Set<String> tables = new HashSet<>();
+			tables.add(normalize(context.getRequiredPersistentEntity(type).getTableName().toSql(IdentifierProcessing.NONE)));
+			context.findPersistentPropertyPaths(type, p -> p.isEntity() && !p.isEmbedded()) //
+					.forEach(path -> tables.add(normalize(
+							new PersistentPropertyPathExtension(context, path).getTableName().toSql(IdentifierProcessing.NONE))));
+
+			return Collections.unmodifiableSet(tables);
+		});
+	}
+
+	private void clear(Set<String> tables) {
+
+		for (String table : tables) {
+			regionsByTable.getOrDefault(table, Collections.emptySet()).forEach(Region::clear);
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Set<String> getPendingTables() {
+		return (Set<String>) TransactionSynchronizationManager.getResource(this);
+	}
+
+	private static String normalize(String table) {
+		return table.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Results of a single query method keyed by its arguments. When full, the least recently used result gets dropped.
+	 */
+	public final class Region {
+
+		private final Set<String> tables;
+		private final Map<Key, Object> entries;
+		private long generation;
+
+		private Region(Set<String> tables, int maxEntries) {
+
+			this.tables = tables;
+			this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		/**
+		 * Returns the cached result for {@code arguments} or obtains and caches it using {@code query}. Results obtained
+		 * while the region got cleared don't get cached.
+		 *
+		 * @param arguments the arguments of the query method. Must not be {@literal null}.
+		 * @param query executes the query.
+		 * @return the result. May be {@literal null}.
+		 */
+		@Nullable
+		public Object get(Object[] arguments, Supplier<?> query) {
+
+			if (isModifiedInCurrentTransaction()) {
+				return query.get();
+			}
+
+			Key key = new Key(context.getNamingStrategy().getSchema(), arguments);
+			Object cached;
+			long expectedGeneration;
+
+			synchronized (this) {
+				cached = entries.get(key);
+				expectedGeneration = generation;
+			}
+
+			if (cached != null) {
+				return cached == NULL ? null : cached;
+			}
+
+			Object result = query.get();
+
+			synchronized (this) {
+				if (generation == expectedGeneration) {
+					entries.put(key, result == null ? NULL : result);
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the number of cached results.
+		 *
+		 * @return the number of cached results.
+		 */
+		public synchronized int size() {
+			return entries.size();
+		}
+
+		private synchronized void clear() {
+
+			entries.clear();
+			generation++;
+		}
+
+		private boolean isModifiedInCurrentTransaction() {
+
+			Set<String> pending = getPendingTables();
+			if (pending == null) {
+				return false;
+			}
+
+			for (String table : tables) {
+				if (pending.contains(table)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Key of the schema and the arguments, comparing arguments deeply, so arrays are compared by content.
+	 */
+	private static final class Key {
+
+		private final String schema;
+		private final Object[] arguments;
+		private final int hashCode;
+
+		Key(String schema, Object[] arguments) {
+
+			this.schema = schema;
+			this.arguments = arguments.clone();
+			this.hashCode = 31 * ObjectUtils.nullSafeHashCode(schema) + Arrays.deepHashCode(this.arguments);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) o;
+			return ObjectUtils.nullSafeEquals(schema, that.schema) && Arrays.deepEquals(arguments, that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
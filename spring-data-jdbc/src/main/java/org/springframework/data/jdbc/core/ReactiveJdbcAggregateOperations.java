@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Reactive variant of {@link JdbcAggregateOperations}. JDBC is a blocking API, so implementations perform the actual
+ * work on threads dedicated to blocking calls and never on the thread subscribing. All operations are deferred until
+ * subscription.
+ * <p>
+ * Operations do not participate in reactive transactions. Each operation runs in the imperative transaction, if any,
+ * that is active on the thread executing it.
+ *
+ * @since 2.3
+ * @see JdbcAggregateOperations
+ * @see ReactiveJdbcAggregateTemplate
+ */
+public interface ReactiveJdbcAggregateOperations {
+
+	/**
+	 * Saves an instance of an aggregate, including all the members of the aggregate.
+	 *
+	 * @param instance the aggregate root of the aggregate to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return emits the saved instance.
+	 * @see JdbcAggregateOperations#save(Object)
+	 */
+	<T> Mono<T> save(T instance);
+
+	/**
+	 * Dedicated insert function to do just the insert of an instance of an aggregate, including all the members of the
+	 * aggregate.
+	 *
+	 * @param instance the aggregate root of the aggregate to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return emits the saved instance.
+	 * @see JdbcAggregateOperations#insert(Object)
+	 */
+	<T> Mono<T> insert(T instance);
+
+	/**
+	 * Dedicated update function to do just an update of an instance of an aggregate, including all the members of the
+	 * aggregate.
+	 *
+	 * @param instance the aggregate root of the aggregate to be updated. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return emits the saved instance.
+	 * @see JdbcAggregateOperations#update(Object)
+	 */
+	<T> Mono<T> update(T instance);
+
+	/**
+	 * Deletes a single Aggregate including all entities contained in that aggregate.
+	 *
+	 * @param id the id of the aggregate root of the aggregate to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root.
+	 * @param <T> the type of the aggregate root.
+	 * @return completes once the aggregate got deleted.
+	 */
+	<T> Mono<Void> deleteById(Object id, Class<T> domainType);
+
+	/**
+	 * Delete an aggregate identified by it's aggregate root.
+	 *
+	 * @param aggregateRoot to delete. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return completes once the aggregate got deleted.
+	 */
+	<T> Mono<Void> delete(T aggregateRoot, Class<T> domainType);
+
+	/**
+	 * Delete all aggregates of a given type.
+	 *
+	 * @param domainType type of the aggregate roots to be deleted. Must not be {@code null}.
+	 * @return completes once the aggregates got deleted.
+	 */
+	Mono<Void> deleteAll(Class<?> domainType);
+
+	/**
+	 * Counts the number of aggregates of a given type.
+	 *
+	 * @param domainType the type of the aggregates to be counted.
+	 * @return emits the number of instances stored in the database.
+	 */
+	Mono<Long> count(Class<?> domainType);
+
+	/**
+	 * Load an aggregate from the database.
+	 *
+	 * @param id the id of the aggregate to load. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return emits the loaded aggregate or completes empty if no aggregate with the given id exists.
+	 */
+	<T> Mono<T> findById(Object id, Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type that are identified by the given ids.
+	 *
+	 * @param ids of the aggregate roots identifying the aggregates to load. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return emits the loaded aggregates.
+	 */
+	<T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type. Aggregates get read from an open database cursor as they are requested, so
+	 * they don't get materialized all at once. The cursor gets closed when the {@link Flux} completes, fails or gets
+	 * cancelled.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return emits the loaded aggregates.
+	 * @see JdbcAggregateOperations#streamAll(Class)
+	 */
+	<T> Flux<T> findAll(Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type, sorted.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return emits the loaded aggregates.
+	 */
+	<T> Flux<T> findAll(Class<T> domainType, Sort sort);
+
+	/**
+	 * Load a page of (potentially sorted) aggregates of a given type.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return emits the loaded page.
+	 */
+	<T> Mono<Page<T>> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Checks if an aggregate identified by type and id exists in the database.
+	 *
+	 * @param id the id of the aggregate root.
+	 * @param domainType the type of the aggregate root.
+	 * @param <T> the type of the aggregate root.
+	 * @return emits whether the aggregate exists.
+	 */
+	<T> Mono<Boolean> existsById(Object id, Class<T> domainType);
+
+	/**
+	 * Loads the aggregates referenced through {@link org.springframework.data.jdbc.core.mapping.AggregateReference}s by
+	 * the given aggregates.
+	 *
+	 * @param aggregates the aggregates whose references get resolved. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return emits a lookup for the referenced aggregates.
+	 * @see JdbcAggregateOperations#resolveReferences(Iterable, Class)
+	 */
+	<T> Mono<AggregateReferences> resolveReferences(Iterable<? extends T> aggregates, Class<T> domainType);
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveJdbcAggregateOperations} delegating to a blocking {@link JdbcAggregateOperations}. Each operation
+ * gets executed on a {@link Scheduler} meant for blocking work, {@link Schedulers#boundedElastic()} unless configured
+ * otherwise. Use {@link Schedulers#fromExecutor(java.util.concurrent.Executor)} to run operations on a dedicated
+ * executor, for example one sized to match the connection pool or one using virtual threads.
+ *
+ * @since 2.3
+ */
+public class ReactiveJdbcAggregateTemplate implements ReactiveJdbcAggregateOperations {
+
+	private final JdbcAggregateOperations operations;
+	private final Scheduler scheduler;
+
+	/**
+	 * Creates a new {@link ReactiveJdbcAggregateTemplate} executing operations on {@link Schedulers#boundedElastic()}.
+	 *
+	 * @param operations the blocking operations to delegate to. Must not be {@literal null}.
+	 */
+	public ReactiveJdbcAggregateTemplate(JdbcAggregateOperations operations) {
+		this(operations, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Creates a new {@link ReactiveJdbcAggregateTemplate}.
+	 *
+	 * @param operations the blocking operations to delegate to. Must not be {@literal null}.
+	 * @param scheduler the {@link Scheduler} to execute operations on. Must not be {@literal null}.
+	 */
+	public ReactiveJdbcAggregateTemplate(JdbcAggregateOperations operations, Scheduler scheduler) {
+
+		Assert.notNull(operations, "JdbcAggregateOperations must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		this.operations = operations;
+		this.scheduler = scheduler;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#save(java.lang.Object)
+	 */
+	@Override
+	public <T> Mono<T> save(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		return Mono.fromCallable(() -> operations.save(instance)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public <T> Mono<T> insert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		return Mono.fromCallable(() -> operations.insert(instance)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#update(java.lang.Object)
+	 */
+	@Override
+	public <T> Mono<T> update(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		return Mono.fromCallable(() -> operations.update(instance)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#deleteById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<Void> deleteById(Object id, Class<T> domainType) {
+		return Mono.<Void> fromRunnable(() -> operations.deleteById(id, domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#delete(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<Void> delete(T aggregateRoot, Class<T> domainType) {
+		return Mono.<Void> fromRunnable(() -> operations.delete(aggregateRoot, domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#deleteAll(java.lang.Class)
+	 */
+	@Override
+	public Mono<Void> deleteAll(Class<?> domainType) {
+		return Mono.<Void> fromRunnable(() -> operations.deleteAll(domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#count(java.lang.Class)
+	 */
+	@Override
+	public Mono<Long> count(Class<?> domainType) {
+		return Mono.fromCallable(() -> operations.count(domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#findById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<T> findById(Object id, Class<T> domainType) {
+
+		// fromCallable completes empty if the callable returns null
+		return Mono.fromCallable(() -> operations.findById(id, domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#findAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return Flux.defer(() -> Flux.fromIterable(operations.findAllById(ids, domainType))).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#findAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> findAll(Class<T> domainType) {
+		return Flux.fromStream(() -> operations.streamAll(domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Flux<T> findAll(Class<T> domainType, Sort sort) {
+		return Flux.defer(() -> Flux.fromIterable(operations.findAll(domainType, sort))).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <T> Mono<Page<T>> findAll(Class<T> domainType, Pageable pageable) {
+		return Mono.fromCallable(() -> operations.findAll(domainType, pageable)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#existsById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<Boolean> existsById(Object id, Class<T> domainType) {
+		return Mono.fromCallable(() -> operations.existsById(id, domainType)).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.ReactiveJdbcAggregateOperations#resolveReferences(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<AggregateReferences> resolveReferences(Iterable<? extends T> aggregates, Class<T> domainType) {
+		return Mono.fromCallable(() -> operations.resolveReferences(aggregates, domainType)).subscribeOn(scheduler);
+	}
+}
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * A collection of utility methods for dealing with arrays.
@@ -461,4 +463,99 @@ final class ArrayUtils {
 		return objects;
 	}
 
+	/**
+	 * Converts an array of boxed values into an array of the given primitive type, for example a {@code Long[]} or an
+	 * {@code Object[]} containing only {@link Long}s into a {@code long[]}.
+	 *
+	 * @param array the array to be converted. Must not be {@literal null}.
+	 * @param primitiveType the component type of the resulting array. Must not be {@literal null}.
+	 * @return an array of {@code primitiveType} with the unboxed values of the input array or {@literal null} if
+	 *         {@code primitiveType} is not a primitive type or {@code array} contains values of other types, including
+	 *         {@literal null}.
+	 * @since 2.3
+	 */
+	@Nullable
+	static Object toPrimitive(Object[] array, Class<?> primitiveType) {
+
+		if (!primitiveType.isPrimitive()) {
+			return null;
+		}
+
+		Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(primitiveType);
+		for (Object element : array) {
+			if (!wrapperType.isInstance(element)) {
+				return null;
+			}
+		}
+
+		int length = array.length;
+
+		if (primitiveType == long.class) {
+
+			long[] longs = new long[length];
+			for (int i = 0; i < length; i++) {
+				longs[i] = (Long) array[i];
+			}
+			return longs;
+		}
+		if (primitiveType == int.class) {
+
+			int[] ints = new int[length];
+			for (int i = 0; i < length; i++) {
+				ints[i] = (Integer) array[i];
+			}
+			return ints;
+		}
+		if (primitiveType == double.class) {
+
+			double[] doubles = new double[length];
+			for (int i = 0; i < length; i++) {
+				doubles[i] = (Double) array[i];
+			}
+			return doubles;
+		}
+		if (primitiveType == float.class) {
+
+			float[] floats = new float[length];
+			for (int i = 0; i < length; i++) {
+				floats[i] = (Float) array[i];
+			}
+			return floats;
+		}
+		if (primitiveType == short.class) {
+
+			short[] shorts = new short[length];
+			for (int i = 0; i < length; i++) {
+				shorts[i] = (Short) array[i];
+			}
+			return shorts;
+		}
+		if (primitiveType == byte.class) {
+
+			byte[] bytes = new byte[length];
+			for (int i = 0; i < length; i++) {
+				bytes[i] = (Byte) array[i];
+			}
+			return bytes;
+		}
+		if (primitiveType == char.class) {
+
+			char[] chars = new char[length];
+			for (int i = 0; i < length; i++) {
+				chars[i] = (Character) array[i];
+			}
+			return chars;
+		}
+		if (primitiveType == boolean.class) {
+
+			boolean[] booleans = new boolean[length];
+			for (int i = 0; i < length; i++) {
+				booleans[i] = (Boolean) array[i];
+			}
+			return booleans;
+		}
+
+		return null;
+	}
+
 }
@@ -15,12 +15,24 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,7 +42,9 @@ import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.jdbc.core.mapping.JsonValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PreferredConstructor;
@@ -43,14 +57,21 @@ import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionParameterValueProvider;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.JsonColumn;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -71,12 +92,18 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private static final Logger LOG = LoggerFactory.getLogger(BasicJdbcConverter.class);
 	private static final Converter<Iterable<?>, Map<?, ?>> ITERABLE_OF_ENTRY_TO_MAP_CONVERTER = new IterableOfEntryToMapConverter();
+	private static final boolean JACKSON_PRESENT = ClassUtils.isPresent("com.fasterxml.jackson.databind.ObjectMapper",
+			BasicJdbcConverter.class.getClassLoader());
 
 	private final JdbcTypeFactory typeFactory;
 	private final IdentifierProcessing identifierProcessing;
 
 	private final RelationResolver relationResolver;
 	private SpELContext spELContext;
+	private @Nullable Executor relationLoadingExecutor;
+	private @Nullable JsonColumnMapper jsonColumnMapper = JACKSON_PRESENT ? new JacksonJsonColumnMapper() : null;
+	private final Map<RelationKey, RelationInfo> relationInfos = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> passThroughTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext} and a
@@ -137,6 +164,52 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.spELContext = new SpELContext(this.spELContext, applicationContext);
 	}
 
+	/**
+	 * Configures an {@link Executor} used to load the collections and maps of an aggregate root concurrently. Without
+	 * an {@link Executor}, which is the default, they get loaded one after the other.
+	 * <p>
+	 * With an {@link Executor} all relations of an aggregate root loaded by its id are requested from the
+	 * {@link RelationResolver} at once, so the time spent loading them is determined by the slowest instead of the sum
+	 * of these queries. This only pays off when each query has a considerable latency. Since the queries run on the
+	 * threads of the {@link Executor}, they cannot participate in a transaction of the calling thread but use a separate
+	 * connection each. Therefore relations are still loaded sequentially while a transaction is active, when mapping
+	 * more than one aggregate root (see {@link #mapSingleRow(RelationalPersistentEntity, ResultSet, Object)}), for
+	 * entities nested in the aggregate and if the {@link NamingStrategy#isSchemaPerCall() schema depends on the calling
+	 * thread}. If loading one of the relations fails, the ones not yet started get cancelled.
+	 *
+	 * @param relationLoadingExecutor the {@link Executor} to use. May be {@literal null} to load relations
+	 *          sequentially.
+	 * @since 2.3
+	 */
+	public void setRelationLoadingExecutor(@Nullable Executor relationLoadingExecutor) {
+		this.relationLoadingExecutor = relationLoadingExecutor;
+	}
+
+	/**
+	 * Configures the {@link JsonColumnMapper} used for properties annotated with {@link JsonColumn}. Defaults to a
+	 * {@link JacksonJsonColumnMapper} if Jackson is on the classpath.
+	 *
+	 * @param jsonColumnMapper the {@link JsonColumnMapper} to use. May be {@literal null} to reject properties stored as
+	 *          JSON.
+	 * @since 2.3
+	 */
+	public void setJsonColumnMapper(@Nullable JsonColumnMapper jsonColumnMapper) {
+		this.jsonColumnMapper = jsonColumnMapper;
+	}
+
+	private JsonColumnMapper getRequiredJsonColumnMapper(RelationalPersistentProperty property) {
+
+		JsonColumnMapper mapper = this.jsonColumnMapper;
+
+		if (mapper == null) {
+			throw new MappingException(String.format(
+					"Property %s is stored as JSON but no JsonColumnMapper is configured; Put Jackson on the classpath or configure a JsonColumnMapper",
+					property));
+		}
+
+		return mapper;
+	}
+
 	@Nullable
 	private Class<?> getEntityColumnType(Class<?> type) {
 
@@ -182,6 +255,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private Class<?> doGetColumnType(RelationalPersistentProperty property) {
 
+		if (property.isJsonColumn()) {
+			return String.class;
+		}
+
 		if (property.isAssociation()) {
 			return getReferenceColumnType(property);
 		}
@@ -194,6 +271,13 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			}
 		}
 
+		Class<?> type = property.getType();
+		if (type.isArray() && type.getComponentType().isPrimitive() && type.getComponentType() != byte.class) {
+
+			// keep arrays of primitives as they are instead of boxing every element
+			return type;
+		}
+
 		Class<?> componentColumnType = JdbcColumnTypes.INSTANCE.resolvePrimitiveType(property.getActualType());
 
 		while (componentColumnType.isArray()) {
@@ -219,8 +303,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return value;
 		}
 
-		if (getConversions().hasCustomReadTarget(value.getClass(), type.getType())) {
-			return getConversionService().convert(value, type.getType());
+		ValueReader reader = getValueReader(value.getClass(), type.getType());
+
+		if (reader.isCustomConversion()) {
+			return reader.read(value);
 		}
 
 		if (AggregateReference.class.isAssignableFrom(type.getType())) {
@@ -232,6 +318,14 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return readAggregateReference(value, type);
 		}
 
+		if (value instanceof Object[] && type.getType().isArray()) {
+
+			Object primitiveArray = ArrayUtils.toPrimitive((Object[]) value, type.getType().getComponentType());
+			if (primitiveArray != null) {
+				return primitiveArray;
+			}
+		}
+
 		if (value instanceof Array) {
 			try {
 				return readValue(((Array) value).getArray(), type);
@@ -240,7 +334,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			}
 		}
 
-		return super.readValue(value, type);
+		return reader.read(value);
 	}
 
 	@SuppressWarnings("ConstantConditions")
@@ -303,6 +397,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 	@Override
 	public JdbcValue writeJdbcValue(@Nullable Object value, Class<?> columnType, int sqlType) {
 
+		if (value != null && value.getClass() == columnType && isPassThroughType(columnType)) {
+			return JdbcValue.of(value, JdbcUtil.jdbcTypeFor(sqlType));
+		}
+
 		JdbcValue jdbcValue = tryToConvertToJdbcValue(value);
 		if (jdbcValue != null) {
 			return jdbcValue;
@@ -310,15 +408,21 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		Object convertedValue = writeValue(value, ClassTypeInformation.from(columnType));
 
+		if (convertedValue != null && StreamingLobValue.isStreamingLob(convertedValue.getClass())) {
+
+			JDBCType jdbcType = convertedValue instanceof Blob || convertedValue instanceof InputStream //
+					? JDBCType.BLOB //
+					: JDBCType.CLOB;
+			return JdbcValue.of(new StreamingLobValue(convertedValue), jdbcType);
+		}
+
 		if (convertedValue == null || !convertedValue.getClass().isArray()) {
 			return JdbcValue.of(convertedValue, JdbcUtil.jdbcTypeFor(sqlType));
 		}
 
 		Class<?> componentType = convertedValue.getClass().getComponentType();
 		if (componentType != byte.class && componentType != Byte.class) {
-
-			Object[] objectArray = requireObjectArray(convertedValue);
-			return JdbcValue.of(typeFactory.createArray(objectArray), JDBCType.ARRAY);
+			return JdbcValue.of(typeFactory.createArrayValue(convertedValue), JDBCType.ARRAY);
 		}
 
 		if (componentType == Byte.class) {
@@ -328,6 +432,57 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		return JdbcValue.of(convertedValue, JDBCType.BINARY);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#writeJdbcValue(java.lang.Object, org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
+	 */
+	@Override
+	public JdbcValue writeJdbcValue(@Nullable Object value, RelationalPersistentProperty property) {
+
+		if (property.isJsonColumn() && value != null) {
+			value = JsonValue.of(getRequiredJsonColumnMapper(property).write(value));
+		}
+
+		return writeJdbcValue(value, getColumnType(property), getSqlType(property));
+	}
+
+	@Nullable
+	private Object readJsonValue(Object value, RelationalPersistentProperty property) {
+
+		String json;
+		try {
+			if (value instanceof byte[]) {
+				json = new String((byte[]) value, StandardCharsets.UTF_8);
+			} else if (value instanceof Clob) {
+				Clob clob = (Clob) value;
+				json = clob.getSubString(1, (int) clob.length());
+			} else {
+				json = value.toString();
+			}
+		} catch (SQLException e) {
+			throw new MappingException(String.format("Couldn't read JSON of property %s", property), e);
+		}
+
+		return getRequiredJsonColumnMapper(property).read(json, property.getTypeInformation());
+	}
+
+	/**
+	 * Returns whether values of {@code type} get written as they are, which is the case for simple types the JDBC
+	 * driver supports without any conversion registered for them. The outcome gets cached per type, so writing such
+	 * values, e.g. the parts of an {@link Identifier}, doesn't consult the conversions for each value.
+	 */
+	private boolean isPassThroughType(Class<?> type) {
+
+		return passThroughTypes.computeIfAbsent(type, it -> getConversions().isSimpleType(it) //
+				&& !getConversions().hasCustomWriteTarget(it) //
+				&& !it.isArray() //
+				&& !it.isEnum() //
+				&& !JdbcValue.class.isAssignableFrom(it) //
+				&& !AggregateReference.class.isAssignableFrom(it) //
+				&& !StreamingLobValue.isStreamingLob(it) //
+				&& JdbcUtil.sqlTypeFor(it) != JdbcUtils.TYPE_UNKNOWN);
+	}
+
 	@Nullable
 	private JdbcValue tryToConvertToJdbcValue(@Nullable Object value) {
 
@@ -345,12 +500,22 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
 		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+				new ResultSetAccessor(resultSet), Identifier.empty(), key, false).mapRow();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapSingleRow(org.springframework.data.relational.core.mapping.RelationalPersistentEntity, java.sql.ResultSet, java.lang.Object)
+	 */
+	@Override
+	public <T> T mapSingleRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
+		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
+				new ResultSetAccessor(resultSet), Identifier.empty(), key, true).mapRow();
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key, false).mapRow();
 	}
 
 	static Object[] requireObjectArray(Object source) {
@@ -402,10 +567,14 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private final JdbcPropertyValueProvider propertyValueProvider;
 		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final boolean concurrentRelations;
+
+		private Map<RelationalPersistentProperty, CompletableFuture<Iterable<Object>>> loadingRelations = Collections
+				.emptyMap();
 
 		@SuppressWarnings("unchecked")
 		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
-				Object key) {
+				Object key, boolean concurrentRelations) {
 			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity.");
@@ -419,6 +588,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
 					accessor);
 			this.accessor = accessor;
+			this.concurrentRelations = concurrentRelations;
 		}
 
 		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
@@ -433,6 +603,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.propertyValueProvider = propertyValueProvider;
 			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.concurrentRelations = false;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
@@ -480,9 +651,16 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		@Nullable
 		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+			if (isRelation(property)) {
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+				if (LazyLoadingRelations.supports(property)) {
+
+					RelationResolver resolver = relationResolver.forDeferredResolution();
+					return LazyLoadingRelations.create(property, () -> resolveRelation(resolver, id, property),
+							ITERABLE_OF_ENTRY_TO_MAP_CONVERTER::convert);
+				}
+
+				Iterable<Object> allByPath = getOrResolveRelation(id, property);
 
 				return property.isMap() //
 						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
@@ -495,16 +673,96 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			}
 		}
 
+		private boolean isRelation(RelationalPersistentProperty property) {
+			return (property.isCollectionLike() && property.isEntity()) || (property.isMap() && !property.isJsonColumn());
+		}
+
+		/**
+		 * Starts loading all relations of an aggregate root loaded by its id using the {@link #relationLoadingExecutor} if
+		 * there is more than one and no transaction is active.
+		 */
+		private void startLoadingRelations(@Nullable Object id) {
+
+			Executor executor = relationLoadingExecutor;
+			if (executor == null || !concurrentRelations || TransactionSynchronizationManager.isActualTransactionActive()
+					|| isSchemaPerCall()) {
+				return;
+			}
+
+			List<RelationalPersistentProperty> relations = new ArrayList<>();
+			entity.doWithAll(property -> {
+				if (isRelation(property) && !LazyLoadingRelations.supports(property)) {
+					relations.add(property);
+				}
+			});
+
+			if (relations.size() < 2) {
+				return;
+			}
+
+			RelationResolver resolver = relationResolver.forDeferredResolution();
+
+			this.loadingRelations = new HashMap<>(relations.size());
+			try {
+				for (RelationalPersistentProperty relation : relations) {
+					loadingRelations.put(relation,
+							CompletableFuture.supplyAsync(() -> resolveRelation(resolver, id, relation), executor));
+				}
+			} catch (RuntimeException e) {
+
+				cancelLoadingRelations();
+				throw e;
+			}
+		}
+
+		/**
+		 * Schemas resolved per call, e.g. for the tenant bound to the current thread, would be resolved on a thread of the
+		 * {@link #relationLoadingExecutor} instead of the calling one.
+		 */
+		private boolean isSchemaPerCall() {
+
+			MappingContext<?, ?> context = getMappingContext();
+			return context instanceof RelationalMappingContext
+					&& ((RelationalMappingContext) context).getNamingStrategy().isSchemaPerCall();
+		}
+
+		private void cancelLoadingRelations() {
+			loadingRelations.values().forEach(loading -> loading.cancel(true));
+		}
+
+		private Iterable<Object> getOrResolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
+
+			CompletableFuture<Iterable<Object>> loading = loadingRelations.get(property);
+			if (loading == null) {
+				return resolveRelation(id, property);
+			}
+
+			try {
+				return loading.join();
+			} catch (CompletionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
+			return resolveRelation(relationResolver, id, property);
+		}
+
+		private Iterable<Object> resolveRelation(RelationResolver resolver, @Nullable Object id,
+				RelationalPersistentProperty property) {
+
+			RelationInfo relation = relationInfos.computeIfAbsent(new RelationKey(rootPath, path, property),
+					it -> new RelationInfo(rootPath.extendBy(property), path.extendBy(property)));
 
 			Identifier identifier = id == null //
 					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+					: Identifier.of(relation.getReverseColumnName(), id, Object.class);
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
-					.getRequiredPersistentPropertyPath();
-
-			return relationResolver.findAllByPath(identifier, propertyPath);
+			return resolver.findAllByPath(identifier, relation.getPropertyPath());
 		}
 
 		/**
@@ -522,6 +780,11 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			}
 
 			Object value = propertyValueProvider.getPropertyValue(property);
+
+			if (value != null && property.isJsonColumn()) {
+				return readJsonValue(value, property);
+			}
+
 			return value != null ? readValue(value, property.getTypeInformation()) : null;
 		}
 
@@ -588,6 +851,19 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private T createInstanceInternal(@Nullable Object idValue) {
 
+			startLoadingRelations(idValue);
+
+			try {
+				return createAndPopulateInstance(idValue);
+			} catch (RuntimeException e) {
+
+				cancelLoadingRelations();
+				throw e;
+			}
+		}
+
+		private T createAndPopulateInstance(@Nullable Object idValue) {
+
 			PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
 			ParameterValueProvider<RelationalPersistentProperty> provider;
 
@@ -641,7 +917,83 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 	}
 
 	private boolean isSimpleProperty(RelationalPersistentProperty property) {
-		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
+		return property.isJsonColumn()
+				|| !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
+	}
+
+	/**
+	 * Identifies a relation of an entity read by a {@link ReadingContext}: the absolute path of the entity, its path
+	 * relative to the aggregate read and the property holding the relation.
+	 */
+	private static final class RelationKey {
+
+		private final Object rootPath;
+		private final Object path;
+		private final RelationalPersistentProperty property;
+
+		RelationKey(PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path,
+				RelationalPersistentProperty property) {
+
+			this.rootPath = keyOf(rootPath);
+			this.path = keyOf(path);
+			this.property = property;
+		}
+
+		// PersistentPropertyPathExtension can't be compared when it points to an entity itself
+		private static Object keyOf(PersistentPropertyPathExtension path) {
+			return path.getLength() == 0 ? path.getLeafEntity() : path.getRequiredPersistentPropertyPath();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof RelationKey)) {
+				return false;
+			}
+
+			RelationKey that = (RelationKey) o;
+			return rootPath.equals(that.rootPath) && path.equals(that.path) && property.equals(that.property);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * rootPath.hashCode() + path.hashCode()) + property.hashCode();
+		}
+	}
+
+	/**
+	 * Back reference column and property path of a relation, resolved once per relation instead of once per row, like
+	 * the path information used when writing aggregates.
+	 */
+	private static final class RelationInfo {
+
+		private final PersistentPropertyPathExtension rootPath;
+		private final PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath;
+
+		@Nullable private volatile SqlIdentifier reverseColumnName;
+
+		RelationInfo(PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path) {
+
+			this.rootPath = rootPath;
+			this.propertyPath = path.getRequiredPersistentPropertyPath();
+		}
+
+		SqlIdentifier getReverseColumnName() {
+
+			SqlIdentifier reverseColumnName = this.reverseColumnName;
+			if (reverseColumnName == null) {
+				reverseColumnName = rootPath.getReverseColumnName();
+				this.reverseColumnName = reverseColumnName;
+			}
+			return reverseColumnName;
+		}
+
+		PersistentPropertyPath<? extends RelationalPersistentProperty> getPropertyPath() {
+			return propertyPath;
+		}
 	}
 
 	enum NoOpParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
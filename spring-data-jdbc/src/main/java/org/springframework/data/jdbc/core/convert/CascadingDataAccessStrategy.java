@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,6 +30,11 @@ import org.springframework.data.relational.core.sql.LockMode;
 /**
  * Delegates each methods to the {@link DataAccessStrategy}s passed to the constructor in turn until the first that does
  * not throw an exception.
+ * <p>
+ * Before an operation gets delegated to a different {@link DataAccessStrategy} than the previous operation of the
+ * current thread, the previous one gets {@link DataAccessStrategy#flush() flushed}. Statements deferred by a strategy,
+ * for example into a JDBC batch, therefore get executed before statements of other strategies that might depend on
+ * them, like the insert of a child referencing a parent row by a foreign key.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -40,6 +46,7 @@ import org.springframework.data.relational.core.sql.LockMode;
 public class CascadingDataAccessStrategy implements DataAccessStrategy {
 
 	private final List<DataAccessStrategy> strategies;
+	private final ThreadLocal<DataAccessStrategy> lastStrategy = new ThreadLocal<>();
 
 	public CascadingDataAccessStrategy(List<DataAccessStrategy> strategies) {
 		this.strategies = new ArrayList<>(strategies);
@@ -54,6 +61,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.insert(instance, domainType, identifier));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> List<Object> insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+		return collect(das -> das.insertAll(instances, domainType, identifiers));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -63,6 +79,25 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.update(instance, domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		return collect(das -> das.update(instance, domainType, propertyPath));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <S> Object upsert(S instance, Class<S> domainType, Identifier identifier) {
+		return collect(das -> das.upsert(instance, domainType, identifier));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number)
@@ -144,6 +179,28 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.count(domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#flush()
+	 */
+	@Override
+	public void flush() {
+
+		lastStrategy.remove();
+		strategies.forEach(DataAccessStrategy::flush);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#afterAggregateChange()
+	 */
+	@Override
+	public void afterAggregateChange() {
+
+		lastStrategy.remove();
+		strategies.forEach(DataAccessStrategy::afterAggregateChange);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -162,6 +219,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect(das -> das.streamAll(domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
@@ -211,7 +277,23 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		// Keep <T> as Eclipse fails to compile if <> is used.
-		return strategies.stream().collect(new FunctionCollector<>(function));
+		return strategies.stream().collect(new FunctionCollector<T>(this::flushPreviousStrategy, das -> {
+
+			T result = function.apply(das);
+			lastStrategy.set(das);
+			return result;
+		}));
+	}
+
+	private void flushPreviousStrategy(DataAccessStrategy next) {
+
+		DataAccessStrategy previous = lastStrategy.get();
+
+		if (previous != null && previous != next) {
+
+			lastStrategy.remove();
+			previous.flush();
+		}
 	}
 
 	private void collectVoid(Consumer<DataAccessStrategy> consumer) {
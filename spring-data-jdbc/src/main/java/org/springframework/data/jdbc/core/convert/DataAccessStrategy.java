@@ -15,7 +15,11 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +57,30 @@ public interface DataAccessStrategy extends RelationResolver {
 	@Nullable
 	<T> Object insert(T instance, Class<T> domainType, Identifier identifier);
 
+	/**
+	 * Inserts the data of multiple entities of the same type. Referenced entities don't get handled. Strategies may
+	 * combine the rows into fewer statements, the default implementation calls
+	 * {@link #insert(Object, Class, Identifier)} for each entity.
+	 *
+	 * @param instances the instances to be stored. Must not be {@code null}.
+	 * @param domainType the type of the instances. Must not be {@code null}.
+	 * @param identifiers the {@link Identifier} of each instance, in the same order as {@code instances}. Must not be
+	 *          {@code null}.
+	 * @param <T> the type of the instances.
+	 * @return the ids generated by the database, in the same order as {@code instances}. Elements may be
+	 *         {@literal null}.
+	 * @since 2.3
+	 * @see #insert(Object, Class, Identifier)
+	 */
+	default <T> List<Object> insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+
+		List<Object> ids = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			ids.add(insert(instances.get(i), domainType, identifiers.get(i)));
+		}
+		return ids;
+	}
+
 	/**
 	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
 	 *
@@ -63,6 +91,39 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean update(T instance, Class<T> domainType);
 
+	/**
+	 * Updates the data of a single entity which isn't the root of its aggregate. Such updates only happen as part of a
+	 * change of the whole aggregate, after its root got written. The default implementation calls
+	 * {@link #update(Object, Class)}.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param propertyPath the path from the aggregate root to the entity. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @since 2.3
+	 */
+	default <T> boolean update(T instance, Class<T> domainType,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		return update(instance, domainType);
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates the row with the same id if such a row exists. Referenced entities
+	 * don't get handled. Implementations should use a single statement where the database supports it.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param identifier information about data that needs to be considered for the insert but which is not part of the
+	 *          entity. Namely references back to a parent entity and key/index columns for entities that are stored in a
+	 *          {@link Map} or {@link java.util.List}.
+	 * @param <T> the type of the instance to save.
+	 * @return the id generated by the database if the entity had no id and got inserted, {@literal null} otherwise.
+	 * @since 2.3
+	 */
+	@Nullable
+	<T> Object upsert(T instance, Class<T> domainType, Identifier identifier);
+
 	/**
 	 * Updates the data of a single entity in the database and enforce optimistic record locking using the
 	 * {@code previousVersion} property. Referenced entities don't get handled.
@@ -156,6 +217,23 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	long count(Class<?> domainType);
 
+	/**
+	 * Executes all statements this strategy deferred, for example because it collects them into JDBC batches. Called
+	 * once all actions of an aggregate change got executed. Strategies executing each statement immediately don't need
+	 * to do anything.
+	 *
+	 * @since 2.3
+	 */
+	default void flush() {}
+
+	/**
+	 * Releases all state this strategy keeps for the aggregate change executed by the current thread. Called once the
+	 * execution of an aggregate change completed, whether it succeeded or not.
+	 *
+	 * @since 2.3
+	 */
+	default void afterAggregateChange() {}
+
 	/**
 	 * Loads a single entity identified by type and id.
 	 *
@@ -176,6 +254,20 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Loads all entities of the given type as a {@link Stream}. Implementations may read the entities lazily from an open
+	 * cursor, so the returned stream must be closed once it is no longer needed. The default implementation streams the
+	 * result of {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.3
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities that match one of the ids passed as an argument. It is not guaranteed that the number of ids
 	 * passed in matches the number of entities returned.
@@ -17,26 +17,33 @@ package org.springframework.data.jdbc.core.convert;
 
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
+import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.support.JdbcUtil;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.jdbc.support.ReadReplicaRouting;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.dialect.MultiRowInsert;
+import org.springframework.data.relational.core.mapping.DynamicUpdate;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -44,7 +51,13 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.Lazy;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -52,6 +65,7 @@ import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * The default {@link DataAccessStrategy} is to generate SQL statements based on meta data from the entity.
@@ -71,10 +85,24 @@ import org.springframework.util.Assert;
  */
 public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
+	/**
+	 * The default number of rows fetched at once by {@link #streamAll(Class)}.
+	 *
+	 * @since 2.3
+	 */
+	public static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	private final Map<Class<?>, ParameterBindingPlan<?>> bindingPlans = new ConcurrentReferenceHashMap<>();
+	private final Lazy<SequenceIdAllocator> sequenceIdAllocator;
+	private final LoadedStates loadedStates = new LoadedStates();
+
+	private @Nullable NamedParameterJdbcOperations readOnlyOperations;
+	private boolean positionalParameters = false;
+	private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -97,6 +125,69 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.context = context;
 		this.converter = converter;
 		this.operations = operations;
+		this.sequenceIdAllocator = Lazy.of(() -> new SequenceIdAllocator(
+				sqlGeneratorSource.getDialect().getIdGeneration(), operations.getJdbcOperations()));
+	}
+
+	/**
+	 * Configures whether statements generated for single values get executed with positional {@code ?} parameters
+	 * through {@link NamedParameterJdbcOperations#getJdbcOperations() JdbcOperations} instead of named parameters
+	 * through {@link NamedParameterJdbcOperations}. Each statement gets translated once when it is rendered and then
+	 * binds its values from an array, which avoids parsing the named parameters and building the statement on every
+	 * execution. Statements binding collections, like the {@code IN} list of {@link #findAllById(Iterable, Class)},
+	 * always use named parameters. Defaults to {@literal false}.
+	 *
+	 * @param positionalParameters whether to use positional parameters.
+	 * @since 2.3
+	 */
+	public void setPositionalParameters(boolean positionalParameters) {
+		this.positionalParameters = positionalParameters;
+	}
+
+	/**
+	 * Configures the number of rows {@link #streamAll(Class)} asks the JDBC driver to fetch at once, so the result
+	 * doesn't need to be held in memory as a whole. Whether drivers honor it depends on the database: PostgreSQL only
+	 * fetches in chunks within a transaction, i.e. with auto-commit disabled, and MySQL only with
+	 * {@code useCursorFetch=true} or a fetch size of {@link Integer#MIN_VALUE}, otherwise they read the complete result
+	 * when executing the query. Defaults to {@link #DEFAULT_STREAM_FETCH_SIZE}.
+	 *
+	 * @param streamFetchSize the number of rows to fetch at once. {@literal 0} uses the default of the driver.
+	 * @since 2.3
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Configures {@link NamedParameterJdbcOperations} of a read-only replica. When configured, statements that only read,
+	 * like those of {@link #findById(Object, Class)}, {@link #findAll(Class)} or {@link #count(Class)}, get executed
+	 * against the replica unless a read-write transaction is active. Writes and statements acquiring locks always use
+	 * the primary {@link NamedParameterJdbcOperations}.
+	 *
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of the replica. May be {@literal null} to read
+	 *          from the primary database only.
+	 * @since 2.3
+	 * @see ReadReplicaRouting
+	 */
+	public void setReadOnlyOperations(@Nullable NamedParameterJdbcOperations readOnlyOperations) {
+		this.readOnlyOperations = readOnlyOperations;
+	}
+
+	/**
+	 * Prepares the given aggregate root types ahead of their first use by rendering their SQL statements and resolving
+	 * how their properties get bound as parameters. Mapping problems surface as exceptions of this method instead of on
+	 * first use. Domain types are processed in parallel.
+	 *
+	 * @param domainTypes the aggregate root types to prepare. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public void prepare(Collection<? extends Class<?>> domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		sqlGeneratorSource.prepare(domainTypes);
+		domainTypes.parallelStream().forEach(domainType -> getBindingPlan(getRequiredPersistentEntity(domainType)));
 	}
 
 	/*
@@ -109,48 +200,145 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlGenerator sqlGenerator = sql(domainType);
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				PersistentProperty::isIdProperty, getIdentifierProcessing());
-
-		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
-
 		Object idValue = getIdValueOrNull(instance, persistentEntity);
-		if (idValue != null) {
+		Long allocatedId = idValue == null ? sequenceIdAllocator.get().allocate(persistentEntity) : null;
+		Object boundId = idValue != null ? idValue : allocatedId;
 
-			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
-		}
+		SqlIdentifierParameterSource parameterSource = bindForInsert(instance, persistentEntity, identifier, boundId);
 
-		String insertSql = sqlGenerator.getInsert(new HashSet<>(parameterSource.getIdentifiers()));
+		PositionalStatement insertSql = sqlGenerator.getInsert(parameterSource.getIdentifiers());
 
-		if (idValue == null) {
+		if (boundId == null) {
 			return executeInsertAndReturnGeneratedId(domainType, persistentEntity, parameterSource, insertSql);
 		} else {
 
-			operations.update(insertSql, parameterSource);
-			return null;
+			update(insertSql, parameterSource);
+			return allocatedId;
 		}
 	}
 
-	@Nullable
-	private <T> Object executeInsertAndReturnGeneratedId(Class<T> domainType, RelationalPersistentEntity<T> persistentEntity, SqlIdentifierParameterSource parameterSource, String insertSql) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> List<Object> insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
 
-		KeyHolder holder = new GeneratedKeyHolder();
+		MultiRowInsert multiRowInsert = sqlGeneratorSource.getDialect().multiRowInsert();
 
-		IdGeneration idGeneration = sqlGeneratorSource.getDialect().getIdGeneration();
+		if (instances.size() < 2 || !multiRowInsert.isSupported()) {
+			return DataAccessStrategy.super.insertAll(instances, domainType, identifiers);
+		}
 
-		if (idGeneration.driverRequiresKeyColumnNames()) {
+		SqlGenerator sqlGenerator = sql(domainType);
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-			String[] keyColumnNames = getKeyColumnNames(domainType);
-			if (keyColumnNames.length == 0) {
-				operations.update(insertSql, parameterSource, holder);
-			} else {
-				operations.update(insertSql, parameterSource, holder, keyColumnNames);
+		List<Object> ids = new ArrayList<>(instances.size());
+		List<SqlIdentifierParameterSource> pendingRows = new ArrayList<>();
+		Set<SqlIdentifier> pendingColumns = Collections.emptySet();
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			T instance = instances.get(i);
+
+			Object idValue = getIdValueOrNull(instance, persistentEntity);
+			Long allocatedId = idValue == null ? sequenceIdAllocator.get().allocate(persistentEntity) : null;
+			Object boundId = idValue != null ? idValue : allocatedId;
+
+			if (boundId == null && persistentEntity.hasIdProperty()) {
+
+				// the id gets generated by the database and needs to be returned, so the row gets inserted on its own
+				insertRows(sqlGenerator, pendingRows, pendingColumns, multiRowInsert);
+				ids.add(insert(instance, domainType, identifiers.get(i)));
+				continue;
 			}
-		} else {
-			operations.update(insertSql, parameterSource, holder);
+
+			SqlIdentifierParameterSource row = bindForInsert(instance, persistentEntity, identifiers.get(i), boundId);
+			Set<SqlIdentifier> columns = row.getIdentifiers();
+
+			if (!columns.equals(pendingColumns)) {
+
+				insertRows(sqlGenerator, pendingRows, pendingColumns, multiRowInsert);
+				pendingColumns = columns;
+			}
+
+			pendingRows.add(row);
+			ids.add(allocatedId);
+		}
+
+		insertRows(sqlGenerator, pendingRows, pendingColumns, multiRowInsert);
+
+		return ids;
+	}
+
+	/**
+	 * Inserts {@code rows}, all binding {@code columns}, using multi-row statements as large as the dialect allows and
+	 * clears {@code rows} afterwards. Rows that don't fill a statement of the maximum size get inserted by statements
+	 * of decreasing powers of two rows, so only a few distinct statements get rendered and cached per set of columns.
+	 */
+	private void insertRows(SqlGenerator sqlGenerator, List<SqlIdentifierParameterSource> rows,
+			Set<SqlIdentifier> columns, MultiRowInsert multiRowInsert) {
+
+		int maxRows = columns.isEmpty() ? 1 : multiRowInsert.getMaxRows(columns.size());
+
+		for (int from = 0; from < rows.size();) {
+
+			int remaining = rows.size() - from;
+			int chunkSize = remaining >= maxRows ? maxRows : Integer.highestOneBit(remaining);
+
+			List<SqlIdentifierParameterSource> chunk = rows.subList(from, from + chunkSize);
+			from += chunkSize;
+
+			if (chunk.size() == 1) {
+
+				update(sqlGenerator.getInsert(columns), chunk.get(0));
+				continue;
+			}
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing(),
+					chunk.size() * columns.size());
+
+			for (int row = 0; row < chunk.size(); row++) {
+
+				int rowIndex = row;
+				parameterSource.addAll(chunk.get(row), column -> sqlGenerator.getMultiRowParameterName(column, rowIndex));
+			}
+
+			update(sqlGenerator.getInsert(columns, chunk.size()), parameterSource);
 		}
 
+		rows.clear();
+	}
+
+	private <T> SqlIdentifierParameterSource bindForInsert(T instance, RelationalPersistentEntity<T> persistentEntity,
+			Identifier identifier, @Nullable Object boundId) {
+
+		SqlIdentifierParameterSource parameterSource = getBindingPlan(persistentEntity).bind(instance, true,
+				identifier.size() + 1);
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		if (boundId != null) {
+
+			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+			addConvertedPropertyValue(parameterSource, idProperty, boundId, idProperty.getColumnName());
+		}
+
+		return parameterSource;
+	}
+
+	@Nullable
+	private <T> Object executeInsertAndReturnGeneratedId(Class<T> domainType, RelationalPersistentEntity<T> persistentEntity, SqlIdentifierParameterSource parameterSource, PositionalStatement insertSql) {
+
+		KeyHolder holder = new GeneratedKeyHolder();
+
+		IdGeneration idGeneration = sqlGeneratorSource.getDialect().getIdGeneration();
+
+		String[] keyColumnNames = idGeneration.driverRequiresKeyColumnNames() //
+				? getKeyColumnNames(domainType) //
+				: new String[0];
+		update(insertSql, parameterSource, holder, keyColumnNames);
+
 		return getIdFromHolder(holder, persistentEntity);
 	}
 
@@ -162,8 +350,43 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <S> boolean update(S instance, Class<S> domainType) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
-		return operations.update(sql(domainType).getUpdate(),
-				getParameterSource(instance, persistentEntity, "", Predicates.includeAll(), getIdentifierProcessing())) != 0;
+		SqlIdentifierParameterSource parameterSource = getBindingPlan(persistentEntity).bind(instance, false, 0);
+
+		return executeUpdate(instance, persistentEntity, parameterSource, false) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <S> Object upsert(S instance, Class<S> domainType, Identifier identifier) {
+
+		SqlGenerator sqlGenerator = sql(domainType);
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		if (getIdValueOrNull(instance, persistentEntity) == null) {
+
+			// without an id there is no row to update, and the database might generate one
+			return insert(instance, domainType, identifier);
+		}
+
+		if (!sqlGenerator.supportsUpsert()) {
+			return update(instance, domainType) ? null : insert(instance, domainType, identifier);
+		}
+
+		SqlIdentifierParameterSource parameterSource = getBindingPlan(persistentEntity).bind(instance, false,
+				identifier.size());
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		update(sqlGenerator.getUpsert(parameterSource.getIdentifiers()), parameterSource);
+
+		if (identifier.size() == 0 && persistentEntity.isAnnotationPresent(DynamicUpdate.class)) {
+			loadedStates.put(instance, parameterSource);
+		}
+
+		return null;
 	}
 
 	/*
@@ -176,11 +399,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
 
 		// Adjust update statement to set the new version and use the old version in where clause.
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				Predicates.includeAll(), getIdentifierProcessing());
+		SqlIdentifierParameterSource parameterSource = getBindingPlan(persistentEntity).bind(instance, false, 1);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		int affectedRows = executeUpdate(instance, persistentEntity, parameterSource, true);
 
 		if (affectedRows == 0) {
 
@@ -191,6 +413,57 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	/**
+	 * Executes the {@code UPDATE} of {@code instance}. For entities annotated with {@link DynamicUpdate} the statement
+	 * only assigns the columns that changed since the state of the instance was recorded. When nothing changed, the
+	 * existence of the row gets checked instead, so the returned row count still reflects the database.
+	 */
+	private <S> int executeUpdate(S instance, RelationalPersistentEntity<S> persistentEntity,
+			SqlIdentifierParameterSource parameterSource, boolean withVersion) {
+
+		SqlGenerator sqlGenerator = sql(persistentEntity.getType());
+
+		if (!persistentEntity.isAnnotationPresent(DynamicUpdate.class)) {
+			return update(withVersion ? sqlGenerator.getUpdateWithVersion() : sqlGenerator.getUpdate(), parameterSource);
+		}
+
+		SqlIdentifierParameterSource loadedState = loadedStates.get(instance);
+		int affectedRows;
+
+		if (loadedState == null) {
+			affectedRows = update(withVersion ? sqlGenerator.getUpdateWithVersion() : sqlGenerator.getUpdate(),
+					parameterSource);
+		} else {
+
+			Set<SqlIdentifier> changedColumns = parameterSource.getChangedIdentifiers(loadedState);
+			changedColumns.retainAll(sqlGenerator.getUpdateableColumns());
+
+			if (withVersion) {
+				// the version gets checked and incremented even if nothing else changed
+				changedColumns.add(persistentEntity.getRequiredVersionProperty().getColumnName());
+			}
+
+			if (changedColumns.isEmpty()) {
+
+				// assigning the id instead isn't possible for identity columns of some databases
+				Integer count = queryForObject(operations, sqlGenerator.getExists(),
+						createIdParameterSource(getIdValueOrNull(instance, persistentEntity), persistentEntity.getType()),
+						Integer.class);
+				return count == null ? 0 : count;
+			}
+
+			affectedRows = update(withVersion //
+					? sqlGenerator.getUpdateWithVersion(changedColumns) //
+					: sqlGenerator.getUpdate(changedColumns), parameterSource);
+		}
+
+		if (affectedRows != 0) {
+			loadedStates.put(instance, parameterSource);
+		}
+
+		return affectedRows;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -198,10 +471,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
-		String deleteByIdSql = sql(domainType).getDeleteById();
+		PositionalStatement deleteByIdSql = sql(domainType).getDeleteById();
 		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.update(deleteByIdSql, parameter);
+		update(deleteByIdSql, parameter);
 	}
 
 	/*
@@ -217,7 +490,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlIdentifierParameterSource parameterSource = createIdParameterSource(id, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		int affectedRows = update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
 
 		if (affectedRows == 0) {
 			throw new OptimisticLockingFailureException(
@@ -238,7 +511,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		RelationalPersistentProperty referencingProperty = propertyPath.getLeafProperty();
 		Assert.notNull(referencingProperty, "No property found matching the PropertyPath " + propertyPath);
 
-		String delete = sql(rootEntity.getType()).createDeleteByPath(propertyPath);
+		PositionalStatement delete = sql(rootEntity.getType()).createDeleteByPath(propertyPath);
 
 		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(getIdentifierProcessing());
 		addConvertedPropertyValue( //
@@ -247,7 +520,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				rootId, //
 				ROOT_ID_PARAMETER //
 		);
-		operations.update(delete, parameters);
+		update(delete, parameters);
 	}
 
 	/*
@@ -256,7 +529,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
-		operations.getJdbcOperations().update(sql(domainType).createDeleteAllSql(null));
+		operations.getJdbcOperations().update(sql(domainType).createDeleteAllSql(null).getNamedSql());
 	}
 
 	/*
@@ -265,8 +538,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		operations.getJdbcOperations()
-				.update(sql(propertyPath.getBaseProperty().getOwner().getType()).createDeleteAllSql(propertyPath));
+		operations.getJdbcOperations().update(
+				sql(propertyPath.getBaseProperty().getOwner().getType()).createDeleteAllSql(propertyPath).getNamedSql());
 	}
 
 	/*
@@ -276,10 +549,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 
-		String acquireLockByIdSql = sql(domainType).getAcquireLockById(lockMode);
+		PositionalStatement acquireLockByIdSql = sql(domainType).getAcquireLockById(lockMode);
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.query(acquireLockByIdSql, parameter, ResultSet::next);
+		query(operations, acquireLockByIdSql, parameter, ResultSet::next);
 	}
 
 	/*
@@ -289,7 +562,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
-		String acquireLockAllSql = sql(domainType).getAcquireLockAll(lockMode);
+		String acquireLockAllSql = sql(domainType).getAcquireLockAll(lockMode).getNamedSql();
 		operations.getJdbcOperations().query(acquireLockAllSql, ResultSet::next);
 	}
 
@@ -300,7 +573,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public long count(Class<?> domainType) {
 
-		Long result = operations.getJdbcOperations().queryForObject(sql(domainType).getCount(), Long.class);
+		Long result = getReadOperations().getJdbcOperations().queryForObject(sql(domainType).getCount().getNamedSql(),
+				Long.class);
 
 		Assert.notNull(result, "The result of a count query must not be null.");
 
@@ -315,11 +589,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@SuppressWarnings("unchecked")
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String findOneSql = sql(domainType).getFindOne();
+		PositionalStatement findOneSql = sql(domainType).getFindOne();
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
 		try {
-			return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
+			return queryForObject(getReadOperations(), findOneSql, parameter,
+					(RowMapper<T>) getEntityRowMapper(domainType, true));
 		} catch (EmptyResultDataAccessException e) {
 			return null;
 		}
@@ -332,7 +607,22 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), (RowMapper<T>) getEntityRowMapper(domainType));
+		return query(getReadOperations(), sql(domainType).getFindAll(), (RowMapper<T>) getEntityRowMapper(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		String findAllSql = sql(domainType).getFindAll().getNamedSql();
+
+		return getReadOperations().getJdbcOperations().queryForStream(
+				new FetchSizePreparedStatementCreator(findAllSql, streamFetchSize),
+				(RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -352,9 +642,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
 
-		String findAllInListSql = sql(domainType).getFindAllInList();
+		String findAllInListSql = sql(domainType).getFindAllInList().getNamedSql();
 
-		return operations.query(findAllInListSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+		return getReadOperations().query(findAllInListSql, parameterSource,
+				(RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -372,22 +663,23 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
 
 		Class<?> actualType = path.getActualType();
-		String findAllByProperty = sql(actualType) //
+		PositionalStatement findAllByProperty = sql(actualType) //
 				.getFindAllByProperty(identifier, path.getQualifierColumn(), path.isOrdered());
 
 		RowMapper<?> rowMapper = path.isMap() ? this.getMapEntityRowMapper(path, identifier)
 				: this.getEntityRowMapper(path, identifier);
 
-		return operations.query(findAllByProperty, createParameterSource(identifier, getIdentifierProcessing()),
+		return query(getReadOperations(), findAllByProperty, createParameterSource(identifier, getIdentifierProcessing()),
 				(RowMapper<Object>) rowMapper);
 	}
 
 	private SqlParameterSource createParameterSource(Identifier identifier, IdentifierProcessing identifierProcessing) {
 
-		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(identifierProcessing);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(identifierProcessing,
+				identifier.size());
 
-		identifier.toMap()
-				.forEach((name, value) -> addConvertedPropertyValue(parameterSource, name, value, value.getClass()));
+		identifier
+				.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, value.getClass()));
 
 		return parameterSource;
 	}
@@ -399,10 +691,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
-		String existsSql = sql(domainType).getExists();
+		PositionalStatement existsSql = sql(domainType).getExists();
 		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		Boolean result = operations.queryForObject(existsSql, parameter, Boolean.class);
+		Boolean result = queryForObject(getReadOperations(), existsSql, parameter, Boolean.class);
 		Assert.state(result != null, "The result of an exists query must not be null");
 
 		return result;
@@ -415,7 +707,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), (RowMapper<T>) getEntityRowMapper(domainType));
+		return query(getReadOperations(), sql(domainType).getFindAll(sort),
+				(RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -425,45 +718,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), (RowMapper<T>) getEntityRowMapper(domainType));
-	}
-
-	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
-			RelationalPersistentEntity<S> persistentEntity, String prefix,
-			Predicate<RelationalPersistentProperty> skipProperty, IdentifierProcessing identifierProcessing) {
-
-		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing);
-
-		PersistentPropertyAccessor<S> propertyAccessor = instance != null ? persistentEntity.getPropertyAccessor(instance)
-				: NoValuePropertyAccessor.instance();
-
-		persistentEntity.doWithAll(property -> {
-
-			if (skipProperty.test(property) || !property.isWritable()) {
-				return;
-			}
-			if (property.isEntity() && !property.isEmbedded()) {
-				return;
-			}
-
-			if (property.isEmbedded()) {
-
-				Object value = propertyAccessor.getProperty(property);
-				RelationalPersistentEntity<?> embeddedEntity = context.getPersistentEntity(property.getType());
-				SqlIdentifierParameterSource additionalParameters = getParameterSource((T) value,
-						(RelationalPersistentEntity<T>) embeddedEntity, prefix + property.getEmbeddedPrefix(), skipProperty,
-						identifierProcessing);
-				parameters.addAll(additionalParameters);
-			} else {
-
-				Object value = propertyAccessor.getProperty(property);
-				SqlIdentifier paramName = property.getColumnName().transform(prefix::concat);
-
-				addConvertedPropertyValue(parameters, property, value, paramName);
-			}
-		});
-
-		return parameters;
+		return query(getReadOperations(), sql(domainType).getFindAll(pageable),
+				(RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/**
@@ -509,8 +765,28 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
-	private EntityRowMapper<?> getEntityRowMapper(Class<?> domainType) {
-		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
+	private RowMapper<?> getEntityRowMapper(Class<?> domainType) {
+		return getEntityRowMapper(domainType, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RowMapper<?> getEntityRowMapper(Class<?> domainType, boolean singleRow) {
+
+		RelationalPersistentEntity<Object> persistentEntity = (RelationalPersistentEntity<Object>) getRequiredPersistentEntity(
+				domainType);
+		EntityRowMapper<Object> rowMapper = new EntityRowMapper<>(persistentEntity, converter, singleRow);
+
+		if (!persistentEntity.isAnnotationPresent(DynamicUpdate.class)) {
+			return rowMapper;
+		}
+
+		// record the loaded state for updating changed columns only
+		return (resultSet, rowNumber) -> {
+
+			Object instance = rowMapper.mapRow(resultSet, rowNumber);
+			loadedStates.put(instance, getBindingPlan(persistentEntity).bind(instance, false, 0));
+			return instance;
+		};
 	}
 
 	private EntityRowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
@@ -545,7 +821,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private void addConvertedPropertyValue(SqlIdentifierParameterSource parameterSource,
 			RelationalPersistentProperty property, @Nullable Object value, SqlIdentifier name) {
 
-		addConvertedValue(parameterSource, value, name, converter.getColumnType(property), converter.getSqlType(property));
+		JdbcValue jdbcValue = converter.writeJdbcValue(value, property);
+
+		parameterSource.addValue( //
+				name, //
+				jdbcValue.getValue(), //
+				JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
 	}
 
 	private void addConvertedPropertyValue(SqlIdentifierParameterSource parameterSource, SqlIdentifier name, Object value,
@@ -591,11 +872,113 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		parameterSource.addValue(paramName, convertedIds, typeNumber);
 	}
 
+	private int update(PositionalStatement statement, SqlParameterSource parameters) {
+
+		if (!positionalParameters) {
+			return operations.update(statement.getNamedSql(), parameters);
+		}
+
+		return operations.getJdbcOperations().update(statement.getPositionalSql(), statement.bind(parameters));
+	}
+
+	private void update(PositionalStatement statement, SqlParameterSource parameters, KeyHolder holder,
+			String[] keyColumnNames) {
+
+		if (!positionalParameters) {
+
+			if (keyColumnNames.length == 0) {
+				operations.update(statement.getNamedSql(), parameters, holder);
+			} else {
+				operations.update(statement.getNamedSql(), parameters, holder, keyColumnNames);
+			}
+			return;
+		}
+
+		PreparedStatementSetter setter = statement.bind(parameters);
+
+		operations.getJdbcOperations().update(connection -> {
+
+			PreparedStatement preparedStatement = keyColumnNames.length == 0 //
+					? connection.prepareStatement(statement.getPositionalSql(), Statement.RETURN_GENERATED_KEYS) //
+					: connection.prepareStatement(statement.getPositionalSql(), keyColumnNames);
+			setter.setValues(preparedStatement);
+			return preparedStatement;
+		}, holder);
+	}
+
+	private <T> List<T> query(NamedParameterJdbcOperations operations, PositionalStatement statement,
+			RowMapper<T> rowMapper) {
+
+		if (!positionalParameters) {
+			return operations.query(statement.getNamedSql(), rowMapper);
+		}
+
+		return operations.getJdbcOperations().query(statement.getPositionalSql(), rowMapper);
+	}
+
+	private <T> List<T> query(NamedParameterJdbcOperations operations, PositionalStatement statement,
+			SqlParameterSource parameters,
+			RowMapper<T> rowMapper) {
+
+		if (!positionalParameters) {
+			return operations.query(statement.getNamedSql(), parameters, rowMapper);
+		}
+
+		return operations.getJdbcOperations().query(statement.getPositionalSql(), statement.bind(parameters), rowMapper);
+	}
+
+	@Nullable
+	private <T> T query(NamedParameterJdbcOperations operations, PositionalStatement statement,
+			SqlParameterSource parameters,
+			ResultSetExtractor<T> extractor) {
+
+		if (!positionalParameters) {
+			return operations.query(statement.getNamedSql(), parameters, extractor);
+		}
+
+		return operations.getJdbcOperations().query(statement.getPositionalSql(), statement.bind(parameters), extractor);
+	}
+
+	@Nullable
+	private <T> T queryForObject(NamedParameterJdbcOperations operations, PositionalStatement statement,
+			SqlParameterSource parameters,
+			RowMapper<T> rowMapper) {
+
+		if (!positionalParameters) {
+			return operations.queryForObject(statement.getNamedSql(), parameters, rowMapper);
+		}
+
+		return DataAccessUtils.nullableSingleResult(query(operations, statement, parameters, rowMapper));
+	}
+
+	@Nullable
+	private <T> T queryForObject(NamedParameterJdbcOperations operations, PositionalStatement statement,
+			SqlParameterSource parameters,
+			Class<T> requiredType) {
+
+		if (!positionalParameters) {
+			return operations.queryForObject(statement.getNamedSql(), parameters, requiredType);
+		}
+
+		return queryForObject(operations, statement, parameters, SingleColumnRowMapper.newInstance(requiredType));
+	}
+
+	private NamedParameterJdbcOperations getReadOperations() {
+		return ReadReplicaRouting.getReadOperations(operations, readOnlyOperations);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <S> RelationalPersistentEntity<S> getRequiredPersistentEntity(Class<S> domainType) {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
 	}
 
+	@SuppressWarnings("unchecked")
+	private <S> ParameterBindingPlan<S> getBindingPlan(RelationalPersistentEntity<S> persistentEntity) {
+
+		return (ParameterBindingPlan<S>) bindingPlans.computeIfAbsent(persistentEntity.getType(),
+				type -> ParameterBindingPlan.of(persistentEntity, context, converter, getIdentifierProcessing()));
+	}
+
 	private SqlGenerator sql(Class<?> domainType) {
 		return sqlGeneratorSource.getSqlGenerator(domainType);
 	}
@@ -614,46 +997,43 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	}
 
 	/**
-	 * Utility to create {@link Predicate}s.
-	 */
-	static class Predicates {
-
-		/**
-		 * Include all {@link Predicate} returning {@literal false} to never skip a property.
-		 *
-		 * @return the include all {@link Predicate}.
-		 */
-		static Predicate<RelationalPersistentProperty> includeAll() {
-			return it -> false;
-		}
-	}
-
-	/**
-	 * A {@link PersistentPropertyAccessor} implementation always returning null
-	 *
-	 * @param <T>
+	 * {@link PreparedStatementCreator} for a statement without parameters applying a fetch size.
 	 */
-	static class NoValuePropertyAccessor<T> implements PersistentPropertyAccessor<T> {
+	private static class FetchSizePreparedStatementCreator implements PreparedStatementCreator, SqlProvider {
 
-		private static final NoValuePropertyAccessor INSTANCE = new NoValuePropertyAccessor();
+		private final String sql;
+		private final int fetchSize;
 
-		static <T> NoValuePropertyAccessor<T> instance() {
-			return INSTANCE;
+		FetchSizePreparedStatementCreator(String sql, int fetchSize) {
+			this.sql = sql;
+			this.fetchSize = fetchSize;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.jdbc.core.PreparedStatementCreator#createPreparedStatement(java.sql.Connection)
+		 */
 		@Override
-		public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
-			throw new UnsupportedOperationException("Cannot set value on 'null' target object.");
-		}
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
 
-		@Override
-		public Object getProperty(PersistentProperty<?> property) {
-			return null;
+			PreparedStatement statement = connection.prepareStatement(sql);
+			try {
+				statement.setFetchSize(fetchSize);
+			} catch (SQLException | RuntimeException e) {
+
+				JdbcUtils.closeStatement(statement);
+				throw e;
+			}
+			return statement;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.jdbc.core.SqlProvider#getSql()
+		 */
 		@Override
-		public T getBean() {
-			return null;
+		public String getSql() {
+			return sql;
 		}
 	}
 }
@@ -22,10 +22,12 @@ import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * A {@link JdbcTypeFactory} that performs the conversion by utilizing
- * {@link JdbcOperations#execute(ConnectionCallback)}.
+ * {@link JdbcOperations#execute(ConnectionCallback)}. Values created through {@link #createArrayValue(Object)} use the
+ * connection of the statement they get bound to instead.
  *
  * @author Jens Schauder
  * @since 1.1
@@ -51,13 +53,35 @@ public class DefaultJdbcTypeFactory implements JdbcTypeFactory {
 
 		Assert.notNull(value, "Value must not be null.");
 
-		Class<?> componentType = innermostComponentType(value);
+		String typeName = getTypeName(value);
+
+		return operations.execute((ConnectionCallback<Array>) c -> c.createArrayOf(typeName, value));
+	}
+
+	/**
+	 * Creates a {@link org.springframework.jdbc.core.SqlTypeValue} that creates the {@link Array} when it gets bound,
+	 * using the connection of the statement. Arrays of primitives get passed to the driver without boxing if it supports
+	 * them.
+	 *
+	 * @param value the array to be converted. Must not be {@literal null}.
+	 * @return a {@link org.springframework.jdbc.core.SqlTypeValue}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	@Override
+	public Object createArrayValue(Object value) {
+
+		Assert.notNull(value, "Value must not be null.");
+
+		return new SqlArrayValue(getTypeName(value), value);
+	}
+
+	private static String getTypeName(Object value) {
+
+		Class<?> componentType = ClassUtils.resolvePrimitiveIfNecessary(innermostComponentType(value));
 
 		JDBCType jdbcType = JdbcUtil.jdbcTypeFor(componentType);
 		Assert.notNull(jdbcType, () -> String.format("Couldn't determine JDBCType for %s", componentType));
-		String typeName = jdbcType.getName();
-
-		return operations.execute((ConnectionCallback<Array>) c -> c.createArrayOf(typeName, value));
+		return jdbcType.getName();
 	}
 
 	private static Class<?> innermostComponentType(Object convertedValue) {
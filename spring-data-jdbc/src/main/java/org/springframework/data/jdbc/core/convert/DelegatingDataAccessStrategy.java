@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -45,6 +48,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.insert(instance, domainType, identifier);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> List<Object> insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+		return delegate.insertAll(instances, domainType, identifiers);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -54,6 +66,25 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.update(instance, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		return delegate.update(instance, domainType, propertyPath);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <S> Object upsert(S instance, Class<S> domainType, Identifier identifier) {
+		return delegate.upsert(instance, domainType, identifier);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number)
@@ -136,6 +167,24 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.count(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#flush()
+	 */
+	@Override
+	public void flush() {
+		delegate.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#afterAggregateChange()
+	 */
+	@Override
+	public void afterAggregateChange() {
+		delegate.afterAggregateChange();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -157,6 +206,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
@@ -176,6 +234,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllByPath(identifier, path);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#forDeferredResolution()
+	 */
+	@Override
+	public RelationResolver forDeferredResolution() {
+		return delegate.forDeferredResolution();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -38,6 +38,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final boolean singleRow;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
@@ -46,14 +47,27 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.singleRow = false;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
+		this(entity, converter, false);
+	}
+
+	/**
+	 * @param entity the entity to map rows to.
+	 * @param converter the {@link JdbcConverter} to use.
+	 * @param singleRow whether the query reads at most one aggregate root, see
+	 *          {@link JdbcConverter#mapSingleRow(RelationalPersistentEntity, ResultSet, Object)}.
+	 * @since 2.3
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter, boolean singleRow) {
 
 		this.entity = entity;
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.singleRow = singleRow;
 	}
 
 	/*
@@ -63,9 +77,13 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
-		return path == null //
-				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+		if (path != null) {
+			return converter.mapRow(path, resultSet, identifier, rowNumber);
+		}
+
+		return singleRow //
+				? converter.mapSingleRow(entity, resultSet, rowNumber) //
+				: converter.mapRow(entity, resultSet, rowNumber);
 	}
 
 }
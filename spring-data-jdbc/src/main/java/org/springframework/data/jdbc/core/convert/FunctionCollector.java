@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
@@ -37,9 +38,22 @@ import org.springframework.dao.DataAccessException;
  */
 class FunctionCollector<T> implements Collector<DataAccessStrategy, FunctionCollector.ResultOrException<T>, T> {
 
+	private final Consumer<DataAccessStrategy> preparation;
 	private final Function<DataAccessStrategy, T> method;
 
 	FunctionCollector(Function<DataAccessStrategy, T> method) {
+		this(das -> {}, method);
+	}
+
+	/**
+	 * @param preparation invoked before the function gets invoked on a {@link DataAccessStrategy}. Exceptions thrown by
+	 *          it are not caught but end the invocation of further functions.
+	 * @param method the function to invoke.
+	 * @since 2.3
+	 */
+	FunctionCollector(Consumer<DataAccessStrategy> preparation, Function<DataAccessStrategy, T> method) {
+
+		this.preparation = preparation;
 		this.method = method;
 	}
 
@@ -63,6 +77,8 @@ class FunctionCollector<T> implements Collector<DataAccessStrategy, FunctionColl
 
 			if (!roe.hasResult()) {
 
+				preparation.accept(das);
+
 				try {
 					roe.setResult(method.apply(das));
 				} catch (Exception ex) {
@@ -15,11 +15,10 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -32,6 +31,9 @@ import org.springframework.util.ClassUtils;
  * {@literal Identifier} represents a composite id of an entity that may be composed of one or many parts. Parts or all
  * of the entity might not have a representation as a property in the entity but might only be derived from other
  * entities referencing it.
+ * <p>
+ * Parts are held in an array, so creating an {@link Identifier} or adding a part allocates just the new part and one
+ * array of parts.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -39,11 +41,11 @@ import org.springframework.util.ClassUtils;
  */
 public final class Identifier {
 
-	private static final Identifier EMPTY = new Identifier(Collections.emptyList());
+	private static final Identifier EMPTY = new Identifier(new SingleIdentifierValue[0]);
 
-	private final List<SingleIdentifierValue> parts;
+	private final SingleIdentifierValue[] parts;
 
-	private Identifier(List<SingleIdentifierValue> parts) {
+	private Identifier(SingleIdentifierValue[] parts) {
 		this.parts = parts;
 	}
 
@@ -69,7 +71,7 @@ public final class Identifier {
 		Assert.notNull(name, "Name must not be empty!");
 		Assert.notNull(targetType, "Target type must not be null!");
 
-		return new Identifier(Collections.singletonList(new SingleIdentifierValue(name, value, targetType)));
+		return new Identifier(new SingleIdentifierValue[] { new SingleIdentifierValue(name, value, targetType) });
 	}
 
 	/**
@@ -86,14 +88,17 @@ public final class Identifier {
 			return empty();
 		}
 
-		List<SingleIdentifierValue> values = new ArrayList<>();
+		SingleIdentifierValue[] values = new SingleIdentifierValue[map.size()];
+		int i = 0;
 
-		map.forEach((k, v) -> {
+		for (Map.Entry<SqlIdentifier, Object> entry : map.entrySet()) {
 
-			values.add(new SingleIdentifierValue(k, v, v != null ? ClassUtils.getUserClass(v) : Object.class));
-		});
+			Object value = entry.getValue();
+			values[i++] = new SingleIdentifierValue(entry.getKey(), value,
+					value != null ? ClassUtils.getUserClass(value) : Object.class);
+		}
 
-		return new Identifier(Collections.unmodifiableList(values));
+		return new Identifier(values);
 	}
 
 	/**
@@ -111,24 +116,20 @@ public final class Identifier {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(targetType, "Target type must not be null!");
 
-		boolean overwritten = false;
-		List<SingleIdentifierValue> keys = new ArrayList<>(this.parts.size() + 1);
+		for (int i = 0; i < parts.length; i++) {
 
-		for (SingleIdentifierValue singleValue : this.parts) {
+			if (parts[i].getName().equals(name)) {
 
-			if (singleValue.getName().equals(name)) {
-				overwritten = true;
-				keys.add(new SingleIdentifierValue(singleValue.getName(), value, targetType));
-			} else {
-				keys.add(singleValue);
+				SingleIdentifierValue[] keys = parts.clone();
+				keys[i] = new SingleIdentifierValue(parts[i].getName(), value, targetType);
+				return new Identifier(keys);
 			}
 		}
 
-		if (!overwritten) {
-			keys.add(new SingleIdentifierValue(name, value, targetType));
-		}
+		SingleIdentifierValue[] keys = Arrays.copyOf(parts, parts.length + 1);
+		keys[parts.length] = new SingleIdentifierValue(name, value, targetType);
 
-		return new Identifier(Collections.unmodifiableList(keys));
+		return new Identifier(keys);
 	}
 
 	/**
@@ -138,16 +139,37 @@ public final class Identifier {
 	 */
 	public Map<SqlIdentifier, Object> toMap() {
 
-		Map<SqlIdentifier, Object> result = new StringKeyedLinkedHashMap<>(getParts().size());
+		Map<SqlIdentifier, Object> result = new StringKeyedLinkedHashMap<>(parts.length);
 		forEach((name, value, type) -> result.put(name, value));
 		return result;
 	}
 
+	/**
+	 * Returns the value of the part whose name has {@code reference} as its {@link SqlIdentifier#getReference()
+	 * reference}. Unlike {@code toMap().get(reference)} this doesn't create a {@link Map}.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return the value of the matching part or {@literal null} if there is none.
+	 * @since 2.3
+	 */
+	@Nullable
+	public Object get(String reference) {
+
+		Assert.notNull(reference, "Reference must not be null!");
+
+		for (SingleIdentifierValue part : parts) {
+			if (part.getName().getReference().equals(reference)) {
+				return part.getValue();
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * @return the {@link SingleIdentifierValue key parts}.
 	 */
 	public Collection<SingleIdentifierValue> getParts() {
-		return this.parts;
+		return Collections.unmodifiableList(Arrays.asList(this.parts));
 	}
 
 	/**
@@ -161,7 +183,9 @@ public final class Identifier {
 
 		Assert.notNull(consumer, "IdentifierConsumer must not be null");
 
-		getParts().forEach(it -> consumer.accept(it.name, it.value, it.targetType));
+		for (SingleIdentifierValue part : parts) {
+			consumer.accept(part.name, part.value, part.targetType);
+		}
 	}
 
 	/**
@@ -170,7 +194,7 @@ public final class Identifier {
 	 * @return the number of key parts in this collection.
 	 */
 	public int size() {
-		return this.parts.size();
+		return this.parts.length;
 	}
 
 	/**
@@ -277,17 +301,17 @@ public final class Identifier {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		Identifier that = (Identifier) o;
-		return Objects.equals(parts, that.parts);
+		return Arrays.equals(parts, that.parts);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(parts);
+		return Arrays.hashCode(parts);
 	}
 
 	@Override
 	public String toString() {
 
-		return "Identifier{" + "parts=" + parts + '}';
+		return "Identifier{" + "parts=" + Arrays.toString(parts) + '}';
 	}
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * {@link JsonColumnMapper} using a Jackson {@link ObjectMapper}. The default {@link ObjectMapper} reads and writes the
+ * fields of value objects, ignoring their getters and setters, and ignores unknown properties so documents written by
+ * earlier versions of a class can still be read. Value objects without a default constructor need a
+ * {@link com.fasterxml.jackson.annotation.JsonCreator} or an {@link ObjectMapper} configured accordingly.
+ *
+ * @since 2.3
+ */
+public class JacksonJsonColumnMapper implements JsonColumnMapper {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Creates a new {@link JacksonJsonColumnMapper} using a default {@link ObjectMapper}.
+	 */
+	public JacksonJsonColumnMapper() {
+		this(new ObjectMapper() //
+				.setVisibility(PropertyAccessor.ALL, Visibility.NONE) //
+				.setVisibility(PropertyAccessor.FIELD, Visibility.ANY) //
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+	}
+
+	/**
+	 * Creates a new {@link JacksonJsonColumnMapper} using the given {@link ObjectMapper}.
+	 *
+	 * @param objectMapper must not be {@literal null}.
+	 */
+	public JacksonJsonColumnMapper(ObjectMapper objectMapper) {
+
+		Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+
+		this.objectMapper = objectMapper;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JsonColumnMapper#write(java.lang.Object)
+	 */
+	@Override
+	public String write(Object value) {
+
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new MappingException(String.format("Couldn't write %s as JSON", value.getClass().getName()), e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JsonColumnMapper#read(java.lang.String, org.springframework.data.util.TypeInformation)
+	 */
+	@Override
+	public Object read(String json, TypeInformation<?> type) {
+
+		try {
+			return objectMapper.readValue(json, toJavaType(type));
+		} catch (IOException e) {
+			throw new MappingException(String.format("Couldn't read JSON as %s", type), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private JavaType toJavaType(TypeInformation<?> type) {
+
+		TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+		if (type.isMap()) {
+			return typeFactory.constructMapType((Class<? extends Map<?, ?>>) type.getType(),
+					toJavaType(type.getRequiredComponentType()), toJavaType(type.getRequiredMapValueType()));
+		}
+
+		if (type.getType().isArray()) {
+			return typeFactory.constructArrayType(toJavaType(type.getRequiredComponentType()));
+		}
+
+		if (Collection.class.isAssignableFrom(type.getType())) {
+			return typeFactory.constructCollectionType((Class<? extends Collection<?>>) type.getType(),
+					toJavaType(type.getRequiredComponentType()));
+		}
+
+		return typeFactory.constructType(type.getType());
+	}
+}
@@ -44,6 +44,19 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	JdbcValue writeJdbcValue(@Nullable Object value, Class<?> type, int sqlType);
 
+	/**
+	 * Convert the value of a property into a {@link JdbcValue} using the {@link #getColumnType(RelationalPersistentProperty)
+	 * column type} and {@link #getSqlType(RelationalPersistentProperty) SQL type} of the property.
+	 *
+	 * @param value a value as it is used in the object model. May be {@code null}.
+	 * @param property the property the value belongs to. Must not be {@code null}.
+	 * @return The converted value wrapped in a {@link JdbcValue}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	default JdbcValue writeJdbcValue(@Nullable Object value, RelationalPersistentProperty property) {
+		return writeJdbcValue(value, getColumnType(property), getSqlType(property));
+	}
+
 	/**
 	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity}.
 	 *
@@ -55,6 +68,22 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity} that is the
+	 * only aggregate root read by the query, like when loading an aggregate root by its id. Implementations may load the
+	 * relations of such an aggregate concurrently.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param <T>
+	 * @return
+	 * @since 2.3
+	 */
+	default <T> T mapSingleRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
+		return mapRow(entity, resultSet, key);
+	}
+
 	/**
 	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}.
 	 *
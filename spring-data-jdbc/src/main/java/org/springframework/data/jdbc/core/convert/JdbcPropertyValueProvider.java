@@ -48,7 +48,7 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 
 	@Override
 	public <T> T getPropertyValue(RelationalPersistentProperty property) {
-		return (T) resultSet.getObject(getColumnName(property));
+		return (T) resultSet.getObject(getColumnName(property), property.getType());
 	}
 
 	/**
@@ -44,4 +44,18 @@ public interface JdbcTypeFactory {
 	 * @return an {@link Array}. Guaranteed to be not {@literal null}.
 	 */
 	Array createArray(Object[] value);
+
+	/**
+	 * Converts the provided array into a value to be bound as SQL {@code ARRAY}. In contrast to
+	 * {@link #createArray(Object[])} the array may be an array of primitives. The default implementation boxes arrays of
+	 * primitives and delegates to {@link #createArray(Object[])}.
+	 *
+	 * @param value the array to be converted. Must not be {@literal null}.
+	 * @return an {@link Array} or a {@link org.springframework.jdbc.core.SqlTypeValue} creating one. Guaranteed to be not
+	 *         {@literal null}.
+	 * @since 2.3
+	 */
+	default Object createArrayValue(Object value) {
+		return createArray(BasicJdbcConverter.requireObjectArray(value));
+	}
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.springframework.data.util.TypeInformation;
+
+/**
+ * Converts the values of properties annotated with {@link org.springframework.data.relational.core.mapping.JsonColumn}
+ * into JSON documents and back.
+ *
+ * @since 2.3
+ * @see JacksonJsonColumnMapper
+ */
+public interface JsonColumnMapper {
+
+	/**
+	 * Serializes a property value into a JSON document.
+	 *
+	 * @param value the value to serialize. Must not be {@literal null}.
+	 * @return the JSON document. Guaranteed to be not {@literal null}.
+	 */
+	String write(Object value);
+
+	/**
+	 * Deserializes a JSON document into a value of the given type.
+	 *
+	 * @param json the JSON document. Must not be {@literal null}.
+	 * @param type the type of the property. Must not be {@literal null}.
+	 * @return the deserialized value. May be {@literal null} for the JSON {@code null} literal.
+	 */
+	Object read(String json, TypeInformation<?> type);
+}
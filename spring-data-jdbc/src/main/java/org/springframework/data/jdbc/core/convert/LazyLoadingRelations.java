@@ -0,0 +1,266 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.mapping.LazyLoadingRelation;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * Factory for the {@link List}, {@link Set} and {@link Map} implementations assigned to
+ * {@link RelationalPersistentProperty#isLazy() lazily loaded} properties. They load their content on first access and
+ * behave like an {@link ArrayList}, {@link LinkedHashSet} or {@link LinkedHashMap} afterwards.
+ *
+ * @since 2.3
+ */
+abstract class LazyLoadingRelations {
+
+	private LazyLoadingRelations() {}
+
+	/**
+	 * Returns whether {@code property} can hold a lazily loading collection or map.
+	 *
+	 * @param property the property. Must not be {@literal null}.
+	 * @return {@literal true} if the property is to be loaded lazily and its type can be implemented.
+	 */
+	static boolean supports(RelationalPersistentProperty property) {
+
+		if (!property.isLazy()) {
+			return false;
+		}
+
+		Class<?> type = property.getType();
+		return type == List.class || type == Set.class || type == Map.class || type == Collection.class
+				|| type == Iterable.class;
+	}
+
+	/**
+	 * Creates a lazily loading collection or map for {@code property}.
+	 *
+	 * @param property the property to create the value for. Must be {@link #supports(RelationalPersistentProperty)
+	 *          supported}.
+	 * @param loader loads the elements of the collection or the entries of the map.
+	 * @param entriesToMap converts the loaded entries into a {@link Map}.
+	 * @return the lazily loading value. Guaranteed to be not {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static Object create(RelationalPersistentProperty property, Supplier<Iterable<Object>> loader,
+			Function<Iterable<?>, Map<?, ?>> entriesToMap) {
+
+		if (property.isMap()) {
+			return new LazyLoadingMap<>(new Loader<Map<Object, Object>>(
+					() -> new LinkedHashMap<>((Map<Object, Object>) entriesToMap.apply(loader.get()))));
+		}
+
+		if (property.getType() == Set.class) {
+			return new LazyLoadingSet<>(new Loader<Set<Object>>(() -> addAll(new LinkedHashSet<>(), loader.get())));
+		}
+
+		return new LazyLoadingList<>(new Loader<List<Object>>(() -> addAll(new ArrayList<>(), loader.get())));
+	}
+
+	private static <C extends Collection<Object>> C addAll(C collection, @Nullable Iterable<Object> elements) {
+
+		if (elements != null) {
+			elements.forEach(collection::add);
+		}
+		return collection;
+	}
+
+	/**
+	 * Loads a value once on first access.
+	 */
+	private static final class Loader<T> {
+
+		private @Nullable Supplier<T> supplier;
+		private @Nullable volatile T value;
+
+		Loader(Supplier<T> supplier) {
+			this.supplier = supplier;
+		}
+
+		boolean isResolved() {
+			return value != null;
+		}
+
+		T get() {
+
+			T result = value;
+			if (result != null) {
+				return result;
+			}
+
+			synchronized (this) {
+
+				if (value == null) {
+					value = supplier.get();
+					supplier = null;
+				}
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * Lazily loading {@link List}.
+	 */
+	static class LazyLoadingList<E> extends AbstractList<E> implements LazyLoadingRelation {
+
+		private final Loader<List<E>> delegate;
+
+		LazyLoadingList(Loader<List<E>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean isResolved() {
+			return delegate.isResolved();
+		}
+
+		@Override
+		public E get(int index) {
+			return delegate.get().get(index);
+		}
+
+		@Override
+		public int size() {
+			return delegate.get().size();
+		}
+
+		@Override
+		public E set(int index, E element) {
+			return delegate.get().set(index, element);
+		}
+
+		@Override
+		public void add(int index, E element) {
+			delegate.get().add(index, element);
+		}
+
+		@Override
+		public E remove(int index) {
+			return delegate.get().remove(index);
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return delegate.get().iterator();
+		}
+	}
+
+	/**
+	 * Lazily loading {@link Set}.
+	 */
+	static class LazyLoadingSet<E> extends AbstractSet<E> implements LazyLoadingRelation {
+
+		private final Loader<Set<E>> delegate;
+
+		LazyLoadingSet(Loader<Set<E>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean isResolved() {
+			return delegate.isResolved();
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return delegate.get().iterator();
+		}
+
+		@Override
+		public int size() {
+			return delegate.get().size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return delegate.get().contains(o);
+		}
+
+		@Override
+		public boolean add(E element) {
+			return delegate.get().add(element);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return delegate.get().remove(o);
+		}
+	}
+
+	/**
+	 * Lazily loading {@link Map}.
+	 */
+	static class LazyLoadingMap<K, V> extends AbstractMap<K, V> implements LazyLoadingRelation {
+
+		private final Loader<Map<K, V>> delegate;
+
+		LazyLoadingMap(Loader<Map<K, V>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean isResolved() {
+			return delegate.isResolved();
+		}
+
+		@Override
+		public Set<Entry<K, V>> entrySet() {
+			return delegate.get().entrySet();
+		}
+
+		@Override
+		public int size() {
+			return delegate.get().size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return delegate.get().containsKey(key);
+		}
+
+		@Override
+		public V get(Object key) {
+			return delegate.get().get(key);
+		}
+
+		@Override
+		public V put(K key, V value) {
+			return delegate.get().put(key, value);
+		}
+
+		@Override
+		public V remove(Object key) {
+			return delegate.get().remove(key);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records the parameter values of entity instances as they were loaded or last written, for rendering {@code UPDATE}
+ * statements that only contain changed columns. States are kept by instance identity and are dropped once the
+ * instance gets garbage collected.
+ * <p>
+ * States recorded within a transaction get dropped again if the transaction doesn't commit, since the database then
+ * doesn't hold them.
+ *
+ * @since 2.3
+ * @see org.springframework.data.relational.core.mapping.DynamicUpdate
+ */
+class LoadedStates {
+
+	private final Map<InstanceReference, SqlIdentifierParameterSource> states = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Records a {@link SqlIdentifierParameterSource#snapshot() snapshot} of {@code state} for {@code instance},
+	 * replacing any previously recorded state.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @param state the parameter values of {@code instance}. Must not be {@literal null}.
+	 */
+	void put(Object instance, SqlIdentifierParameterSource state) {
+
+		purge();
+		states.put(new InstanceReference(instance, queue), state.snapshot());
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			getRecordedInTransaction().add(instance);
+		}
+	}
+
+	/**
+	 * Returns the state recorded for {@code instance}.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @return the recorded state or {@literal null} if there is none.
+	 */
+	@Nullable
+	SqlIdentifierParameterSource get(Object instance) {
+
+		purge();
+		return states.get(new InstanceReference(instance, null));
+	}
+
+	int size() {
+
+		purge();
+		return states.size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> getRecordedInTransaction() {
+
+		List<Object> recorded = (List<Object>) TransactionSynchronizationManager.getResource(this);
+
+		if (recorded == null) {
+
+			List<Object> newRecorded = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(this, newRecorded);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(LoadedStates.this);
+
+					if (status != STATUS_COMMITTED) {
+						newRecorded.forEach(instance -> states.remove(new InstanceReference(instance, null)));
+					}
+				}
+			});
+			recorded = newRecorded;
+		}
+
+		return recorded;
+	}
+
+	private void purge() {
+
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			states.remove(reference);
+		}
+	}
+
+	/**
+	 * Weak reference comparing referents by identity.
+	 */
+	private static final class InstanceReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		InstanceReference(Object instance, @Nullable ReferenceQueue<Object> queue) {
+
+			super(instance, queue);
+			this.hashCode = System.identityHashCode(instance);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof InstanceReference)) {
+				return false;
+			}
+
+			Object instance = get();
+			return instance != null && instance == ((InstanceReference) o).get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
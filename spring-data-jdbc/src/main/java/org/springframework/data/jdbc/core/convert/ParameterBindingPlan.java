@@ -0,0 +1,255 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Precomputed description of how the writable properties of an entity get bound as parameters of {@code INSERT} and
+ * {@code UPDATE} statements. Property traversal including embedded entities, parameter names, column types and SQL
+ * types are resolved once per entity so binding an instance only reads property values and converts those that
+ * actually need conversion.
+ * <p>
+ * Values whose type is a simple type without custom write conversion are bound as they are, all other values go
+ * through {@link JdbcConverter#writeJdbcValue(Object, Class, int)}.
+ *
+ * @param <T> the entity type.
+ * @since 2.3
+ */
+class ParameterBindingPlan<T> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final JdbcConverter converter;
+	private final IdentifierProcessing identifierProcessing;
+	private final Binding[] bindings;
+	private final EmbeddedPlan<?>[] embedded;
+	private final int totalBindings;
+
+	private ParameterBindingPlan(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			IdentifierProcessing identifierProcessing, List<Binding> bindings, List<EmbeddedPlan<?>> embedded) {
+
+		this.entity = entity;
+		this.converter = converter;
+		this.identifierProcessing = identifierProcessing;
+		this.bindings = bindings.toArray(new Binding[0]);
+		this.embedded = embedded.toArray(new EmbeddedPlan[0]);
+
+		int total = this.bindings.length;
+		for (EmbeddedPlan<?> embeddedPlan : this.embedded) {
+			total += embeddedPlan.plan.totalBindings;
+		}
+		this.totalBindings = total;
+	}
+
+	/**
+	 * Creates the {@link ParameterBindingPlan} for {@code entity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param identifierProcessing used to render parameter names. Must not be {@literal null}.
+	 * @return the plan. Guaranteed to be not {@literal null}.
+	 */
+	static <T> ParameterBindingPlan<T> of(RelationalPersistentEntity<T> entity, RelationalMappingContext context,
+			JdbcConverter converter, IdentifierProcessing identifierProcessing) {
+		return of(entity, context, converter, identifierProcessing, "");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterBindingPlan<T> of(RelationalPersistentEntity<T> entity,
+			RelationalMappingContext context, JdbcConverter converter, IdentifierProcessing identifierProcessing,
+			String prefix) {
+
+		CustomConversions conversions = converter instanceof BasicRelationalConverter
+				? ((BasicRelationalConverter) converter).getConversions()
+				: null;
+
+		List<Binding> bindings = new ArrayList<>();
+		List<EmbeddedPlan<?>> embedded = new ArrayList<>();
+
+		entity.doWithAll(property -> {
+
+			if (!property.isWritable()) {
+				return;
+			}
+
+			if (property.isEmbedded()) {
+
+				RelationalPersistentEntity<Object> embeddedEntity = (RelationalPersistentEntity<Object>) context
+						.getRequiredPersistentEntity(property.getType());
+				embedded.add(new EmbeddedPlan<>(property,
+						of(embeddedEntity, context, converter, identifierProcessing, prefix + property.getEmbeddedPrefix())));
+				return;
+			}
+
+			if (property.isEntity()) {
+				return;
+			}
+
+			SqlIdentifier parameterName = property.getColumnName().transform(prefix::concat);
+			Class<?> columnType = converter.getColumnType(property);
+			int sqlType = converter.getSqlType(property);
+
+			bindings.add(new Binding(property, parameterName, parameterName.getReference(identifierProcessing), columnType,
+					sqlType, getDirectlyBindableType(property, columnType, conversions)));
+		});
+
+		return new ParameterBindingPlan<>(entity, converter, identifierProcessing, bindings, embedded);
+	}
+
+	/**
+	 * Determines the type of values that can be bound without conversion: simple types that don't undergo custom
+	 * conversion and already match the column type.
+	 */
+	@Nullable
+	private static Class<?> getDirectlyBindableType(RelationalPersistentProperty property, Class<?> columnType,
+			@Nullable CustomConversions conversions) {
+
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+		if (conversions == null //
+				|| type != columnType //
+				|| type.isArray() //
+				|| type.isEnum() //
+				|| AggregateReference.class.isAssignableFrom(type) //
+				|| property.isCollectionLike() //
+				|| !conversions.isSimpleType(type) //
+				|| conversions.hasCustomWriteTarget(type)) {
+			return null;
+		}
+
+		return type;
+	}
+
+	/**
+	 * Binds the properties of {@code instance} into a new parameter source.
+	 *
+	 * @param instance the entity to bind. May be {@literal null} in which case all parameters are bound to
+	 *          {@literal null}.
+	 * @param skipIdProperties whether to leave out id properties.
+	 * @param additionalCapacity the number of values the caller intends to add to the result.
+	 * @return the parameter source. Guaranteed to be not {@literal null}.
+	 */
+	SqlIdentifierParameterSource bind(@Nullable T instance, boolean skipIdProperties, int additionalCapacity) {
+
+		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing,
+				totalBindings + additionalCapacity);
+		bindInto(instance, skipIdProperties, parameters);
+		return parameters;
+	}
+
+	private void bindInto(@Nullable T instance, boolean skipIdProperties, SqlIdentifierParameterSource parameters) {
+
+		PersistentPropertyAccessor<T> accessor = instance == null ? null : entity.getPropertyAccessor(instance);
+
+		for (Binding binding : bindings) {
+
+			if (skipIdProperties && binding.idProperty) {
+				continue;
+			}
+
+			Object value = accessor == null ? null : accessor.getProperty(binding.property);
+			binding.bind(value, converter, parameters);
+		}
+
+		for (EmbeddedPlan<?> embeddedPlan : embedded) {
+			embeddedPlan.bindInto(accessor, skipIdProperties, parameters);
+		}
+	}
+
+	/**
+	 * Binding of an embedded entity using its own plan.
+	 */
+	private static final class EmbeddedPlan<E> {
+
+		private final RelationalPersistentProperty property;
+		private final ParameterBindingPlan<E> plan;
+
+		EmbeddedPlan(RelationalPersistentProperty property, ParameterBindingPlan<E> plan) {
+
+			this.property = property;
+			this.plan = plan;
+		}
+
+		@SuppressWarnings("unchecked")
+		void bindInto(@Nullable PersistentPropertyAccessor<?> parentAccessor, boolean skipIdProperties,
+				SqlIdentifierParameterSource parameters) {
+
+			if (skipIdProperties && property.isIdProperty()) {
+				return;
+			}
+
+			E value = parentAccessor == null ? null : (E) parentAccessor.getProperty(property);
+			plan.bindInto(value, skipIdProperties, parameters);
+		}
+	}
+
+	/**
+	 * Binding of a single simple property to a single parameter.
+	 */
+	private static final class Binding {
+
+		private final RelationalPersistentProperty property;
+		private final boolean idProperty;
+		private final SqlIdentifier identifier;
+		private final String name;
+		private final Class<?> columnType;
+		private final int sqlType;
+		private final int boundSqlType;
+		@Nullable private final Class<?> directlyBindableType;
+
+		Binding(RelationalPersistentProperty property, SqlIdentifier identifier, String name, Class<?> columnType,
+				int sqlType, @Nullable Class<?> directlyBindableType) {
+
+			this.property = property;
+			this.idProperty = property.isIdProperty();
+			this.identifier = identifier;
+			this.name = name;
+			this.columnType = columnType;
+			this.sqlType = sqlType;
+			this.boundSqlType = JdbcUtil.sqlTypeFor(JdbcUtil.jdbcTypeFor(sqlType));
+			this.directlyBindableType = directlyBindableType;
+		}
+
+		void bind(@Nullable Object value, JdbcConverter converter, SqlIdentifierParameterSource parameters) {
+
+			if (value == null || value.getClass() == directlyBindableType) {
+
+				parameters.addValue(identifier, name, value, boundSqlType);
+				return;
+			}
+
+			JdbcValue jdbcValue = property.isJsonColumn() //
+					? converter.writeJdbcValue(value, property) //
+					: converter.writeJdbcValue(value, columnType, sqlType);
+			parameters.addValue(identifier, name, jdbcValue.getValue(), JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A statement rendered by {@link SqlGenerator} using named parameters ({@code :name}) together with its translation
+ * to positional {@code ?} markers and the order in which the named parameters have to be bound. The translation is
+ * computed when it is used for the first time and is kept with the statement in the caches of the
+ * {@link SqlGenerator}, which allows executing it through {@link org.springframework.jdbc.core.JdbcOperations}
+ * without parsing it on every execution. Statements only ever executed by their named form don't get translated.
+ * <p>
+ * Only parameters with single values are supported. Statements that bind collections, like {@code IN} lists, must go
+ * through {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} which expands them.
+ *
+ * @since 2.3
+ */
+final class PositionalStatement {
+
+	private final String namedSql;
+	private volatile @Nullable Translation translation;
+
+	private PositionalStatement(String namedSql) {
+		this.namedSql = namedSql;
+	}
+
+	/**
+	 * Creates a {@link PositionalStatement} for a statement using named parameters. Its translation into one using
+	 * positional parameters happens on first use.
+	 *
+	 * @param namedSql the statement using {@code :name} parameters. Must not be {@literal null}.
+	 * @return the {@link PositionalStatement}. Guaranteed to be not {@literal null}.
+	 */
+	static PositionalStatement of(String namedSql) {
+
+		Assert.notNull(namedSql, "SQL must not be null");
+
+		return new PositionalStatement(namedSql);
+	}
+
+	private Translation getTranslation() {
+
+		Translation translation = this.translation;
+		if (translation == null) {
+
+			translation = translate(namedSql);
+			this.translation = translation;
+		}
+		return translation;
+	}
+
+	/**
+	 * Translates a statement using named parameters into one using positional parameters. Quoted identifiers and
+	 * literals are left untouched, as are {@code ::} casts.
+	 */
+	private static Translation translate(String namedSql) {
+
+		StringBuilder sql = new StringBuilder(namedSql.length());
+		List<String> names = new ArrayList<>();
+
+		int length = namedSql.length();
+		int i = 0;
+		while (i < length) {
+
+			char c = namedSql.charAt(i);
+
+			char closingQuote = closingQuoteFor(c);
+			if (closingQuote != 0) {
+
+				int end = namedSql.indexOf(closingQuote, i + 1);
+				end = end < 0 ? length : end + 1;
+				sql.append(namedSql, i, end);
+				i = end;
+				continue;
+			}
+
+			if (c == ':' && i + 1 < length) {
+
+				if (namedSql.charAt(i + 1) == ':') {
+
+					sql.append("::");
+					i += 2;
+					continue;
+				}
+
+				int end = i + 1;
+				while (end < length && isParameterNameCharacter(namedSql.charAt(end))) {
+					end++;
+				}
+
+				if (end > i + 1) {
+
+					names.add(namedSql.substring(i + 1, end));
+					sql.append('?');
+					i = end;
+					continue;
+				}
+			}
+
+			sql.append(c);
+			i++;
+		}
+
+		return new Translation(sql.toString(), names.toArray(new String[0]));
+	}
+
+	private static char closingQuoteFor(char c) {
+
+		switch (c) {
+			case '\'':
+			case '"':
+			case '`':
+				return c;
+			case '[':
+				return ']';
+			default:
+				return 0;
+		}
+	}
+
+	private static boolean isParameterNameCharacter(char c) {
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+
+	/**
+	 * @return the statement using {@code :name} parameters, as required by
+	 *         {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations}.
+	 */
+	String getNamedSql() {
+		return namedSql;
+	}
+
+	/**
+	 * @return the statement using {@code ?} markers.
+	 */
+	String getPositionalSql() {
+		return getTranslation().sql;
+	}
+
+	/**
+	 * @return the number of parameter markers.
+	 */
+	int getParameterCount() {
+		return getTranslation().parameterNames.length;
+	}
+
+	/**
+	 * Resolves the values for all parameter markers from {@code parameters} in binding order.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @return a {@link PreparedStatementSetter} binding the resolved values. Guaranteed to be not {@literal null}.
+	 * @throws InvalidDataAccessApiUsageException if {@code parameters} lacks a value for one of the markers.
+	 */
+	PreparedStatementSetter bind(SqlParameterSource parameters) {
+
+		String[] parameterNames = getTranslation().parameterNames;
+		Object[] values = new Object[parameterNames.length];
+		int[] sqlTypes = new int[parameterNames.length];
+
+		for (int i = 0; i < parameterNames.length; i++) {
+
+			String name = parameterNames[i];
+			if (!parameters.hasValue(name)) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("No value supplied for the SQL parameter '%s' of statement %s", name, namedSql));
+			}
+
+			values[i] = parameters.getValue(name);
+			sqlTypes[i] = parameters.getSqlType(name);
+		}
+
+		return new PositionalParameterSetter(values, sqlTypes);
+	}
+
+	@Override
+	public String toString() {
+		return namedSql;
+	}
+
+	/**
+	 * A statement using {@code ?} markers together with the names of the parameters to bind to them.
+	 */
+	private static final class Translation {
+
+		private final String sql;
+		private final String[] parameterNames;
+
+		Translation(String sql, String[] parameterNames) {
+
+			this.sql = sql;
+			this.parameterNames = parameterNames;
+		}
+	}
+
+	/**
+	 * Array based {@link PreparedStatementSetter}.
+	 */
+	private static final class PositionalParameterSetter implements PreparedStatementSetter, ParameterDisposer {
+
+		private final Object[] values;
+		private final int[] sqlTypes;
+
+		PositionalParameterSetter(Object[] values, int[] sqlTypes) {
+
+			this.values = values;
+			this.sqlTypes = sqlTypes;
+		}
+
+		@Override
+		public void setValues(PreparedStatement ps) throws SQLException {
+
+			for (int i = 0; i < values.length; i++) {
+				StatementCreatorUtils.setParameterValue(ps, i + 1, sqlTypes[i], values[i]);
+			}
+		}
+
+		@Override
+		public void cleanupParameters() {
+			StatementCreatorUtils.cleanupParameters(values);
+		}
+	}
+}
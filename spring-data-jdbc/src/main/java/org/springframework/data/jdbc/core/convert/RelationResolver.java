@@ -36,4 +36,16 @@ public interface RelationResolver {
 	 */
 	Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path);
+
+	/**
+	 * Returns a {@link RelationResolver} for relations resolved on another thread or after the current call returned,
+	 * e.g. relations loaded concurrently or lazily. Resolvers depending on state bound to the calling thread capture it,
+	 * so the returned resolver finds the same entities the current thread would.
+	 *
+	 * @return guaranteed to be not {@literal null}. Defaults to {@literal this}.
+	 * @since 2.3
+	 */
+	default RelationResolver forDeferredResolution() {
+		return this;
+	}
 }
@@ -15,6 +15,11 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -96,6 +101,44 @@ class ResultSetAccessor {
 		}
 	}
 
+	/**
+	 * Returns the value if the result set contains the {@code columnName}. Large objects requested as {@link Blob},
+	 * {@link Clob}, {@link InputStream} or {@link Reader} get returned as handles reading the content from the database
+	 * on access instead of being read into memory. They stay valid as long as the transaction the row was read in. Other
+	 * values get read as by {@link #getObject(String)}.
+	 *
+	 * @param columnName the column name (label).
+	 * @param type the type of the property the value is read for.
+	 * @return the value. May be {@literal null}.
+	 * @since 2.3
+	 */
+	@Nullable
+	public Object getObject(String columnName, Class<?> type) {
+
+		if (!StreamingLobValue.isStreamingLob(type)) {
+			return getObject(columnName);
+		}
+
+		try {
+
+			int index = findColumnIndex(columnName);
+			if (index <= 0) {
+				return null;
+			}
+
+			if (Blob.class.isAssignableFrom(type) || InputStream.class.isAssignableFrom(type)) {
+
+				Blob blob = resultSet.getBlob(index);
+				return blob == null || Blob.class.isAssignableFrom(type) ? blob : blob.getBinaryStream();
+			}
+
+			Clob clob = NClob.class.isAssignableFrom(type) ? resultSet.getNClob(index) : resultSet.getClob(index);
+			return clob == null || Clob.class.isAssignableFrom(type) ? clob : clob.getCharacterStream();
+		} catch (SQLException o_O) {
+			throw new MappingException(String.format("Could not read value %s from result set!", columnName), o_O);
+		}
+	}
+
 	private int findColumnIndex(String columnName) {
 		return indexLookUp.getOrDefault(columnName, -1);
 	}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.Sequence;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
+
+/**
+ * Allocates ids from database sequences configured with {@link Sequence}. Each call to a sequence reserves a block of
+ * {@link Sequence#allocationSize()} ids which get handed out without further round trips: the value {@code v} returned
+ * by the sequence reserves {@code v} to {@code v + allocationSize - 1}.
+ * <p>
+ * Sequences without a schema are qualified with the schema of the table of the entity, so each schema, for example
+ * each tenant of a {@link org.springframework.data.relational.core.mapping.NamingStrategy#isSchemaPerCall()
+ * per-call schema}, gets its own blocks. Blocks are kept per qualified sequence, so all properties using the same
+ * sequence must use the same allocation size.
+ *
+ * @since 2.3
+ */
+class SequenceIdAllocator {
+
+	private final IdGeneration idGeneration;
+	private final JdbcOperations operations;
+	private final Map<SqlIdentifier, Block> blocks = new ConcurrentHashMap<>();
+
+	SequenceIdAllocator(IdGeneration idGeneration, JdbcOperations operations) {
+
+		this.idGeneration = idGeneration;
+		this.operations = operations;
+	}
+
+	/**
+	 * Allocates the next id for {@code entity} if its id property is backed by a sequence.
+	 *
+	 * @param entity the entity to allocate an id for. Must not be {@literal null}.
+	 * @return the allocated id or {@literal null} if the id property isn't backed by a sequence.
+	 * @throws InvalidDataAccessApiUsageException if the id is backed by a sequence but the dialect doesn't support
+	 *           sequences.
+	 */
+	@Nullable
+	Long allocate(RelationalPersistentEntity<?> entity) {
+
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+		if (idProperty == null) {
+			return null;
+		}
+
+		SqlIdentifier sequence = idProperty.getSequence();
+		if (sequence == null) {
+			return null;
+		}
+
+		if (!idGeneration.sequencesSupported()) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Id property %s of %s is backed by sequence %s but the dialect does not support sequences",
+					idProperty.getName(), entity.getType().getName(), sequence));
+		}
+
+		return blocks.computeIfAbsent(qualify(sequence, entity), it -> new Block(it, getAllocationSize(idProperty)))
+				.next();
+	}
+
+	private static SqlIdentifier qualify(SqlIdentifier sequence, RelationalPersistentEntity<?> entity) {
+
+		List<SqlIdentifier> tableName = entity.getTableName().toList();
+
+		if (sequence.toList().size() > 1 || tableName.size() < 2) {
+			return sequence;
+		}
+
+		SqlIdentifier[] parts = tableName.toArray(new SqlIdentifier[0]);
+		parts[parts.length - 1] = sequence;
+
+		return SqlIdentifier.from(parts);
+	}
+
+	private static int getAllocationSize(RelationalPersistentProperty idProperty) {
+
+		Sequence annotation = idProperty.findAnnotation(Sequence.class);
+		return annotation == null ? 1 : Math.max(1, annotation.allocationSize());
+	}
+
+	/**
+	 * The block of ids currently reserved from a sequence.
+	 */
+	private final class Block {
+
+		private final String query;
+		private final int allocationSize;
+
+		private long next;
+		private int remaining;
+
+		Block(SqlIdentifier sequence, int allocationSize) {
+
+			this.query = idGeneration.createSequenceQuery(sequence);
+			this.allocationSize = allocationSize;
+		}
+
+		synchronized long next() {
+
+			if (remaining == 0) {
+
+				Long value = operations.queryForObject(query, Long.class);
+				if (value == null) {
+					throw new DataRetrievalFailureException(String.format("Sequence query %s returned null", query));
+				}
+
+				next = value;
+				remaining = allocationSize;
+			}
+
+			remaining--;
+			return next++;
+		}
+	}
+}
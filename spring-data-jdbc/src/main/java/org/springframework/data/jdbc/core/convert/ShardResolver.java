@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+/**
+ * Determines the shard an aggregate is stored in for a {@link ShardingDataAccessStrategy}. Shards are identified by
+ * their index in the list of shards the strategy was created with.
+ * <p>
+ * Implementations must be consistent: an aggregate root and its id must always resolve to the same shard.
+ *
+ * @since 2.3
+ * @see ShardingDataAccessStrategy
+ */
+public interface ShardResolver {
+
+	/**
+	 * Returned by {@link #getShardById(Class, Object, int)} when the shard can't be derived from the id alone.
+	 */
+	int UNKNOWN = -1;
+
+	/**
+	 * Returns the shard storing the given aggregate root, typically derived from a shard key like a customer id.
+	 *
+	 * @param aggregateRoot the aggregate root to store. Must not be {@literal null}.
+	 * @param shardCount the number of shards.
+	 * @return the index of the shard, between {@code 0} and {@code shardCount - 1}.
+	 */
+	int getShard(Object aggregateRoot, int shardCount);
+
+	/**
+	 * Returns the shard storing the aggregate root with the given id. The default implementation returns
+	 * {@link #UNKNOWN}, so operations by id get executed on all shards.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param shardCount the number of shards.
+	 * @return the index of the shard, between {@code 0} and {@code shardCount - 1}, or {@link #UNKNOWN}.
+	 */
+	default int getShardById(Class<?> domainType, Object id, int shardCount) {
+		return UNKNOWN;
+	}
+
+	/**
+	 * Distributes shard keys evenly across shards by their {@link Object#hashCode() hash code}.
+	 *
+	 * @param shardKey the shard key. Must not be {@literal null}.
+	 * @param shardCount the number of shards.
+	 * @return the index of the shard, between {@code 0} and {@code shardCount - 1}.
+	 */
+	static int hash(Object shardKey, int shardCount) {
+		return Math.floorMod(shardKey.hashCode(), shardCount);
+	}
+}
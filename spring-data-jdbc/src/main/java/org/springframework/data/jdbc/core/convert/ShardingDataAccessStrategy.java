@@ -0,0 +1,788 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataAccessStrategy} distributing aggregates across several databases. Each shard is represented by its own
+ * {@link DataAccessStrategy}, typically a {@link DefaultDataAccessStrategy} using the
+ * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} of one database. A
+ * {@link ShardResolver} determines the shard of each aggregate.
+ * <p>
+ * Aggregate changes get routed as a whole: the first operation on the aggregate root determines the shard and binds it
+ * to the current thread, and the operations on the other entities of the aggregate follow it. The binding gets released
+ * by {@link #afterAggregateChange()} once the change completed, or when an operation fails.
+ * <p>
+ * Operations by id use {@link ShardResolver#getShardById(Class, Object, int)} and get executed on all shards if that
+ * returns {@link ShardResolver#UNKNOWN}. Queries without a shard key get executed on all shards and their results get
+ * combined. Sorted results are merged according to the {@link Sort}, so pages of sorted results are consistent across
+ * shards. Without a {@link Sort} results get concatenated in the order of the shards. Merging compares property values
+ * in Java: {@link String}s by {@link String#compareTo(String)} and {@literal null} values as configured by
+ * {@link #setNullsFirst(boolean)}. Databases ordering strings by a collation other than a binary one may sort
+ * differently, which makes merged results inconsistent with the order of each shard.
+ * <p>
+ * The strategy should also be used as the {@link RelationResolver} of the {@link JdbcConverter}, e.g. through a
+ * {@link DelegatingDataAccessStrategy}. Relations then get loaded from the shard the aggregate root was read from,
+ * including relations loaded concurrently or lazily through {@link #forDeferredResolution()}.
+ * <p>
+ * Each shard has its own database, so a transaction of the calling thread spans only the shard of its
+ * {@link org.springframework.transaction.PlatformTransactionManager}.
+ *
+ * @since 2.3
+ * @see ShardResolver
+ */
+public class ShardingDataAccessStrategy implements DataAccessStrategy {
+
+	private final List<DataAccessStrategy> shards;
+	private final ShardResolver shardResolver;
+	private final RelationalMappingContext context;
+	private final ThreadLocal<Integer> currentShard = new ThreadLocal<>();
+
+	private @Nullable Executor queryExecutor;
+	private boolean nullsFirst = true;
+
+	/**
+	 * Creates a new {@link ShardingDataAccessStrategy}.
+	 *
+	 * @param shards the {@link DataAccessStrategy} of each shard. Must not be {@literal null} or empty.
+	 * @param shardResolver determines the shard of aggregates. Must not be {@literal null}.
+	 * @param context used to compare aggregates when merging sorted results. Must not be {@literal null}.
+	 */
+	public ShardingDataAccessStrategy(List<? extends DataAccessStrategy> shards, ShardResolver shardResolver,
+			RelationalMappingContext context) {
+
+		Assert.notEmpty(shards, "Shards must not be empty");
+		Assert.noNullElements(shards, "Shards must not contain null elements");
+		Assert.notNull(shardResolver, "ShardResolver must not be null");
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+
+		this.shards = new ArrayList<>(shards);
+		this.shardResolver = shardResolver;
+		this.context = context;
+	}
+
+	/**
+	 * Configures an {@link Executor} used to query all shards concurrently. Without an {@link Executor}, which is the
+	 * default, shards get queried one after the other. Only read-only queries use the {@link Executor}. Operations
+	 * modifying or locking rows of several shards always get executed one shard after the other on the calling thread,
+	 * so they take part in its transaction.
+	 *
+	 * @param queryExecutor the {@link Executor} to use. May be {@literal null} to query shards sequentially.
+	 */
+	public void setQueryExecutor(@Nullable Executor queryExecutor) {
+		this.queryExecutor = queryExecutor;
+	}
+
+	/**
+	 * Configures how the databases of the shards order {@literal null} values in ascending order, which is used for
+	 * merging sorted results. Descending order is expected to reverse it. Defaults to {@literal true}, matching e.g. H2,
+	 * MySQL and SQL Server. PostgreSQL and Oracle sort {@literal null} values last in ascending order.
+	 *
+	 * @param nullsFirst whether {@literal null} values come first in ascending order.
+	 */
+	public void setNullsFirst(boolean nullsFirst) {
+		this.nullsFirst = nullsFirst;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier) {
+
+		int shard = identifier.size() == 0 ? bind(getShard(instance)) : getBoundShard();
+		return write(shard, das -> das.insert(instance, domainType, identifier));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> List<Object> insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+
+		if (identifiers.stream().allMatch(it -> it.size() != 0)) {
+			return write(getBoundShard(), das -> das.insertAll(instances, domainType, identifiers));
+		}
+
+		List<Object> ids = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			ids.add(insert(instances.get(i), domainType, identifiers.get(i)));
+		}
+		return ids;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType) {
+
+		int shard = bind(getShard(instance));
+		return write(shard, das -> das.update(instance, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		return write(getBoundShard(), das -> das.update(instance, domainType, propertyPath));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <S> Object upsert(S instance, Class<S> domainType, Identifier identifier) {
+
+		int shard = identifier.size() == 0 ? bind(getShard(instance)) : getBoundShard();
+		return write(shard, das -> das.upsert(instance, domainType, identifier));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number)
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
+
+		int shard = bind(getShard(instance));
+		return write(shard, das -> das.updateWithVersion(instance, domainType, previousVersion));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public void delete(Object id, Class<?> domainType) {
+		onShardOf(id, domainType, das -> das.delete(id, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteWithVersion(java.lang.Object, java.lang.Class, java.lang.Number)
+	 */
+	@Override
+	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
+
+		int shard = shardResolver.getShardById(domainType, id, shards.size());
+		if (shard == ShardResolver.UNKNOWN) {
+
+			// an aggregate that doesn't exist anywhere fails on any shard
+			shard = Math.max(locate(id, domainType), 0);
+		}
+
+		write(checkShard(shard), das -> {
+
+			das.deleteWithVersion(id, domainType, previousVersion);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		onShardOf(rootId, propertyPath.getBaseProperty().getOwner().getType(), das -> das.delete(rootId, propertyPath));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAll(java.lang.Class)
+	 */
+	@Override
+	public <T> void deleteAll(Class<T> domainType) {
+		onAllShards(das -> das.deleteAll(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAll(org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		onAllShards(das -> das.deleteAll(propertyPath));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#acquireLockById(java.lang.Object, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+		onShardOf(id, domainType, das -> das.acquireLockById(id, lockMode, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#acquireLockAll(org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
+		onAllShards(das -> das.acquireLockAll(lockMode, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#count(java.lang.Class)
+	 */
+	@Override
+	public long count(Class<?> domainType) {
+
+		long count = 0;
+		for (Long shardCount : scatter(shard -> shards.get(shard).count(domainType))) {
+			count += shardCount;
+		}
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#flush()
+	 */
+	@Override
+	public void flush() {
+		onAllShards(DataAccessStrategy::flush);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#afterAggregateChange()
+	 */
+	@Override
+	public void afterAggregateChange() {
+
+		try {
+			onAllShards(DataAccessStrategy::afterAggregateChange);
+		} finally {
+			currentShard.remove();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	@Nullable
+	public <T> T findById(Object id, Class<T> domainType) {
+
+		int shard = shardResolver.getShardById(domainType, id, shards.size());
+		if (shard != ShardResolver.UNKNOWN) {
+			return onShard(checkShard(shard), () -> shards.get(shard).findById(id, domainType));
+		}
+
+		for (T result : scatter(it -> shards.get(it).findById(id, domainType))) {
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType) {
+		return concat(scatter(shard -> shards.get(shard).findAll(domainType)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		ShardSpliterator<T> spliterator = new ShardSpliterator<>(domainType);
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+
+		List<List<Object>> idsPerShard = new ArrayList<>(shards.size());
+		for (int i = 0; i < shards.size(); i++) {
+			idsPerShard.add(new ArrayList<>());
+		}
+
+		for (Object id : ids) {
+
+			int shard = shardResolver.getShardById(domainType, id, shards.size());
+			if (shard == ShardResolver.UNKNOWN) {
+				idsPerShard.forEach(it -> it.add(id));
+			} else {
+				idsPerShard.get(checkShard(shard)).add(id);
+			}
+		}
+
+		return concat(scatter(shard -> idsPerShard.get(shard).isEmpty() //
+				? Collections.<T> emptyList() //
+				: shards.get(shard).findAllById(idsPerShard.get(shard), domainType)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(org.springframework.data.jdbc.core.convert.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Integer bound = currentShard.get();
+		if (bound != null) {
+			return shards.get(bound).findAllByPath(identifier, path);
+		}
+
+		return concat(scatter(shard -> shards.get(shard).findAllByPath(identifier, path)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#forDeferredResolution()
+	 */
+	@Override
+	public RelationResolver forDeferredResolution() {
+
+		Integer bound = currentShard.get();
+		if (bound == null) {
+			return this;
+		}
+
+		// ids are only unique per shard, so relations must be loaded from the shard their root was read from
+		return (identifier, path) -> onShard(bound, () -> shards.get(bound).findAllByPath(identifier, path));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> boolean existsById(Object id, Class<T> domainType) {
+
+		int shard = shardResolver.getShardById(domainType, id, shards.size());
+		if (shard != ShardResolver.UNKNOWN) {
+			return onShard(checkShard(shard), () -> shards.get(shard).existsById(id, domainType));
+		}
+
+		return locate(id, domainType) != ShardResolver.UNKNOWN;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+
+		List<Iterable<T>> results = scatter(shard -> shards.get(shard).findAll(domainType, sort));
+		return sort.isSorted() ? merge(results, getComparator(domainType, sort), 0, Integer.MAX_VALUE) : concat(results);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
+
+		if (pageable.isUnpaged()) {
+			return findAll(domainType, pageable.getSort());
+		}
+
+		// each shard may contribute all rows up to the end of the requested page
+		long offset = pageable.getOffset();
+		int limit = pageable.getPageSize();
+		Pageable shardPageable = PageRequest.of(0, (int) Math.min(Integer.MAX_VALUE, offset + limit), pageable.getSort());
+
+		List<Iterable<T>> results = scatter(shard -> shards.get(shard).findAll(domainType, shardPageable));
+		Comparator<T> comparator = pageable.getSort().isSorted() ? getComparator(domainType, pageable.getSort()) : null;
+
+		return merge(results, comparator, offset, limit);
+	}
+
+	private int getShard(Object aggregateRoot) {
+		return checkShard(shardResolver.getShard(aggregateRoot, shards.size()));
+	}
+
+	private int checkShard(int shard) {
+
+		if (shard < 0 || shard >= shards.size()) {
+			throw new IllegalStateException(
+					String.format("ShardResolver returned shard %d but there are only %d shards", shard, shards.size()));
+		}
+		return shard;
+	}
+
+	private int bind(int shard) {
+
+		currentShard.set(shard);
+		return shard;
+	}
+
+	private int getBoundShard() {
+
+		Integer shard = currentShard.get();
+		Assert.state(shard != null,
+				"No shard is bound to the current thread; Entities of an aggregate can only be written after its root");
+		return shard;
+	}
+
+	/**
+	 * Returns the shard storing the aggregate root with the given id or {@link ShardResolver#UNKNOWN} if it doesn't exist.
+	 */
+	private int locate(Object id, Class<?> domainType) {
+
+		List<Boolean> exists = scatter(shard -> shards.get(shard).existsById(id, domainType));
+		return exists.indexOf(Boolean.TRUE);
+	}
+
+	private <R> R write(int shard, Function<DataAccessStrategy, R> operation) {
+
+		try {
+			return onShard(shard, () -> operation.apply(shards.get(shard)));
+		} catch (RuntimeException e) {
+
+			currentShard.remove();
+			throw e;
+		}
+	}
+
+	private void onShardOf(Object id, Class<?> domainType, Consumer<DataAccessStrategy> operation) {
+
+		int shard = shardResolver.getShardById(domainType, id, shards.size());
+		if (shard == ShardResolver.UNKNOWN) {
+			onAllShards(operation);
+			return;
+		}
+
+		write(checkShard(shard), das -> {
+
+			operation.accept(das);
+			return null;
+		});
+	}
+
+	/**
+	 * Executes {@code operation} for each shard, one after the other on the calling thread.
+	 */
+	private void onAllShards(Consumer<DataAccessStrategy> operation) {
+
+		for (int i = 0; i < shards.size(); i++) {
+
+			int shard = i;
+			onShard(shard, () -> {
+
+				operation.accept(shards.get(shard));
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Executes {@code operation} with {@code shard} bound to the current thread, so relations get loaded from the same
+	 * shard.
+	 */
+	private <R> R onShard(int shard, Supplier<R> operation) {
+
+		Integer previous = currentShard.get();
+		currentShard.set(shard);
+
+		try {
+			return operation.get();
+		} finally {
+
+			if (previous == null) {
+				currentShard.remove();
+			} else {
+				currentShard.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Executes the read-only {@code operation} for each shard, concurrently if a {@link #queryExecutor} is configured.
+	 *
+	 * @return the results in the order of the shards.
+	 */
+	private <R> List<R> scatter(IntFunction<R> operation) {
+
+		Executor executor = queryExecutor;
+		List<R> results = new ArrayList<>(shards.size());
+
+		if (executor == null || shards.size() == 1) {
+
+			for (int i = 0; i < shards.size(); i++) {
+
+				int shard = i;
+				results.add(onShard(shard, () -> operation.apply(shard)));
+			}
+			return results;
+		}
+
+		List<CompletableFuture<R>> futures = new ArrayList<>(shards.size());
+		for (int i = 0; i < shards.size(); i++) {
+
+			int shard = i;
+			futures.add(CompletableFuture.supplyAsync(() -> onShard(shard, () -> operation.apply(shard)), executor));
+		}
+
+		try {
+			for (CompletableFuture<R> future : futures) {
+				results.add(future.join());
+			}
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+
+		return results;
+	}
+
+	private static <T> List<T> concat(List<? extends Iterable<T>> results) {
+
+		List<T> all = new ArrayList<>();
+		results.forEach(result -> result.forEach(all::add));
+		return all;
+	}
+
+	/**
+	 * Merges results which are sorted by {@code comparator} with a k-way merge, skipping the first {@code offset} elements
+	 * and returning at most {@code limit} elements. Without a {@code comparator} results get concatenated.
+	 */
+	static <T> List<T> merge(List<? extends Iterable<T>> results, @Nullable Comparator<? super T> comparator,
+			long offset, int limit) {
+
+		List<T> merged = new ArrayList<>();
+
+		if (comparator == null) {
+
+			long skipped = 0;
+			for (Iterable<T> result : results) {
+				for (T element : result) {
+
+					if (merged.size() == limit) {
+						return merged;
+					}
+					if (skipped < offset) {
+						skipped++;
+					} else {
+						merged.add(element);
+					}
+				}
+			}
+			return merged;
+		}
+
+		PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(results.size(), 1),
+				(left, right) -> comparator.compare(left.element, right.element));
+
+		for (Iterable<T> result : results) {
+
+			Iterator<T> iterator = result.iterator();
+			if (iterator.hasNext()) {
+				heads.add(new Head<>(iterator.next(), iterator));
+			}
+		}
+
+		long skipped = 0;
+		while (!heads.isEmpty() && merged.size() < limit) {
+
+			Head<T> head = heads.poll();
+
+			if (skipped < offset) {
+				skipped++;
+			} else {
+				merged.add(head.element);
+			}
+
+			if (head.remaining.hasNext()) {
+				heads.add(new Head<>(head.remaining.next(), head.remaining));
+			}
+		}
+
+		return merged;
+	}
+
+	/**
+	 * Creates a {@link Comparator} ordering aggregates like the database does for {@code sort}. The statements of the
+	 * shards only apply the direction of each {@link Sort.Order}, so {@literal null} values get ordered as configured by
+	 * {@link #setNullsFirst(boolean)} and strings get compared case-sensitively.
+	 */
+	<T> Comparator<T> getComparator(Class<T> domainType, Sort sort) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+		Comparator<T> comparator = null;
+
+		for (Sort.Order order : sort) {
+
+			PersistentPropertyPath<RelationalPersistentProperty> path = context
+					.getPersistentPropertyPath(order.getProperty(), domainType);
+
+			Comparator<T> orderComparator = (left, right) -> compare( //
+					entity.getPropertyPathAccessor(left).getProperty(path), //
+					entity.getPropertyPathAccessor(right).getProperty(path), //
+					order);
+
+			comparator = comparator == null ? orderComparator : comparator.thenComparing(orderComparator);
+		}
+
+		Assert.state(comparator != null, "Sort must not be unsorted");
+		return comparator;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private int compare(@Nullable Object left, @Nullable Object right, Sort.Order order) {
+
+		int result;
+		if (left == null && right == null) {
+			result = 0;
+		} else if (left == null) {
+			result = nullsFirst ? -1 : 1;
+		} else if (right == null) {
+			result = nullsFirst ? 1 : -1;
+		} else {
+			result = ((Comparable) left).compareTo(right);
+		}
+
+		return order.isAscending() ? result : -result;
+	}
+
+	/**
+	 * Streams the aggregates of all shards, one shard after the other. The stream of a shard gets opened once the previous
+	 * one is exhausted, and the shard gets bound to the current thread while each aggregate gets mapped, so its relations
+	 * get loaded from the same shard.
+	 */
+	private final class ShardSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+		private final Class<T> domainType;
+		private int shard = -1;
+		private @Nullable Stream<T> stream;
+		private @Nullable Spliterator<T> current;
+
+		ShardSpliterator(Class<T> domainType) {
+
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			List<T> next = new ArrayList<>(1);
+
+			while (true) {
+
+				if (current == null) {
+
+					if (shard == shards.size() - 1) {
+						return false;
+					}
+
+					int nextShard = ++shard;
+					stream = onShard(nextShard, () -> shards.get(nextShard).streamAll(domainType));
+					current = stream.spliterator();
+				}
+
+				Spliterator<T> spliterator = current;
+				if (onShard(shard, () -> spliterator.tryAdvance(next::add))) {
+
+					// the consumer runs without the binding, it may access other shards
+					action.accept(next.get(0));
+					return true;
+				}
+
+				close();
+			}
+		}
+
+		void close() {
+
+			Stream<T> toClose = stream;
+			stream = null;
+			current = null;
+
+			if (toClose != null) {
+				toClose.close();
+			}
+		}
+	}
+
+	/**
+	 * The smallest element of a sorted result not merged yet, together with the rest of that result.
+	 */
+	private static final class Head<T> {
+
+		private final T element;
+		private final Iterator<T> remaining;
+
+		Head(T element, Iterator<T> remaining) {
+
+			this.element = element;
+			this.remaining = remaining;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link org.springframework.jdbc.core.SqlTypeValue} creating a SQL {@code ARRAY} from the {@link Connection} of the
+ * statement it gets bound to.
+ * <p>
+ * Arrays of primitives get passed to the driver as they are if its connection offers a
+ * {@code createArrayOf(String, Object)} method accepting them, as the PostgreSQL driver does. Otherwise their elements
+ * get boxed.
+ *
+ * @since 2.3
+ */
+class SqlArrayValue extends AbstractSqlTypeValue {
+
+	private static final Map<Class<?>, Optional<Method>> PRIMITIVE_ARRAY_FACTORIES = new ConcurrentReferenceHashMap<>();
+
+	private final String typeName;
+	private final Object elements;
+
+	/**
+	 * @param typeName the SQL type name of the array elements. Must not be {@literal null}.
+	 * @param elements the array. Must not be {@literal null}.
+	 */
+	SqlArrayValue(String typeName, Object elements) {
+
+		this.typeName = typeName;
+		this.elements = elements;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.support.AbstractSqlTypeValue#createTypeValue(java.sql.Connection, int, java.lang.String)
+	 */
+	@Override
+	protected Object createTypeValue(Connection connection, int sqlType, @Nullable String typeName)
+			throws SQLException {
+
+		if (elements.getClass().getComponentType().isPrimitive()) {
+
+			Connection target = connection.unwrap(Connection.class);
+			Method factory = getPrimitiveArrayFactory(target.getClass());
+
+			if (factory != null) {
+				return createPrimitiveArray(factory, target);
+			}
+		}
+
+		return connection.createArrayOf(this.typeName, BasicJdbcConverter.requireObjectArray(elements));
+	}
+
+	private Array createPrimitiveArray(Method factory, Connection target) throws SQLException {
+
+		try {
+			return (Array) factory.invoke(target, typeName, elements);
+		} catch (InvocationTargetException e) {
+
+			Throwable cause = e.getTargetException();
+			throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause.getMessage(), cause);
+		} catch (IllegalAccessException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+
+	@Nullable
+	private static Method getPrimitiveArrayFactory(Class<?> connectionType) {
+
+		return PRIMITIVE_ARRAY_FACTORIES.computeIfAbsent(connectionType, it -> Optional.ofNullable(
+				ClassUtils.getMethodIfAvailable(it, "createArrayOf", String.class, Object.class))
+				.filter(method -> Array.class.isAssignableFrom(method.getReturnType()))).orElse(null);
+	}
+}
@@ -22,6 +22,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.Upsert;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -35,6 +36,7 @@ import org.springframework.util.Assert;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -66,20 +68,39 @@ class SqlGenerator {
 	private final SqlContext sqlContext;
 	private final SqlRenderer sqlRenderer;
 	private final Columns columns;
-
-	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
-	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
-	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
-
-	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
-	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
-
-	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
-	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
-
-	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
-	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
-	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final Upsert upsert;
+
+	private final Lazy<PositionalStatement> findOneSql = Lazy.of(this::createFindOneSql);
+	private final Lazy<PositionalStatement> findAllSql = Lazy.of(this::createFindAllSql);
+	private final Lazy<PositionalStatement> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+
+	private final Lazy<PositionalStatement> existsSql = Lazy.of(this::createExistsSql);
+	private final Lazy<PositionalStatement> countSql = Lazy.of(this::createCountSql);
+
+	private final Lazy<PositionalStatement> updateSql = Lazy.of(this::createUpdateSql);
+	private final Lazy<PositionalStatement> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+
+	private final Lazy<PositionalStatement> deleteByIdSql = Lazy.of(this::createDeleteSql);
+	private final Lazy<PositionalStatement> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
+	private final Lazy<PositionalStatement> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final Lazy<PositionalStatement> deleteAllSql = Lazy.of(this::createDeleteAllSql);
+
+	private final StatementCache<Sort> findAllSortedSql = StatementCache.of(this::createFindAllSortedSql);
+	private final StatementCache<Pageable> findAllPagedSql = StatementCache.of(this::createFindAllPagedSql);
+	private final StatementCache<FindAllByPropertyKey> findAllByPropertySql = StatementCache
+			.of(this::createFindAllByPropertySql);
+	private final StatementCache<LockMode> acquireLockByIdSql = StatementCache.of(this::createAcquireLockById);
+	private final StatementCache<Set<SqlIdentifier>> insertSql = StatementCache.of(this::createInsertSql);
+	private final StatementCache<Set<SqlIdentifier>> upsertSql = StatementCache.of(this::createUpsertSql);
+	private final StatementCache<MultiRowInsertKey> multiRowInsertSql = StatementCache
+			.of(this::createMultiRowInsertSql);
+	private final StatementCache<Set<SqlIdentifier>> partialUpdateSql = StatementCache.of(this::createPartialUpdateSql);
+	private final StatementCache<Set<SqlIdentifier>> partialUpdateWithVersionSql = StatementCache
+			.of(this::createPartialUpdateWithVersionSql);
+	private final StatementCache<PersistentPropertyPath<RelationalPersistentProperty>> deleteByPathSql = StatementCache
+			.of(this::createDeleteByPathSql);
+	private final StatementCache<PersistentPropertyPath<RelationalPersistentProperty>> deleteAllByPathSql = StatementCache
+			.of(this::createDeleteAllByPathSql);
 
 	/**
 	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
@@ -98,6 +119,7 @@ class SqlGenerator {
 		this.sqlRenderer = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
+		this.upsert = dialect.upsert();
 	}
 
 	/**
@@ -146,7 +168,11 @@ class SqlGenerator {
 	}
 
 	private BindMarker getBindMarker(SqlIdentifier columnName) {
-		return SQL.bindMarker(":" + parameterPattern.matcher(renderReference(columnName)).replaceAll(""));
+		return SQL.bindMarker(getBindMarkerName(columnName));
+	}
+
+	private String getBindMarkerName(SqlIdentifier columnName) {
+		return ":" + parameterPattern.matcher(renderReference(columnName)).replaceAll("");
 	}
 
 	/**
@@ -155,7 +181,7 @@ class SqlGenerator {
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	String getFindAllInList() {
+	PositionalStatement getFindAllInList() {
 		return findAllInListSql.get();
 	}
 
@@ -164,7 +190,7 @@ class SqlGenerator {
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	String getFindAll() {
+	PositionalStatement getFindAll() {
 		return findAllSql.get();
 	}
 
@@ -174,8 +200,8 @@ class SqlGenerator {
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+	PositionalStatement getFindAll(Sort sort) {
+		return findAllSortedSql.get(sort);
 	}
 
 	/**
@@ -184,8 +210,8 @@ class SqlGenerator {
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
-	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+	PositionalStatement getFindAll(Pageable pageable) {
+		return findAllPagedSql.get(pageable);
 	}
 
 	/**
@@ -198,13 +224,23 @@ class SqlGenerator {
 	 * @param keyColumn if the property is of type {@link Map} this column contains the map key.
 	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
 	 *          keyColumn must not be {@code null}.
-	 * @return a SQL String.
+	 * @return a SQL statement.
 	 */
-	String getFindAllByProperty(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn, boolean ordered) {
+	PositionalStatement getFindAllByProperty(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn, boolean ordered) {
 
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
 
+		List<SqlIdentifier> backReferenceColumns = new ArrayList<>(parentIdentifier.size());
+		parentIdentifier.forEach((name, value, type) -> backReferenceColumns.add(name));
+
+		return findAllByPropertySql.get(new FindAllByPropertyKey(backReferenceColumns, keyColumn, ordered));
+	}
+
+	private PositionalStatement createFindAllByPropertySql(FindAllByPropertyKey key) {
+
+		SqlIdentifier keyColumn = key.keyColumn;
+		boolean ordered = key.ordered;
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -213,7 +249,7 @@ class SqlGenerator {
 						: Collections.singleton(keyColumn) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(key.backReferenceColumns, table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
 		Select select = ordered //
@@ -223,10 +259,10 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	private Condition buildConditionForBackReference(List<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 
 			Condition newCondition = table.column(backReferenceColumn).isEqualTo(getBindMarker(backReferenceColumn));
 			condition = condition == null ? newCondition : condition.and(newCondition);
@@ -240,18 +276,18 @@ class SqlGenerator {
 	/**
 	 * Create a {@code SELECT COUNT(id) FROM … WHERE :id = …} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getExists() {
+	PositionalStatement getExists() {
 		return existsSql.get();
 	}
 
 	/**
 	 * Create a {@code SELECT … FROM … WHERE :id = …} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getFindOne() {
+	PositionalStatement getFindOne() {
 		return findOneSql.get();
 	}
 
@@ -259,82 +295,171 @@ class SqlGenerator {
 	 * Create a {@code SELECT count(id) FROM … WHERE :id = … (LOCK CLAUSE)} statement.
 	 *
 	 * @param lockMode Lock clause mode.
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+	PositionalStatement getAcquireLockById(LockMode lockMode) {
+		return acquireLockByIdSql.get(lockMode);
 	}
 
 	/**
 	 * Create a {@code SELECT count(id) FROM … (LOCK CLAUSE)} statement.
 	 *
 	 * @param lockMode Lock clause mode.
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getAcquireLockAll(LockMode lockMode) {
+	PositionalStatement getAcquireLockAll(LockMode lockMode) {
 		return this.createAcquireLockAll(lockMode);
 	}
 
 	/**
 	 * Create a {@code INSERT INTO … (…) VALUES(…)} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity. Must not be
+	 *          modified after it was passed to this method since it is used as a cache key.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 */
+	PositionalStatement getInsert(Set<SqlIdentifier> additionalColumns) {
+		return insertSql.get(additionalColumns);
+	}
+
+	/**
+	 * Create a {@code INSERT INTO … (…) VALUES (…), (…)} statement inserting {@code rows} rows with a single statement.
+	 * The parameters of each row are named as returned by {@link #getMultiRowParameterName(SqlIdentifier, int)}.
+	 * <p>
+	 * Statements are cached per number of rows, so callers should restrict themselves to a few distinct numbers, like
+	 * the maximum number of rows per statement and powers of two.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity. Must not be
+	 *          modified after it was passed to this method since it is used as a cache key.
+	 * @param rows the number of rows to insert. Must be greater than zero.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+	PositionalStatement getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "Number of rows must be greater than zero");
+
+		return rows == 1 //
+				? getInsert(additionalColumns) //
+				: multiRowInsertSql.get(new MultiRowInsertKey(additionalColumns, rows));
+	}
+
+	/**
+	 * Returns the name of the parameter binding the value of {@code column} in row {@code row} of a statement returned
+	 * by {@link #getInsert(Set, int)}.
+	 *
+	 * @param column the column.
+	 * @param row the zero based index of the row.
+	 * @return the parameter name without the leading colon.
+	 */
+	String getMultiRowParameterName(SqlIdentifier column, int row) {
+		return getBindMarkerName(column).substring(1) + "_" + row;
+	}
+
+	/**
+	 * Returns whether {@link #getUpsert(Set)} can render a statement for the entity, which requires an id and a
+	 * {@link Dialect} supporting {@link Upsert upserts}.
+	 *
+	 * @return {@literal true} if upserts are supported.
+	 */
+	boolean supportsUpsert() {
+		return upsert.isSupported() && entity.hasIdProperty();
+	}
+
+	/**
+	 * Create a statement that inserts a row or updates the row with the same id in one go, using the {@link Upsert} of
+	 * the {@link Dialect}.
+	 *
+	 * @param additionalColumns columns to write in addition to the insertable columns and the id of the entity. Must not
+	 *          be modified after it was passed to this method since it is used as a cache key.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the {@link Dialect} doesn't support upserts.
+	 * @see #supportsUpsert()
+	 */
+	PositionalStatement getUpsert(Set<SqlIdentifier> additionalColumns) {
+		return upsertSql.get(additionalColumns);
 	}
 
 	/**
 	 * Create a {@code UPDATE … SET …} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getUpdate() {
+	PositionalStatement getUpdate() {
 		return updateSql.get();
 	}
 
 	/**
 	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getUpdateWithVersion() {
+	PositionalStatement getUpdateWithVersion() {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * @return the columns assigned by {@link #getUpdate()}. Guaranteed to be not {@literal null}.
+	 */
+	Set<SqlIdentifier> getUpdateableColumns() {
+		return columns.getUpdateableColumns();
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET …} statement that only assigns the given columns.
+	 *
+	 * @param changedColumns the columns to assign. Columns that aren't updatable get ignored. Must not be modified
+	 *          after it was passed to this method since it is used as a cache key.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 */
+	PositionalStatement getUpdate(Set<SqlIdentifier> changedColumns) {
+		return partialUpdateSql.get(changedColumns);
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement
+	 * that only assigns the given columns.
+	 *
+	 * @param changedColumns the columns to assign. Columns that aren't updatable get ignored. Must not be modified
+	 *          after it was passed to this method since it is used as a cache key.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 */
+	PositionalStatement getUpdateWithVersion(Set<SqlIdentifier> changedColumns) {
+		return partialUpdateWithVersionSql.get(changedColumns);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getCount() {
+	PositionalStatement getCount() {
 		return countSql.get();
 	}
 
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = …} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getDeleteById() {
+	PositionalStatement getDeleteById() {
 		return deleteByIdSql.get();
 	}
 
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getDeleteByIdAndVersion() {
+	PositionalStatement getDeleteByIdAndVersion() {
 		return deleteByIdAndVersionSql.get();
 	}
 
 	/**
 	 * Create a {@code DELETE FROM … WHERE :ids in (…)} statement.
 	 *
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String getDeleteByList() {
+	PositionalStatement getDeleteByList() {
 		return deleteByListSql.get();
 	}
 
@@ -342,33 +467,91 @@ class SqlGenerator {
 	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}.
 	 *
 	 * @param path can be {@literal null}.
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
-	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
+	PositionalStatement createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return path == null ? deleteAllSql.get() : deleteAllByPathSql.get(path);
+	}
 
-		Table table = getTable();
+	/**
+	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
+	 */
+	PositionalStatement createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return deleteByPathSql.get(path);
+	}
+
+	/**
+	 * Renders all statements that don't depend on call arguments, plus the {@code INSERT} statements used for aggregate
+	 * roots with and without a provided id, so neither rendering cost nor mapping errors surface on first use.
+	 */
+	void prepare() {
+
+		findAllSql.get();
+		countSql.get();
+		deleteAllSql.get();
 
-		DeleteBuilder.DeleteWhere deleteAll = Delete.builder().from(table);
+		Set<SqlIdentifier> insertColumns = new LinkedHashSet<>(columns.getInsertableColumns());
+		getInsert(insertColumns);
 
-		if (path == null) {
-			return render(deleteAll.build());
+		if (!entity.hasIdProperty()) {
+			return;
 		}
 
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path), Column::isNotNull);
+		findOneSql.get();
+		findAllInListSql.get();
+		existsSql.get();
+		updateSql.get();
+		deleteByIdSql.get();
+		deleteByListSql.get();
+
+		Set<SqlIdentifier> insertColumnsWithId = new LinkedHashSet<>(insertColumns);
+		insertColumnsWithId.add(entity.getRequiredIdProperty().getColumnName());
+		getInsert(insertColumnsWithId);
+
+		if (entity.hasVersionProperty()) {
+
+			updateWithVersionSql.get();
+			deleteByIdAndVersionSql.get();
+		}
 	}
 
 	/**
-	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath}.
+	 * Returns hit and miss counts of the caches holding statements that depend on call arguments.
 	 *
-	 * @param path must not be {@literal null}.
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the combined {@link StatementCacheStatistics}. Guaranteed to be not {@literal null}.
 	 */
-	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+	StatementCacheStatistics getStatementCacheStatistics() {
+
+		return findAllSortedSql.getStatistics() //
+				.plus(findAllPagedSql.getStatistics()) //
+				.plus(findAllByPropertySql.getStatistics()) //
+				.plus(acquireLockByIdSql.getStatistics()) //
+				.plus(insertSql.getStatistics()) //
+				.plus(upsertSql.getStatistics()) //
+				.plus(multiRowInsertSql.getStatistics()) //
+				.plus(partialUpdateSql.getStatistics()) //
+				.plus(partialUpdateWithVersionSql.getStatistics()) //
+				.plus(deleteByPathSql.getStatistics()) //
+				.plus(deleteAllByPathSql.getStatistics());
+	}
+
+	private PositionalStatement createDeleteAllSql() {
+		return render(Delete.builder().from(getTable()).build());
+	}
+
+	private PositionalStatement createDeleteAllByPathSql(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path), Column::isNotNull);
+	}
+
+	private PositionalStatement createDeleteByPathSql(PersistentPropertyPath<RelationalPersistentProperty> path) {
 		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
 				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
 	}
 
-	private String createFindOneSql() {
+	private PositionalStatement createFindOneSql() {
 
 		Select select = selectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
 				.build();
@@ -376,7 +559,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createAcquireLockById(LockMode lockMode) {
+	private PositionalStatement createAcquireLockById(LockMode lockMode) {
 
 		Table table = this.getTable();
 
@@ -390,7 +573,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createAcquireLockAll(LockMode lockMode) {
+	private PositionalStatement createAcquireLockAll(LockMode lockMode) {
 
 		Table table = this.getTable();
 
@@ -403,10 +586,18 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createFindAllSql() {
+	private PositionalStatement createFindAllSql() {
 		return render(selectBuilder().build());
 	}
 
+	private PositionalStatement createFindAllSortedSql(Sort sort) {
+		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+	}
+
+	private PositionalStatement createFindAllPagedSql(Pageable pageable) {
+		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
@@ -481,7 +672,7 @@ class SqlGenerator {
 	 * Create a {@link Column} for {@link PersistentPropertyPathExtension}.
 	 *
 	 * @param path the path to the column in question.
-	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @return the statement. Guaranteed to be not {@literal null}.
 	 */
 	@Nullable
 	Column getColumn(PersistentPropertyPathExtension path) {
@@ -531,14 +722,14 @@ class SqlGenerator {
 		);
 	}
 
-	private String createFindAllInListSql() {
+	private PositionalStatement createFindAllInListSql() {
 
 		Select select = selectBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))).build();
 
 		return render(select);
 	}
 
-	private String createExistsSql() {
+	private PositionalStatement createExistsSql() {
 
 		Table table = getTable();
 
@@ -551,7 +742,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createCountSql() {
+	private PositionalStatement createCountSql() {
 
 		Table table = getTable();
 
@@ -563,13 +754,11 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
+	private PositionalStatement createInsertSql(Set<SqlIdentifier> additionalColumns) {
 
 		Table table = getTable();
 
-		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
-		columnNamesForInsert.addAll(columns.getInsertableColumns());
-		columnNamesForInsert.addAll(additionalColumns);
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
 
 		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
 
@@ -585,25 +774,106 @@ class SqlGenerator {
 		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
 	}
 
-	private String createUpdateSql() {
-		return render(createBaseUpdate().build());
+	private PositionalStatement createMultiRowInsertSql(MultiRowInsertKey key) {
+
+		Table table = getTable();
+
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(key.additionalColumns);
+
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
+
+		for (SqlIdentifier cn : columnNamesForInsert) {
+			insert = insert.column(table.column(cn));
+		}
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+		for (int row = 0; row < key.rows; row++) {
+
+			List<Expression> values = new ArrayList<>(columnNamesForInsert.size());
+			for (SqlIdentifier cn : columnNamesForInsert) {
+				values.add(SQL.bindMarker(":" + getMultiRowParameterName(cn, row)));
+			}
+
+			insertWithValues = insertWithValues == null ? insert.values(values) : insertWithValues.row(values);
+		}
+
+		Assert.state(insertWithValues != null, "Multi-row insert requires at least one row");
+
+		return render(insertWithValues.build());
+	}
+
+	private Set<SqlIdentifier> getColumnNamesForInsert(Set<SqlIdentifier> additionalColumns) {
+
+		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForInsert.addAll(columns.getInsertableColumns());
+		columnNamesForInsert.addAll(additionalColumns);
+
+		return columnNamesForInsert;
+	}
+
+	private PositionalStatement createUpsertSql(Set<SqlIdentifier> additionalColumns) {
+
+		SqlIdentifier idColumn = entity.getIdColumn();
+
+		Set<SqlIdentifier> columnNamesForUpsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForUpsert.add(idColumn);
+		columnNamesForUpsert.addAll(columns.getInsertableColumns());
+		columnNamesForUpsert.addAll(additionalColumns);
+
+		IdentifierProcessing identifierProcessing = renderContext.getIdentifierProcessing();
+
+		List<String> columnNames = new ArrayList<>(columnNamesForUpsert.size());
+		List<String> values = new ArrayList<>(columnNamesForUpsert.size());
+		for (SqlIdentifier cn : columnNamesForUpsert) {
+
+			columnNames.add(cn.toSql(identifierProcessing));
+			values.add(getBindMarkerName(cn));
+		}
+
+		Set<String> keyColumns = Collections.singleton(idColumn.toSql(identifierProcessing));
+
+		// ids neither assigned by the application nor taken from a sequence are generated by the database
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+		Set<String> generatedColumns = idProperty.isAssignedId() || idProperty.getSequence() != null
+				? Collections.emptySet()
+				: keyColumns;
+
+		return PositionalStatement.of(upsert.getUpsert(getTable().getName().toSql(identifierProcessing), columnNames,
+				values, keyColumns, generatedColumns));
+	}
+
+	private PositionalStatement createUpdateSql() {
+		return render(createBaseUpdate(columnName -> true).build());
+	}
+
+	private PositionalStatement createUpdateWithVersionSql() {
+		return createUpdateWithVersionSql(columnName -> true);
+	}
+
+	private PositionalStatement createPartialUpdateSql(Set<SqlIdentifier> changedColumns) {
+		return render(createBaseUpdate(changedColumns::contains).build());
+	}
+
+	private PositionalStatement createPartialUpdateWithVersionSql(Set<SqlIdentifier> changedColumns) {
+		return createUpdateWithVersionSql(changedColumns::contains);
 	}
 
-	private String createUpdateWithVersionSql() {
+	private PositionalStatement createUpdateWithVersionSql(Predicate<SqlIdentifier> columnFilter) {
 
-		Update update = createBaseUpdate() //
+		Update update = createBaseUpdate(columnFilter) //
 				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
 				.build();
 
 		return render(update);
 	}
 
-	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Predicate<SqlIdentifier> columnFilter) {
 
 		Table table = getTable();
 
 		List<AssignValue> assignments = columns.getUpdateableColumns() //
 				.stream() //
+				.filter(columnFilter) //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
 						getBindMarker(columnName))) //
@@ -615,11 +885,11 @@ class SqlGenerator {
 				.where(getIdColumn().isEqualTo(getBindMarker(entity.getIdColumn())));
 	}
 
-	private String createDeleteSql() {
+	private PositionalStatement createDeleteSql() {
 		return render(createBaseDeleteById(getTable()).build());
 	}
 
-	private String createDeleteByIdAndVersionSql() {
+	private PositionalStatement createDeleteByIdAndVersionSql() {
 
 		Delete delete = createBaseDeleteById(getTable()) //
 				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
@@ -633,7 +903,7 @@ class SqlGenerator {
 				.where(getIdColumn().isEqualTo(SQL.bindMarker(":" + renderReference(ID_SQL_PARAMETER))));
 	}
 
-	private String createDeleteByPathAndCriteria(PersistentPropertyPathExtension path,
+	private PositionalStatement createDeleteByPathAndCriteria(PersistentPropertyPathExtension path,
 			Function<Column, Condition> rootCondition) {
 
 		Table table = Table.create(path.getTableName());
@@ -658,7 +928,7 @@ class SqlGenerator {
 		return render(delete);
 	}
 
-	private String createDeleteByListSql() {
+	private PositionalStatement createDeleteByListSql() {
 
 		Table table = getTable();
 
@@ -670,20 +940,20 @@ class SqlGenerator {
 		return render(delete);
 	}
 
-	private String render(Select select) {
-		return this.sqlRenderer.render(select);
+	private PositionalStatement render(Select select) {
+		return PositionalStatement.of(this.sqlRenderer.render(select));
 	}
 
-	private String render(Insert insert) {
-		return this.sqlRenderer.render(insert);
+	private PositionalStatement render(Insert insert) {
+		return PositionalStatement.of(this.sqlRenderer.render(insert));
 	}
 
-	private String render(Update update) {
-		return this.sqlRenderer.render(update);
+	private PositionalStatement render(Update update) {
+		return PositionalStatement.of(this.sqlRenderer.render(update));
 	}
 
-	private String render(Delete delete) {
-		return this.sqlRenderer.render(delete);
+	private PositionalStatement render(Delete delete) {
+		return PositionalStatement.of(this.sqlRenderer.render(delete));
 	}
 
 	private Table getTable() {
@@ -775,6 +1045,69 @@ class SqlGenerator {
 		}
 	}
 
+	/**
+	 * Cache key for {@link #getFindAllByProperty(Identifier, SqlIdentifier, boolean)}. Only the names of the back
+	 * reference columns shape the statement, their values are bound as parameters.
+	 */
+	private static final class FindAllByPropertyKey {
+
+		private final List<SqlIdentifier> backReferenceColumns;
+		@Nullable private final SqlIdentifier keyColumn;
+		private final boolean ordered;
+
+		FindAllByPropertyKey(List<SqlIdentifier> backReferenceColumns, @Nullable SqlIdentifier keyColumn,
+				boolean ordered) {
+
+			this.backReferenceColumns = backReferenceColumns;
+			this.keyColumn = keyColumn;
+			this.ordered = ordered;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			FindAllByPropertyKey that = (FindAllByPropertyKey) o;
+			return ordered == that.ordered && backReferenceColumns.equals(that.backReferenceColumns)
+					&& Objects.equals(keyColumn, that.keyColumn);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(backReferenceColumns, keyColumn, ordered);
+		}
+	}
+
+	/**
+	 * Cache key for multi-row inserts.
+	 */
+	private static final class MultiRowInsertKey {
+
+		private final Set<SqlIdentifier> additionalColumns;
+		private final int rows;
+
+		MultiRowInsertKey(Set<SqlIdentifier> additionalColumns, int rows) {
+
+			this.additionalColumns = additionalColumns;
+			this.rows = rows;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			MultiRowInsertKey that = (MultiRowInsertKey) o;
+			return rows == that.rows && additionalColumns.equals(that.additionalColumns);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(additionalColumns, rows);
+		}
+	}
+
 	/**
 	 * Value object encapsulating column name caches.
 	 *
@@ -15,16 +15,26 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Provides {@link SqlGenerator}s per domain type. Instances get cached, so when asked multiple times for the same
  * domain type, the same generator will get returned.
+ * <p>
+ * If the {@link NamingStrategy} resolves the schema {@link NamingStrategy#isSchemaPerCall() on each call}, generators
+ * are cached per domain type and schema instead, so statements rendered for one tenant schema are shared by all calls
+ * for that schema. These generators are kept in a cache of limited size which evicts the least recently used one. The
+ * mapping metadata is shared by all schemas.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -32,20 +42,55 @@ import org.springframework.util.ConcurrentReferenceHashMap;
  */
 public class SqlGeneratorSource {
 
+	/**
+	 * Default number of {@link SqlGenerator}s retained for schemas resolved on each call, i.e. the number of domain types
+	 * times the number of actively used schemas that can be served without rendering statements again.
+	 *
+	 * @since 2.3
+	 */
+	public static final int DEFAULT_SCHEMA_GENERATOR_LIMIT = 4096;
+
 	private final Map<Class<?>, SqlGenerator> CACHE = new ConcurrentReferenceHashMap<>();
+	private final ConcurrentLruCache<SchemaGeneratorKey, SqlGenerator> schemaCache;
+	// generators for schemas, weakly referenced so that generators evicted from the schemaCache drop out of statistics
+	private final Map<SqlGenerator, Boolean> schemaGenerators = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
 
 	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect) {
+		this(context, converter, dialect, DEFAULT_SCHEMA_GENERATOR_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link SqlGeneratorSource} retaining at most {@code schemaGeneratorLimit} generators when the schema
+	 * is {@link NamingStrategy#isSchemaPerCall() resolved on each call}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param schemaGeneratorLimit the maximum number of generators cached for (domain type, schema) combinations. Must be
+	 *          greater than zero.
+	 * @since 2.3
+	 */
+	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			int schemaGeneratorLimit) {
 
 		Assert.notNull(context, "Context must not be null.");
 		Assert.notNull(converter, "Converter must not be null.");
 		Assert.notNull(dialect, "Dialect must not be null.");
+		Assert.isTrue(schemaGeneratorLimit > 0, "Schema generator limit must be greater than zero.");
 
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
+		this.schemaCache = new ConcurrentLruCache<>(schemaGeneratorLimit, key -> {
+
+			SqlGenerator sqlGenerator = createSqlGenerator(key.domainType);
+			schemaGenerators.put(sqlGenerator, Boolean.TRUE);
+			return sqlGenerator;
+		});
 	}
 
 	/**
@@ -56,9 +101,91 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * Returns hit and miss counts summed up over the statement caches of all {@link SqlGenerator} instances created so
+	 * far. Those caches hold statements that depend on call arguments like sorted or paged {@code SELECT}s.
+	 *
+	 * @return the combined {@link StatementCacheStatistics}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	public StatementCacheStatistics getStatementCacheStatistics() {
+
+		StatementCacheStatistics statistics = StatementCacheStatistics.EMPTY;
+		for (SqlGenerator sqlGenerator : CACHE.values()) {
+			statistics = statistics.plus(sqlGenerator.getStatementCacheStatistics());
+		}
+
+		for (SqlGenerator sqlGenerator : schemaGenerators.keySet()) {
+			statistics = statistics.plus(sqlGenerator.getStatementCacheStatistics());
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Creates the {@link SqlGenerator}s for the given domain types and renders their statements ahead of time. Domain
+	 * types are processed in parallel, unless the schema is {@link NamingStrategy#isSchemaPerCall() resolved on each
+	 * call}: statements then get rendered on the calling thread for its current schema.
+	 *
+	 * @param domainTypes the types to prepare. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public void prepare(Collection<? extends Class<?>> domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null.");
+
+		if (context.getNamingStrategy().isSchemaPerCall()) {
+			domainTypes.forEach(domainType -> getSqlGenerator(domainType).prepare());
+		} else {
+			domainTypes.parallelStream().forEach(domainType -> getSqlGenerator(domainType).prepare());
+		}
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
+		NamingStrategy namingStrategy = context.getNamingStrategy();
+		if (!namingStrategy.isSchemaPerCall()) {
+			return CACHE.computeIfAbsent(domainType, this::createSqlGenerator);
+		}
+
+		return schemaCache.get(new SchemaGeneratorKey(domainType, namingStrategy.getSchema()));
+	}
+
+	private SqlGenerator createSqlGenerator(Class<?> domainType) {
+		return new SqlGenerator(context, converter, context.getRequiredPersistentEntity(domainType), dialect);
+	}
+
+	/**
+	 * Key of a {@link SqlGenerator} rendering statements for a domain type within a specific schema.
+	 */
+	private static final class SchemaGeneratorKey {
+
+		private final Class<?> domainType;
+		private final String schema;
+
+		SchemaGeneratorKey(Class<?> domainType, String schema) {
+
+			this.domainType = domainType;
+			this.schema = schema;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof SchemaGeneratorKey)) {
+				return false;
+			}
+
+			SchemaGeneratorKey that = (SchemaGeneratorKey) o;
+			return domainType.equals(that.domainType) && ObjectUtils.nullSafeEquals(schema, that.schema);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * domainType.hashCode() + ObjectUtils.nullSafeHashCode(schema);
+		}
 	}
 }
@@ -15,50 +15,157 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
-import java.util.Collections;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Implementation of the {@link org.springframework.jdbc.core.namedparam.SqlParameterSource} interface based on
  * {@link SqlIdentifier} instead of {@link String} for names.
+ * <p>
+ * Values are held in parallel arrays in the order they were added. Small parameter sources look up names by a linear
+ * scan, larger ones build a name to index lookup table on first access.
  *
  * @author Jens Schauder
  * @since 2.0
  */
 class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 
+	private static final int DEFAULT_CAPACITY = 8;
+	private static final int LINEAR_SCAN_LIMIT = 8;
+
 	private final IdentifierProcessing identifierProcessing;
-	private final Set<SqlIdentifier> identifiers = new HashSet<>();
-	private final Map<String, Object> namesToValues = new HashMap<>();
+
+	private SqlIdentifier[] identifiers;
+	private String[] names;
+	private Object[] values;
+	private int[] sqlTypes;
+	private int size;
+
+	@Nullable private Map<String, Integer> index;
 
 	SqlIdentifierParameterSource(IdentifierProcessing identifierProcessing) {
+		this(identifierProcessing, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link SqlIdentifierParameterSource} sized to hold {@code expectedSize} values without growing.
+	 *
+	 * @param identifierProcessing must not be {@literal null}.
+	 * @param expectedSize the number of values expected to be added.
+	 */
+	SqlIdentifierParameterSource(IdentifierProcessing identifierProcessing, int expectedSize) {
+
+		int capacity = Math.max(expectedSize, 1);
+
 		this.identifierProcessing = identifierProcessing;
+		this.identifiers = new SqlIdentifier[capacity];
+		this.names = new String[capacity];
+		this.values = new Object[capacity];
+		this.sqlTypes = new int[capacity];
 	}
 
 	@Override
 	public boolean hasValue(String paramName) {
-		return namesToValues.containsKey(paramName);
+		return indexOf(paramName) >= 0;
 	}
 
 	@Override
+	@Nullable
 	public Object getValue(String paramName) throws IllegalArgumentException {
-		return namesToValues.get(paramName);
+
+		int i = indexOf(paramName);
+		return i < 0 ? null : values[i];
+	}
+
+	@Override
+	public int getSqlType(String paramName) {
+
+		int i = indexOf(paramName);
+		return i < 0 ? JdbcUtils.TYPE_UNKNOWN : sqlTypes[i];
 	}
 
 	@Override
 	public String[] getParameterNames() {
-		return namesToValues.keySet().toArray(new String[0]);
+		return Arrays.copyOf(names, size);
 	}
 
+	/**
+	 * @return a new {@link Set} of the identifiers of all values in the order they were added.
+	 */
 	Set<SqlIdentifier> getIdentifiers() {
-		return Collections.unmodifiableSet(identifiers);
+
+		Set<SqlIdentifier> result = new LinkedHashSet<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			result.add(identifiers[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the identifiers of all values that differ from the value of the same name in {@code previous}, comparing
+	 * arrays by content.
+	 *
+	 * @param previous the values to compare with. Must not be {@literal null}.
+	 * @return a new {@link Set} of the identifiers of changed values in the order they were added.
+	 */
+	Set<SqlIdentifier> getChangedIdentifiers(SqlIdentifierParameterSource previous) {
+
+		Set<SqlIdentifier> result = new LinkedHashSet<>();
+		for (int i = 0; i < size; i++) {
+
+			int previousIndex = previous.indexOf(names[i]);
+			if (previousIndex < 0 || !ObjectUtils.nullSafeEquals(values[i], previous.values[previousIndex])) {
+				result.add(identifiers[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a copy of this parameter source that doesn't share mutable values with it: arrays, e.g. {@code byte[]},
+	 * and {@link Date}s get copied, so modifying values passed to this parameter source in place doesn't affect the copy.
+	 *
+	 * @return a new {@link SqlIdentifierParameterSource} with the same parameters.
+	 */
+	SqlIdentifierParameterSource snapshot() {
+
+		SqlIdentifierParameterSource snapshot = new SqlIdentifierParameterSource(identifierProcessing, size);
+		for (int i = 0; i < size; i++) {
+			snapshot.addValue(identifiers[i], names[i], copyOf(values[i]), sqlTypes[i]);
+		}
+		return snapshot;
+	}
+
+	@Nullable
+	private static Object copyOf(@Nullable Object value) {
+
+		if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+
+		if (value == null || !value.getClass().isArray()) {
+			return value;
+		}
+
+		int length = Array.getLength(value);
+		Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+		for (int i = 0; i < length; i++) {
+			Array.set(copy, i, copyOf(Array.get(value, i)));
+		}
+		return copy;
 	}
 
 	void addValue(SqlIdentifier name, Object value) {
@@ -66,19 +173,94 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 	}
 
 	void addValue(SqlIdentifier identifier, Object value, int sqlType) {
+		addValue(identifier, identifier.getReference(identifierProcessing), value, sqlType);
+	}
+
+	/**
+	 * Adds a value for which the rendered parameter name is already known, replacing any value of the same name.
+	 *
+	 * @param identifier the identifier of the parameter.
+	 * @param name the name of the parameter as rendered with the {@link IdentifierProcessing} of this parameter source.
+	 * @param value the value to bind. May be {@literal null}.
+	 * @param sqlType the SQL type as defined in {@link java.sql.Types}.
+	 */
+	void addValue(SqlIdentifier identifier, String name, @Nullable Object value, int sqlType) {
+
+		int i = indexOf(name);
+
+		if (i < 0) {
+
+			if (size == names.length) {
+				grow();
+			}
 
-		identifiers.add(identifier);
-		String name = identifier.getReference(identifierProcessing);
-		namesToValues.put(name, value);
-		registerSqlType(name, sqlType);
+			i = size++;
+			identifiers[i] = identifier;
+			names[i] = name;
+
+			if (index != null) {
+				index.put(name, i);
+			}
+		}
+
+		values[i] = value;
+		sqlTypes[i] = sqlType;
 	}
 
 	void addAll(SqlIdentifierParameterSource others) {
 
-		for (SqlIdentifier identifier : others.getIdentifiers()) {
+		for (int i = 0; i < others.size; i++) {
+			addValue(others.identifiers[i], others.identifiers[i].getReference(identifierProcessing), others.values[i],
+					others.sqlTypes[i]);
+		}
+	}
+
+	/**
+	 * Adds all values of {@code others} under the names returned by {@code naming} for their identifiers.
+	 *
+	 * @param others the values to add.
+	 * @param naming determines the rendered parameter name of each identifier.
+	 */
+	void addAll(SqlIdentifierParameterSource others, Function<SqlIdentifier, String> naming) {
+
+		for (int i = 0; i < others.size; i++) {
+			addValue(others.identifiers[i], naming.apply(others.identifiers[i]), others.values[i], others.sqlTypes[i]);
+		}
+	}
+
+	private int indexOf(String name) {
+
+		if (index != null) {
+
+			Integer i = index.get(name);
+			return i == null ? -1 : i;
+		}
+
+		if (size > LINEAR_SCAN_LIMIT) {
 
-			String name = identifier.getReference(identifierProcessing);
-			addValue(identifier, others.getValue(name), others.getSqlType(name));
+			index = new HashMap<>(size * 2);
+			for (int i = 0; i < size; i++) {
+				index.put(names[i], i);
+			}
+			return indexOf(name);
 		}
+
+		for (int i = 0; i < size; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private void grow() {
+
+		int capacity = names.length * 2;
+
+		identifiers = Arrays.copyOf(identifiers, capacity);
+		names = Arrays.copyOf(names, capacity);
+		values = Arrays.copyOf(values, capacity);
+		sqlTypes = Arrays.copyOf(sqlTypes, capacity);
 	}
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded, thread-safe cache of rendered SQL statements keyed by the inputs that shape the statement. Used by
+ * {@link SqlGenerator} for statements that cannot be rendered once and kept in a {@link org.springframework.data.util.Lazy}
+ * because they depend on call arguments. Keys must implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} based on everything that influences the rendered SQL.
+ *
+ * @param <K> the type of the cache key.
+ * @since 2.3
+ */
+class StatementCache<K> {
+
+	/**
+	 * Default number of statements retained per cache before the least recently used one gets evicted.
+	 */
+	static final int DEFAULT_SIZE_LIMIT = 128;
+
+	private final ConcurrentLruCache<K, PositionalStatement> cache;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private StatementCache(int sizeLimit, Function<K, PositionalStatement> renderer) {
+
+		this.cache = new ConcurrentLruCache<>(sizeLimit, key -> {
+
+			misses.increment();
+			return renderer.apply(key);
+		});
+	}
+
+	/**
+	 * Creates a new {@link StatementCache} with the {@link #DEFAULT_SIZE_LIMIT default size limit}.
+	 *
+	 * @param renderer renders the statement for a key on a cache miss. Must not be {@literal null}.
+	 * @return a new {@link StatementCache}.
+	 */
+	static <K> StatementCache<K> of(Function<K, PositionalStatement> renderer) {
+		return of(DEFAULT_SIZE_LIMIT, renderer);
+	}
+
+	/**
+	 * Creates a new {@link StatementCache} retaining at most {@code sizeLimit} statements.
+	 *
+	 * @param sizeLimit the maximum number of statements to retain. Must be greater than zero.
+	 * @param renderer renders the statement for a key on a cache miss. Must not be {@literal null}.
+	 * @return a new {@link StatementCache}.
+	 */
+	static <K> StatementCache<K> of(int sizeLimit, Function<K, PositionalStatement> renderer) {
+
+		Assert.isTrue(sizeLimit > 0, "Size limit must be greater than zero");
+		Assert.notNull(renderer, "Renderer must not be null");
+
+		return new StatementCache<>(sizeLimit, renderer);
+	}
+
+	/**
+	 * Returns the statement for {@code key}, rendering it if it isn't cached yet.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the rendered statement. Guaranteed to be not {@literal null}.
+	 */
+	PositionalStatement get(K key) {
+
+		requests.increment();
+		return cache.get(key);
+	}
+
+	/**
+	 * @return a snapshot of the hit and miss counts of this cache.
+	 */
+	StatementCacheStatistics getStatistics() {
+
+		long missCount = misses.sum();
+		return new StatementCacheStatistics(Math.max(requests.sum() - missCount, 0), missCount, cache.size());
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Objects;
+
+/**
+ * Value object capturing hit and miss counts of the caches holding SQL statements that depend on call arguments, like
+ * sorted and paged {@code SELECT}s or {@code INSERT}s with additional columns.
+ *
+ * @since 2.3
+ * @see SqlGeneratorSource#getStatementCacheStatistics()
+ */
+public final class StatementCacheStatistics {
+
+	static final StatementCacheStatistics EMPTY = new StatementCacheStatistics(0, 0, 0);
+
+	private final long hitCount;
+	private final long missCount;
+	private final int size;
+
+	StatementCacheStatistics(long hitCount, long missCount, int size) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the number of lookups that returned an already rendered statement.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that had to render the statement.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of statements currently held.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the ratio of hits to all lookups or {@code 0} if there were no lookups yet.
+	 */
+	public double getHitRatio() {
+
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * Combines these statistics with {@code other} by summing up all counts.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the combined {@link StatementCacheStatistics}.
+	 */
+	StatementCacheStatistics plus(StatementCacheStatistics other) {
+		return new StatementCacheStatistics(hitCount + other.hitCount, missCount + other.missCount, size + other.size);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		StatementCacheStatistics that = (StatementCacheStatistics) o;
+		return hitCount == that.hitCount && missCount == that.missCount && size == that.size;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(hitCount, missCount, size);
+	}
+
+	@Override
+	public String toString() {
+		return "StatementCacheStatistics{" + "hitCount=" + hitCount + ", missCount=" + missCount + ", size=" + size + '}';
+	}
+}
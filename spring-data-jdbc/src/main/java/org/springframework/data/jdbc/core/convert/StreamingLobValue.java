@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link SqlTypeValue} binding a {@link Blob}, {@link Clob}, {@link InputStream} or {@link Reader} as stream so the
+ * content of the large object doesn't need to be held in memory.
+ *
+ * @since 2.3
+ */
+class StreamingLobValue implements SqlTypeValue {
+
+	private final Object value;
+
+	/**
+	 * @param value the large object. Must be a {@link Blob}, {@link Clob}, {@link InputStream} or {@link Reader}.
+	 */
+	StreamingLobValue(Object value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns whether values of the given type get bound by a {@link StreamingLobValue}.
+	 *
+	 * @param type the type of the value.
+	 * @return {@literal true} if the type is a large object or stream.
+	 */
+	static boolean isStreamingLob(Class<?> type) {
+		return Blob.class.isAssignableFrom(type) || Clob.class.isAssignableFrom(type)
+				|| InputStream.class.isAssignableFrom(type) || Reader.class.isAssignableFrom(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.SqlTypeValue#setTypeValue(java.sql.PreparedStatement, int, int, java.lang.String)
+	 */
+	@Override
+	public void setTypeValue(PreparedStatement ps, int paramIndex, int sqlType, @Nullable String typeName)
+			throws SQLException {
+
+		if (value instanceof Blob) {
+
+			Blob blob = (Blob) value;
+			ps.setBinaryStream(paramIndex, blob.getBinaryStream(), blob.length());
+		} else if (value instanceof Clob) {
+
+			Clob clob = (Clob) value;
+			ps.setCharacterStream(paramIndex, clob.getCharacterStream(), clob.length());
+		} else if (value instanceof InputStream) {
+			ps.setBinaryStream(paramIndex, (InputStream) value);
+		} else {
+			ps.setCharacterStream(paramIndex, (Reader) value);
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core.dialect;
 
+import java.sql.JDBCType;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
@@ -24,6 +25,9 @@ import java.util.List;
 import org.h2.api.TimestampWithTimeZone;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.core.mapping.JsonValue;
 import org.springframework.data.relational.core.dialect.Db2Dialect;
 import org.springframework.data.relational.core.dialect.H2Dialect;
 
@@ -45,9 +49,25 @@ public class JdbcH2Dialect extends H2Dialect {
 
 		List<Object> converters = new ArrayList<>(super.getConverters());
 		converters.add(TimestampWithTimeZoneToOffsetDateTimeConverter.INSTANCE);
+		converters.add(JsonValueToBytesJdbcValueConverter.INSTANCE);
 		return converters;
 	}
 
+	/**
+	 * Binds JSON as UTF-8 encoded bytes since H2 parses those when assigned to a {@code JSON} column while it treats
+	 * strings as a JSON string literal.
+	 */
+	@WritingConverter
+	enum JsonValueToBytesJdbcValueConverter implements Converter<JsonValue, JdbcValue> {
+
+		INSTANCE;
+
+		@Override
+		public JdbcValue convert(JsonValue source) {
+			return JdbcValue.of(source.getBytes(), JDBCType.BINARY);
+		}
+	}
+
 	@ReadingConverter
 	enum TimestampWithTimeZoneToOffsetDateTimeConverter implements Converter<TimestampWithTimeZone, OffsetDateTime> {
 
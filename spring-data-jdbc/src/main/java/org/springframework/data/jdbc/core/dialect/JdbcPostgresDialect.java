@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.core.mapping.JsonValue;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+
+/**
+ * {@link PostgresDialect} that registers JDBC specific converters.
+ *
+ * @since 2.3
+ */
+public class JdbcPostgresDialect extends PostgresDialect {
+
+	public static final JdbcPostgresDialect INSTANCE = new JdbcPostgresDialect();
+
+	protected JdbcPostgresDialect() {}
+
+	@Override
+	public Collection<Object> getConverters() {
+
+		List<Object> converters = new ArrayList<>(super.getConverters());
+		converters.add(JsonValueToOtherJdbcValueConverter.INSTANCE);
+		return converters;
+	}
+
+	/**
+	 * Binds JSON as untyped value so the server casts it to the type of the column, e.g. {@code jsonb}, which a
+	 * {@code varchar} parameter doesn't get implicitly converted to.
+	 */
+	@WritingConverter
+	enum JsonValueToOtherJdbcValueConverter implements Converter<JsonValue, JdbcValue> {
+
+		INSTANCE;
+
+		@Override
+		public JdbcValue convert(JsonValue source) {
+			return JdbcValue.of(source.toString(), JDBCType.OTHER);
+		}
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core.mapping;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Array;
@@ -67,6 +69,9 @@ public abstract class JdbcSimpleTypes {
 		simpleTypes.add(Time.class);
 		simpleTypes.add(Timestamp.class);
 		simpleTypes.add(UUID.class);
+		simpleTypes.add(JsonValue.class);
+		simpleTypes.add(InputStream.class);
+		simpleTypes.add(Reader.class);
 
 		JDBC_SIMPLE_TYPES = Collections.unmodifiableSet(simpleTypes);
 	}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.mapping;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.Assert;
+
+/**
+ * A JSON document as written to a column of a property annotated with
+ * {@link org.springframework.data.relational.core.mapping.JsonColumn}. Dialects register writing converters from
+ * {@link JsonValue} to {@link org.springframework.data.jdbc.core.convert.JdbcValue} to control how JSON gets bound to
+ * statements. Without such a converter it gets bound as {@link String}.
+ *
+ * @since 2.3
+ */
+public final class JsonValue {
+
+	private final String json;
+
+	private JsonValue(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * Creates a new {@link JsonValue}.
+	 *
+	 * @param json the JSON document. Must not be {@literal null}.
+	 * @return the {@link JsonValue}. Guaranteed to be not {@literal null}.
+	 */
+	public static JsonValue of(String json) {
+
+		Assert.notNull(json, "JSON must not be null!");
+
+		return new JsonValue(json);
+	}
+
+	/**
+	 * @return the JSON document as UTF-8 encoded bytes.
+	 */
+	public byte[] getBytes() {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof JsonValue)) {
+			return false;
+		}
+		return json.equals(((JsonValue) o).json);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return json.hashCode();
+	}
+
+	/**
+	 * @return the JSON document.
+	 */
+	@Override
+	public String toString() {
+		return json;
+	}
+}
@@ -107,7 +107,7 @@ public class MyBatisContext {
 
 		Object value = null;
 		if (identifier != null) {
-			value = identifier.toMap().get(key);
+			value = identifier.get(key);
 		}
 
 		return value == null ? additionalValues.get(key) : value;
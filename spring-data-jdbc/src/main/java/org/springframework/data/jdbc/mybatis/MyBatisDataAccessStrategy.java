@@ -19,14 +19,21 @@ import static java.util.Arrays.*;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.CascadingDataAccessStrategy;
@@ -55,6 +62,11 @@ import org.springframework.util.Assert;
  * appended to the statement name. Each statement gets an instance of {@link MyBatisContext}, which at least has the
  * entityType set. For methods taking a {@link PropertyPath} the entityType if the context is set to the class of the
  * leaf type.
+ * <p>
+ * When the {@link SqlSession} uses {@link ExecutorType#BATCH}, writes get collected into JDBC batches. Pending
+ * statements get flushed when an insert generates keys, when the row count of an update is needed to decide how to
+ * continue, and at the end of each aggregate change through {@link #flush()}. Row counts of plain updates get checked
+ * when flushing.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -69,9 +81,16 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	private static final Logger LOG = LoggerFactory.getLogger(MyBatisDataAccessStrategy.class);
 	private static final String VERSION_SQL_PARAMETER_NAME_OLD = "___oldOptimisticLockingVersion";
 
+	private static final String UPDATE = "update";
+	private static final String UPDATE_WITH_VERSION = "updateWithVersion";
+
 	private final SqlSession sqlSession;
 	private final IdentifierProcessing identifierProcessing;
+	private final Map<Class<?>, Map<String, String>> statementIds = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Map<String, String>> pathStatementIds = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> statementsGeneratingKeys = new ConcurrentHashMap<>();
 	private NamespaceStrategy namespaceStrategy = NamespaceStrategy.DEFAULT_INSTANCE;
+	private boolean batchExecution;
 
 	/**
 	 * Create a {@link DataAccessStrategy} that first checks for queries defined by MyBatis and if it doesn't find one
@@ -119,7 +138,8 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	 * Constructs a {@link DataAccessStrategy} based on MyBatis.
 	 * <p>
 	 * Use a {@link SqlSessionTemplate} for {@link SqlSession} or a similar implementation tying the session to the proper
-	 * transaction. Note that the resulting {@link DataAccessStrategy} only handles MyBatis. It does not include the
+	 * transaction. A {@link SqlSessionTemplate} using {@link ExecutorType#BATCH} enables
+	 * {@link #setBatchExecution(boolean) batch execution}. Note that the resulting {@link DataAccessStrategy} only handles MyBatis. It does not include the
 	 * functionality of the {@link DefaultDataAccessStrategy} which one normally still wants. Use
 	 * {@link #createCombinedAccessStrategy(RelationalMappingContext, JdbcConverter, NamedParameterJdbcOperations, SqlSession, NamespaceStrategy, Dialect)}
 	 * to create such a {@link DataAccessStrategy}.
@@ -132,6 +152,8 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		this.sqlSession = sqlSession;
 		this.identifierProcessing = identifierProcessing;
+		this.batchExecution = sqlSession instanceof SqlSessionTemplate
+				&& ((SqlSessionTemplate) sqlSession).getExecutorType() == ExecutorType.BATCH;
 	}
 
 	/**
@@ -144,6 +166,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		Assert.notNull(namespaceStrategy, "The NamespaceStrategy must not be null");
 
 		this.namespaceStrategy = namespaceStrategy;
+		this.statementIds.clear();
+		this.pathStatementIds.clear();
+	}
+
+	/**
+	 * Configures whether the {@link SqlSession} executes statements using {@link ExecutorType#BATCH}. Detected for
+	 * {@link SqlSessionTemplate}, other implementations need to configure it explicitly. Since MyBatis doesn't allow
+	 * switching the executor type within a transaction, reads go through the same session. MyBatis flushes pending
+	 * statements before each read.
+	 *
+	 * @param batchExecution whether the {@link SqlSession} uses {@link ExecutorType#BATCH}.
+	 * @since 2.3
+	 */
+	public void setBatchExecution(boolean batchExecution) {
+		this.batchExecution = batchExecution;
 	}
 
 	/*
@@ -153,8 +190,13 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier) {
 
+		String statement = statement(domainType, "insert");
 		MyBatisContext myBatisContext = new MyBatisContext(identifier, instance, domainType);
-		sqlSession().insert(namespace(domainType) + ".insert", myBatisContext);
+		sqlSession().insert(statement, myBatisContext);
+
+		if (batchExecution && generatesKeys(statement)) {
+			flushStatements(true);
+		}
 
 		return myBatisContext.getId();
 	}
@@ -166,10 +208,23 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
 
-		return sqlSession().update(namespace(domainType) + ".update",
+		return sqlSession().update(statement(domainType, UPDATE),
 				new MyBatisContext(null, instance, domainType, Collections.emptyMap())) != 0;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.jdbc.core.convert.Identifier)
+	 */
+	@Override
+	public <S> Object upsert(S instance, Class<S> domainType, Identifier identifier) {
+
+		int updated = sqlSession().update(statement(domainType, UPDATE),
+				new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+
+		return getUpdateCount(updated) == 0 ? insert(instance, domainType, identifier) : null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number)
@@ -177,10 +232,10 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
 
-		String statement = namespace(domainType) + ".updateWithVersion";
+		String statement = statement(domainType, UPDATE_WITH_VERSION);
 		MyBatisContext parameter = new MyBatisContext(null, instance, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
-		return sqlSession().update(statement, parameter) != 0;
+		return getUpdateCount(sqlSession().update(statement, parameter)) != 0;
 	}
 
 	/*
@@ -190,7 +245,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
-		String statement = namespace(domainType) + ".delete";
+		String statement = statement(domainType, "delete");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
@@ -202,7 +257,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
 
-		String statement = namespace(domainType) + ".deleteWithVersion";
+		String statement = statement(domainType, "deleteWithVersion");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
 		sqlSession().delete(statement, parameter);
@@ -215,8 +270,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
-		Class<?> ownerType = propertyPath.getBaseProperty().getOwner().getType();
-		String statement = namespace(ownerType) + ".delete-" + toDashPath(propertyPath);
+		String statement = statement(propertyPath, "delete-");
 		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
 		MyBatisContext parameter = new MyBatisContext(rootId, null, leafType, Collections.emptyMap());
 
@@ -230,7 +284,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".deleteAll";
+		String statement = statement(domainType, "deleteAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
@@ -242,10 +296,9 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
-		Class<?> baseType = propertyPath.getBaseProperty().getOwner().getType();
 		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
 
-		String statement = namespace(baseType) + ".deleteAll-" + toDashPath(propertyPath);
+		String statement = statement(propertyPath, "deleteAll-");
 		MyBatisContext parameter = new MyBatisContext(null, null, leafType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
@@ -257,7 +310,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".acquireLockById";
+		String statement = statement(domainType, "acquireLockById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 
 		long result = sqlSession().selectOne(statement, parameter);
@@ -275,7 +328,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".acquireLockAll";
+		String statement = statement(domainType, "acquireLockAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 
 		sqlSession().selectOne(statement, parameter);
@@ -288,7 +341,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".findById";
+		String statement = statement(domainType, "findById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
@@ -300,7 +353,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".findAll";
+		String statement = statement(domainType, "findAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		return sqlSession().selectList(statement, parameter);
 	}
@@ -311,7 +364,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
-		return sqlSession().selectList(namespace(domainType) + ".findAllById",
+		return sqlSession().selectList(statement(domainType, "findAllById"),
 				new MyBatisContext(ids, null, domainType, Collections.emptyMap()));
 	}
 
@@ -319,8 +372,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
 
-		String statementName = namespace(path.getBaseProperty().getOwner().getType()) + ".findAllByPath-"
-				+ path.toDotPath();
+		String statementName = statement(path, "findAllByPath-");
 
 		return sqlSession().selectList(statementName,
 				new MyBatisContext(identifier, null, path.getRequiredLeafProperty().getType()));
@@ -334,7 +386,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".existsById";
+		String statement = statement(domainType, "existsById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
@@ -348,7 +400,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		Map<String, Object> additionalContext = new HashMap<>();
 		additionalContext.put("sort", sort);
-		return sqlSession().selectList(namespace(domainType) + ".findAllSorted",
+		return sqlSession().selectList(statement(domainType, "findAllSorted"),
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
@@ -361,7 +413,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		Map<String, Object> additionalContext = new HashMap<>();
 		additionalContext.put("pageable", pageable);
-		return sqlSession().selectList(namespace(domainType) + ".findAllPaged",
+		return sqlSession().selectList(statement(domainType, "findAllPaged"),
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
@@ -372,7 +424,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public long count(Class<?> domainType) {
 
-		String statement = namespace(domainType) + ".count";
+		String statement = statement(domainType, "count");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
@@ -383,6 +435,76 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				.collect(Collectors.toMap(e -> e.getKey().toSql(identifierProcessing), Map.Entry::getValue));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#flush()
+	 */
+	@Override
+	public void flush() {
+
+		if (batchExecution) {
+			flushStatements(true);
+		}
+	}
+
+	/**
+	 * Returns the number of rows affected by an update. In batch mode MyBatis only returns a placeholder, so the pending
+	 * statements get flushed to obtain the count of the last statement.
+	 */
+	private int getUpdateCount(int result) {
+		return result == BatchExecutor.BATCH_UPDATE_RETURN_VALUE ? flushStatements(false) : result;
+	}
+
+	/**
+	 * Flushes all pending statements and verifies that each of the updates affected a row.
+	 *
+	 * @param checkLast whether to verify the last statement as well or leave it to the caller.
+	 * @return the update count of the last statement.
+	 */
+	private int flushStatements(boolean checkLast) {
+
+		List<BatchResult> results = sqlSession().flushStatements();
+
+		int lastUpdateCount = 0;
+		for (int i = 0; i < results.size(); i++) {
+
+			BatchResult result = results.get(i);
+			String statement = result.getMappedStatement().getId();
+			int[] updateCounts = result.getUpdateCounts();
+			boolean update = statement.endsWith("." + UPDATE) || statement.endsWith("." + UPDATE_WITH_VERSION);
+
+			for (int j = 0; j < updateCounts.length; j++) {
+
+				boolean last = i == results.size() - 1 && j == updateCounts.length - 1;
+				if (update && updateCounts[j] == 0 && (checkLast || !last)) {
+					throw new IncorrectUpdateSemanticsDataAccessException(
+							String.format("Statement %s of the batch did not update any rows", statement));
+				}
+				lastUpdateCount = updateCounts[j];
+			}
+		}
+
+		return lastUpdateCount;
+	}
+
+	private boolean generatesKeys(String statement) {
+		return statementsGeneratingKeys.computeIfAbsent(statement,
+				it -> !(sqlSession().getConfiguration().getMappedStatement(it).getKeyGenerator() instanceof NoKeyGenerator));
+	}
+
+	private String statement(Class<?> domainType, String name) {
+
+		return statementIds.computeIfAbsent(domainType, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(name, it -> namespace(domainType) + "." + it);
+	}
+
+	private String statement(PersistentPropertyPath<? extends RelationalPersistentProperty> path, String prefix) {
+
+		return pathStatementIds.computeIfAbsent(path, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(prefix, it -> namespace(path.getBaseProperty().getOwner().getType()) + "." + it
+						+ ("findAllByPath-".equals(it) ? path.toDotPath() : toDashPath(path)));
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
@@ -391,7 +513,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return this.sqlSession;
 	}
 
-	private static String toDashPath(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+	private static String toDashPath(PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
 		return propertyPath.toDotPath().replaceAll("\\.", "-");
 	}
 }
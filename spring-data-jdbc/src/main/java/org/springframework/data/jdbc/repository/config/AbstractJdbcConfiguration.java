@@ -24,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +35,7 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.CustomConversions.StoreConversions;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
@@ -45,12 +47,14 @@ import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.core.dialect.JdbcDb2Dialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.jdbc.core.mapping.JdbcSimpleTypes;
+import org.springframework.data.jdbc.repository.support.JdbcRepositoryInitializer;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.dialect.Db2Dialect;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 
 /**
  * Beans that must be registered for Spring Data JDBC to work.
@@ -64,7 +68,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
  * @since 1.1
  */
 @Configuration(proxyBeanMethods = false)
-public class AbstractJdbcConfiguration implements ApplicationContextAware {
+public class AbstractJdbcConfiguration implements ApplicationContextAware, SmartInitializingSingleton {
 
 	private static Logger LOG = LoggerFactory.getLogger(AbstractJdbcConfiguration.class);
 
@@ -158,7 +162,11 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	public JdbcAggregateTemplate jdbcAggregateTemplate(ApplicationContext applicationContext,
 			JdbcMappingContext mappingContext, JdbcConverter converter, DataAccessStrategy dataAccessStrategy) {
 
-		return new JdbcAggregateTemplate(applicationContext, mappingContext, converter, dataAccessStrategy);
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(applicationContext, mappingContext, converter,
+				dataAccessStrategy);
+		applicationContext.getBeanProvider(QueryResultCache.class).ifAvailable(template::setQueryResultCache);
+
+		return template;
 	}
 
 	/**
@@ -171,8 +179,28 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	@Bean
 	public DataAccessStrategy dataAccessStrategyBean(NamedParameterJdbcOperations operations, JdbcConverter jdbcConverter,
 			JdbcMappingContext context, Dialect dialect) {
-		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, jdbcConverter, dialect), context,
-				jdbcConverter, operations);
+
+		DefaultDataAccessStrategy dataAccessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, jdbcConverter, dialect), context, jdbcConverter, operations);
+		dataAccessStrategy.setReadOnlyOperations(readOnlyJdbcOperations());
+
+		return dataAccessStrategy;
+	}
+
+	/**
+	 * Returns the {@link NamedParameterJdbcOperations} of a read-only replica used by the
+	 * {@link #dataAccessStrategyBean(NamedParameterJdbcOperations, JdbcConverter, JdbcMappingContext, Dialect)
+	 * DataAccessStrategy} for statements that only read while no read-write transaction is active. Override this method
+	 * to scale reads over replicas. Query methods of repositories use the replica configured through
+	 * {@link EnableJdbcRepositories#readOnlyJdbcOperationsRef()}. Defaults to {@literal null}, reading from the primary
+	 * database only.
+	 *
+	 * @return the {@link NamedParameterJdbcOperations} of the replica. May be {@literal null}.
+	 * @since 2.3
+	 */
+	@Nullable
+	protected NamedParameterJdbcOperations readOnlyJdbcOperations() {
+		return null;
 	}
 
 	/**
@@ -189,6 +217,36 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 		return DialectResolver.getDialect(operations.getJdbcOperations());
 	}
 
+	/**
+	 * Returns whether all repositories get prepared once all singletons are instantiated, rendering the SQL statements
+	 * of their aggregate roots and resolving the metadata of their query methods ahead of the first request. Override
+	 * this method to return {@literal true} to trade a longer startup for fast first requests. Defaults to
+	 * {@literal false}.
+	 *
+	 * @return whether to prepare repositories eagerly.
+	 * @since 2.3
+	 * @see JdbcRepositoryInitializer
+	 */
+	protected boolean isEagerRepositoryInitialization() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (isEagerRepositoryInitialization()) {
+
+			// several strategies get registered e.g. for sharding or read replicas, only a unique one renders statements
+			DataAccessStrategy dataAccessStrategy = applicationContext.getBeanProvider(DataAccessStrategy.class)
+					.getIfUnique();
+			new JdbcRepositoryInitializer(applicationContext, dataAccessStrategy).initialize();
+		}
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -118,6 +118,15 @@ public @interface EnableJdbcRepositories {
 	 */
 	String jdbcOperationsRef() default "";
 
+	/**
+	 * Configures the name of the {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} bean
+	 * definition of a read-only replica. Query methods that don't modify data get executed against the replica unless a
+	 * read-write transaction is active. Defaults to no replica.
+	 *
+	 * @since 2.3
+	 */
+	String readOnlyJdbcOperationsRef() default "";
+
 	/**
 	 * Configures the name of the {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} bean definition to
 	 * be used to create repositories discovered through this annotation. Defaults to {@code defaultDataAccessStrategy}.
@@ -79,6 +79,10 @@ public class JdbcRepositoryConfigExtension extends RepositoryConfigurationExtens
 				.filter(StringUtils::hasText) //
 				.ifPresent(s -> builder.addPropertyReference("jdbcOperations", s));
 
+		source.getAttribute("readOnlyJdbcOperationsRef") //
+				.filter(StringUtils::hasText) //
+				.ifPresent(s -> builder.addPropertyReference("readOnlyJdbcOperations", s));
+
 		source.getAttribute("dataAccessStrategyRef") //
 				.filter(StringUtils::hasText) //
 				.ifPresent(s -> builder.addPropertyReference("dataAccessStrategy", s));
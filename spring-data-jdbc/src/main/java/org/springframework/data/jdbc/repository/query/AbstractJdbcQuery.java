@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.jdbc.support.ReadReplicaRouting;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -48,6 +49,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
+	private @Nullable NamedParameterJdbcOperations readOnlyOperations;
 
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod} and
@@ -65,6 +67,19 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures {@link NamedParameterJdbcOperations} of a read-only replica. When configured, queries not annotated
+	 * with {@link Modifying} or {@link Lock} get executed against the replica unless a read-write transaction is active.
+	 *
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of the replica. May be {@literal null} to use
+	 *          the primary database only.
+	 * @since 2.3
+	 * @see ReadReplicaRouting
+	 */
+	public void setReadOnlyOperations(@Nullable NamedParameterJdbcOperations readOnlyOperations) {
+		this.readOnlyOperations = readOnlyOperations;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
@@ -117,7 +132,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 			try {
-				return operations.queryForObject(query, parameters, rowMapper);
+				return getReadOperations().queryForObject(query, parameters, rowMapper);
 			} catch (EmptyResultDataAccessException e) {
 				return null;
 			}
@@ -147,11 +162,18 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	}
 
 	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
-		return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+		return (query, parameters) -> getReadOperations().queryForStream(query, parameters, rowMapper);
 	}
 
 	private <T> JdbcQueryExecution<T> getQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+		return (query, parameters) -> getReadOperations().query(query, parameters, resultSetExtractor);
+	}
+
+	private NamedParameterJdbcOperations getReadOperations() {
+
+		// locks have to be acquired on the primary database
+		return queryMethod.hasLockMode() ? operations
+				: ReadReplicaRouting.getReadOperations(operations, readOnlyOperations);
 	}
 
 	/**
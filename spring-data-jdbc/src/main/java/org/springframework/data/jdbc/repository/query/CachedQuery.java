@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to cache the results of a query method keyed by its arguments. Cached results get evicted when the tables
+ * they depend on are modified: on save or delete of an aggregate through
+ * {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate} and on execution of a {@link Modifying} query
+ * method, which modifies the tables of its repository's aggregate and the {@link Modifying#tables()} listed explicitly,
+ * once the transaction performing the modification completes. Results depend on the tables of the aggregate
+ * returned by the method and on the {@link #tables()} listed explicitly. Modifications by other means, e.g. plain
+ * JDBC, are not detected.
+ * <p>
+ * Caching requires a {@link org.springframework.data.jdbc.core.QueryResultCache} bean. Cached results are shared
+ * between callers and must not be modified. Query methods returning a {@link java.util.stream.Stream} can't be cached.
+ * <p>
+ * When queries get routed to a read-only replica, executions against the replica bypass the cache, since the replica
+ * might not have caught up with the modification that caused the last eviction yet. Only executions within read-write
+ * transactions, which read from the primary database, use the cache then.
+ *
+ * @since 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQuery {
+
+	/**
+	 * The maximum number of results kept for the query method. The least recently used results get dropped first.
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * Names of tables the query reads from in addition to the tables of the aggregate it returns, e.g. tables joined by
+	 * a {@link Query}.
+	 */
+	String[] tables() default {};
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.util.Optional;
+
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -41,7 +43,7 @@ class JdbcCountQueryCreator extends JdbcQueryCreator {
 	JdbcCountQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType) {
-		super(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType);
+		super(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, Optional.empty());
 	}
 
 	@Override
@@ -50,6 +52,11 @@ class JdbcCountQueryCreator extends JdbcQueryCreator {
 		return selectOrdered;
 	}
 
+	@Override
+	SelectBuilder.BuildSelect applyLock(SelectBuilder.SelectOrdered selectOrdered) {
+		return selectOrdered;
+	}
+
 	@Override
 	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
@@ -15,9 +15,11 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,6 +37,7 @@ import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.StatementBuilder;
@@ -69,6 +72,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final RenderContextFactory renderContextFactory;
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
+	private final Optional<Lock> lock;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -82,16 +86,18 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	 * @param accessor parameter metadata provider, must not be {@literal null}.
 	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
 	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param lock the {@link Lock} to apply to the selected rows. Must not be {@literal null}.
 	 */
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
-			ReturnedType returnedType) {
+			ReturnedType returnedType, Optional<Lock> lock) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(entityMetadata, "Relational entity metadata must not be null");
 		Assert.notNull(returnedType, "ReturnedType must not be null");
+		Assert.notNull(lock, "Lock must not be null");
 
 		this.context = context;
 		this.tree = tree;
@@ -102,6 +108,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.renderContextFactory = new RenderContextFactory(dialect);
 		this.isSliceQuery = isSliceQuery;
 		this.returnedType = returnedType;
+		this.lock = lock;
 	}
 
 	/**
@@ -173,7 +180,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				whereBuilder);
 		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
 
-		Select select = selectOrderBuilder.build();
+		Select select = applyLock(selectOrderBuilder).build();
 
 		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
 
@@ -196,6 +203,37 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: whereBuilder;
 	}
 
+	SelectBuilder.BuildSelect applyLock(SelectBuilder.SelectOrdered selectOrdered) {
+
+		// aggregate functions can't be combined with row locks
+		if (tree.isCountProjection()) {
+			return selectOrdered;
+		}
+
+		return lock.map(it -> applyLock(selectOrdered, it)).orElse(selectOrdered);
+	}
+
+	/**
+	 * Applies the lock mode and wait policy declared by {@link Lock} to a select.
+	 *
+	 * @param selectLock the select to lock.
+	 * @param lock the lock to apply.
+	 * @return the locked select.
+	 */
+	static SelectBuilder.BuildSelect applyLock(SelectBuilder.SelectLock selectLock, Lock lock) {
+
+		if (lock.waitTimeout() < 0) {
+			return selectLock.lock(lock.value(), lock.waitPolicy());
+		}
+
+		if (lock.waitPolicy() != LockWaitPolicy.WAIT) {
+			throw new IllegalStateException(
+					String.format("A lock wait timeout requires LockWaitPolicy.WAIT but was %s", lock.waitPolicy()));
+		}
+
+		return selectLock.lock(lock.value(), Duration.ofMillis(lock.waitTimeout()));
+	}
+
 	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
 
 		if (tree.isExistsProjection()) {
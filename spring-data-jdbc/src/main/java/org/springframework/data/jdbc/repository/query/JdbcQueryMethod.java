@@ -212,15 +212,16 @@ public class JdbcQueryMethod extends QueryMethod {
 	 */
 	@Override
 	public boolean isModifyingQuery() {
-		return AnnotationUtils.findAnnotation(method, Modifying.class) != null;
+		return doFindAnnotation(Modifying.class).isPresent();
 	}
 
 	@SuppressWarnings("unchecked")
 	@Nullable
 	private <T> T getMergedAnnotationAttribute(String attribute) {
 
-		Query queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
-		return (T) AnnotationUtils.getValue(queryAnnotation, attribute);
+		return (T) lookupQueryAnnotation() //
+				.map(it -> AnnotationUtils.getValue(it, attribute)) //
+				.orElse(null);
 	}
 
 	/**
@@ -254,6 +255,46 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Query.class);
 	}
 
+	/**
+	 * Returns the {@link Lock} annotation of the query method if present.
+	 *
+	 * @return the {@link Lock} annotation. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	Optional<Lock> lookupLockAnnotation() {
+		return doFindAnnotation(Lock.class);
+	}
+
+	/**
+	 * Returns whether the query method locks the rows it selects.
+	 *
+	 * @return {@literal true} if the method is annotated with {@link Lock}.
+	 * @since 2.3
+	 */
+	public boolean hasLockMode() {
+		return lookupLockAnnotation().isPresent();
+	}
+
+	/**
+	 * Returns the {@link CachedQuery} annotation of the query method if present.
+	 *
+	 * @return the {@link CachedQuery} annotation. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	public Optional<CachedQuery> lookupCachedQueryAnnotation() {
+		return doFindAnnotation(CachedQuery.class);
+	}
+
+	/**
+	 * Returns the {@link Modifying} annotation of the query method if present.
+	 *
+	 * @return the {@link Modifying} annotation. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	public Optional<Modifying> lookupModifyingAnnotation() {
+		return doFindAnnotation(Modifying.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
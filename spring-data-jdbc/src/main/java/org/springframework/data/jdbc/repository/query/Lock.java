@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+
+/**
+ * Annotation to lock the rows selected by a query method. Derived queries render the lock clause of the dialect. For
+ * queries declared with {@link Query} the lock clause gets appended to the statement, which requires a dialect
+ * rendering the lock at the end of the statement. Dialects naming the locked table, like Postgres, name the table of
+ * the aggregate root, so the query must select from that table without an alias.
+ * <p>
+ * {@code @Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.SKIP_LOCKED)} lets competing consumers
+ * each pick different rows of a queue table without waiting for each other.
+ *
+ * @since 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Lock {
+
+	/**
+	 * The lock mode to apply.
+	 */
+	LockMode value();
+
+	/**
+	 * How to deal with rows already locked by other transactions. Not every dialect supports every policy.
+	 */
+	LockWaitPolicy waitPolicy() default LockWaitPolicy.WAIT;
+
+	/**
+	 * The maximum time in milliseconds to wait for rows already locked. Requires {@link LockWaitPolicy#WAIT}. Negative
+	 * values wait as long as the database does by default.
+	 */
+	long waitTimeout() default -1;
+}
@@ -30,4 +30,12 @@ import java.lang.annotation.Target;
 @Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
 @Documented
 public @interface Modifying {
+
+	/**
+	 * Names of tables the query modifies in addition to the tables of the aggregate of the repository. Results of
+	 * {@link CachedQuery} methods depending on any of them get evicted after executing the query.
+	 *
+	 * @since 2.3
+	 */
+	String[] tables() default {};
 }
@@ -27,7 +27,12 @@ import org.springframework.data.jdbc.core.convert.JdbcColumnTypes;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.query.Parameter;
@@ -61,6 +66,7 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcQueryMethod queryMethod;
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
+	private final String lockClause;
 	private BeanFactory beanFactory;
 
 	/**
@@ -87,6 +93,22 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public StringBasedJdbcQuery(JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
 			RowMapperFactory rowMapperFactory, JdbcConverter converter) {
+		this(queryMethod, operations, rowMapperFactory, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link StringBasedJdbcQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext},
+	 * {@link RowMapperFactory} and {@link Dialect}. The {@link Dialect} renders the lock clause of methods annotated with
+	 * {@link Lock}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param rowMapperFactory must not be {@literal null}.
+	 * @param dialect may be {@literal null} if the query method isn't annotated with {@link Lock}.
+	 * @since 2.3
+	 */
+	public StringBasedJdbcQuery(JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
+			RowMapperFactory rowMapperFactory, JdbcConverter converter, @Nullable Dialect dialect) {
 
 		super(queryMethod, operations);
 
@@ -95,6 +117,9 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 		this.queryMethod = queryMethod;
 		this.converter = converter;
 		this.rowMapperFactory = rowMapperFactory;
+		this.lockClause = queryMethod.lookupLockAnnotation() //
+				.map(lock -> renderLockClause(queryMethod, lock, dialect)) //
+				.orElse("");
 
 		if (queryMethod.isSliceQuery()) {
 			throw new UnsupportedOperationException(
@@ -179,7 +204,28 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 			throw new IllegalStateException(String.format("No query specified on %s", queryMethod.getName()));
 		}
 
-		return query;
+		return lockClause.isEmpty() ? query : query + " " + lockClause;
+	}
+
+	private static String renderLockClause(JdbcQueryMethod queryMethod, Lock lock, @Nullable Dialect dialect) {
+
+		if (dialect == null) {
+			throw new IllegalStateException(
+					String.format("Rendering the lock of %s requires a Dialect", queryMethod.getName()));
+		}
+
+		LockClause clause = dialect.lock();
+		if (clause.getClausePosition() != LockClause.Position.AFTER_ORDER_BY) {
+			throw new UnsupportedOperationException(String.format(
+					"The dialect renders locks within the statement; declare the lock in the query of %s instead of using @Lock",
+					queryMethod.getName()));
+		}
+
+		Table table = Table.create(queryMethod.getEntityInformation().getTableName());
+		Select select = JdbcQueryCreator.applyLock(Select.builder().select(table.asterisk()).from(table), lock).build();
+
+		return clause.getLock(new LockOptions(select.getLockMode(), select.getFrom(), select.getLockWaitPolicy(),
+				select.getLockWaitTimeout()));
 	}
 
 	@Nullable
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import org.springframework.data.jdbc.core.QueryResultCache;
+import org.springframework.data.jdbc.support.ReadReplicaRouting;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryQuery} returning results from a {@link QueryResultCache.Region} and executing its delegate only
+ * for arguments without cached result.
+ * <p>
+ * Executions routed to a read-only replica bypass the cache: the replica may lag behind the primary database, so a
+ * result read from it right after an eviction could bring stale data back into the cache until the next eviction.
+ *
+ * @since 2.3
+ * @see org.springframework.data.jdbc.repository.query.CachedQuery
+ */
+class CachingRepositoryQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+	private final QueryResultCache.Region region;
+	private final boolean readsFromReplica;
+
+	/**
+	 * @param delegate the {@link RepositoryQuery} to cache the results of.
+	 * @param region the {@link QueryResultCache.Region} to cache results in.
+	 * @param readsFromReplica whether {@code delegate} executes against a read-only replica outside of read-write
+	 *          transactions.
+	 */
+	CachingRepositoryQuery(RepositoryQuery delegate, QueryResultCache.Region region, boolean readsFromReplica) {
+
+		this.delegate = delegate;
+		this.region = region;
+		this.readsFromReplica = readsFromReplica;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Nullable
+	@Override
+	public Object execute(Object[] parameters) {
+
+		if (readsFromReplica && !ReadReplicaRouting.isReadWriteTransactionActive()) {
+			return delegate.execute(parameters);
+		}
+
+		return region.get(parameters, () -> delegate.execute(parameters));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return delegate.getQueryMethod();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.util.Collection;
+
+import org.springframework.data.jdbc.core.QueryResultCache;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryQuery} evicting the cached results depending on the tables of an aggregate or the additional tables
+ * listed by {@link org.springframework.data.jdbc.repository.query.Modifying#tables()} after executing a modifying
+ * query.
+ *
+ * @since 2.3
+ * @see org.springframework.data.jdbc.repository.query.CachedQuery
+ */
+class EvictingRepositoryQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+	private final QueryResultCache cache;
+	private final Class<?> domainType;
+	private final Collection<String> additionalTables;
+
+	EvictingRepositoryQuery(RepositoryQuery delegate, QueryResultCache cache, Class<?> domainType,
+			Collection<String> additionalTables) {
+
+		this.delegate = delegate;
+		this.cache = cache;
+		this.domainType = domainType;
+		this.additionalTables = additionalTables;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Nullable
+	@Override
+	public Object execute(Object[] parameters) {
+
+		Object result = delegate.execute(parameters);
+		cache.evict(domainType, additionalTables);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return delegate.getQueryMethod();
+	}
+}
@@ -18,13 +18,18 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -65,6 +70,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	private final Dialect dialect;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
+	private @Nullable NamedParameterJdbcOperations readOnlyOperations;
+	private @Nullable QueryResultCache queryResultCache;
 	private final BeanFactory beanfactory;
 
 	JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
@@ -103,17 +110,70 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		try {
 			if (namedQueries.hasQuery(queryMethod.getNamedQueryName()) || queryMethod.hasAnnotatedQuery()) {
 
-				StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, this::createMapper, converter);
+				StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, this::createMapper, converter,
+						dialect);
 				query.setBeanFactory(beanfactory);
-				return query;
+				query.setReadOnlyOperations(readOnlyOperations);
+				return applyQueryResultCache(query, queryMethod);
 			} else {
-				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, this::createMapper);
+
+				PartTreeJdbcQuery query = new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations,
+						this::createMapper);
+				query.setReadOnlyOperations(readOnlyOperations);
+				return applyQueryResultCache(query, queryMethod);
 			}
 		} catch (Exception e) {
 			throw QueryCreationException.create(queryMethod, e);
 		}
 	}
 
+	private RepositoryQuery applyQueryResultCache(RepositoryQuery query, JdbcQueryMethod queryMethod) {
+
+		Optional<CachedQuery> cachedQuery = queryMethod.lookupCachedQueryAnnotation();
+		QueryResultCache cache = queryResultCache;
+
+		if (cache == null) {
+
+			Assert.state(!cachedQuery.isPresent(), "Caching query results requires a QueryResultCache");
+			return query;
+		}
+
+		Class<?> domainType = queryMethod.getEntityInformation().getJavaType();
+
+		Optional<Modifying> modifying = queryMethod.lookupModifyingAnnotation();
+		if (modifying.isPresent()) {
+			return new EvictingRepositoryQuery(query, cache, domainType, Arrays.asList(modifying.get().tables()));
+		}
+
+		if (!cachedQuery.isPresent()) {
+			return query;
+		}
+
+		Assert.state(!queryMethod.isStreamQuery(), "Results of stream queries can't be cached");
+
+		// locking queries always execute against the primary database
+		boolean readsFromReplica = readOnlyOperations != null && !queryMethod.hasLockMode();
+
+		return new CachingRepositoryQuery(query, cache.createRegion(domainType,
+				Arrays.asList(cachedQuery.get().tables()), cachedQuery.get().maxEntries()), readsFromReplica);
+	}
+
+	/**
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of a read-only replica. May be {@literal null}.
+	 * @since 2.3
+	 */
+	void setReadOnlyOperations(@Nullable NamedParameterJdbcOperations readOnlyOperations) {
+		this.readOnlyOperations = readOnlyOperations;
+	}
+
+	/**
+	 * @param queryResultCache the {@link QueryResultCache} for {@link CachedQuery} methods. May be {@literal null}.
+	 * @since 2.3
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
 	@SuppressWarnings("unchecked")
 	private RowMapper<Object> createMapper(Class<?> returnedObjectType) {
 
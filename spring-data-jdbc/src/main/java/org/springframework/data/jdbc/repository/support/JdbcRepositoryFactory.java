@@ -20,6 +20,7 @@ import java.util.Optional;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
@@ -54,6 +55,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	private final ApplicationEventPublisher publisher;
 	private final DataAccessStrategy accessStrategy;
 	private final NamedParameterJdbcOperations operations;
+	@Nullable private NamedParameterJdbcOperations readOnlyOperations;
+	@Nullable private QueryResultCache queryResultCache;
 	private final Dialect dialect;
 	@Nullable private BeanFactory beanFactory;
 
@@ -100,6 +103,30 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * Configures {@link NamedParameterJdbcOperations} of a read-only replica used by query methods that don't modify
+	 * data. Such queries get executed against the replica unless a read-write transaction is active.
+	 *
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of the replica. May be {@literal null} to use
+	 *          the primary database only.
+	 * @since 2.3
+	 */
+	public void setReadOnlyOperations(@Nullable NamedParameterJdbcOperations readOnlyOperations) {
+		this.readOnlyOperations = readOnlyOperations;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} holding the results of query methods annotated with
+	 * {@link org.springframework.data.jdbc.repository.query.CachedQuery}. Saving and deleting aggregates through the
+	 * repositories as well as modifying query methods evict the results depending on the modified tables.
+	 *
+	 * @param queryResultCache the {@link QueryResultCache}. May be {@literal null} to disable caching.
+	 * @since 2.3
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> aClass) {
@@ -121,6 +148,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		if (entityCallbacks != null) {
 			template.setEntityCallbacks(entityCallbacks);
 		}
+		template.setQueryResultCache(queryResultCache);
 
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
@@ -145,8 +173,12 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations, beanFactory));
+		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, entityCallbacks, context,
+				converter, dialect, queryMappingConfiguration, operations, beanFactory);
+		queryLookupStrategy.setReadOnlyOperations(readOnlyOperations);
+		queryLookupStrategy.setQueryResultCache(queryResultCache);
+
+		return Optional.of(queryLookupStrategy);
 	}
 
 	/**
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -56,6 +57,8 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private DataAccessStrategy dataAccessStrategy;
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private NamedParameterJdbcOperations operations;
+	private NamedParameterJdbcOperations readOnlyOperations;
+	private QueryResultCache queryResultCache;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
 
@@ -89,6 +92,8 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		JdbcRepositoryFactory jdbcRepositoryFactory = new JdbcRepositoryFactory(dataAccessStrategy, mappingContext,
 				converter, dialect, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
+		jdbcRepositoryFactory.setReadOnlyOperations(readOnlyOperations);
+		jdbcRepositoryFactory.setQueryResultCache(queryResultCache);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
 
@@ -141,6 +146,31 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.operations = operations;
 	}
 
+	/**
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of a read-only replica used for query methods
+	 *          that don't modify data. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public void setReadOnlyJdbcOperations(NamedParameterJdbcOperations readOnlyOperations) {
+
+		Assert.notNull(readOnlyOperations, "NamedParameterJdbcOperations must not be null");
+
+		this.readOnlyOperations = readOnlyOperations;
+	}
+
+	/**
+	 * @param queryResultCache the {@link QueryResultCache} for query methods annotated with
+	 *          {@link org.springframework.data.jdbc.repository.query.CachedQuery}. Must not be {@literal null}.
+	 *          {@link #afterPropertiesSet()} defaults to the {@link QueryResultCache} bean if there is one.
+	 * @since 2.3
+	 */
+	public void setQueryResultCache(QueryResultCache queryResultCache) {
+
+		Assert.notNull(queryResultCache, "QueryResultCache must not be null");
+
+		this.queryResultCache = queryResultCache;
+	}
+
 	@Autowired
 	public void setConverter(JdbcConverter converter) {
 
@@ -185,11 +215,17 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 
 						SqlGeneratorSource sqlGeneratorSource = new SqlGeneratorSource(this.mappingContext, this.converter,
 								this.dialect);
-						return new DefaultDataAccessStrategy(sqlGeneratorSource, this.mappingContext, this.converter,
-								this.operations);
+						DefaultDataAccessStrategy defaultDataAccessStrategy = new DefaultDataAccessStrategy(sqlGeneratorSource,
+								this.mappingContext, this.converter, this.operations);
+						defaultDataAccessStrategy.setReadOnlyOperations(this.readOnlyOperations);
+						return defaultDataAccessStrategy;
 					});
 		}
 
+		if (this.queryResultCache == null && beanFactory != null) {
+			this.queryResultCache = beanFactory.getBeanProvider(QueryResultCache.class).getIfAvailable();
+		}
+
 		if (this.queryMappingConfiguration == null) {
 			this.queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 		}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
+import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Prepares all repositories of a {@link ListableBeanFactory} ahead of their first use: the SQL statements of the
+ * aggregate roots managed by the repositories get rendered and the metadata of their query methods gets resolved. This
+ * moves that work, together with any mapping errors it detects, from the first requests to application startup.
+ * Aggregate roots and query methods are processed in parallel.
+ * <p>
+ * Statements only get rendered ahead of time when the {@link DataAccessStrategy} is a
+ * {@link DefaultDataAccessStrategy}. Without a {@link DataAccessStrategy} only the query methods get prepared.
+ *
+ * @since 2.3
+ * @see DefaultDataAccessStrategy#prepare(java.util.Collection)
+ */
+public class JdbcRepositoryInitializer {
+
+	private final ListableBeanFactory beanFactory;
+	private final @Nullable DataAccessStrategy dataAccessStrategy;
+
+	/**
+	 * Creates a new {@link JdbcRepositoryInitializer}.
+	 *
+	 * @param beanFactory used to look up the repositories. Must not be {@literal null}.
+	 * @param dataAccessStrategy the {@link DataAccessStrategy} used by the repositories. May be {@literal null}.
+	 */
+	public JdbcRepositoryInitializer(ListableBeanFactory beanFactory, @Nullable DataAccessStrategy dataAccessStrategy) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+
+		this.beanFactory = beanFactory;
+		this.dataAccessStrategy = dataAccessStrategy;
+	}
+
+	/**
+	 * Prepares all repositories currently available in the {@link ListableBeanFactory}.
+	 */
+	public void initialize() {
+
+		Repositories repositories = new Repositories(beanFactory);
+
+		List<Class<?>> domainTypes = new ArrayList<>();
+		repositories.forEach(domainTypes::add);
+
+		domainTypes.parallelStream() //
+				.flatMap(domainType -> repositories.getQueryMethodsFor(domainType).stream()) //
+				.forEach(JdbcRepositoryInitializer::prepare);
+
+		if (dataAccessStrategy instanceof DefaultDataAccessStrategy) {
+			((DefaultDataAccessStrategy) dataAccessStrategy).prepare(domainTypes);
+		}
+	}
+
+	private static void prepare(QueryMethod queryMethod) {
+
+		if (!(queryMethod instanceof JdbcQueryMethod)) {
+			return;
+		}
+
+		JdbcQueryMethod jdbcQueryMethod = (JdbcQueryMethod) queryMethod;
+
+		jdbcQueryMethod.getEntityInformation();
+		jdbcQueryMethod.hasAnnotatedQuery();
+		jdbcQueryMethod.isModifyingQuery();
+	}
+}
@@ -15,8 +15,12 @@
  */
 package org.springframework.data.jdbc.support;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.Time;
@@ -29,6 +33,7 @@ import java.util.Map;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Contains methods dealing with the quirks of JDBC, independent of any Entity, Aggregate or Repository abstraction.
@@ -39,6 +44,7 @@ import org.springframework.util.Assert;
 public final class JdbcUtil {
 
 	private static final Map<Class<?>, Integer> sqlTypeMappings = new HashMap<>();
+	private static final Map<Class<?>, Integer> resolvedSqlTypes = new ConcurrentReferenceHashMap<>();
 
 	static {
 
@@ -60,6 +66,10 @@ public final class JdbcUtil {
 		sqlTypeMappings.put(Boolean.class, Types.BIT);
 		sqlTypeMappings.put(boolean.class, Types.BIT);
 		sqlTypeMappings.put(byte[].class, Types.VARBINARY);
+		sqlTypeMappings.put(Blob.class, Types.BLOB);
+		sqlTypeMappings.put(InputStream.class, Types.BLOB);
+		sqlTypeMappings.put(Clob.class, Types.CLOB);
+		sqlTypeMappings.put(Reader.class, Types.CLOB);
 		sqlTypeMappings.put(Date.class, Types.DATE);
 		sqlTypeMappings.put(Time.class, Types.TIME);
 		sqlTypeMappings.put(Timestamp.class, Types.TIMESTAMP);
@@ -72,7 +82,7 @@ public final class JdbcUtil {
 
 	/**
 	 * Returns the {@link Types} value suitable for passing a value of the provided type to a
-	 * {@link java.sql.PreparedStatement}.
+	 * {@link java.sql.PreparedStatement}. The result is cached per type.
 	 *
 	 * @param type The type of value to be bound to a {@link java.sql.PreparedStatement}.
 	 * @return One of the values defined in {@link Types} or {@link JdbcUtils#TYPE_UNKNOWN}.
@@ -81,6 +91,11 @@ public final class JdbcUtil {
 
 		Assert.notNull(type, "Type must not be null.");
 
+		return resolvedSqlTypes.computeIfAbsent(type, JdbcUtil::resolveSqlType);
+	}
+
+	private static int resolveSqlType(Class<?> type) {
+
 		return sqlTypeMappings.keySet().stream() //
 				.filter(k -> k.isAssignableFrom(type)) //
 				.findFirst() //
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Chooses between the {@link NamedParameterJdbcOperations} of a primary database and those of a read-only replica for
+ * statements that only read. Reads go to the replica unless a read-write transaction is active, in which case they
+ * have to see the changes of that transaction and therefore stay on the primary. Reads within read-only transactions
+ * go to the replica without participating in the transaction.
+ *
+ * @since 2.3
+ */
+public final class ReadReplicaRouting {
+
+	private ReadReplicaRouting() {
+		throw new IllegalStateException("Utility class can't be instantiated.");
+	}
+
+	/**
+	 * Returns the {@link NamedParameterJdbcOperations} to execute a reading statement with.
+	 *
+	 * @param operations the {@link NamedParameterJdbcOperations} of the primary database. Must not be {@literal null}.
+	 * @param readOnlyOperations the {@link NamedParameterJdbcOperations} of a read-only replica. May be {@literal null}
+	 *          if there is none.
+	 * @return {@code readOnlyOperations} if present and no read-write transaction is active, {@code operations}
+	 *         otherwise.
+	 */
+	public static NamedParameterJdbcOperations getReadOperations(NamedParameterJdbcOperations operations,
+			@Nullable NamedParameterJdbcOperations readOnlyOperations) {
+
+		return readOnlyOperations == null || isReadWriteTransactionActive() ? operations : readOnlyOperations;
+	}
+
+	/**
+	 * Returns whether the current thread participates in a transaction that is not read-only.
+	 *
+	 * @return whether a read-write transaction is active.
+	 */
+	public static boolean isReadWriteTransactionActive() {
+
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.DbActionExecutionException;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link AggregateChangeExecutor}.
+ */
+public class AggregateChangeExecutorUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+	AggregateChangeExecutor executor = new AggregateChangeExecutor(converter, accessStrategy);
+
+	DummyEntity entity = new DummyEntity(1L);
+	DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(entity);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void insertsConsecutiveEntitiesOfSamePathTogether() {
+
+		Content first = new Content(2L);
+		Content second = new Content(3L);
+		Tag tag = new Tag(4L);
+		entity.contents.add(first);
+		entity.contents.add(second);
+		entity.tags.add(tag);
+
+		doAnswer(invocation -> new ArrayList<>(nCopies(invocation.getArgument(0, List.class).size(), null)))
+				.when(accessStrategy).insertAll(anyList(), any(), anyList());
+
+		executor.execute(createChange( //
+				createInsert("contents", first, 0), //
+				createInsert("contents", second, 1), //
+				createInsert("tags", tag, null)));
+
+		verify(accessStrategy).insertAll(eq(asList(first, second)), eq(Content.class), anyList());
+		verify(accessStrategy).insert(eq(tag), eq(Tag.class), any(Identifier.class));
+		verify(accessStrategy, never()).insert(any(Content.class), any(), any(Identifier.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reportsAllInsertsExecutedTogetherOnFailure() {
+
+		Content first = new Content(2L);
+		Content second = new Content(3L);
+		entity.contents.add(first);
+		entity.contents.add(second);
+
+		doThrow(new IllegalStateException("expected")).when(accessStrategy).insertAll(anyList(), any(), anyList());
+
+		assertThatExceptionOfType(DbActionExecutionException.class) //
+				.isThrownBy(() -> executor.execute(createChange( //
+						createInsert("contents", first, 0), //
+						createInsert("contents", second, 1)))) //
+				.withMessageContaining("2 actions together") //
+				.withCauseInstanceOf(IllegalStateException.class);
+
+		verify(accessStrategy).afterAggregateChange();
+	}
+
+	@Test
+	public void upsertsMergedEntities() {
+
+		Tag tag = new Tag(4L);
+		entity.tags.add(tag);
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = context.getPersistentPropertyPath("tags",
+				DummyEntity.class);
+		DbAction.MergeRoot<DummyEntity> rootMerge = new DbAction.MergeRoot<>(entity);
+
+		MutableAggregateChange<DummyEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		aggregateChange.addAction(rootMerge);
+		aggregateChange.addAction(new DbAction.Merge<>(tag, path, rootMerge));
+
+		assertThat(executor.execute(aggregateChange)).isSameAs(entity);
+
+		verify(accessStrategy).upsert(entity, DummyEntity.class, Identifier.empty());
+		verify(accessStrategy).upsert(eq(tag), eq(Tag.class), any(Identifier.class));
+		verify(accessStrategy, never()).update(any(), any());
+	}
+
+	private MutableAggregateChange<DummyEntity> createChange(DbAction<?>... inserts) {
+
+		MutableAggregateChange<DummyEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+		for (DbAction<?> insert : inserts) {
+			aggregateChange.addAction(insert);
+		}
+		return aggregateChange;
+	}
+
+	private DbAction.Insert<?> createInsert(String propertyName, Object value, @Nullable Object key) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = context.getPersistentPropertyPath(propertyName,
+				DummyEntity.class);
+
+		return new DbAction.Insert<>(value, path, rootInsert, key == null ? emptyMap() : singletonMap(path, key));
+	}
+
+	private static class DummyEntity {
+
+		@Id Long id;
+		List<Content> contents = new ArrayList<>();
+		Set<Tag> tags = new HashSet<>();
+
+		DummyEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	private static class Content {
+
+		@Id Long id;
+
+		Content(Long id) {
+			this.id = id;
+		}
+	}
+
+	private static class Tag {
+
+		@Id Long id;
+
+		Tag(Long id) {
+			this.id = id;
+		}
+	}
+}
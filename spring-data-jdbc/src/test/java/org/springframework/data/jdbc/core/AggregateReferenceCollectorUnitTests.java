@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+
+/**
+ * Unit tests for {@link AggregateReferenceCollector}.
+ */
+public class AggregateReferenceCollectorUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+
+	@Test
+	public void collectsDistinctIdsPerReferencedType() {
+
+		Book first = new Book(1L, AggregateReference.to(10L), asList(new Review(AggregateReference.to(20L))));
+		Book second = new Book(2L, AggregateReference.to(10L),
+				asList(new Review(AggregateReference.to(21L)), new Review(AggregateReference.to(20L))));
+
+		Map<Class<?>, Set<Object>> ids = new AggregateReferenceCollector(context).collect(asList(first, second),
+				Book.class);
+
+		assertThat(ids).containsOnlyKeys(Author.class, Reviewer.class);
+		assertThat(ids.get(Author.class)).containsExactly(10L);
+		assertThat(ids.get(Reviewer.class)).containsExactly(20L, 21L);
+	}
+
+	@Test
+	public void ignoresMissingReferences() {
+
+		Book book = new Book(1L, null, null);
+
+		assertThat(new AggregateReferenceCollector(context).collect(asList(book), Book.class)).isEmpty();
+	}
+
+	@AllArgsConstructor
+	static class Book {
+
+		@Id Long id;
+		AggregateReference<Author, Long> author;
+		List<Review> reviews;
+	}
+
+	@AllArgsConstructor
+	static class Review {
+		AggregateReference<Reviewer, Long> reviewer;
+	}
+
+	static class Author {
+		@Id Long id;
+	}
+
+	static class Reviewer {
+		@Id Long id;
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -120,6 +121,53 @@ public class JdbcAggregateChangeExecutorContextImmutableUnitTests {
 		assertThat(newRoot.list.get(0).id).isEqualTo(24L);
 	}
 
+	@Test
+	public void idGenerationOfChildrenInListKeepsOrder() {
+
+		Content first = new Content();
+		Content second = new Content();
+		Content third = new Content();
+		root = new DummyEntity(null, 0, null, asList(first, second, third));
+
+		when(accessStrategy.insert(any(DummyEntity.class), eq(DummyEntity.class), eq(Identifier.empty()))).thenReturn(23L);
+		when(accessStrategy.insert(any(Content.class), eq(Content.class), any(Identifier.class))).thenReturn(24L, 25L,
+				26L);
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		executionContext.executeInsertRoot(rootInsert);
+		executionContext.executeInsert(createInsert(rootInsert, "list", first, 0));
+		executionContext.executeInsert(createInsert(rootInsert, "list", second, 1));
+		executionContext.executeInsert(createInsert(rootInsert, "list", third, 2));
+
+		DummyEntity newRoot = executionContext.populateIdsIfNecessary();
+
+		assertThat(newRoot).isNotNull();
+		assertThat(newRoot.list).extracting(content -> content.id).containsExactly(24L, 25L, 26L);
+	}
+
+	@Test
+	public void childrenWithoutGeneratedIdAreKept() {
+
+		Content withGeneratedId = new Content();
+		Content withoutGeneratedId = new Content(42L);
+		root = new DummyEntity(null, 0, null, asList(withGeneratedId, withoutGeneratedId));
+
+		when(accessStrategy.insert(any(DummyEntity.class), eq(DummyEntity.class), eq(Identifier.empty()))).thenReturn(23L);
+		when(accessStrategy.insert(any(Content.class), eq(Content.class), any(Identifier.class))).thenReturn(24L)
+				.thenReturn(null);
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		executionContext.executeInsertRoot(rootInsert);
+		executionContext.executeInsert(createInsert(rootInsert, "list", withGeneratedId, 0));
+		executionContext.executeInsert(createInsert(rootInsert, "list", withoutGeneratedId, 1));
+
+		DummyEntity newRoot = executionContext.populateIdsIfNecessary();
+
+		assertThat(newRoot).isNotNull();
+		assertThat(newRoot.list).extracting(content -> content.id).containsExactly(24L, 42L);
+		assertThat(newRoot.list.get(1)).isSameAs(withoutGeneratedId);
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key) {
 
@@ -134,6 +134,24 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content.id).isEqualTo(24L);
 	}
 
+	@Test
+	public void idGenerationOfMergedChild() {
+
+		Content content = new Content();
+
+		when(accessStrategy.insert(root, DummyEntity.class, Identifier.empty())).thenReturn(23L);
+		when(accessStrategy.upsert(content, Content.class, createBackRef())).thenReturn(24L);
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		executionContext.executeInsertRoot(rootInsert);
+		executionContext.executeMerge(new DbAction.Merge<>(content, getPersistentPropertyPath("content"), rootInsert));
+
+		DummyEntity newRoot = executionContext.populateIdsIfNecessary();
+
+		assertThat(newRoot).isNull();
+		assertThat(content.id).isEqualTo(24L);
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key) {
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
+import org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.testing.TestUtils;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.mapping.AssignedId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Integration tests for saving aggregates with an {@link AssignedId} using a single upsert for the aggregate root.
+ */
+public class JdbcAggregateTemplateMergeIntegrationTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+
+	EmbeddedDatabase database;
+	StatementRecordingJdbcTemplate jdbcTemplate;
+	JdbcAggregateTemplate template;
+
+	@BeforeEach
+	public void before() {
+
+		database = new EmbeddedDatabaseBuilder() //
+				.generateUniqueName(true) //
+				.setType(EmbeddedDatabaseType.H2) //
+				.addScript(TestUtils.createScriptName(getClass(), "h2")) //
+				.build();
+		jdbcTemplate = new StatementRecordingJdbcTemplate(database);
+
+		DelegatingDataAccessStrategy accessStrategy = new DelegatingDataAccessStrategy();
+		JdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				new DefaultJdbcTypeFactory(jdbcTemplate), H2Dialect.INSTANCE.getIdentifierProcessing());
+		accessStrategy.setDelegate(new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, H2Dialect.INSTANCE), //
+				context, //
+				converter, //
+				new NamedParameterJdbcTemplate(jdbcTemplate)));
+
+		template = new JdbcAggregateTemplate(mock(ApplicationEventPublisher.class), context, converter, accessStrategy);
+	}
+
+	@AfterEach
+	public void after() {
+		database.shutdown();
+	}
+
+	@Test
+	public void insertsRootWithAssignedIdUsingSingleMerge() {
+
+		template.save(new Currency("EUR", "Euro"));
+
+		assertThat(jdbcTemplate.statements).hasSize(1).allMatch(it -> it.startsWith("MERGE INTO"));
+		assertThat(template.findById("EUR", Currency.class).name).isEqualTo("Euro");
+	}
+
+	@Test
+	public void updatesRootWithAssignedIdUsingSingleMerge() {
+
+		template.save(new Currency("EUR", "Ecu"));
+		jdbcTemplate.statements.clear();
+
+		template.save(new Currency("EUR", "Euro"));
+
+		assertThat(jdbcTemplate.statements).hasSize(1).allMatch(it -> it.startsWith("MERGE INTO"));
+		assertThat(template.findById("EUR", Currency.class).name).isEqualTo("Euro");
+		assertThat(template.count(Currency.class)).isEqualTo(1L);
+	}
+
+	@Test
+	public void replacesReferencedEntitiesOfMergedRoot() {
+
+		Account account = new Account(23L, "new");
+		account.bookings.add(new Booking("first"));
+		template.save(account);
+
+		account.bookings.clear();
+		account.bookings.add(new Booking("second"));
+		template.save(account);
+
+		assertThat(template.findById(23L, Account.class).bookings).extracting(it -> it.text).containsExactly("second");
+	}
+
+	static class StatementRecordingJdbcTemplate extends JdbcTemplate {
+
+		final List<String> statements = new ArrayList<>();
+
+		StatementRecordingJdbcTemplate(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) {
+
+			statements.add(((SqlProvider) psc).getSql());
+			return super.execute(psc, action);
+		}
+	}
+
+	static class Currency {
+
+		@Id @AssignedId String code;
+		String name;
+
+		Currency(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	static class Account {
+
+		@Id @AssignedId Long id;
+		String name;
+		Set<Booking> bookings = new HashSet<>();
+
+		Account(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	static class Booking {
+
+		String text;
+
+		Booking(String text) {
+			this.text = text;
+		}
+	}
+}
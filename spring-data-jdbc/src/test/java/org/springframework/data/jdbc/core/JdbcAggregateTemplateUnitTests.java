@@ -23,9 +23,12 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
@@ -36,6 +39,7 @@ import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.Column;
@@ -110,6 +114,29 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(last).isEqualTo(third);
 	}
 
+	@Test
+	public void evictsQueryResultsOfSavedAggregate() {
+
+		QueryResultCache.Region region = createCachedRegion();
+
+		when(callbacks.callback(any(Class.class), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.update(any(), eq(SampleEntity.class))).thenReturn(true);
+
+		template.save(new SampleEntity(23L, "Alfred"));
+
+		assertThat(region.size()).isZero();
+	}
+
+	@Test
+	public void evictsQueryResultsOfDeletedAggregate() {
+
+		QueryResultCache.Region region = createCachedRegion();
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(region.size()).isZero();
+	}
+
 	@Test // DATAJDBC-393
 	public void callbackOnDelete() {
 
@@ -190,6 +217,42 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	public void resolvesReferencesWithOneQueryPerReferencedType() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		List<ReferencingEntity> referencing = asList( //
+				new ReferencingEntity(1L, AggregateReference.to(23L)), //
+				new ReferencingEntity(2L, AggregateReference.to(42L)), //
+				new ReferencingEntity(3L, AggregateReference.to(23L)));
+
+		when(dataAccessStrategy.findAllById(any(), eq(SampleEntity.class))).thenReturn(asList(alfred, neumann));
+		when(callbacks.callback(any(Class.class), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+		AggregateReferences references = template.resolveReferences(referencing, ReferencingEntity.class);
+
+		ArgumentCaptor<Iterable<?>> ids = ArgumentCaptor.forClass(Iterable.class);
+		verify(dataAccessStrategy).findAllById(ids.capture(), eq(SampleEntity.class));
+
+		assertThat(ids.getValue()).containsExactly(23L, 42L);
+		assertThat(references.get(referencing.get(2).sample, SampleEntity.class)).isSameAs(alfred);
+		assertThat(references.getAggregates(SampleEntity.class)).containsOnlyKeys(23L, 42L);
+	}
+
+	private QueryResultCache.Region createCachedRegion() {
+
+		QueryResultCache cache = new QueryResultCache(new RelationalMappingContext(NamingStrategy.INSTANCE));
+		((JdbcAggregateTemplate) template).setQueryResultCache(cache);
+
+		QueryResultCache.Region region = cache.createRegion(SampleEntity.class, emptyList(), 10);
+		region.get(new Object[] { "Alfred" }, () -> "cached");
+		assertThat(region.size()).isEqualTo(1);
+
+		return region;
+	}
+
 	@Data
 	@AllArgsConstructor
 	private static class SampleEntity {
@@ -198,4 +261,12 @@ public class JdbcAggregateTemplateUnitTests {
 
 		private String name;
 	}
+
+	@AllArgsConstructor
+	private static class ReferencingEntity {
+
+		@Id private Long id;
+
+		private AggregateReference<SampleEntity, Long> sample;
+	}
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ */
+public class QueryResultCacheUnitTests {
+
+	QueryResultCache cache = new QueryResultCache(new JdbcMappingContext());
+	AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	public void cachesResultsPerArguments() {
+
+		QueryResultCache.Region region = cache.createRegion(Country.class, Collections.emptyList(), 10);
+
+		assertThat(region.get(new Object[] { "CH" }, this::execute)).isEqualTo(1);
+		assertThat(region.get(new Object[] { "CH" }, this::execute)).isEqualTo(1);
+		assertThat(region.get(new Object[] { "DE" }, this::execute)).isEqualTo(2);
+		assertThat(region.get(new Object[] { new String[] { "CH" } }, this::execute)).isEqualTo(3);
+		assertThat(region.get(new Object[] { new String[] { "CH" } }, this::execute)).isEqualTo(3);
+	}
+
+	@Test
+	public void dropsLeastRecentlyUsedResults() {
+
+		QueryResultCache.Region region = cache.createRegion(Country.class, Collections.emptyList(), 2);
+
+		region.get(new Object[] { "CH" }, this::execute);
+		region.get(new Object[] { "DE" }, this::execute);
+		region.get(new Object[] { "CH" }, this::execute);
+		region.get(new Object[] { "FR" }, this::execute);
+
+		assertThat(region.size()).isEqualTo(2);
+		assertThat(region.get(new Object[] { "CH" }, this::execute)).isEqualTo(1);
+		assertThat(region.get(new Object[] { "DE" }, this::execute)).isEqualTo(4);
+	}
+
+	@Test
+	public void evictsResultsDependingOnModifiedTables() {
+
+		QueryResultCache.Region region = cache.createRegion(Country.class, Collections.singletonList("Currency"), 10);
+		region.get(new Object[] { "CH" }, this::execute);
+
+		cache.evict(Collections.singletonList("unrelated"));
+		assertThat(region.size()).isEqualTo(1);
+
+		cache.evict(Country.class);
+		assertThat(region.size()).isEqualTo(0);
+
+		region.get(new Object[] { "CH" }, this::execute);
+		cache.evict(Collections.singletonList("region"));
+		assertThat(region.size()).isEqualTo(0);
+
+		region.get(new Object[] { "CH" }, this::execute);
+		cache.evict(Collections.singletonList("CURRENCY"));
+		assertThat(region.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void bypassesRegionsModifiedByCurrentTransactionUntilItCompletes() {
+
+		QueryResultCache.Region region = cache.createRegion(Country.class, Collections.emptyList(), 10);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			cache.evict(Country.class);
+
+			region.get(new Object[] { "CH" }, this::execute);
+			region.get(new Object[] { "CH" }, this::execute);
+
+			assertThat(executions).hasValue(2);
+			assertThat(region.size()).isEqualTo(0);
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			synchronizations.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		region.get(new Object[] { "CH" }, this::execute);
+		region.get(new Object[] { "CH" }, this::execute);
+
+		assertThat(executions).hasValue(3);
+	}
+
+	private Object execute() {
+		return executions.incrementAndGet();
+	}
+
+	static class Country {
+
+		@Id String code;
+		List<Region> regions;
+	}
+
+	static class Region {
+		String name;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReactiveJdbcAggregateTemplate}.
+ */
+public class ReactiveJdbcAggregateTemplateUnitTests {
+
+	JdbcAggregateOperations operations = mock(JdbcAggregateOperations.class);
+	Scheduler scheduler = Schedulers.newSingle("jdbc");
+	ReactiveJdbcAggregateTemplate template = new ReactiveJdbcAggregateTemplate(operations, scheduler);
+
+	@AfterEach
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Test
+	public void executesOperationsOnScheduler() {
+
+		AtomicReference<String> thread = new AtomicReference<>();
+		when(operations.save("aggregate")).thenAnswer(invocation -> {
+			thread.set(Thread.currentThread().getName());
+			return "saved";
+		});
+
+		Mono<String> saved = template.save("aggregate");
+
+		verifyNoInteractions(operations);
+		assertThat(saved.block()).isEqualTo("saved");
+		assertThat(thread.get()).startsWith("jdbc");
+	}
+
+	@Test
+	public void findByIdCompletesEmptyWithoutAggregate() {
+
+		assertThat(template.findById(23L, String.class).blockOptional()).isEmpty();
+	}
+
+	@Test
+	public void findAllStreamsAggregatesAndClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		when(operations.streamAll(String.class))
+				.thenReturn(Stream.of("one", "two", "three").onClose(() -> closed.set(true)));
+
+		Flux<String> all = template.findAll(String.class);
+
+		verifyNoInteractions(operations);
+		assertThat(all.take(1).collectList().block()).containsExactly("one");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	public void deletesOnSubscription() {
+
+		Mono<Void> deleted = template.deleteById(23L, String.class);
+
+		verifyNoInteractions(operations);
+		deleted.block();
+		verify(operations).deleteById(23L, String.class);
+	}
+
+	@Test
+	public void findAllByIdEmitsAllAggregates() {
+
+		List<Long> ids = asList(1L, 2L);
+		when(operations.findAllById(ids, String.class)).thenReturn(asList("one", "two"));
+
+		assertThat(template.findAllById(ids, String.class).collectList().block()).containsExactly("one", "two");
+	}
+}
@@ -19,10 +19,18 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.mockito.Mockito.*;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.Array;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,6 +38,8 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -37,9 +47,11 @@ import java.util.UUID;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ConverterBuilder;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.mapping.JsonColumn;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
@@ -100,6 +112,65 @@ public class BasicJdbcConverterUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	public void keepsArraysOfPrimitivesAsColumnType() {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+
+		assertThat(converter.getColumnType(entity.getRequiredPersistentProperty("arrayOfLong"))).isEqualTo(long[].class);
+	}
+
+	@Test
+	public void readsBoxedArraysIntoArraysOfPrimitives() {
+
+		assertThat(converter.readValue(new Long[] { 1L, 2L }, ClassTypeInformation.from(long[].class)))
+				.isEqualTo(new long[] { 1L, 2L });
+		assertThat(converter.readValue(new Object[] { 1.5d, 2.5d }, ClassTypeInformation.from(double[].class)))
+				.isEqualTo(new double[] { 1.5d, 2.5d });
+	}
+
+	@Test
+	public void bindsStreamsWithoutReadingThem() throws SQLException {
+
+		InputStream stream = new ByteArrayInputStream(new byte[] { 1, 2, 3 });
+
+		JdbcValue jdbcValue = converter.writeJdbcValue(stream, InputStream.class, Types.BLOB);
+
+		assertThat(jdbcValue.getValue()).isInstanceOf(StreamingLobValue.class);
+		assertThat(jdbcValue.getJdbcType()).isEqualTo(JDBCType.BLOB);
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		((StreamingLobValue) jdbcValue.getValue()).setTypeValue(statement, 1, Types.BLOB, null);
+
+		verify(statement).setBinaryStream(1, stream);
+	}
+
+	@Test
+	public void writesJsonColumnsAsSingleValue() {
+
+		RelationalPersistentProperty phones = context.getRequiredPersistentEntity(DummyEntity.class)
+				.getRequiredPersistentProperty("phones");
+
+		JdbcValue jdbcValue = converter.writeJdbcValue(Arrays.asList(new Phone("+41 44 123 45 67")), phones);
+
+		assertThat(phones.isEntity()).isFalse();
+		assertThat(converter.getColumnType(phones)).isEqualTo(String.class);
+		assertThat(jdbcValue.getValue()).isEqualTo("[{\"number\":\"+41 44 123 45 67\"}]");
+		assertThat(jdbcValue.getJdbcType()).isEqualTo(JDBCType.VARCHAR);
+	}
+
+	@Test
+	public void readsJsonColumnsIntoPropertyType() {
+
+		RelationalPersistentProperty phones = context.getRequiredPersistentEntity(DummyEntity.class)
+				.getRequiredPersistentProperty("phones");
+
+		Object value = new JacksonJsonColumnMapper().read("[{\"number\":\"+41 44 123 45 67\",\"unknown\":1}]",
+				phones.getTypeInformation());
+
+		assertThat(value).isEqualTo(Arrays.asList(new Phone("+41 44 123 45 67")));
+	}
+
 	@Test // DATAJDBC-221
 	public void referencesAreNotEntitiesAndGetStoredAsTheirId() {
 
@@ -131,6 +202,23 @@ public class BasicJdbcConverterUnitTests {
 
 	}
 
+	@Test
+	public void writesSimpleValuesAsTheyAreUnlessConverterIsRegistered() {
+
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		}, new JdbcCustomConversions(Collections.singletonList(ConverterBuilder
+				.writing(Long.class, String.class, it -> "#" + it).getWritingConverter())), typeFactory,
+				IdentifierProcessing.ANSI);
+
+		JdbcValue string = converter.writeJdbcValue("value", String.class, Types.VARCHAR);
+		JdbcValue number = converter.writeJdbcValue(23L, Long.class, Types.BIGINT);
+
+		assertThat(string.getValue()).isEqualTo("value");
+		assertThat(string.getJdbcType()).isEqualTo(JDBCType.VARCHAR);
+		assertThat(number.getValue()).isEqualTo("#23");
+	}
+
 	@Test // GH-945
 	void conversionOfPrimitiveArrays() {
 
@@ -183,6 +271,10 @@ public class BasicJdbcConverterUnitTests {
 		private final List<OtherEntity> listOfEntity;
 		private final OtherEntity[] arrayOfEntity;
 
+		private final long[] arrayOfLong;
+
+		@JsonColumn private final List<Phone> phones;
+
 	}
 
 	@SuppressWarnings("unused")
@@ -193,6 +285,13 @@ public class BasicJdbcConverterUnitTests {
 	@SuppressWarnings("unused")
 	private static class OtherEntity {}
 
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	private static class Phone {
+		String number;
+	}
+
 	private static class StubbedJdbcTypeFactory implements JdbcTypeFactory {
 		public Object[] arraySource;
 
@@ -24,6 +24,7 @@ import junit.framework.AssertionFailedError;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.data.jdbc.core.convert.FunctionCollector.CombinedDataAccessException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -85,4 +86,22 @@ public class CascadingDataAccessStrategyUnitTests {
 		assertThat(findAll).containsExactly("success");
 	}
 
+	@Test
+	public void flushesPreviousStrategyBeforeDelegatingToAnotherOne() {
+
+		DataAccessStrategy batching = mock(DataAccessStrategy.class);
+		doThrow(new UnsupportedOperationException()).when(batching).update("child", String.class);
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(batching, succeeds));
+
+		access.insert("parent", String.class, Identifier.empty());
+		access.insert("other", String.class, Identifier.empty());
+		access.update("child", String.class);
+
+		InOrder inOrder = inOrder(batching, succeeds);
+		inOrder.verify(batching).insert("parent", String.class, Identifier.empty());
+		inOrder.verify(batching).insert("other", String.class, Identifier.empty());
+		inOrder.verify(batching).flush();
+		inOrder.verify(succeeds).update("child", String.class);
+		verify(batching).flush();
+	}
 }
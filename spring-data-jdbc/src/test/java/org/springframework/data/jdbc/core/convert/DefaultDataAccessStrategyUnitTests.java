@@ -27,13 +27,20 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.convert.ReadingConverter;
@@ -42,14 +49,24 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.mapping.DynamicUpdate;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -121,6 +138,105 @@ public class DefaultDataAccessStrategyUnitTests {
 		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
 	}
 
+	@Test
+	public void insertsRowsWithSingleMultiRowStatement() {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		accessStrategy.insertAll(asList(new DummyEntity(1L), new DummyEntity(2L), new DummyEntity(3L)),
+				DummyEntity.class, asList(Identifier.empty(), Identifier.empty(), Identifier.empty()));
+
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()).endsWith("VALUES (:id_0), (:id_1), (:id_2)");
+		assertThat(paramSourceCaptor.getValue().getValue("id_1")).isEqualTo(2L);
+	}
+
+	@Test
+	public void splitsMultiRowInsertsAtParameterLimitOfDialect() {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, SqlServerDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		// SQL Server allows 2000 parameters, so 500 rows of 4 columns each
+		List<WideEntity> entities = new ArrayList<>();
+		for (long id = 1; id <= 507; id++) {
+			entities.add(new WideEntity(id));
+		}
+
+		accessStrategy.insertAll(entities, WideEntity.class, nCopies(entities.size(), Identifier.empty()));
+
+		verify(namedJdbcOperations, times(4)).update(anyString(), paramSourceCaptor.capture());
+
+		assertThat(paramSourceCaptor.getAllValues()) //
+				.extracting(it -> it.getParameterNames().length) //
+				.containsExactly(500 * 4, 4 * 4, 2 * 4, 1 * 4);
+	}
+
+	@Test
+	public void insertsRowsWithGeneratedIdsOnTheirOwn() {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		Answer<Integer> generateId = invocation -> {
+
+			KeyHolder keyHolder = invocation.getArgument(2);
+			keyHolder.getKeyList().add(singletonMap("ID", GENERATED_ID));
+			return 1;
+		};
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class)))
+				.then(generateId);
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class),
+				any(String[].class))).then(generateId);
+
+		List<Object> ids = accessStrategy.insertAll(
+				asList(new DummyEntity(1L), new DummyEntity(2L), new DummyEntity(null), new DummyEntity(3L),
+						new DummyEntity(4L)),
+				DummyEntity.class, nCopies(5, Identifier.empty()));
+
+		assertThat(ids).containsExactly(null, null, GENERATED_ID, null, null);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations, times(2)).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+
+		assertThat(sqlCaptor.getAllValues()).allSatisfy(sql -> assertThat(sql).endsWith("VALUES (:id_0), (:id_1)"));
+	}
+
+	@Test
+	public void insertsRowsOneByOneWithoutDialectSupport() {
+
+		accessStrategy.insertAll(asList(new DummyEntity(1L), new DummyEntity(2L)), DummyEntity.class,
+				asList(Identifier.empty(), Identifier.empty()));
+
+		verify(namedJdbcOperations, times(2)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	public void upsertFallsBackToUpdateAndInsertWithoutDialectSupport() {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		accessStrategy.upsert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, Identifier.empty());
+
+		verify(namedJdbcOperations, times(2)).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+
+		assertThat(sqlCaptor.getAllValues().get(0)).startsWith("UPDATE \"DUMMY_ENTITY\"");
+		assertThat(sqlCaptor.getAllValues().get(1)).startsWith("INSERT INTO \"DUMMY_ENTITY\"");
+	}
+
 	@Test // DATAJDBC-235
 	public void considersConfiguredWriteConverter() {
 
@@ -223,6 +339,178 @@ public class DefaultDataAccessStrategyUnitTests {
 				paramSourceCaptor.capture(), any(KeyHolder.class));
 	}
 
+	@Test
+	public void positionalParametersBypassNamedParameterParsing() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		accessStrategy.setPositionalParameters(true);
+
+		accessStrategy.insert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, Identifier.from(additionalParameters));
+		accessStrategy.delete(ORIGINAL_ID, DummyEntity.class);
+
+		verify(jdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (?)"),
+				any(PreparedStatementSetter.class));
+		verify(jdbcOperations).update(eq("DELETE FROM \"DUMMY_ENTITY\" WHERE \"DUMMY_ENTITY\".\"ID\" = ?"),
+				any(PreparedStatementSetter.class));
+		verifyNoInteractions(ignoreStubs(namedJdbcOperations));
+	}
+
+	@Test
+	public void readsFromReplicaOutsideOfReadWriteTransaction() {
+
+		NamedParameterJdbcOperations replica = mock(NamedParameterJdbcOperations.class);
+		accessStrategy.setReadOnlyOperations(replica);
+
+		accessStrategy.findAll(DummyEntity.class);
+
+		verify(replica).query(anyString(), any(RowMapper.class));
+		verifyNoInteractions(namedJdbcOperations);
+	}
+
+	@Test
+	public void readsFromPrimaryWithinReadWriteTransaction() {
+
+		NamedParameterJdbcOperations replica = mock(NamedParameterJdbcOperations.class);
+		accessStrategy.setReadOnlyOperations(replica);
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			accessStrategy.findAll(DummyEntity.class);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		verify(namedJdbcOperations).query(anyString(), any(RowMapper.class));
+		verifyNoInteractions(replica);
+	}
+
+	@Test
+	public void acquiresLocksOnPrimary() {
+
+		NamedParameterJdbcOperations replica = mock(NamedParameterJdbcOperations.class);
+		accessStrategy.setReadOnlyOperations(replica);
+
+		accessStrategy.acquireLockById(ORIGINAL_ID, LockMode.PESSIMISTIC_WRITE, DummyEntity.class);
+
+		verify(namedJdbcOperations).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+		verifyNoInteractions(replica);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void updatesChangedColumnsOfDynamicUpdateEntitiesOnly() throws Exception {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(3);
+		when(metaData.getColumnLabel(1)).thenReturn("ID");
+		when(metaData.getColumnLabel(2)).thenReturn("NAME");
+		when(metaData.getColumnLabel(3)).thenReturn("DESCRIPTION");
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.getObject(1)).thenReturn(ORIGINAL_ID);
+		when(resultSet.getObject(2)).thenReturn("name");
+		when(resultSet.getObject(3)).thenReturn("description");
+
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenAnswer(invocation -> invocation.getArgument(2, RowMapper.class).mapRow(resultSet, 0));
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Integer.class)))
+				.thenReturn(1);
+
+		DynamicUpdateEntity entity = accessStrategy.findById(ORIGINAL_ID, DynamicUpdateEntity.class);
+		entity.name = "changed";
+
+		assertThat(accessStrategy.update(entity, DynamicUpdateEntity.class)).isTrue();
+		assertThat(accessStrategy.update(entity, DynamicUpdateEntity.class)).isTrue();
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+		verify(namedJdbcOperations).queryForObject(startsWith("SELECT COUNT"), any(SqlParameterSource.class),
+				eq(Integer.class));
+
+		assertThat(sqlCaptor.getValue()) //
+				.startsWith("UPDATE \"DYNAMIC_UPDATE_ENTITY\" SET \"NAME\" = :") //
+				.doesNotContain("DESCRIPTION");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void dropsStateLoadedWithinRolledBackTransaction() throws Exception {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(3);
+		when(metaData.getColumnLabel(1)).thenReturn("ID");
+		when(metaData.getColumnLabel(2)).thenReturn("NAME");
+		when(metaData.getColumnLabel(3)).thenReturn("DESCRIPTION");
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.getObject(1)).thenReturn(ORIGINAL_ID);
+		when(resultSet.getObject(2)).thenReturn("name");
+		when(resultSet.getObject(3)).thenReturn("description");
+
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenAnswer(invocation -> invocation.getArgument(2, RowMapper.class).mapRow(resultSet, 0));
+
+		TransactionSynchronizationManager.initSynchronization();
+		DynamicUpdateEntity entity;
+		try {
+			entity = accessStrategy.findById(ORIGINAL_ID, DynamicUpdateEntity.class);
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		entity.name = "changed";
+		accessStrategy.update(entity, DynamicUpdateEntity.class);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+
+		assertThat(sqlCaptor.getValue()).contains("\"NAME\"", "\"DESCRIPTION\"");
+	}
+
+	@Test
+	public void updatesAllColumnsOfDynamicUpdateEntitiesWithoutLoadedState() {
+
+		DynamicUpdateEntity entity = new DynamicUpdateEntity();
+		entity.id = ORIGINAL_ID;
+
+		accessStrategy.update(entity, DynamicUpdateEntity.class);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+
+		assertThat(sqlCaptor.getValue()).contains("\"NAME\"", "\"DESCRIPTION\"");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamsAllEntitiesFetchingRowsInChunks() throws SQLException {
+
+		DummyEntity entity = new DummyEntity(ORIGINAL_ID);
+		ArgumentCaptor<PreparedStatementCreator> creatorCaptor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.queryForStream(creatorCaptor.capture(), any(RowMapper.class))).thenReturn(Stream.of(entity));
+
+		accessStrategy.setStreamFetchSize(50);
+
+		try (Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class)) {
+			assertThat(stream).containsExactly(entity);
+		}
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		assertThat(creatorCaptor.getValue().createPreparedStatement(connection)).isSameAs(statement);
+		assertThat(((SqlProvider) creatorCaptor.getValue()).getSql()).startsWith("SELECT").contains("FROM \"DUMMY_ENTITY\"");
+		verify(connection).prepareStatement(((SqlProvider) creatorCaptor.getValue()).getSql());
+		verify(statement).setFetchSize(50);
+	}
+
 	private DefaultDataAccessStrategy createAccessStrategyWithConverter(List<?> converters) {
 		DelegatingDataAccessStrategy relationResolver = new DelegatingDataAccessStrategy();
 
@@ -247,6 +535,26 @@ public class DefaultDataAccessStrategyUnitTests {
 		@Id private final Long id;
 	}
 
+	private static class WideEntity {
+
+		@Id Long id;
+		String one;
+		String two;
+		String three;
+
+		WideEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	@DynamicUpdate
+	private static class DynamicUpdateEntity {
+
+		@Id Long id;
+		String name;
+		String description;
+	}
+
 	@RequiredArgsConstructor // DATAJDBC-349
 	private static class DummyEntityRoot {
 
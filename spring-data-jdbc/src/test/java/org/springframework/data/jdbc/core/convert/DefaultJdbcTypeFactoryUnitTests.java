@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.SqlTypeValue;
+
+/**
+ * Unit tests for {@link DefaultJdbcTypeFactory}.
+ */
+public class DefaultJdbcTypeFactoryUnitTests {
+
+	JdbcOperations operations = mock(JdbcOperations.class);
+	DefaultJdbcTypeFactory typeFactory = new DefaultJdbcTypeFactory(operations);
+
+	PreparedStatement statement = mock(PreparedStatement.class);
+	Array array = mock(Array.class);
+
+	@Test
+	public void createsArrayUsingConnectionOfStatement() throws SQLException {
+
+		Connection connection = mock(Connection.class);
+		when(statement.getConnection()).thenReturn(connection);
+		when(connection.unwrap(Connection.class)).thenReturn(connection);
+		when(connection.createArrayOf("BIGINT", new Object[] { 1L, 2L })).thenReturn(array);
+
+		bind(typeFactory.createArrayValue(new long[] { 1L, 2L }));
+
+		verify(statement).setObject(1, array, Types.ARRAY);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	public void passesArraysOfPrimitivesToDriverSupportingThem() throws SQLException {
+
+		PrimitiveArrayConnection connection = mock(PrimitiveArrayConnection.class);
+		long[] elements = { 1L, 2L };
+		when(statement.getConnection()).thenReturn(connection);
+		when(connection.unwrap(Connection.class)).thenReturn(connection);
+		when(connection.createArrayOf("BIGINT", (Object) elements)).thenReturn(array);
+
+		bind(typeFactory.createArrayValue(elements));
+
+		verify(statement).setObject(1, array, Types.ARRAY);
+		verify(connection, never()).createArrayOf(anyString(), any(Object[].class));
+	}
+
+	private void bind(Object value) throws SQLException {
+
+		assertThat(value).isInstanceOf(SqlTypeValue.class);
+
+		((SqlTypeValue) value).setTypeValue(statement, 1, Types.ARRAY, null);
+	}
+
+	public static abstract class PrimitiveArrayConnection implements Connection {
+
+		public abstract Array createArrayOf(String typeName, Object elements) throws SQLException;
+	}
+}
@@ -38,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +64,8 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
@@ -223,6 +227,87 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 2);
 	}
 
+	@Test
+	public void relationsOfAggregateRootGetLoadedUsingExecutor() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		AtomicInteger submitted = new AtomicInteger();
+		TwoSets extracted = createRowMapper(TwoSets.class, command -> {
+			submitted.incrementAndGet();
+			command.run();
+		}).mapRow(rs, 1);
+
+		assertThat(submitted).hasValue(2);
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.first.size(), e -> e.second.size()) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, 2, 2);
+	}
+
+	@Test
+	public void singleRelationGetsLoadedWithoutExecutor() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		AtomicInteger submitted = new AtomicInteger();
+		OneToSet extracted = createRowMapper(OneToSet.class, command -> {
+			submitted.incrementAndGet();
+			command.run();
+		}).mapRow(rs, 1);
+
+		assertThat(submitted).hasValue(0);
+		assertThat(extracted.children).hasSize(2);
+	}
+
+	@Test
+	public void relationsGetLoadedWithoutExecutorWhenMappingMultipleRows() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		AtomicInteger submitted = new AtomicInteger();
+		TwoSets extracted = createRowMapper(TwoSets.class, NamingStrategy.INSTANCE, command -> {
+			submitted.incrementAndGet();
+			command.run();
+		}, false).mapRow(rs, 1);
+
+		assertThat(submitted).hasValue(0);
+		assertThat(extracted.first).hasSize(2);
+		assertThat(extracted.second).hasSize(2);
+	}
+
+	@Test
+	public void relationsGetLoadedWithoutExecutorWithinTransaction() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		AtomicInteger submitted = new AtomicInteger();
+		EntityRowMapper<TwoSets> rowMapper = createRowMapper(TwoSets.class, command -> {
+			submitted.incrementAndGet();
+			command.run();
+		});
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TwoSets extracted;
+		try {
+			extracted = rowMapper.mapRow(rs, 1);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertThat(submitted).hasValue(0);
+		assertThat(extracted.first).hasSize(2);
+		assertThat(extracted.second).hasSize(2);
+	}
+
 	@Test // DATAJDBC-131
 	public void mapReferenceGetsLoadedWithAdditionalSelect() throws SQLException {
 
@@ -731,6 +816,13 @@ public class EntityRowMapperUnitTests {
 		Set<Trivial> children;
 	}
 
+	static class TwoSets {
+
+		@Id Long id;
+		Set<Trivial> first;
+		Set<Trivial> second;
+	}
+
 	static class OneToMap {
 
 		@Id Long id;
@@ -860,6 +952,37 @@ public class EntityRowMapperUnitTests {
 	}
 
 	// Infrastructure for assertions and constructing mocks
+	@Test
+	public void relationsGetLoadedWithoutExecutorForSchemaPerCall() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		ThreadLocal<String> tenant = ThreadLocal.withInitial(() -> "tenant_a");
+		NamingStrategy perTenantSchema = new NamingStrategy() {
+
+			@Override
+			public String getSchema() {
+				return tenant.get();
+			}
+
+			@Override
+			public boolean isSchemaPerCall() {
+				return true;
+			}
+		};
+
+		AtomicInteger submitted = new AtomicInteger();
+		TwoSets extracted = createRowMapper(TwoSets.class, perTenantSchema, command -> {
+			submitted.incrementAndGet();
+			command.run();
+		}, true).mapRow(rs, 1);
+
+		assertThat(submitted).hasValue(0);
+		assertThat(extracted.first).hasSize(2);
+		assertThat(extracted.second).hasSize(2);
+	}
 
 	private <T> FixtureBuilder<T> buildFixture() {
 		return new FixtureBuilder<>();
@@ -869,8 +992,17 @@ public class EntityRowMapperUnitTests {
 		return createRowMapper(type, NamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, Executor relationLoadingExecutor) {
+		return createRowMapper(type, NamingStrategy.INSTANCE, relationLoadingExecutor, true);
+	}
+
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, null, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			@Nullable Executor relationLoadingExecutor, boolean singleRow) {
 
 		RelationalMappingContext context = new JdbcMappingContext(namingStrategy);
 
@@ -906,10 +1038,12 @@ public class EntityRowMapperUnitTests {
 
 		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
 				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+		converter.setRelationLoadingExecutor(relationLoadingExecutor);
 
 		return new EntityRowMapper<>( //
 				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
-				converter //
+				converter, //
+				singleRow //
 		);
 	}
 
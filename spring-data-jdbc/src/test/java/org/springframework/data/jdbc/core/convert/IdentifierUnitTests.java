@@ -132,4 +132,33 @@ public class IdentifierUnitTests {
 			softly.assertThat(map.get("OTHER")).describedAs("OTHER").isNull();
 		});
 	}
+
+	@Test
+	public void identifierPartsCanBeLookedUpByReference() {
+
+		Identifier id = Identifier.of(unquoted("aName"), "one", String.class) //
+				.withPart(quoted("Other"), "two", String.class);
+
+		assertSoftly(softly -> {
+			softly.assertThat(id.get("aName")).describedAs("aName").isEqualTo("one");
+			softly.assertThat(id.get("Other")).describedAs("Other").isEqualTo("two");
+			softly.assertThat(id.get("other")).describedAs("other").isNull();
+		});
+	}
+
+	@Test
+	public void withPartLeavesOriginalUnchanged() {
+
+		Identifier original = Identifier.of(unquoted("aName"), "one", String.class);
+
+		Identifier overwritten = original.withPart(unquoted("aName"), "two", String.class);
+		Identifier extended = original.withPart(unquoted("other"), "three", String.class);
+
+		assertThat(original.get("aName")).isEqualTo("one");
+		assertThat(original.size()).isEqualTo(1);
+		assertThat(overwritten.get("aName")).isEqualTo("two");
+		assertThat(extended.size()).isEqualTo(2);
+		assertThat(extended).isEqualTo(Identifier.of(unquoted("aName"), "one", String.class) //
+				.withPart(unquoted("other"), "three", String.class));
+	}
 }
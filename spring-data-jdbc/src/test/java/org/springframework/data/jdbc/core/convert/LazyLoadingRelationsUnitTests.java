@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.LazyLoadingRelation;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link LazyLoadingRelations}.
+ */
+public class LazyLoadingRelationsUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(LazyEntity.class);
+	AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	public void supportsLazyInterfaceTypesOnly() {
+
+		assertThat(LazyLoadingRelations.supports(entity.getRequiredPersistentProperty("list"))).isTrue();
+		assertThat(LazyLoadingRelations.supports(entity.getRequiredPersistentProperty("map"))).isTrue();
+		assertThat(LazyLoadingRelations.supports(entity.getRequiredPersistentProperty("array"))).isFalse();
+		assertThat(LazyLoadingRelations.supports(entity.getRequiredPersistentProperty("eager"))).isFalse();
+	}
+
+	@Test
+	public void loadsListOnFirstAccessOnly() {
+
+		List<?> list = (List<?>) create("list", Arrays.asList(new Element(), new Element()));
+
+		assertThat(((LazyLoadingRelation) list).isResolved()).isFalse();
+		assertThat(loads).hasValue(0);
+
+		assertThat(list).hasSize(2);
+		assertThat(list.get(1)).isNotNull();
+
+		assertThat(((LazyLoadingRelation) list).isResolved()).isTrue();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void loadsSetsAndMaps() {
+
+		Element element = new Element();
+
+		assertThat((Set<?>) create("set", Arrays.asList(element, element))).containsExactly(element);
+		assertThat((Map<?, ?>) create("map", Arrays.asList(new SimpleEntry<>("key", element))))
+				.containsEntry("key", element);
+	}
+
+	private Object create(String property, List<Object> elements) {
+
+		RelationalPersistentProperty persistentProperty = entity.getRequiredPersistentProperty(property);
+		Supplier<Iterable<Object>> loader = () -> {
+			loads.incrementAndGet();
+			return elements;
+		};
+
+		return LazyLoadingRelations.create(persistentProperty, loader, entries -> {
+
+			Map<Object, Object> map = new LinkedHashMap<>();
+			entries.forEach(it -> map.put(((Map.Entry<?, ?>) it).getKey(), ((Map.Entry<?, ?>) it).getValue()));
+			return map;
+		});
+	}
+
+	@SuppressWarnings("unused")
+	static class LazyEntity {
+
+		@Id Long id;
+		@MappedCollection(lazy = true) List<Element> list;
+		@MappedCollection(lazy = true) Set<Element> set;
+		@MappedCollection(lazy = true) Map<String, Element> map;
+		@MappedCollection(lazy = true) Element[] array;
+		List<Element> eager;
+	}
+
+	static class Element {}
+}
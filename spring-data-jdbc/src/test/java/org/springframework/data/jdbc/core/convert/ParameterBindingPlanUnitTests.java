@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.SoftAssertions.*;
+
+import lombok.AllArgsConstructor;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link ParameterBindingPlan}.
+ */
+public class ParameterBindingPlanUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	@Test
+	public void bindsSimpleConvertedAndEmbeddedValues() {
+
+		LocalDateTime now = LocalDateTime.of(2021, 4, 1, 12, 0);
+		DummyEntity entity = new DummyEntity(23L, "Alfred", Color.GREEN, now, new Address("Main Street", 42));
+
+		SqlIdentifierParameterSource parameters = planFor(DummyEntity.class).bind(entity, false, 0);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(parameters.getValue("id")).isEqualTo(23L);
+			softly.assertThat(parameters.getSqlType("id")).isEqualTo(Types.BIGINT);
+			softly.assertThat(parameters.getValue("name")).isEqualTo("Alfred");
+			softly.assertThat(parameters.getSqlType("name")).isEqualTo(Types.VARCHAR);
+			softly.assertThat(parameters.getValue("color")).isEqualTo("GREEN");
+			softly.assertThat(parameters.getValue("created")).isEqualTo(Timestamp.valueOf(now));
+			softly.assertThat(parameters.getValue("address_street")).isEqualTo("Main Street");
+			softly.assertThat(parameters.getValue("address_number")).isEqualTo(42);
+			softly.assertThat(parameters.getSqlType("address_number")).isEqualTo(Types.INTEGER);
+		});
+	}
+
+	@Test
+	public void skipsIdPropertiesWhenRequested() {
+
+		DummyEntity entity = new DummyEntity(23L, "Alfred", null, null, null);
+
+		SqlIdentifierParameterSource parameters = planFor(DummyEntity.class).bind(entity, true, 0);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(parameters.hasValue("id")).isFalse();
+			softly.assertThat(parameters.hasValue("color")).isTrue();
+			softly.assertThat(parameters.getValue("color")).isNull();
+			softly.assertThat(parameters.getValue("address_street")).isNull();
+			softly.assertThat(parameters.getSqlType("address_street")).isEqualTo(Types.VARCHAR);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ParameterBindingPlan<T> planFor(Class<T> type) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type);
+		return ParameterBindingPlan.of(entity, context, converter, IdentifierProcessing.NONE);
+	}
+
+	@AllArgsConstructor
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		Color color;
+		LocalDateTime created;
+		@Embedded.Nullable(prefix = "address_") Address address;
+	}
+
+	@AllArgsConstructor
+	static class Address {
+
+		String street;
+		int number;
+	}
+
+	enum Color {
+		RED, GREEN
+	}
+}
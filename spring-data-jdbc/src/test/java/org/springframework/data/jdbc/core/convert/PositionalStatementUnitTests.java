@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link PositionalStatement}.
+ */
+public class PositionalStatementUnitTests {
+
+	@Test
+	public void replacesNamedParametersInOrder() {
+
+		PositionalStatement statement = PositionalStatement
+				.of("UPDATE \"T\" SET \"NAME\" = :name, \"AGE\" = :age WHERE \"T\".\"ID\" = :id");
+
+		assertThat(statement.getPositionalSql())
+				.isEqualTo("UPDATE \"T\" SET \"NAME\" = ?, \"AGE\" = ? WHERE \"T\".\"ID\" = ?");
+		assertThat(statement.getParameterCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void leavesQuotedTextAndCastsAlone() {
+
+		PositionalStatement statement = PositionalStatement
+				.of("SELECT \"a:b\", [c:d], 'e:f', x::text FROM t WHERE t.id = :id");
+
+		assertThat(statement.getPositionalSql())
+				.isEqualTo("SELECT \"a:b\", [c:d], 'e:f', x::text FROM t WHERE t.id = ?");
+		assertThat(statement.getParameterCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void bindsValuesByPosition() throws Exception {
+
+		PositionalStatement statement = PositionalStatement.of("SELECT * FROM t WHERE a = :a AND b = :b AND c = :a");
+
+		MapSqlParameterSource parameters = new MapSqlParameterSource() //
+				.addValue("b", "two", Types.VARCHAR) //
+				.addValue("a", 1L, Types.BIGINT);
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		statement.bind(parameters).setValues(preparedStatement);
+
+		verify(preparedStatement).setObject(1, 1L, Types.BIGINT);
+		verify(preparedStatement).setString(2, "two");
+		verify(preparedStatement).setObject(3, 1L, Types.BIGINT);
+	}
+
+	@Test
+	public void translatesOnFirstUseOnly() {
+
+		PositionalStatement statement = PositionalStatement.of("SELECT * FROM t WHERE a = :a");
+
+		assertThat(statement.getNamedSql()).isEqualTo("SELECT * FROM t WHERE a = :a");
+		assertThat(ReflectionTestUtils.getField(statement, "translation")).isNull();
+
+		assertThat(statement.getPositionalSql()).isEqualTo("SELECT * FROM t WHERE a = ?");
+		assertThat(ReflectionTestUtils.getField(statement, "translation")).isNotNull();
+	}
+
+	@Test
+	public void rejectsMissingParameter() {
+
+		PositionalStatement statement = PositionalStatement.of("SELECT * FROM t WHERE a = :a");
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> statement.bind(new MapSqlParameterSource()));
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResultSetAccessor}.
+ */
+public class ResultSetAccessorUnitTests {
+
+	ResultSet resultSet = mock(ResultSet.class);
+	Blob blob = mock(Blob.class);
+
+	@BeforeEach
+	public void before() throws SQLException {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(1);
+		when(metaData.getColumnLabel(1)).thenReturn("CONTENT");
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.getBlob(1)).thenReturn(blob);
+	}
+
+	@Test
+	public void returnsLargeObjectsAsHandle() throws SQLException {
+
+		ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+
+		assertThat(accessor.getObject("content", Blob.class)).isSameAs(blob);
+
+		verify(resultSet, never()).getObject(1);
+		verifyNoInteractions(blob);
+	}
+
+	@Test
+	public void streamsLargeObjectsFromHandle() throws SQLException {
+
+		InputStream stream = mock(InputStream.class);
+		when(blob.getBinaryStream()).thenReturn(stream);
+
+		ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+
+		assertThat(accessor.getObject("content", InputStream.class)).isSameAs(stream);
+
+		verify(resultSet, never()).getBytes(1);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.Sequence;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Unit tests for {@link SequenceIdAllocator}.
+ */
+public class SequenceIdAllocatorUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcOperations operations = mock(JdbcOperations.class);
+
+	@Test
+	public void reservesBlockOfIdsPerSequenceCall() {
+
+		when(operations.queryForObject("SELECT NEXT VALUE FOR \"pooled_seq\"", Long.class)).thenReturn(10L, 13L);
+
+		SequenceIdAllocator allocator = new SequenceIdAllocator(H2Dialect.INSTANCE.getIdGeneration(), operations);
+
+		assertThat(allocator.allocate(context.getRequiredPersistentEntity(PooledEntity.class))).isEqualTo(10L);
+		assertThat(allocator.allocate(context.getRequiredPersistentEntity(PooledEntity.class))).isEqualTo(11L);
+		assertThat(allocator.allocate(context.getRequiredPersistentEntity(PooledEntity.class))).isEqualTo(12L);
+		assertThat(allocator.allocate(context.getRequiredPersistentEntity(PooledEntity.class))).isEqualTo(13L);
+
+		verify(operations, times(2)).queryForObject("SELECT NEXT VALUE FOR \"pooled_seq\"", Long.class);
+	}
+
+	@Test
+	public void keepsBlocksPerSchemaOfTheEntity() {
+
+		TenantNamingStrategy namingStrategy = new TenantNamingStrategy();
+		RelationalMappingContext tenantContext = new JdbcMappingContext(namingStrategy);
+		RelationalPersistentEntity<?> entity = tenantContext.getRequiredPersistentEntity(PooledEntity.class);
+
+		when(operations.queryForObject(anyString(), eq(Long.class))).thenReturn(10L, 20L);
+
+		SequenceIdAllocator allocator = new SequenceIdAllocator(H2Dialect.INSTANCE.getIdGeneration(), operations);
+
+		namingStrategy.tenant = "tenant_a";
+		assertThat(allocator.allocate(entity)).isEqualTo(10L);
+
+		namingStrategy.tenant = "tenant_b";
+		assertThat(allocator.allocate(entity)).isEqualTo(20L);
+
+		namingStrategy.tenant = "tenant_a";
+		assertThat(allocator.allocate(entity)).isEqualTo(11L);
+
+		ArgumentCaptor<String> queries = ArgumentCaptor.forClass(String.class);
+		verify(operations, times(2)).queryForObject(queries.capture(), eq(Long.class));
+
+		assertThat(queries.getAllValues().get(0)).containsIgnoringCase("tenant_a").contains("\"pooled_seq\"");
+		assertThat(queries.getAllValues().get(1)).containsIgnoringCase("tenant_b").contains("\"pooled_seq\"");
+	}
+
+	@Test
+	public void returnsNullWithoutSequence() {
+
+		SequenceIdAllocator allocator = new SequenceIdAllocator(H2Dialect.INSTANCE.getIdGeneration(), operations);
+
+		assertThat(allocator.allocate(context.getRequiredPersistentEntity(PlainEntity.class))).isNull();
+
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	public void rejectsSequenceWithoutDialectSupport() {
+
+		SequenceIdAllocator allocator = new SequenceIdAllocator(IdGeneration.DEFAULT, operations);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> allocator.allocate(context.getRequiredPersistentEntity(PooledEntity.class)));
+	}
+
+	static class PooledEntity {
+		@Id @Sequence(value = "pooled_seq", allocationSize = 3) Long id;
+	}
+
+	static class PlainEntity {
+		@Id Long id;
+	}
+
+	static class TenantNamingStrategy implements NamingStrategy {
+
+		String tenant = "";
+
+		@Override
+		public String getSchema() {
+			return tenant;
+		}
+
+		@Override
+		public boolean isSchemaPerCall() {
+			return true;
+		}
+	}
+}
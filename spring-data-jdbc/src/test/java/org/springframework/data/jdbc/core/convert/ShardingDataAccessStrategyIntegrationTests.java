@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.testing.TestUtils;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Integration tests for {@link ShardingDataAccessStrategy} using an embedded H2 database per shard.
+ */
+public class ShardingDataAccessStrategyIntegrationTests {
+
+	// ids generated by shard i start at i * SHARD_SIZE + 1, so they are unique across shards
+	static final int SHARD_SIZE = 1000;
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	List<EmbeddedDatabase> databases = new ArrayList<>();
+	List<JdbcOperations> shardOperations = new ArrayList<>();
+
+	JdbcAggregateTemplate template;
+
+	@BeforeEach
+	public void before() {
+
+		DelegatingDataAccessStrategy accessStrategy = new DelegatingDataAccessStrategy();
+		List<DataAccessStrategy> shards = new ArrayList<>();
+		JdbcConverter converter = null;
+
+		for (int i = 0; i < 2; i++) {
+
+			EmbeddedDatabase database = new EmbeddedDatabaseBuilder() //
+					.generateUniqueName(true) //
+					.setType(EmbeddedDatabaseType.H2) //
+					.addScript(TestUtils.createScriptName(getClass(), "h2")) //
+					.build();
+			databases.add(database);
+
+			NamedParameterJdbcTemplate operations = new NamedParameterJdbcTemplate(database);
+			operations.getJdbcOperations()
+					.execute("ALTER TABLE CUSTOMER ALTER COLUMN ID RESTART WITH " + (i * SHARD_SIZE + 1));
+			shardOperations.add(operations.getJdbcOperations());
+
+			converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+					new DefaultJdbcTypeFactory(operations.getJdbcOperations()), H2Dialect.INSTANCE.getIdentifierProcessing());
+			shards.add(new DefaultDataAccessStrategy( //
+					new SqlGeneratorSource(context, converter, H2Dialect.INSTANCE), //
+					context, //
+					converter, //
+					operations));
+		}
+
+		ShardingDataAccessStrategy sharding = new ShardingDataAccessStrategy(shards,
+				(aggregateRoot, shardCount) -> ShardResolver.hash(((Customer) aggregateRoot).customerId, shardCount), context);
+		sharding.setQueryExecutor(ForkJoinPool.commonPool());
+		accessStrategy.setDelegate(sharding);
+
+		template = new JdbcAggregateTemplate(mock(ApplicationEventPublisher.class), context, converter, accessStrategy);
+	}
+
+	@AfterEach
+	public void after() {
+		databases.forEach(EmbeddedDatabase::shutdown);
+	}
+
+	@Test
+	public void storesAggregatesInTheDatabaseOfTheirShard() {
+
+		Customer even = template.save(customer(2L, "even", "Main Street"));
+		Customer odd = template.save(customer(3L, "odd", "Side Street", "Back Street"));
+
+		assertThat(even.id).isBetween(1L, (long) SHARD_SIZE);
+		assertThat(odd.id).isGreaterThan((long) SHARD_SIZE);
+
+		assertThat(countRows(0, "CUSTOMER")).isEqualTo(1);
+		assertThat(countRows(0, "ADDRESS")).isEqualTo(1);
+		assertThat(countRows(1, "CUSTOMER")).isEqualTo(1);
+		assertThat(countRows(1, "ADDRESS")).isEqualTo(2);
+
+		assertThat(template.count(Customer.class)).isEqualTo(2L);
+		assertThat(template.existsById(odd.id, Customer.class)).isTrue();
+	}
+
+	@Test
+	public void loadsRelationsFromTheShardOfTheirRoot() {
+
+		Customer customer = template.save(customer(3L, "odd", "Side Street"));
+		addStrayAddress(0, customer.id);
+
+		assertThat(streets(template.findById(customer.id, Customer.class))).containsExactly("Side Street");
+		assertThat(streets(template.findAll(Customer.class).iterator().next())).containsExactly("Side Street");
+	}
+
+	@Test
+	public void loadsLazyRelationsFromTheShardOfTheirRootWithIdsCollidingAcrossShards() {
+
+		shardOperations.get(1).execute("ALTER TABLE CUSTOMER ALTER COLUMN ID RESTART WITH 1");
+
+		Customer even = customer(2L, "even");
+		even.purchases.add(new Purchase("shoes"));
+		Customer odd = customer(3L, "odd");
+		odd.purchases.add(new Purchase("socks"));
+		template.save(even);
+		template.save(odd);
+
+		assertThat(odd.id).isEqualTo(even.id);
+
+		// the lazy relations get resolved after the query released the binding of its shard
+		assertThat(template.findAll(Customer.class)).extracting(ShardingDataAccessStrategyIntegrationTests::items) //
+				.containsExactly(singletonList("shoes"), singletonList("socks"));
+	}
+
+	@Test
+	public void streamsAggregatesWithRelationsFromTheShardOfTheirRoot() {
+
+		Customer even = template.save(customer(2L, "even", "Main Street"));
+		Customer odd = template.save(customer(3L, "odd", "Side Street"));
+		addStrayAddress(0, odd.id);
+		addStrayAddress(1, even.id);
+
+		try (Stream<Customer> customers = template.streamAll(Customer.class)) {
+
+			assertThat(customers.flatMap(it -> streets(it).stream()).collect(Collectors.toList())) //
+					.containsExactly("Main Street", "Side Street");
+		}
+	}
+
+	@Test
+	public void updatesAggregatesInTheDatabaseOfTheirShard() {
+
+		Customer customer = template.save(customer(3L, "odd", "Side Street"));
+		customer.name = "renamed";
+		customer.addresses.clear();
+		customer.addresses.add(new Address("Back Street"));
+
+		template.save(customer);
+
+		Customer reloaded = template.findById(customer.id, Customer.class);
+		assertThat(reloaded.name).isEqualTo("renamed");
+		assertThat(streets(reloaded)).containsExactly("Back Street");
+		assertThat(countRows(0, "CUSTOMER")).isZero();
+	}
+
+	@Test
+	public void mergesSortedPagesOfAllShards() {
+
+		for (long customerId = 0; customerId < 6; customerId++) {
+			template.save(customer(customerId, customerId == 0 ? null : String.valueOf((char) ('a' + customerId))));
+		}
+
+		assertThat(template.findAll(Customer.class, Sort.by("name"))).extracting(it -> it.name) //
+				.containsExactly(null, "b", "c", "d", "e", "f");
+		assertThat(template.findAll(Customer.class, PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name"))))
+				.extracting(it -> it.name) //
+				.containsExactly("d", "c");
+	}
+
+	@Test
+	public void deletesAggregatesOfAllShards() {
+
+		Customer even = template.save(customer(2L, "even", "Main Street"));
+		template.save(customer(3L, "odd", "Side Street"));
+
+		template.deleteById(even.id, Customer.class);
+
+		assertThat(countRows(0, "CUSTOMER")).isZero();
+		assertThat(countRows(0, "ADDRESS")).isZero();
+		assertThat(countRows(1, "CUSTOMER")).isEqualTo(1);
+
+		template.deleteAll(Customer.class);
+
+		assertThat(countRows(1, "CUSTOMER")).isZero();
+		assertThat(countRows(1, "ADDRESS")).isZero();
+	}
+
+	private int countRows(int shard, String table) {
+		return shardOperations.get(shard).queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	/**
+	 * Adds an address referencing {@code customerId} to a shard that doesn't store that customer, which must never get
+	 * loaded.
+	 */
+	private void addStrayAddress(int shard, long customerId) {
+		shardOperations.get(shard).update("INSERT INTO ADDRESS (CUSTOMER, STREET) VALUES (?, 'Stray Street')", customerId);
+	}
+
+	private static List<String> streets(Customer customer) {
+		return customer.addresses.stream().map(it -> it.street).sorted().collect(Collectors.toList());
+	}
+
+	private static List<String> items(Customer customer) {
+		return customer.purchases.stream().map(it -> it.item).sorted().collect(Collectors.toList());
+	}
+
+	private static Customer customer(long customerId, String name, String... streets) {
+
+		Customer customer = new Customer();
+		customer.customerId = customerId;
+		customer.name = name;
+		for (String street : streets) {
+			customer.addresses.add(new Address(street));
+		}
+		return customer;
+	}
+
+	static class Customer {
+
+		@Id Long id;
+		long customerId;
+		String name;
+		Set<Address> addresses = new HashSet<>();
+		@MappedCollection(lazy = true) Set<Purchase> purchases = new HashSet<>();
+	}
+
+	static class Purchase {
+
+		String item;
+
+		Purchase(String item) {
+			this.item = item;
+		}
+	}
+
+	static class Address {
+
+		String street;
+
+		Address(String street) {
+			this.street = street;
+		}
+	}
+}
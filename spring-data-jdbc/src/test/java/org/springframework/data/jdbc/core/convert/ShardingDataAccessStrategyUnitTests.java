@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
+
+/**
+ * Unit tests for {@link ShardingDataAccessStrategy}.
+ */
+public class ShardingDataAccessStrategyUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	DataAccessStrategy shard0 = mock(DataAccessStrategy.class);
+	DataAccessStrategy shard1 = mock(DataAccessStrategy.class);
+
+	ShardingDataAccessStrategy strategy = new ShardingDataAccessStrategy(asList(shard0, shard1), new CustomerShardResolver(),
+			context);
+
+	@Test
+	public void routesAllEntitiesOfAnAggregateToTheShardOfItsRoot() {
+
+		Customer customer = new Customer(1L, 7L);
+		Order order = new Order();
+		Identifier backReference = Identifier.of(unquoted("customer"), 1L, Long.class);
+
+		strategy.insert(customer, Customer.class, Identifier.empty());
+		strategy.insert(order, Order.class, backReference);
+		strategy.flush();
+		strategy.afterAggregateChange();
+
+		verify(shard1).insert(customer, Customer.class, Identifier.empty());
+		verify(shard1).insert(order, Order.class, backReference);
+		verify(shard0, never()).insert(any(), any(), any());
+
+		assertThatIllegalStateException().isThrownBy(() -> strategy.insert(order, Order.class, backReference));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void updatesEachRootInItsOwnShard() {
+
+		Customer first = new Customer(1L, 7L);
+		Customer second = new Customer(2L, 8L);
+		Order order = new Order();
+		PersistentPropertyPath<RelationalPersistentProperty> path = mock(PersistentPropertyPath.class);
+
+		strategy.update(first, Customer.class);
+		strategy.update(second, Customer.class);
+		strategy.update(order, Order.class, path);
+
+		verify(shard1).update(first, Customer.class);
+		verify(shard0).update(second, Customer.class);
+		verify(shard0).update(order, Order.class, path);
+	}
+
+	@Test
+	public void modifiesAllShardsOnTheCallingThread() {
+
+		Executor executor = mock(Executor.class);
+		strategy.setQueryExecutor(executor);
+
+		strategy.deleteAll(Customer.class);
+		strategy.acquireLockAll(LockMode.PESSIMISTIC_WRITE, Customer.class);
+		strategy.flush();
+
+		verify(shard0).deleteAll(Customer.class);
+		verify(shard1).deleteAll(Customer.class);
+		verify(shard0).acquireLockAll(LockMode.PESSIMISTIC_WRITE, Customer.class);
+		verify(shard1).acquireLockAll(LockMode.PESSIMISTIC_WRITE, Customer.class);
+		verifyNoInteractions(executor);
+	}
+
+	@Test
+	public void queriesAllShardsWithoutShardKey() {
+
+		Customer customer = new Customer(1L, 7L);
+		when(shard1.findById(1L, Customer.class)).thenReturn(customer);
+		when(shard0.count(Customer.class)).thenReturn(3L);
+		when(shard1.count(Customer.class)).thenReturn(4L);
+
+		strategy.setQueryExecutor(ForkJoinPool.commonPool());
+
+		assertThat(strategy.findById(1L, Customer.class)).isSameAs(customer);
+		assertThat(strategy.count(Customer.class)).isEqualTo(7L);
+	}
+
+	@Test
+	public void mergesSortedResultsOfAllShards() {
+
+		Sort sort = Sort.by("name");
+		when(shard0.findAll(Customer.class, sort)).thenReturn(asList(customer("a"), customer("d"), customer("e")));
+		when(shard1.findAll(Customer.class, sort)).thenReturn(asList(customer("b"), customer("c"), customer("f")));
+
+		assertThat(strategy.findAll(Customer.class, sort)).extracting(it -> it.name) //
+				.containsExactly("a", "b", "c", "d", "e", "f");
+	}
+
+	@Test
+	public void ordersNullValuesAsConfigured() {
+
+		Sort sort = Sort.by("name");
+		when(shard0.findAll(Customer.class, sort)).thenReturn(asList(customer("a"), customer(null)));
+		when(shard1.findAll(Customer.class, sort)).thenReturn(asList(customer("b")));
+
+		strategy.setNullsFirst(false);
+
+		assertThat(strategy.findAll(Customer.class, sort)).extracting(it -> it.name) //
+				.containsExactly("a", "b", null);
+	}
+
+	@Test
+	public void returnsPageOfMergedResults() {
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "name");
+		PageRequest shardPage = PageRequest.of(0, 4, sort);
+		when(shard0.findAll(Customer.class, shardPage)).thenReturn(asList(customer("f"), customer("d"), customer("a")));
+		when(shard1.findAll(Customer.class, shardPage))
+				.thenReturn(asList(customer("e"), customer("c"), customer("b")));
+
+		assertThat(strategy.findAll(Customer.class, PageRequest.of(1, 2, sort))).extracting(it -> it.name) //
+				.containsExactly("d", "c");
+	}
+
+	private static Customer customer(String name) {
+
+		Customer customer = new Customer(null, 0L);
+		customer.name = name;
+		return customer;
+	}
+
+	static class CustomerShardResolver implements ShardResolver {
+
+		@Override
+		public int getShard(Object aggregateRoot, int shardCount) {
+			return ShardResolver.hash(((Customer) aggregateRoot).customerId, shardCount);
+		}
+	}
+
+	static class Customer {
+
+		@Id Long id;
+		long customerId;
+		String name;
+
+		Customer(Long id, long customerId) {
+
+			this.id = id;
+			this.customerId = customerId;
+		}
+	}
+
+	static class Order {
+		@Id Long id;
+	}
+}
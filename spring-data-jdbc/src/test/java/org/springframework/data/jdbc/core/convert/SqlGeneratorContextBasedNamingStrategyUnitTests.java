@@ -64,7 +64,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.getFindOne();
+			String sql = sqlGenerator.getFindOne().getNamedSql();
 
 			SoftAssertions softAssertions = new SoftAssertions();
 			softAssertions.assertThat(sql) //
@@ -85,7 +85,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.createDeleteByPath(getPath("ref"));
+			String sql = sqlGenerator.createDeleteByPath(getPath("ref")).getNamedSql();
 
 			assertThat(sql).isEqualTo( //
 					"DELETE FROM " //
@@ -102,7 +102,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.createDeleteByPath(getPath("ref.further"));
+			String sql = sqlGenerator.createDeleteByPath(getPath("ref.further")).getNamedSql();
 
 			assertThat(sql).isEqualTo( //
 					"DELETE FROM " + user + ".second_level_referenced_entity " //
@@ -119,7 +119,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.createDeleteAllSql(null);
+			String sql = sqlGenerator.createDeleteAllSql(null).getNamedSql();
 
 			assertThat(sql).isEqualTo("DELETE FROM " + user + ".dummy_entity");
 		});
@@ -132,7 +132,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.createDeleteAllSql(getPath("ref"));
+			String sql = sqlGenerator.createDeleteAllSql(getPath("ref")).getNamedSql();
 
 			assertThat(sql).isEqualTo( //
 					"DELETE FROM " + user + ".referenced_entity WHERE " + user + ".referenced_entity.dummy_entity IS NOT NULL");
@@ -146,7 +146,7 @@ public class SqlGeneratorContextBasedNamingStrategyUnitTests {
 
 			SqlGenerator sqlGenerator = configureSqlGenerator(contextualNamingStrategy);
 
-			String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further"));
+			String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further")).getNamedSql();
 
 			assertThat(sql).isEqualTo( //
 					"DELETE FROM " + user + ".second_level_referenced_entity " //
@@ -61,7 +61,7 @@ public class SqlGeneratorEmbeddedUnitTests {
 
 	@Test // DATAJDBC-111
 	public void findOne() {
-		final String sql = sqlGenerator.getFindOne();
+		final String sql = sqlGenerator.getFindOne().getNamedSql();
 
 		assertSoftly(softly -> {
 
@@ -84,7 +84,7 @@ public class SqlGeneratorEmbeddedUnitTests {
 
 	@Test // DATAJDBC-111
 	public void findAll() {
-		final String sql = sqlGenerator.getFindAll();
+		final String sql = sqlGenerator.getFindAll().getNamedSql();
 
 		assertSoftly(softly -> {
 
@@ -107,7 +107,7 @@ public class SqlGeneratorEmbeddedUnitTests {
 
 	@Test // DATAJDBC-111
 	public void findAllInList() {
-		final String sql = sqlGenerator.getFindAllInList();
+		final String sql = sqlGenerator.getFindAllInList().getNamedSql();
 
 		assertSoftly(softly -> {
 
@@ -130,7 +130,7 @@ public class SqlGeneratorEmbeddedUnitTests {
 
 	@Test // DATAJDBC-111
 	public void insert() {
-		final String sql = sqlGenerator.getInsert(emptySet());
+		final String sql = sqlGenerator.getInsert(emptySet()).getNamedSql();
 
 		assertSoftly(softly -> {
 
@@ -152,7 +152,7 @@ public class SqlGeneratorEmbeddedUnitTests {
 
 	@Test // DATAJDBC-111
 	public void update() {
-		final String sql = sqlGenerator.getUpdate();
+		final String sql = sqlGenerator.getUpdate().getNamedSql();
 
 		assertSoftly(softly -> {
 
@@ -177,7 +177,8 @@ public class SqlGeneratorEmbeddedUnitTests {
 	public void deleteByPath() {
 
 		final String sql = sqlGenerator
-				.createDeleteByPath(PropertyPathTestingUtils.toPath("embedded.other", DummyEntity2.class, context));
+				.createDeleteByPath(PropertyPathTestingUtils.toPath("embedded.other", DummyEntity2.class, context))
+				.getNamedSql();
 
 		assertThat(sql).containsSequence("DELETE FROM other_entity", //
 				"WHERE", //
@@ -77,7 +77,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.getFindOne();
+		String sql = sqlGenerator.getFindOne().getNamedSql();
 
 		SoftAssertions softAssertions = new SoftAssertions();
 		softAssertions.assertThat(sql) //
@@ -100,7 +100,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(upperCaseLowerCaseStrategy);
 
-		String sql = sqlGenerator.getFindOne();
+		String sql = sqlGenerator.getFindOne().getNamedSql();
 
 		SoftAssertions softAssertions = new SoftAssertions();
 		softAssertions.assertThat(sql) //
@@ -119,7 +119,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.createDeleteByPath(getPath("ref"));
+		String sql = sqlGenerator.createDeleteByPath(getPath("ref")).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_REFERENCEDENTITY\" "
 				+ "WHERE \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_REFERENCEDENTITY\".\"DUMMY_ENTITY\" = :rootId");
@@ -130,7 +130,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.createDeleteByPath(getPath("ref.further"));
+		String sql = sqlGenerator.createDeleteByPath(getPath("ref.further")).getNamedSql();
 
 		assertThat(sql)
 				.isEqualTo("DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_SECONDLEVELREFERENCEDENTITY\" "
@@ -145,7 +145,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.createDeleteAllSql(null);
+		String sql = sqlGenerator.createDeleteAllSql(null).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_DUMMYENTITY\"");
 	}
@@ -155,7 +155,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.createDeleteAllSql(getPath("ref"));
+		String sql = sqlGenerator.createDeleteAllSql(getPath("ref")).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_REFERENCEDENTITY\" "
 				+ "WHERE \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_REFERENCEDENTITY\".\"DUMMY_ENTITY\" IS NOT NULL");
@@ -166,7 +166,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further"));
+		String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further")).getNamedSql();
 
 		assertThat(sql)
 				.isEqualTo("DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_SECONDLEVELREFERENCEDENTITY\" "
@@ -181,7 +181,7 @@ public class SqlGeneratorFixedNamingStrategyUnitTests {
 
 		SqlGenerator sqlGenerator = configureSqlGenerator(fixedCustomTablePrefixStrategy);
 
-		String sql = sqlGenerator.getDeleteByList();
+		String sql = sqlGenerator.getDeleteByList().getNamedSql();
 
 		assertThat(sql).isEqualTo(
 				"DELETE FROM \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_DUMMYENTITY\" WHERE \"FIXEDCUSTOMSCHEMA\".\"FIXEDCUSTOMTABLEPREFIX_DUMMYENTITY\".\"FIXEDCUSTOMPROPERTYPREFIX_ID\" IN (:ids)");
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Unit tests for {@link SqlGeneratorSource}.
+ */
+public class SqlGeneratorSourceUnitTests {
+
+	TenantNamingStrategy namingStrategy = new TenantNamingStrategy();
+	RelationalMappingContext context = new JdbcMappingContext(namingStrategy);
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	@Test
+	public void sharesGeneratorsPerDomainTypeAndSchema() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, AnsiDialect.INSTANCE);
+
+		namingStrategy.tenant = "tenant_a";
+		SqlGenerator tenantA = source.getSqlGenerator(DummyEntity.class);
+
+		namingStrategy.tenant = "tenant_b";
+		SqlGenerator tenantB = source.getSqlGenerator(DummyEntity.class);
+
+		assertThat(tenantB).isNotSameAs(tenantA);
+		assertThat(tenantB.getFindOne().getNamedSql()).contains("FROM \"TENANT_B\".\"DUMMY_ENTITY\"");
+
+		namingStrategy.tenant = "tenant_a";
+
+		assertThat(source.getSqlGenerator(DummyEntity.class)).isSameAs(tenantA);
+		assertThat(tenantA.getFindOne().getNamedSql()).contains("FROM \"TENANT_A\".\"DUMMY_ENTITY\"");
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedSchemaGenerators() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, AnsiDialect.INSTANCE, 2);
+
+		namingStrategy.tenant = "tenant_a";
+		SqlGenerator tenantA = source.getSqlGenerator(DummyEntity.class);
+		namingStrategy.tenant = "tenant_b";
+		SqlGenerator tenantB = source.getSqlGenerator(DummyEntity.class);
+		namingStrategy.tenant = "tenant_c";
+		source.getSqlGenerator(DummyEntity.class);
+
+		namingStrategy.tenant = "tenant_b";
+		assertThat(source.getSqlGenerator(DummyEntity.class)).isSameAs(tenantB);
+		namingStrategy.tenant = "tenant_a";
+		assertThat(source.getSqlGenerator(DummyEntity.class)).isNotSameAs(tenantA);
+	}
+
+	@Test
+	public void sumsUpStatisticsOfSchemaGenerators() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, AnsiDialect.INSTANCE);
+		Set<SqlIdentifier> changedColumns = Collections.singleton(SqlIdentifier.quoted("NAME"));
+
+		namingStrategy.tenant = "tenant_a";
+		source.getSqlGenerator(DummyEntity.class).getUpdate(changedColumns);
+		source.getSqlGenerator(DummyEntity.class).getUpdate(changedColumns);
+
+		namingStrategy.tenant = "tenant_b";
+		source.getSqlGenerator(DummyEntity.class).getUpdate(changedColumns);
+
+		StatementCacheStatistics statistics = source.getStatementCacheStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void sharesGeneratorsPerDomainTypeForStaticSchema() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(new JdbcMappingContext(), converter, AnsiDialect.INSTANCE);
+
+		assertThat(source.getSqlGenerator(DummyEntity.class)).isSameAs(source.getSqlGenerator(DummyEntity.class));
+	}
+
+	static class TenantNamingStrategy implements NamingStrategy {
+
+		String tenant;
+
+		@Override
+		public String getSchema() {
+			return tenant;
+		}
+
+		@Override
+		public boolean isSchemaPerCall() {
+			return true;
+		}
+	}
+
+	static class DummyEntity {
+		@Id Long id;
+		String name;
+	}
+}
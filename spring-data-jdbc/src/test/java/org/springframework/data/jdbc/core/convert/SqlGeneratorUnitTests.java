@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,6 +40,9 @@ import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtil
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.mapping.AssignedId;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
@@ -93,7 +97,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void findOne() {
 
-		String sql = sqlGenerator.getFindOne();
+		String sql = sqlGenerator.getFindOne().getNamedSql();
 
 		assertSoftly(softly -> softly //
 				.assertThat(sql) //
@@ -112,7 +116,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-493
 	public void getAcquireLockById() {
 
-		String sql = sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_WRITE);
+		String sql = sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_WRITE).getNamedSql();
 
 		assertSoftly(softly -> softly //
 				.assertThat(sql) //
@@ -126,7 +130,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-493
 	public void getAcquireLockAll() {
 
-		String sql = sqlGenerator.getAcquireLockAll(LockMode.PESSIMISTIC_WRITE);
+		String sql = sqlGenerator.getAcquireLockAll(LockMode.PESSIMISTIC_WRITE).getNamedSql();
 
 		assertSoftly(softly -> softly //
 				.assertThat(sql) //
@@ -139,7 +143,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void cascadingDeleteFirstLevel() {
 
-		String sql = sqlGenerator.createDeleteByPath(getPath("ref", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteByPath(getPath("ref", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId");
 	}
@@ -147,7 +151,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void cascadingDeleteByPathSecondLevel() {
 
-		String sql = sqlGenerator.createDeleteByPath(getPath("ref.further", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteByPath(getPath("ref.further", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo(
 				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId)");
@@ -156,7 +160,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void deleteAll() {
 
-		String sql = sqlGenerator.createDeleteAllSql(null);
+		String sql = sqlGenerator.createDeleteAllSql(null).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM dummy_entity");
 	}
@@ -164,7 +168,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void cascadingDeleteAllFirstLevel() {
 
-		String sql = sqlGenerator.createDeleteAllSql(getPath("ref", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteAllSql(getPath("ref", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity IS NOT NULL");
 	}
@@ -172,7 +176,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-112
 	public void cascadingDeleteAllSecondLevel() {
 
-		String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteAllSql(getPath("ref.further", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo(
 				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity IS NOT NULL)");
@@ -181,7 +185,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-227
 	public void deleteAllMap() {
 
-		String sql = sqlGenerator.createDeleteAllSql(getPath("mappedElements", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteAllSql(getPath("mappedElements", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM element WHERE element.dummy_entity IS NOT NULL");
 	}
@@ -189,7 +193,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-227
 	public void deleteMapByPath() {
 
-		String sql = sqlGenerator.createDeleteByPath(getPath("mappedElements", DummyEntity.class));
+		String sql = sqlGenerator.createDeleteByPath(getPath("mappedElements", DummyEntity.class)).getNamedSql();
 
 		assertThat(sql).isEqualTo("DELETE FROM element WHERE element.dummy_entity = :rootId");
 	}
@@ -197,7 +201,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-101
 	public void findAllSortedByUnsorted() {
 
-		String sql = sqlGenerator.getFindAll(Sort.unsorted());
+		String sql = sqlGenerator.getFindAll(Sort.unsorted()).getNamedSql();
 
 		assertThat(sql).doesNotContain("ORDER BY");
 	}
@@ -205,7 +209,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-101
 	public void findAllSortedBySingleField() {
 
-		String sql = sqlGenerator.getFindAll(Sort.by("name"));
+		String sql = sqlGenerator.getFindAll(Sort.by("name")).getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -225,7 +229,8 @@ public class SqlGeneratorUnitTests {
 	public void findAllSortedByMultipleFields() {
 
 		String sql = sqlGenerator
-				.getFindAll(Sort.by(new Sort.Order(Sort.Direction.DESC, "name"), new Sort.Order(Sort.Direction.ASC, "other")));
+				.getFindAll(Sort.by(new Sort.Order(Sort.Direction.DESC, "name"), new Sort.Order(Sort.Direction.ASC, "other")))
+				.getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -245,7 +250,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-101
 	public void findAllPagedByUnpaged() {
 
-		String sql = sqlGenerator.getFindAll(Pageable.unpaged());
+		String sql = sqlGenerator.getFindAll(Pageable.unpaged()).getNamedSql();
 
 		assertThat(sql).doesNotContain("ORDER BY").doesNotContain("FETCH FIRST").doesNotContain("OFFSET");
 	}
@@ -253,7 +258,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-101
 	public void findAllPaged() {
 
-		String sql = sqlGenerator.getFindAll(PageRequest.of(2, 20));
+		String sql = sqlGenerator.getFindAll(PageRequest.of(2, 20)).getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -273,7 +278,7 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-101
 	public void findAllPagedAndSorted() {
 
-		String sql = sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name")));
+		String sql = sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name"))).getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -295,7 +300,7 @@ public class SqlGeneratorUnitTests {
 	public void findAllByProperty() {
 
 		// this would get called when ListParent is the element type of a Set
-		String sql = sqlGenerator.getFindAllByProperty(BACKREF, null, false);
+		String sql = sqlGenerator.getFindAllByProperty(BACKREF, null, false).getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -317,7 +322,7 @@ public class SqlGeneratorUnitTests {
 		// this would get called when ListParent is the element type of a Set
 		Identifier parentIdentifier = Identifier.of(unquoted("backref"), "some-value", String.class) //
 				.withPart(unquoted("backref_key"), "key-value", Object.class);
-		String sql = sqlGenerator.getFindAllByProperty(parentIdentifier, null, false);
+		String sql = sqlGenerator.getFindAllByProperty(parentIdentifier, null, false).getNamedSql();
 
 		assertThat(sql).contains("SELECT", //
 				"dummy_entity.id1 AS id1", //
@@ -334,11 +339,59 @@ public class SqlGeneratorUnitTests {
 				"dummy_entity.backref_key = :backref_key");
 	}
 
+	@Test
+	public void findAllByPropertyIsCachedByColumnNamesOnly() {
+
+		Identifier other = Identifier.of(unquoted("backref"), "other-value", String.class);
+
+		String first = sqlGenerator.getFindAllByProperty(BACKREF, null, false).getNamedSql();
+		String second = sqlGenerator.getFindAllByProperty(other, null, false).getNamedSql();
+		String ordered = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true).getNamedSql();
+
+		assertThat(second).isSameAs(first);
+		assertThat(ordered).isNotEqualTo(first);
+		assertThat(sqlGenerator.getStatementCacheStatistics()).isEqualTo(new StatementCacheStatistics(1, 2, 2));
+	}
+
+	@Test
+	public void sortedAndPagedStatementsAreCachedPerArgument() {
+
+		String sorted = sqlGenerator.getFindAll(Sort.by("name")).getNamedSql();
+		String paged = sqlGenerator.getFindAll(PageRequest.of(2, 20)).getNamedSql();
+
+		assertThat(sqlGenerator.getFindAll(Sort.by("name")).getNamedSql()).isSameAs(sorted);
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(2, 20)).getNamedSql()).isSameAs(paged);
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(3, 20)).getNamedSql()).contains("OFFSET 60");
+
+		StatementCacheStatistics statistics = sqlGenerator.getStatementCacheStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(2);
+		assertThat(statistics.getMissCount()).isEqualTo(3);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.4);
+	}
+
+	@Test
+	public void prepareRendersInsertStatementsAheadOfFirstUse() {
+
+		sqlGenerator.prepare();
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+		Set<SqlIdentifier> columns = new LinkedHashSet<>();
+		columns.add(entity.getRequiredPersistentProperty("name").getColumnName());
+		columns.add(entity.getRequiredPersistentProperty("other").getColumnName());
+
+		assertThat(sqlGenerator.getInsert(columns).getNamedSql()).startsWith("INSERT INTO dummy_entity");
+
+		columns.add(entity.getRequiredIdProperty().getColumnName());
+
+		assertThat(sqlGenerator.getInsert(columns).getNamedSql()).contains("id1");
+		assertThat(sqlGenerator.getStatementCacheStatistics()).isEqualTo(new StatementCacheStatistics(2, 2, 2));
+	}
+
 	@Test // DATAJDBC-131, DATAJDBC-111
 	public void findAllByPropertyWithKey() {
 
 		// this would get called when ListParent is th element type of a Map
-		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), false);
+		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), false).getNamedSql();
 
 		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
 				+ "dummy_entity.x_other AS x_other, " //
@@ -361,7 +414,7 @@ public class SqlGeneratorUnitTests {
 	public void findAllByPropertyWithKeyOrdered() {
 
 		// this would get called when ListParent is th element type of a Map
-		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true);
+		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true).getNamedSql();
 
 		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
 				+ "dummy_entity.x_other AS x_other, " //
@@ -379,7 +432,7 @@ public class SqlGeneratorUnitTests {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
 
-		assertThat(sqlGenerator.getUpdateWithVersion()).containsSubsequence( //
+		assertThat(sqlGenerator.getUpdateWithVersion().getNamedSql()).containsSubsequence( //
 				"UPDATE", //
 				"\"VERSIONED_ENTITY\"", //
 				"SET", //
@@ -389,12 +442,35 @@ public class SqlGeneratorUnitTests {
 				"\"X_VERSION\" = :___oldOptimisticLockingVersion");
 	}
 
+	@Test
+	public void getMultiRowInsert() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(IdOnlyEntity.class);
+
+		String insert = sqlGenerator.getInsert(singleton(unquoted("ref")), 3).getNamedSql();
+
+		assertThat(insert).endsWith("(ref) VALUES (:ref_0), (:ref_1), (:ref_2)");
+		assertThat(sqlGenerator.getMultiRowParameterName(unquoted("ref"), 2)).isEqualTo("ref_2");
+	}
+
+	@Test
+	public void keepsPositionalFormWithRenderedStatement() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(IdOnlyEntity.class);
+
+		PositionalStatement insert = sqlGenerator.getInsert(singleton(unquoted("ref")), 3);
+
+		assertThat(insert.getPositionalSql()).endsWith("(ref) VALUES (?), (?), (?)");
+		assertThat(insert.getParameterCount()).isEqualTo(3);
+		assertThat(sqlGenerator.getInsert(singleton(unquoted("ref")), 3)).isSameAs(insert);
+	}
+
 	@Test // DATAJDBC-264
 	public void getInsertForEmptyColumnList() {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(IdOnlyEntity.class);
 
-		String insert = sqlGenerator.getInsert(emptySet());
+		String insert = sqlGenerator.getInsert(emptySet()).getNamedSql();
 
 		assertThat(insert).endsWith("()");
 	}
@@ -404,7 +480,7 @@ public class SqlGeneratorUnitTests {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
 
-		String insert = sqlGenerator.getInsert(emptySet());
+		String insert = sqlGenerator.getInsert(emptySet()).getNamedSql();
 
 		assertThat(insert).isEqualTo("INSERT INTO \"ENTITY_WITH_QUOTED_COLUMN_NAME\" " //
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
@@ -415,7 +491,7 @@ public class SqlGeneratorUnitTests {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(ParentOfNoIdChild.class, AnsiDialect.INSTANCE);
 
-		String findAll = sqlGenerator.getFindAll();
+		String findAll = sqlGenerator.getFindAll().getNamedSql();
 
 		assertThat(findAll).containsSubsequence("SELECT",
 				"\"child\".\"PARENT_OF_NO_ID_CHILD\" AS \"CHILD_PARENT_OF_NO_ID_CHILD\"", "FROM");
@@ -426,7 +502,7 @@ public class SqlGeneratorUnitTests {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
 
-		assertThat(sqlGenerator.getUpdate()).containsSubsequence( //
+		assertThat(sqlGenerator.getUpdate().getNamedSql()).containsSubsequence( //
 				"UPDATE", //
 				"\"DUMMY_ENTITY\"", //
 				"SET", //
@@ -434,24 +510,82 @@ public class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	public void partialUpdateOnlyAssignsGivenColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(VersionedEntity.class);
+
+		Set<SqlIdentifier> changedColumns = new LinkedHashSet<>();
+		changedColumns.add(entity.getRequiredPersistentProperty("version").getColumnName());
+		changedColumns.add(entity.getRequiredPersistentProperty("id").getColumnName());
+
+		assertThat(sqlGenerator.getUpdate(changedColumns).getNamedSql()).isEqualTo("UPDATE \"VERSIONED_ENTITY\" " //
+				+ "SET \"X_VERSION\" = :X_VERSION " //
+				+ "WHERE \"VERSIONED_ENTITY\".\"id1\" = :id1");
+		assertThat(sqlGenerator.getUpdateWithVersion(changedColumns).getNamedSql()) //
+				.isEqualTo("UPDATE \"VERSIONED_ENTITY\" " //
+						+ "SET \"X_VERSION\" = :X_VERSION " //
+						+ "WHERE \"VERSIONED_ENTITY\".\"id1\" = :id1 " //
+						+ "AND \"VERSIONED_ENTITY\".\"X_VERSION\" = :___oldOptimisticLockingVersion");
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
 
-		assertThat(sqlGenerator.getUpdate()).isEqualToIgnoringCase( //
+		assertThat(sqlGenerator.getUpdate().getNamedSql()).isEqualToIgnoringCase( //
 				"UPDATE \"ENTITY_WITH_READ_ONLY_PROPERTY\" " //
 						+ "SET \"X_NAME\" = :X_NAME " //
 						+ "WHERE \"ENTITY_WITH_READ_ONLY_PROPERTY\".\"X_ID\" = :X_ID" //
 		);
 	}
 
+	@Test
+	public void upsertUsesDialectAndExcludesReadOnlyProperties() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, H2Dialect.INSTANCE);
+
+		assertThat(sqlGenerator.supportsUpsert()).isTrue();
+		assertThat(sqlGenerator.getUpsert(emptySet()).getNamedSql()).isEqualToIgnoringCase( //
+				"MERGE INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_ID\", \"X_NAME\") " //
+						+ "KEY (\"X_ID\") VALUES (:X_ID, :X_NAME)");
+	}
+
+	@Test
+	public void upsertLeavesOutGeneratedIdWhenInserting() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, SqlServerDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert(emptySet()).getNamedSql().toUpperCase()) //
+				.contains("ON (TARGET.X_ID = SOURCE.X_ID)") //
+				.endsWith("WHEN NOT MATCHED THEN INSERT (X_NAME) VALUES (SOURCE.X_NAME);");
+	}
+
+	@Test
+	public void upsertInsertsAssignedId() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithAssignedId.class, SqlServerDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert(emptySet()).getNamedSql().toUpperCase()) //
+				.endsWith("WHEN NOT MATCHED THEN INSERT (X_ID, X_NAME) VALUES (SOURCE.X_ID, SOURCE.X_NAME);");
+	}
+
+	@Test
+	public void upsertIsNotSupportedWithoutDialectSupport() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.supportsUpsert()).isFalse();
+	}
+
 	@Test // DATAJDBC-334
 	public void getUpdateForQuotedColumnName() {
 
 		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
 
-		String update = sqlGenerator.getUpdate();
+		String update = sqlGenerator.getUpdate().getNamedSql();
 
 		assertThat(update).isEqualTo("UPDATE \"ENTITY_WITH_QUOTED_COLUMN_NAME\" " //
 				+ "SET \"test\"\"_@123\" = :test_123 " //
@@ -463,7 +597,7 @@ public class SqlGeneratorUnitTests {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
 
-		assertThat(sqlGenerator.getInsert(emptySet())).isEqualToIgnoringCase( //
+		assertThat(sqlGenerator.getInsert(emptySet()).getNamedSql()).isEqualToIgnoringCase( //
 				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_NAME\") " //
 						+ "VALUES (:x_name)" //
 		);
@@ -474,7 +608,7 @@ public class SqlGeneratorUnitTests {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class);
 
-		assertThat(sqlGenerator.getFindAll()).isEqualToIgnoringCase("SELECT "
+		assertThat(sqlGenerator.getFindAll().getNamedSql()).isEqualToIgnoringCase("SELECT "
 				+ "entity_with_read_only_property.x_id AS x_id, " + "entity_with_read_only_property.x_name AS x_name, "
 				+ "entity_with_read_only_property.x_read_only_value AS x_read_only_value "
 				+ "FROM entity_with_read_only_property");
@@ -485,7 +619,8 @@ public class SqlGeneratorUnitTests {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class);
 
-		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true)).isEqualToIgnoringCase( //
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true).getNamedSql())
+				.isEqualToIgnoringCase( //
 				"SELECT " //
 						+ "entity_with_read_only_property.x_id AS x_id, " //
 						+ "entity_with_read_only_property.x_name AS x_name, " //
@@ -502,7 +637,7 @@ public class SqlGeneratorUnitTests {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class);
 
-		assertThat(sqlGenerator.getFindAllInList()).isEqualToIgnoringCase( //
+		assertThat(sqlGenerator.getFindAllInList().getNamedSql()).isEqualToIgnoringCase( //
 				"SELECT " //
 						+ "entity_with_read_only_property.x_id AS x_id, " //
 						+ "entity_with_read_only_property.x_name AS x_name, " //
@@ -517,7 +652,7 @@ public class SqlGeneratorUnitTests {
 
 		final SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class);
 
-		assertThat(sqlGenerator.getFindOne()).isEqualToIgnoringCase( //
+		assertThat(sqlGenerator.getFindOne().getNamedSql()).isEqualToIgnoringCase( //
 				"SELECT " //
 						+ "entity_with_read_only_property.x_id AS x_id, " //
 						+ "entity_with_read_only_property.x_name AS x_name, " //
@@ -530,8 +665,8 @@ public class SqlGeneratorUnitTests {
 	@Test // DATAJDBC-340
 	public void deletingLongChain() {
 
-		assertThat(
-				createSqlGenerator(Chain4.class).createDeleteByPath(getPath("chain3.chain2.chain1.chain0", Chain4.class))) //
+		assertThat(createSqlGenerator(Chain4.class)
+				.createDeleteByPath(getPath("chain3.chain2.chain1.chain0", Chain4.class)).getNamedSql()) //
 						.isEqualTo("DELETE FROM chain0 " + //
 								"WHERE chain0.chain1 IN (" + //
 								"SELECT chain1.x_one " + //
@@ -550,7 +685,7 @@ public class SqlGeneratorUnitTests {
 	public void deletingLongChainNoId() {
 
 		assertThat(createSqlGenerator(NoIdChain4.class)
-				.createDeleteByPath(getPath("chain3.chain2.chain1.chain0", NoIdChain4.class))) //
+				.createDeleteByPath(getPath("chain3.chain2.chain1.chain0", NoIdChain4.class)).getNamedSql()) //
 						.isEqualTo("DELETE FROM no_id_chain0 WHERE no_id_chain0.no_id_chain4 = :rootId");
 	}
 
@@ -558,7 +693,8 @@ public class SqlGeneratorUnitTests {
 	public void deletingLongChainNoIdWithBackreferenceNotReferencingTheRoot() {
 
 		assertThat(createSqlGenerator(IdIdNoIdChain.class)
-				.createDeleteByPath(getPath("idNoIdChain.chain4.chain3.chain2.chain1.chain0", IdIdNoIdChain.class))) //
+				.createDeleteByPath(getPath("idNoIdChain.chain4.chain3.chain2.chain1.chain0", IdIdNoIdChain.class))
+				.getNamedSql()) //
 						.isEqualTo( //
 								"DELETE FROM no_id_chain0 " //
 										+ "WHERE no_id_chain0.no_id_chain4 IN (" //
@@ -772,6 +908,12 @@ public class SqlGeneratorUnitTests {
 		@ReadOnlyProperty String readOnlyValue;
 	}
 
+	static class EntityWithAssignedId {
+
+		@Id @AssignedId Long id;
+		String name;
+	}
+
 	static class EntityWithQuotedColumnName {
 
 		// these column names behave like single double quote in the name since the get quoted and then doubling the double
@@ -17,6 +17,8 @@ package org.springframework.data.jdbc.core.convert;
 
 import static org.assertj.core.api.SoftAssertions.*;
 
+import java.sql.Timestamp;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -116,4 +118,48 @@ public class SqlIdentifierParameterSourceUnitTests {
 			softly.assertThat(parameters.getSqlType("blah")).isEqualTo(Integer.MIN_VALUE);
 		});
 	}
+
+	@Test
+	public void manyValuesAreFoundAfterSwitchingToIndexedLookup() {
+
+		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing, 2);
+
+		for (int i = 0; i < 20; i++) {
+			parameters.addValue(SqlIdentifier.unquoted("key" + i), i, i);
+		}
+		parameters.addValue(SqlIdentifier.unquoted("key3"), 333);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(parameters.getParameterNames()).hasSize(20).startsWith("key0", "key1");
+			softly.assertThat(parameters.getIdentifiers()).hasSize(20);
+			softly.assertThat(parameters.getValue("key19")).isEqualTo(19);
+			softly.assertThat(parameters.getSqlType("key19")).isEqualTo(19);
+			softly.assertThat(parameters.getValue("key3")).isEqualTo(333);
+			softly.assertThat(parameters.hasValue("key20")).isFalse();
+		});
+	}
+
+	@Test
+	public void snapshotDoesNotShareMutableValues() {
+
+		byte[] bytes = { 1, 2 };
+		Timestamp timestamp = new Timestamp(1000L);
+
+		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing);
+		parameters.addValue(SqlIdentifier.unquoted("bytes"), bytes);
+		parameters.addValue(SqlIdentifier.unquoted("timestamp"), timestamp);
+
+		SqlIdentifierParameterSource snapshot = parameters.snapshot();
+		bytes[0] = 3;
+		timestamp.setTime(2000L);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(snapshot.getValue("bytes")).isEqualTo(new byte[] { 1, 2 });
+			softly.assertThat(snapshot.getValue("timestamp")).isEqualTo(new Timestamp(1000L));
+			softly.assertThat(parameters.getChangedIdentifiers(snapshot)) //
+					.containsExactly(SqlIdentifier.unquoted("bytes"), SqlIdentifier.unquoted("timestamp"));
+		});
+	}
 }
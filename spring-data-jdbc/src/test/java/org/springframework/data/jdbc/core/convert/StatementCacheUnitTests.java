@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatementCache}.
+ */
+public class StatementCacheUnitTests {
+
+	AtomicInteger renderings = new AtomicInteger();
+
+	@Test
+	public void rendersEachKeyOnlyOnce() {
+
+		StatementCache<String> cache = StatementCache.of(this::render);
+
+		assertThat(cache.get("a").getNamedSql()).isEqualTo("SELECT a");
+		assertThat(cache.get("a").getNamedSql()).isEqualTo("SELECT a");
+		assertThat(cache.get("b").getNamedSql()).isEqualTo("SELECT b");
+
+		assertThat(renderings).hasValue(2);
+		assertThat(cache.getStatistics()).isEqualTo(new StatementCacheStatistics(1, 2, 2));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedStatement() {
+
+		StatementCache<String> cache = StatementCache.of(2, this::render);
+
+		cache.get("a");
+		cache.get("b");
+		cache.get("a");
+		cache.get("c");
+		cache.get("a");
+		cache.get("b");
+
+		assertThat(renderings).hasValue(4);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void rejectsNonPositiveSizeLimit() {
+		assertThatIllegalArgumentException().isThrownBy(() -> StatementCache.of(0, this::render));
+	}
+
+	private PositionalStatement render(String key) {
+
+		renderings.incrementAndGet();
+		return PositionalStatement.of("SELECT " + key);
+	}
+}
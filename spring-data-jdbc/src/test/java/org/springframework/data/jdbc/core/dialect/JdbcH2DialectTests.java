@@ -17,11 +17,15 @@ package org.springframework.data.jdbc.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.JDBCType;
 import java.time.OffsetDateTime;
 
 import org.h2.api.TimestampWithTimeZone;
 import org.h2.util.DateTimeUtils;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.core.mapping.JsonValue;
 
 /**
  * Tests for {@link JdbcH2Dialect}.
@@ -47,4 +51,13 @@ class JdbcH2DialectTests {
 		assertThat(offsetDateTime.toEpochSecond())
 				.isEqualTo(DateTimeUtils.getEpochSeconds(dateValue, timeNanos, timeZoneOffsetSeconds));
 	}
+
+	@Test
+	void bindsJsonAsBytes() {
+
+		JdbcValue jdbcValue = JdbcH2Dialect.JsonValueToBytesJdbcValueConverter.INSTANCE.convert(JsonValue.of("{\"a\":1}"));
+
+		assertThat(jdbcValue.getValue()).isEqualTo("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+		assertThat(jdbcValue.getJdbcType()).isEqualTo(JDBCType.BINARY);
+	}
 }
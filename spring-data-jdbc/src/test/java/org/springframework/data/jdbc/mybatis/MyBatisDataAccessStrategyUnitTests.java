@@ -22,10 +22,18 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PropertyPathTestingUtils;
@@ -390,6 +398,105 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	public void insertFlushesBatchWhenStatementGeneratesKeys() {
+
+		Configuration configuration = new Configuration();
+		configuration.addMappedStatement(mappedStatement(configuration, "java.lang.StringMapper.insert",
+				SqlCommandType.INSERT, true));
+		when(session.getConfiguration()).thenReturn(configuration);
+
+		accessStrategy.setBatchExecution(true);
+		accessStrategy.insert("x", String.class, Identifier.empty());
+
+		verify(session).flushStatements();
+	}
+
+	@Test
+	public void insertDoesNotFlushBatchWithoutGeneratedKeys() {
+
+		Configuration configuration = new Configuration();
+		configuration.addMappedStatement(mappedStatement(configuration, "java.lang.StringMapper.insert",
+				SqlCommandType.INSERT, false));
+		when(session.getConfiguration()).thenReturn(configuration);
+
+		accessStrategy.setBatchExecution(true);
+		accessStrategy.insert("x", String.class, Identifier.empty());
+
+		verify(session, never()).flushStatements();
+	}
+
+	@Test
+	public void updateWithVersionFlushesBatchToObtainUpdateCount() {
+
+		when(session.update(eq("java.lang.StringMapper.updateWithVersion"), any()))
+				.thenReturn(BatchExecutor.BATCH_UPDATE_RETURN_VALUE);
+		when(session.flushStatements())
+				.thenReturn(singletonList(batchResult("java.lang.StringMapper.updateWithVersion", 0)));
+
+		accessStrategy.setBatchExecution(true);
+
+		assertThat(accessStrategy.updateWithVersion("x", String.class, 1)).isFalse();
+	}
+
+	@Test
+	public void flushRejectsBatchedUpdateWithoutAffectedRows() {
+
+		when(session.flushStatements()).thenReturn(singletonList(batchResult("java.lang.StringMapper.update", 1, 0)));
+
+		accessStrategy.setBatchExecution(true);
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+				.isThrownBy(() -> accessStrategy.flush());
+	}
+
+	@Test
+	public void flushDoesNothingWithoutBatchExecution() {
+
+		accessStrategy.flush();
+
+		verify(session, never()).flushStatements();
+	}
+
+	@Test
+	public void resolvesNamespaceOncePerStatement() {
+
+		NamespaceStrategy namespaceStrategy = mock(NamespaceStrategy.class, CALLS_REAL_METHODS);
+		accessStrategy.setNamespaceStrategy(namespaceStrategy);
+
+		accessStrategy.update("x", String.class);
+		accessStrategy.update("y", String.class);
+		accessStrategy.deleteAll(path);
+		accessStrategy.deleteAll(path);
+
+		verify(session, times(2)).update(eq("java.lang.StringMapper.update"), any());
+		verify(session, times(2)).delete(eq(
+				"org.springframework.data.jdbc.mybatis.MyBatisDataAccessStrategyUnitTests$DummyEntityMapper.deleteAll-one-two"),
+				any());
+		verify(namespaceStrategy).getNamespace(String.class);
+		verify(namespaceStrategy).getNamespace(DummyEntity.class);
+	}
+
+	private static MappedStatement mappedStatement(Configuration configuration, String id, SqlCommandType commandType,
+			boolean generatesKeys) {
+
+		MappedStatement.Builder builder = new MappedStatement.Builder(configuration, id, mock(SqlSource.class),
+				commandType);
+		if (generatesKeys) {
+			builder.keyGenerator(Jdbc3KeyGenerator.INSTANCE);
+		}
+		return builder.build();
+	}
+
+	private static BatchResult batchResult(String statement, int... updateCounts) {
+
+		Configuration configuration = new Configuration();
+		BatchResult result = new BatchResult(mappedStatement(configuration, statement, SqlCommandType.UPDATE, false),
+				"UPDATE", null);
+		result.setUpdateCounts(updateCounts);
+		return result;
+	}
+
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
 		ChildOne one;
@@ -52,6 +52,7 @@ import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterLoadAllEvent;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertEvent;
@@ -198,7 +199,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadAllEvent.class //
 				);
 	}
 
@@ -217,7 +219,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadAllEvent.class //
 				);
 	}
 
@@ -253,7 +256,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadAllEvent.class //
 				);
 	}
 
@@ -273,7 +277,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadAllEvent.class //
 				);
 	}
 
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.repository.config;
 
 import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collection;
@@ -29,11 +30,13 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
@@ -97,6 +100,28 @@ public class AbstractJdbcConfigurationIntegrationTests {
 		}, AbstractJdbcConfigurationUnderTest.class, Infrastructure.class);
 	}
 
+	@Test
+	void preparesRepositoriesEagerlyWithSeveralDataAccessStrategies() {
+
+		assertApplicationContext(context -> {
+
+			DefaultDataAccessStrategy primary = context.getBean("primaryDataAccessStrategy", DefaultDataAccessStrategy.class);
+			verify(primary).prepare(anyCollection());
+
+		}, EagerJdbcConfigurationUnderTest.class, Infrastructure.class, AdditionalDataAccessStrategy.class);
+	}
+
+	@Test
+	void preparesRepositoriesOnFirstUseByDefault() {
+
+		assertApplicationContext(context -> {
+
+			DefaultDataAccessStrategy primary = context.getBean("primaryDataAccessStrategy", DefaultDataAccessStrategy.class);
+			verify(primary, never()).prepare(anyCollection());
+
+		}, AbstractJdbcConfigurationUnderTest.class, Infrastructure.class, AdditionalDataAccessStrategy.class);
+	}
+
 	protected static void assertApplicationContext(Consumer<ConfigurableApplicationContext> verification,
 			Class<?>... configurationClasses) {
 
@@ -120,6 +145,24 @@ public class AbstractJdbcConfigurationIntegrationTests {
 		}
 	}
 
+	@Configuration
+	static class AdditionalDataAccessStrategy {
+
+		@Bean
+		@Primary
+		public DefaultDataAccessStrategy primaryDataAccessStrategy() {
+			return mock(DefaultDataAccessStrategy.class);
+		}
+	}
+
+	static class EagerJdbcConfigurationUnderTest extends AbstractJdbcConfigurationUnderTest {
+
+		@Override
+		protected boolean isEagerRepositoryInitialization() {
+			return true;
+		}
+	}
+
 	static class AbstractJdbcConfigurationUnderTest extends AbstractJdbcConfiguration {
 
 		@Override
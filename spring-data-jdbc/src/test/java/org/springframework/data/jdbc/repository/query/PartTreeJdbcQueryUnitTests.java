@@ -40,9 +40,12 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
@@ -580,6 +583,38 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQueryWithLockWaitPolicy() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop10ByActiveTrue");
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, PostgresDialect.INSTANCE,
+				converter, mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[0]), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"ACTIVE\" = :active LIMIT 10 FOR UPDATE OF "
+				+ TABLE + " SKIP LOCKED");
+	}
+
+	@Test
+	public void createsCountQueryWithoutLock() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("countByActiveTrue");
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[0]), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"ACTIVE\" = :active");
+	}
+
+	@Test
+	public void rejectsLockWaitTimeoutCombinedWithOtherWaitPolicy() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByActiveFalseOrderByAge");
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> jdbcQuery.createQuery(getAccessor(queryMethod, new Object[0]), returnedType));
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -658,6 +693,15 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findAllByActiveFalse();
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.SKIP_LOCKED)
+		List<User> findTop10ByActiveTrue();
+
+		@Lock(LockMode.PESSIMISTIC_WRITE)
+		long countByActiveTrue();
+
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.NO_WAIT, waitTimeout = 1000)
+		List<User> findAllByActiveFalseOrderByAge();
+
 		List<User> findAllByFirstNameIgnoreCase(String firstName);
 
 		User findByIdIgnoringCase(Long id);
@@ -36,7 +36,11 @@ import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
@@ -172,6 +176,28 @@ class StringBasedJdbcQueryUnitTests {
 				.hasMessageContaining("Page queries are not supported using string-based queries");
 	}
 
+	@Test
+	void appendsLockClauseOfDialect() {
+
+		JdbcQueryMethod queryMethod = createMethod("findAllLocked");
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, result -> defaultRowMapper,
+				converter, MySqlDialect.INSTANCE);
+
+		query.execute(new Object[] {});
+
+		verify(operations).queryForStream(eq("some sql statement FOR UPDATE SKIP LOCKED"), any(SqlParameterSource.class),
+				any(RowMapper.class));
+	}
+
+	@Test
+	void rejectsLockForDialectRenderingLockWithinStatement() {
+
+		JdbcQueryMethod queryMethod = createMethod("findAllLocked");
+
+		assertThatThrownBy(() -> new StringBasedJdbcQuery(queryMethod, operations, result -> defaultRowMapper, converter,
+				SqlServerDialect.INSTANCE)).isInstanceOf(UnsupportedOperationException.class);
+	}
+
 	private JdbcQueryMethod createMethod(String methodName, Class<?>... paramTypes) {
 
 		Method method = ReflectionUtils.findMethod(MyRepository.class, methodName, paramTypes);
@@ -212,6 +238,10 @@ class StringBasedJdbcQueryUnitTests {
 		@Query(value = "some sql statement")
 		Slice<Object> sliceAll(Pageable pageable);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.SKIP_LOCKED)
+		@Query(value = "some sql statement")
+		Stream<Object> findAllLocked();
+
 	}
 
 	private static class CustomRowMapper implements RowMapper<Object> {
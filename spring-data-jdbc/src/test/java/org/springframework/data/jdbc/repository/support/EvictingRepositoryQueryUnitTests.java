@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.QueryResultCache;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+/**
+ * Unit tests for {@link EvictingRepositoryQuery}.
+ */
+public class EvictingRepositoryQueryUnitTests {
+
+	QueryResultCache cache = new QueryResultCache(new JdbcMappingContext());
+	AtomicInteger executions = new AtomicInteger();
+	RepositoryQuery delegate = new RepositoryQuery() {
+
+		@Override
+		public Object execute(Object[] parameters) {
+			return executions.incrementAndGet();
+		}
+
+		@Override
+		public QueryMethod getQueryMethod() {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	QueryResultCache.Region countries = cache.createRegion(Country.class, Collections.emptyList(), 10);
+	QueryResultCache.Region cities = cache.createRegion(City.class, Collections.emptyList(), 10);
+
+	@Test
+	public void evictsResultsDependingOnTablesOfTheAggregate() {
+
+		EvictingRepositoryQuery query = new EvictingRepositoryQuery(delegate, cache, Country.class,
+				Collections.emptyList());
+		cacheResults();
+
+		assertThat(query.execute(new Object[0])).isEqualTo(1);
+
+		assertThat(countries.size()).isZero();
+		assertThat(cities.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictsResultsDependingOnAdditionalTables() {
+
+		EvictingRepositoryQuery query = new EvictingRepositoryQuery(delegate, cache, Country.class,
+				Collections.singletonList("city"));
+		cacheResults();
+
+		assertThat(query.execute(new Object[0])).isEqualTo(1);
+
+		assertThat(countries.size()).isZero();
+		assertThat(cities.size()).isZero();
+	}
+
+	private void cacheResults() {
+
+		countries.get(new Object[] { "CH" }, () -> "Switzerland");
+		cities.get(new Object[] { "ZH" }, () -> "Zurich");
+	}
+
+	static class Country {
+
+		@Id String code;
+	}
+
+	static class City {
+
+		@Id String code;
+	}
+}
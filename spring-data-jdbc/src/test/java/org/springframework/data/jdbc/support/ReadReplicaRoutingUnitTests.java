@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ReadReplicaRouting}.
+ */
+public class ReadReplicaRoutingUnitTests {
+
+	NamedParameterJdbcOperations primary = mock(NamedParameterJdbcOperations.class);
+	NamedParameterJdbcOperations replica = mock(NamedParameterJdbcOperations.class);
+
+	@AfterEach
+	public void after() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	public void usesReplicaWithoutTransaction() {
+		assertThat(ReadReplicaRouting.getReadOperations(primary, replica)).isSameAs(replica);
+	}
+
+	@Test
+	public void usesReplicaWithinReadOnlyTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(ReadReplicaRouting.getReadOperations(primary, replica)).isSameAs(replica);
+	}
+
+	@Test
+	public void usesPrimaryWithinReadWriteTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(ReadReplicaRouting.getReadOperations(primary, replica)).isSameAs(primary);
+	}
+
+	@Test
+	public void usesPrimaryWithoutReplica() {
+		assertThat(ReadReplicaRouting.getReadOperations(primary, null)).isSameAs(primary);
+	}
+}
@@ -0,0 +1,18 @@
+CREATE TABLE CUSTOMER
+(
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    CUSTOMER_ID BIGINT,
+    NAME        VARCHAR(30)
+);
+
+CREATE TABLE ADDRESS
+(
+    CUSTOMER BIGINT,
+    STREET   VARCHAR(100)
+);
+
+CREATE TABLE PURCHASE
+(
+    CUSTOMER BIGINT,
+    ITEM     VARCHAR(100)
+);
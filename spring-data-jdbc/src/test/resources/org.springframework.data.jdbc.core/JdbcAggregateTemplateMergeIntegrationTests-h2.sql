@@ -0,0 +1,17 @@
+CREATE TABLE CURRENCY
+(
+    CODE VARCHAR(3) PRIMARY KEY,
+    NAME VARCHAR(30)
+);
+
+CREATE TABLE ACCOUNT
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(30)
+);
+
+CREATE TABLE BOOKING
+(
+    ACCOUNT BIGINT,
+    TEXT    VARCHAR(100)
+);
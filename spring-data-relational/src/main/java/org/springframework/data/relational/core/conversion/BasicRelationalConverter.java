@@ -16,10 +16,13 @@
 package org.springframework.data.relational.core.conversion;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.convert.CustomConversions;
@@ -40,6 +43,8 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.NumberUtils;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -59,6 +64,7 @@ public class BasicRelationalConverter implements RelationalConverter {
 	private final ConfigurableConversionService conversionService;
 	private final EntityInstantiators entityInstantiators;
 	private final CustomConversions conversions;
+	private final Map<Class<?>, Map<Class<?>, ValueReader>> valueReaders = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext}.
@@ -157,11 +163,61 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return null;
 		}
 
-		if (conversions.hasCustomReadTarget(value.getClass(), type.getType())) {
-			return conversionService.convert(value, type.getType());
+		return getValueReader(value.getClass(), type.getType()).read(value);
+	}
+
+	/**
+	 * Returns the {@link ValueReader} converting values of {@code sourceType} into {@code targetType}. Readers are
+	 * resolved once per type pair: a custom conversion registered for the pair takes precedence, followed by assignable
+	 * types, {@link Enum} lookup by name, {@link Number} conversion and finally the {@link ConversionService}.
+	 *
+	 * @param sourceType the type of the value as read from the store. Must not be {@literal null}.
+	 * @param targetType the type to convert to. Must not be {@literal null}.
+	 * @return the {@link ValueReader}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	protected ValueReader getValueReader(Class<?> sourceType, Class<?> targetType) {
+
+		Map<Class<?>, ValueReader> readersForSource = valueReaders.get(sourceType);
+		if (readersForSource == null) {
+			readersForSource = valueReaders.computeIfAbsent(sourceType, key -> new ConcurrentReferenceHashMap<>());
+		}
+
+		ValueReader reader = readersForSource.get(targetType);
+		if (reader == null) {
+
+			reader = createValueReader(sourceType, targetType);
+			readersForSource.put(targetType, reader);
+		}
+
+		return reader;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private ValueReader createValueReader(Class<?> sourceType, Class<?> targetType) {
+
+		TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+		TypeDescriptor targetDescriptor = TypeDescriptor.valueOf(targetType);
+
+		if (conversions.hasCustomReadTarget(sourceType, targetType)) {
+			return new CustomConversionValueReader(conversionService, sourceDescriptor, targetDescriptor);
+		}
+
+		if (ClassUtils.isAssignable(targetType, sourceType)) {
+			return IdentityValueReader.INSTANCE;
+		}
+
+		if (targetType.isEnum()) {
+			return new EnumValueReader((Class<Enum>) targetType);
+		}
+
+		Class<?> boxedTargetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+		if (Number.class.isAssignableFrom(sourceType) && Number.class.isAssignableFrom(boxedTargetType)
+				&& !conversions.hasCustomReadTarget(sourceType, boxedTargetType)) {
+			return value -> NumberUtils.convertNumberToTargetClass((Number) value, (Class<Number>) boxedTargetType);
 		}
 
-		return getPotentiallyConvertedSimpleRead(value, type.getType());
+		return value -> conversionService.convert(value, sourceDescriptor, targetDescriptor);
 	}
 
 	/*
@@ -223,29 +279,6 @@ public class BasicRelationalConverter implements RelationalConverter {
 		return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
 	}
 
-	/**
-	 * Checks whether we have a custom conversion for the given simple object. Converts the given value if so, applies
-	 * {@link Enum} handling or returns the value as is.
-	 *
-	 * @param value to be converted. May be {@code null}..
-	 * @param target may be {@code null}..
-	 * @return the converted value if a conversion applies or the original value. Might return {@code null}.
-	 */
-	@Nullable
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private Object getPotentiallyConvertedSimpleRead(@Nullable Object value, @Nullable Class<?> target) {
-
-		if (value == null || target == null || ClassUtils.isAssignableValue(target, value)) {
-			return value;
-		}
-
-		if (Enum.class.isAssignableFrom(target)) {
-			return Enum.valueOf((Class<Enum>) target, value.toString());
-		}
-
-		return conversionService.convert(value, target);
-	}
-
 	/**
 	 * Converter-aware {@link ParameterValueProvider}.
 	 *
@@ -273,4 +306,103 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return (T) readValue(delegate.apply(parameter), parameter.getType());
 		}
 	}
+
+	/**
+	 * Converts values read from the store into the type of the property they are read for. Instances are resolved once
+	 * per pair of source and target type through {@link #getValueReader(Class, Class)}.
+	 *
+	 * @since 2.3
+	 */
+	@FunctionalInterface
+	protected interface ValueReader {
+
+		/**
+		 * Converts {@code value}.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return the converted value. May be {@literal null}.
+		 */
+		@Nullable
+		Object read(Object value);
+
+		/**
+		 * @return whether this reader applies a custom conversion registered with {@link CustomConversions}.
+		 */
+		default boolean isCustomConversion() {
+			return false;
+		}
+	}
+
+	/**
+	 * {@link ValueReader} returning values that are already assignable to the target type as they are.
+	 */
+	private enum IdentityValueReader implements ValueReader {
+
+		INSTANCE;
+
+		@Override
+		public Object read(Object value) {
+			return value;
+		}
+	}
+
+	/**
+	 * {@link ValueReader} applying a custom conversion with pre-resolved {@link TypeDescriptor}s.
+	 */
+	private static final class CustomConversionValueReader implements ValueReader {
+
+		private final ConversionService conversionService;
+		private final TypeDescriptor sourceType;
+		private final TypeDescriptor targetType;
+
+		CustomConversionValueReader(ConversionService conversionService, TypeDescriptor sourceType,
+				TypeDescriptor targetType) {
+
+			this.conversionService = conversionService;
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		@Nullable
+		public Object read(Object value) {
+			return conversionService.convert(value, sourceType, targetType);
+		}
+
+		@Override
+		public boolean isCustomConversion() {
+			return true;
+		}
+	}
+
+	/**
+	 * {@link ValueReader} looking up {@link Enum} constants by the {@link Object#toString() String representation} of
+	 * the value.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class EnumValueReader implements ValueReader {
+
+		private final Class<Enum> enumType;
+		private final Map<String, Enum<?>> constants = new HashMap<>();
+
+		EnumValueReader(Class<Enum> enumType) {
+
+			this.enumType = enumType;
+
+			for (Enum<?> constant : enumType.getEnumConstants()) {
+				constants.put(constant.name(), constant);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object read(Object value) {
+
+			String name = value.toString();
+			Enum<?> constant = constants.get(name);
+
+			// delegate to Enum.valueOf for the exception in case of an unknown name
+			return constant != null ? constant : Enum.valueOf(enumType, name);
+		}
+	}
 }
@@ -160,12 +160,35 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a merge statement for the aggregate root, inserting its row or updating the existing one.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.3
+	 */
+	final class MergeRoot<T> implements WithEntity<T> {
+
+		private final T entity;
+
+		public MergeRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public String toString() {
+			return "DbAction.MergeRoot(entity=" + this.getEntity() + ")";
+		}
+	}
+
 	/**
 	 * Represents a merge statement for a single entity that is not the root of an aggregate.
 	 *
 	 * @param <T> type of the entity for which this represents a database interaction.
 	 */
-	final class Merge<T> implements WithDependingOn<T>, WithPropertyPath<T> {
+	final class Merge<T> implements WithGeneratedId<T>, WithDependingOn<T> {
 
 		private final T entity;
 		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
@@ -180,6 +203,11 @@ public interface DbAction<T> {
 			this.dependingOn = dependingOn;
 		}
 
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
 		public T getEntity() {
 			return this.entity;
 		}
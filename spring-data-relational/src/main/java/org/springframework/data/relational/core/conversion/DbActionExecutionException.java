@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.conversion;
 
+import java.util.List;
+
 /**
  * Exception thrown when during the execution of a {@link DbAction} an exception gets thrown. Provides additional
  * context information about the action and the entity.
@@ -30,4 +32,16 @@ public class DbActionExecutionException extends RuntimeException {
 	public DbActionExecutionException(DbAction<?> action, Throwable cause) {
 		super("Failed to execute " + action, cause);
 	}
+
+	/**
+	 * @param actions the {@link DbAction}s executed together when the exception got thrown. Must not be {@code null} or
+	 *          empty.
+	 * @param cause the underlying exception. May not be {@code null}.
+	 * @since 2.3
+	 */
+	public DbActionExecutionException(List<? extends DbAction<?>> actions, Throwable cause) {
+		super(actions.size() == 1 //
+				? "Failed to execute " + actions.get(0) //
+				: "Failed to execute " + actions.size() + " actions together: " + actions, cause);
+	}
 }
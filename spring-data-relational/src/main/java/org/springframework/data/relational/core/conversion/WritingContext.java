@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
+import org.springframework.data.relational.core.mapping.LazyLoadingRelation;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -84,7 +85,23 @@ class WritingContext {
 		List<DbAction<?>> actions = new ArrayList<>();
 		actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
 		actions.addAll(deleteReferenced());
-		actions.addAll(insertReferenced());
+		actions.addAll(insertReferenced(true));
+		return actions;
+	}
+
+	/**
+	 * Writes the root with a single upsert instead of an update, so it gets inserted if its row doesn't exist yet.
+	 * Referenced entities get deleted and inserted again just as for {@link #update()}.
+	 *
+	 * @return List of {@link DbAction}s
+	 * @since 2.3
+	 */
+	List<DbAction<?>> merge() {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		actions.add(setRootAction(new DbAction.MergeRoot<>(entity)));
+		actions.addAll(deleteReferenced());
+		actions.addAll(insertReferenced(true));
 		return actions;
 	}
 
@@ -95,11 +112,16 @@ class WritingContext {
 
 			actions.add(setRootAction(new DbAction.InsertRoot<>(entity)));
 			actions.addAll(insertReferenced());
+		} else if (isMerged(root)) {
+
+			actions.add(setRootAction(new DbAction.MergeRoot<>(entity)));
+			actions.addAll(deleteReferenced());
+			actions.addAll(insertReferenced(true));
 		} else {
 
 			actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
 			actions.addAll(deleteReferenced());
-			actions.addAll(insertReferenced());
+			actions.addAll(insertReferenced(true));
 		}
 
 		return actions;
@@ -109,13 +131,34 @@ class WritingContext {
 		return context.getRequiredPersistentEntity(o.getClass()).isNew(o);
 	}
 
+	/**
+	 * Roots with an id assigned by the application may or may not have a row yet, unless a version tells.
+	 */
+	private boolean isMerged(Object o) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(o.getClass());
+		return persistentEntity.hasAssignedId() && !persistentEntity.hasVersionProperty();
+	}
+
 	//// Operations on all paths
 
 	private List<DbAction<?>> insertReferenced() {
+		return insertReferenced(false);
+	}
+
+	/**
+	 * @param skipUnresolved whether to leave out paths of lazily loaded relations that haven't been loaded. Their rows
+	 *          are still in place when updating an aggregate.
+	 */
+	private List<DbAction<?>> insertReferenced(boolean skipUnresolved) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		paths.forEach(path -> actions.addAll(insertAll(path)));
+		paths.forEach(path -> {
+			if (!skipUnresolved || !isUnresolvedLazyRelation(path)) {
+				actions.addAll(insertAll(path));
+			}
+		});
 
 		return actions;
 	}
@@ -155,7 +198,11 @@ class WritingContext {
 	private List<DbAction<?>> deleteReferenced() {
 
 		List<DbAction<?>> deletes = new ArrayList<>();
-		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
+		paths.forEach(path -> {
+			if (!isUnresolvedLazyRelation(path)) {
+				deletes.add(0, deleteReferenced(path));
+			}
+		});
 
 		return deletes;
 	}
@@ -226,6 +273,26 @@ class WritingContext {
 		return nodes;
 	}
 
+	/**
+	 * Returns whether {@code path} is, or is nested in, a lazily loaded relation of the aggregate root that hasn't been
+	 * loaded. Only relations directly referenced by the root qualify since the rows of nested relations get recreated
+	 * with their parents anyway.
+	 */
+	private boolean isUnresolvedLazyRelation(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> relationPath = path;
+		while (!isDirectlyReferencedByRootIgnoringEmbeddables(relationPath)) {
+			relationPath = relationPath.getParentPath();
+		}
+
+		if (!relationPath.getRequiredLeafProperty().isLazy()) {
+			return false;
+		}
+
+		Object value = getFromRootValue(relationPath);
+		return value instanceof LazyLoadingRelation && !((LazyLoadingRelation) value).isResolved();
+	}
+
 	private boolean isDirectlyReferencedByRootIgnoringEmbeddables(
 			PersistentPropertyPath<RelationalPersistentProperty> path) {
 
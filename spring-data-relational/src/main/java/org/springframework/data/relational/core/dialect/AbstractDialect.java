@@ -193,7 +193,8 @@ public abstract class AbstractDialect implements Dialect {
 				return "";
 			}
 
-			return clause.getLock(new LockOptions(lockMode, select.getFrom()));
+			return clause.getLock(new LockOptions(lockMode, select.getFrom(), select.getLockWaitPolicy(),
+					select.getLockWaitTimeout()));
 		}
 	}
 
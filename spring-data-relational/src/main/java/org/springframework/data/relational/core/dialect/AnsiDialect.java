@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -83,6 +84,13 @@ public class AnsiDialect extends AbstractDialect {
 		 */
 		@Override
 		public String getLock(LockOptions lockOptions) {
+
+			if (lockOptions.getWaitPolicy() != LockWaitPolicy.WAIT || lockOptions.getWaitTimeout() != null) {
+				throw new UnsupportedOperationException(
+						String.format("Lock wait policy %s with timeout %s is not supported", lockOptions.getWaitPolicy(),
+								lockOptions.getWaitTimeout()));
+			}
+
 			return "FOR UPDATE";
 		}
 
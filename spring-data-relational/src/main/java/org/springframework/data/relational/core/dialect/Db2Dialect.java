@@ -20,6 +20,7 @@ import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * An SQL dialect for DB2.
@@ -95,6 +96,11 @@ public class Db2Dialect extends AbstractDialect {
 
 			@Override
 			public String getLock(LockOptions lockOptions) {
+
+				if (lockOptions.getWaitPolicy() != LockWaitPolicy.WAIT || lockOptions.getWaitTimeout() != null) {
+					throw new UnsupportedOperationException("DB2 does not support lock wait policies per statement");
+				}
+
 				return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
 			}
 
@@ -114,6 +120,17 @@ public class Db2Dialect extends AbstractDialect {
 		return IdentifierProcessing.ANSI;
 	}
 
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "VALUES NEXT VALUE FOR %s");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdGeneration()
+	 */
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
@@ -59,6 +59,27 @@ public interface Dialect {
 		return ArrayColumns.Unsupported.INSTANCE;
 	}
 
+	/**
+	 * Returns the {@link Upsert} object that describes how this dialect inserts or updates a row in a single statement.
+	 *
+	 * @return the {@link Upsert} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	default Upsert upsert() {
+		return Upsert.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link MultiRowInsert} object that describes whether this dialect inserts multiple rows with a single
+	 * statement.
+	 *
+	 * @return the {@link MultiRowInsert} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	default MultiRowInsert multiRowInsert() {
+		return MultiRowInsert.Unsupported.INSTANCE;
+	}
+
 	/**
 	 * Obtain the {@link SelectRenderContext}.
 	 *
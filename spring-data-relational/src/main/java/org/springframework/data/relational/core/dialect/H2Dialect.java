@@ -15,7 +15,9 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
@@ -109,6 +111,54 @@ public class H2Dialect extends AbstractDialect {
 		return ARRAY_COLUMNS;
 	}
 
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "SELECT NEXT VALUE FOR %s");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdGeneration()
+	 */
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public Upsert upsert() {
+		return H2Upsert.INSTANCE;
+	}
+
+	/**
+	 * Renders {@code MERGE INTO … KEY (…) VALUES (…)} statements.
+	 */
+	enum H2Upsert implements Upsert {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns) {
+
+			return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (" + String.join(", ", keyColumns)
+					+ ") VALUES (" + String.join(", ", values) + ")";
+		}
+	}
+
 	static class H2ArrayColumns implements ArrayColumns {
 
 		/*
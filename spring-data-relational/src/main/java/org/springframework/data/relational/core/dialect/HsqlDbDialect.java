@@ -37,6 +37,17 @@ public class HsqlDbDialect extends AbstractDialect {
 		return AnsiDialect.LOCK_CLAUSE;
 	}
 
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "CALL NEXT VALUE FOR %s");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdGeneration()
+	 */
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -17,6 +17,8 @@ package org.springframework.data.relational.core.dialect;
 
 import java.sql.Connection;
 
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
 /**
  * Describes the how obtaining generated ids after an insert works for a given JDBC driver.
  *
@@ -42,4 +44,28 @@ public interface IdGeneration {
 	default boolean driverRequiresKeyColumnNames() {
 		return false;
 	}
+
+	/**
+	 * Returns whether the database supports sequences that can be queried using
+	 * {@link #createSequenceQuery(SqlIdentifier)}.
+	 *
+	 * @return {@literal true} if sequences are supported.
+	 * @since 2.3
+	 */
+	default boolean sequencesSupported() {
+		return false;
+	}
+
+	/**
+	 * Creates a query returning the next value of the given sequence as single row with a single column.
+	 *
+	 * @param sequenceName the name of the sequence. Must not be {@literal null}.
+	 * @return the query. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if sequences are not supported.
+	 * @since 2.3
+	 * @see #sequencesSupported()
+	 */
+	default String createSequenceQuery(SqlIdentifier sequenceName) {
+		throw new UnsupportedOperationException("Sequences not supported");
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Base class for {@link Upsert} implementations rendering a SQL standard {@code MERGE} statement. Subclasses define how
+ * the row of values to merge gets rendered as {@code source}. Generated columns are left out when inserting, since
+ * databases like SQL Server reject explicit values for identity columns.
+ *
+ * @since 2.3
+ */
+abstract class MergeUpsert implements Upsert {
+
+	private static final String TARGET = "target";
+	private static final String SOURCE = "source";
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Upsert#isSupported()
+	 */
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection)
+	 */
+	@Override
+	public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns) {
+		return getUpsert(table, columns, values, keyColumns, Collections.emptySet());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection, java.util.Collection)
+	 */
+	@Override
+	public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns,
+			Collection<String> generatedColumns) {
+
+		StringJoiner condition = new StringJoiner(" AND ");
+		for (String keyColumn : keyColumns) {
+			condition.add(TARGET + "." + keyColumn + " = " + SOURCE + "." + keyColumn);
+		}
+
+		StringBuilder merge = new StringBuilder("MERGE INTO ").append(table).append(' ') //
+				.append(getTargetAlias(TARGET)) //
+				.append(" USING ").append(getSource(SOURCE, columns, values)) //
+				.append(" ON (").append(condition).append(')');
+
+		List<String> updatedColumns = Upsert.getUpdatedColumns(columns, keyColumns);
+		if (!updatedColumns.isEmpty()) {
+
+			StringJoiner updates = new StringJoiner(", ");
+			for (String column : updatedColumns) {
+				updates.add(column + " = " + SOURCE + "." + column);
+			}
+			merge.append(" WHEN MATCHED THEN UPDATE SET ").append(updates);
+		}
+
+		List<String> insertedColumns = Upsert.getUpdatedColumns(columns, generatedColumns);
+		StringJoiner sourceValues = new StringJoiner(", ");
+		for (String column : insertedColumns) {
+			sourceValues.add(SOURCE + "." + column);
+		}
+
+		return merge.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", insertedColumns))
+				.append(") VALUES (").append(sourceValues).append(')') //
+				.append(getTerminator()) //
+				.toString();
+	}
+
+	/**
+	 * Renders the alias of the target table.
+	 *
+	 * @param alias the alias name.
+	 * @return the rendered alias declaration.
+	 */
+	protected String getTargetAlias(String alias) {
+		return "AS " + alias;
+	}
+
+	/**
+	 * Renders a single row derived table containing {@code values} under the names of {@code columns}.
+	 *
+	 * @param alias the alias of the derived table.
+	 * @param columns the column names.
+	 * @param values the value expressions in the same order as {@code columns}.
+	 * @return the rendered derived table including its alias.
+	 */
+	protected abstract String getSource(String alias, List<String> columns, List<String> values);
+
+	/**
+	 * @return text to append to the statement. Empty by default.
+	 */
+	protected String getTerminator() {
+		return "";
+	}
+}
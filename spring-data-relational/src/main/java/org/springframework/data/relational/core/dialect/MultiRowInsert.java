@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+/**
+ * Interface declaring whether and up to which size a dialect supports inserting multiple rows with a single
+ * {@code INSERT … VALUES (…), (…)} statement.
+ *
+ * @since 2.3
+ */
+public interface MultiRowInsert {
+
+	/**
+	 * Returns {@literal true} if the dialect supports multi-row inserts.
+	 *
+	 * @return {@literal true} if the dialect supports multi-row inserts.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Returns the maximum number of rows of a single statement.
+	 *
+	 * @return the maximum number of rows, {@literal 1} if multi-row inserts are not supported.
+	 */
+	int getMaxRows();
+
+	/**
+	 * Returns the maximum number of bind parameters of a single statement.
+	 *
+	 * @return the maximum number of bind parameters.
+	 */
+	int getMaxParameters();
+
+	/**
+	 * Returns the maximum number of rows of a single statement binding {@code parametersPerRow} parameters per row,
+	 * respecting both {@link #getMaxRows()} and {@link #getMaxParameters()}.
+	 *
+	 * @param parametersPerRow the number of bind parameters of each row.
+	 * @return the maximum number of rows, at least {@literal 1}.
+	 */
+	default int getMaxRows(int parametersPerRow) {
+
+		if (!isSupported()) {
+			return 1;
+		}
+
+		int maxRows = parametersPerRow <= 0 ? getMaxRows() : Math.min(getMaxRows(), getMaxParameters() / parametersPerRow);
+		return Math.max(1, maxRows);
+	}
+
+	/**
+	 * Creates a {@link MultiRowInsert} supporting multi-row inserts with the given limits.
+	 *
+	 * @param maxRows the maximum number of rows of a single statement.
+	 * @param maxParameters the maximum number of bind parameters of a single statement.
+	 * @return the {@link MultiRowInsert}.
+	 */
+	static MultiRowInsert limitedTo(int maxRows, int maxParameters) {
+
+		return new MultiRowInsert() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#isSupported()
+			 */
+			@Override
+			public boolean isSupported() {
+				return true;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#getMaxRows()
+			 */
+			@Override
+			public int getMaxRows() {
+				return maxRows;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#getMaxParameters()
+			 */
+			@Override
+			public int getMaxParameters() {
+				return maxParameters;
+			}
+		};
+	}
+
+	/**
+	 * Default {@link MultiRowInsert} implementation for dialects that do not support multi-row inserts.
+	 */
+	enum Unsupported implements MultiRowInsert {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#getMaxRows()
+		 */
+		@Override
+		public int getMaxRows() {
+			return 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInsert#getMaxParameters()
+		 */
+		@Override
+		public int getMaxParameters() {
+			return Integer.MAX_VALUE;
+		}
+	}
+}
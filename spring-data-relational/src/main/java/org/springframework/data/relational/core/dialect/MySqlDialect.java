@@ -17,9 +17,12 @@ package org.springframework.data.relational.core.dialect;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
 import org.springframework.util.Assert;
@@ -64,6 +67,9 @@ public class MySqlDialect extends AbstractDialect {
 		this.identifierProcessing = identifierProcessing;
 	}
 
+	// MySQL limits statements to 65535 bind parameters.
+	private static final MultiRowInsert MULTI_ROW_INSERT = MultiRowInsert.limitedTo(1000, 65535);
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		/*
@@ -115,13 +121,35 @@ public class MySqlDialect extends AbstractDialect {
 		 */
 		@Override
 		public String getLock(LockOptions lockOptions) {
+			if (lockOptions.getWaitTimeout() != null) {
+				throw new UnsupportedOperationException(
+						"MySQL does not support lock wait timeouts per statement; configure innodb_lock_wait_timeout instead");
+			}
+
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE";
+					return "FOR UPDATE" + getWaitClause(lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "LOCK IN SHARE MODE";
+					// NOWAIT and SKIP LOCKED require the FOR SHARE syntax introduced with MySQL 8
+					return lockOptions.getWaitPolicy() == LockWaitPolicy.WAIT ? "LOCK IN SHARE MODE"
+							: "FOR SHARE" + getWaitClause(lockOptions);
+
+				default:
+					return "";
+			}
+		}
+
+		private String getWaitClause(LockOptions lockOptions) {
+
+			switch (lockOptions.getWaitPolicy()) {
+
+				case NO_WAIT:
+					return " NOWAIT";
+
+				case SKIP_LOCKED:
+					return " SKIP LOCKED";
 
 				default:
 					return "";
@@ -169,4 +197,64 @@ public class MySqlDialect extends AbstractDialect {
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public Upsert upsert() {
+		return MySqlUpsert.INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#multiRowInsert()
+	 */
+	@Override
+	public MultiRowInsert multiRowInsert() {
+		return MULTI_ROW_INSERT;
+	}
+
+	/**
+	 * Renders {@code INSERT … ON DUPLICATE KEY UPDATE …} statements. Uses the {@code VALUES(…)} function to refer to
+	 * the inserted values, which MySQL and MariaDB both understand.
+	 */
+	enum MySqlUpsert implements Upsert {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns) {
+
+			List<String> updatedColumns = Upsert.getUpdatedColumns(columns, keyColumns);
+
+			StringJoiner updates = new StringJoiner(", ");
+			if (updatedColumns.isEmpty()) {
+
+				// a no-op update keeps the existing row without raising an error
+				String keyColumn = keyColumns.iterator().next();
+				updates.add(keyColumn + " = " + keyColumn);
+			}
+			for (String column : updatedColumns) {
+				updates.add(column + " = VALUES(" + column + ")");
+			}
+
+			return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + String.join(", ", values)
+					+ ") ON DUPLICATE KEY UPDATE " + updates;
+		}
+	}
 }
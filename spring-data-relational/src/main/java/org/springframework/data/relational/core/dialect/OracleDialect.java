@@ -18,9 +18,13 @@ package org.springframework.data.relational.core.dialect;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.relational.core.sql.LockOptions;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 
 import static java.util.Arrays.*;
 
@@ -37,7 +41,7 @@ public class OracleDialect extends AnsiDialect {
 	 */
 	public static final OracleDialect INSTANCE = new OracleDialect();
 
-	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "SELECT %s.nextval FROM DUAL") {
 		@Override
 		public boolean driverRequiresKeyColumnNames() {
 			return true;
@@ -48,9 +52,93 @@ public class OracleDialect extends AnsiDialect {
 
 	@Override
 	public IdGeneration getIdGeneration() {
-		return ID_GENERATION;
+		return idGeneration;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public Upsert upsert() {
+		return UPSERT;
+	}
+
+	private static final Upsert UPSERT = new MergeUpsert() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MergeUpsert#getTargetAlias(java.lang.String)
+		 */
+		@Override
+		protected String getTargetAlias(String alias) {
+			return alias; // Oracle doesn't accept AS for table aliases
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MergeUpsert#getSource(java.lang.String, java.util.List, java.util.List)
+		 */
+		@Override
+		protected String getSource(String alias, List<String> columns, List<String> values) {
+
+			StringJoiner select = new StringJoiner(", ", "(SELECT ", " FROM DUAL) " + alias);
+			for (int i = 0; i < columns.size(); i++) {
+				select.add(values.get(i) + " " + columns.get(i));
+			}
+			return select.toString();
+		}
+	};
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#lock()
+	 */
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LockClause#getLock(LockOptions)
+		 */
+		@Override
+		public String getLock(LockOptions lockOptions) {
+
+			Duration waitTimeout = lockOptions.getWaitTimeout();
+			if (waitTimeout != null) {
+
+				// Oracle waits whole seconds, round up so short timeouts don't turn into NOWAIT
+				long seconds = waitTimeout.getSeconds() + (waitTimeout.getNano() > 0 ? 1 : 0);
+				return "FOR UPDATE WAIT " + seconds;
+			}
+
+			switch (lockOptions.getWaitPolicy()) {
+
+				case NO_WAIT:
+					return "FOR UPDATE NOWAIT";
+
+				case SKIP_LOCKED:
+					return "FOR UPDATE SKIP LOCKED";
+
+				default:
+					return "FOR UPDATE";
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LockClause#getClausePosition()
+		 */
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+	};
+
 	@Override
 	public Collection<Object> getConverters() {
 		return asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE, NumberToBooleanConverter.INSTANCE, BooleanToIntegerConverter.INSTANCE);
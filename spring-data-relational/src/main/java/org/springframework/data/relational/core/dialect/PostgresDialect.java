@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.dialect;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.StringJoiner;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
@@ -45,6 +46,9 @@ public class PostgresDialect extends AbstractDialect {
 
 	protected PostgresDialect() {}
 
+	// The PostgreSQL wire protocol limits statements to 32767 bind parameters.
+	private static final MultiRowInsert MULTI_ROW_INSERT = MultiRowInsert.limitedTo(1000, 32767);
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		/*
@@ -120,6 +124,69 @@ public class PostgresDialect extends AbstractDialect {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
 
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "SELECT nextval('%s')");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdGeneration()
+	 */
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public Upsert upsert() {
+		return PostgresUpsert.INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#multiRowInsert()
+	 */
+	@Override
+	public MultiRowInsert multiRowInsert() {
+		return MULTI_ROW_INSERT;
+	}
+
+	/**
+	 * Renders {@code INSERT … ON CONFLICT (…) DO UPDATE SET …} statements.
+	 */
+	enum PostgresUpsert implements Upsert {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns) {
+
+			StringJoiner updates = new StringJoiner(", ");
+			for (String column : Upsert.getUpdatedColumns(columns, keyColumns)) {
+				updates.add(column + " = EXCLUDED." + column);
+			}
+
+			return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + String.join(", ", values)
+					+ ") ON CONFLICT (" + String.join(", ", keyColumns) + ") "
+					+ (updates.length() == 0 ? "DO NOTHING" : "DO UPDATE SET " + updates);
+		}
+	}
+
 	static class PostgresLockClause implements LockClause {
 
 		private final IdentifierProcessing identifierProcessing;
@@ -154,10 +221,30 @@ public class PostgresDialect extends AbstractDialect {
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE OF " + tableName;
+					return "FOR UPDATE OF " + tableName + getWaitClause(lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "FOR SHARE OF " + tableName;
+					return "FOR SHARE OF " + tableName + getWaitClause(lockOptions);
+
+				default:
+					return "";
+			}
+		}
+
+		private static String getWaitClause(LockOptions lockOptions) {
+
+			if (lockOptions.getWaitTimeout() != null) {
+				throw new UnsupportedOperationException(
+						"Postgres does not support lock wait timeouts per statement; configure lock_timeout instead");
+			}
+
+			switch (lockOptions.getWaitPolicy()) {
+
+				case NO_WAIT:
+					return " NOWAIT";
+
+				case SKIP_LOCKED:
+					return " SKIP LOCKED";
 
 				default:
 					return "";
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IdGeneration} for databases supporting sequences. The sequence query is created from a template with a single
+ * {@code %s} placeholder for the sequence name, rendered using the {@link Dialect#getIdentifierProcessing()
+ * identifier processing} of the dialect.
+ *
+ * @since 2.3
+ */
+class SequenceIdGeneration implements IdGeneration {
+
+	private final Dialect dialect;
+	private final String sequenceQueryTemplate;
+
+	SequenceIdGeneration(Dialect dialect, String sequenceQueryTemplate) {
+
+		this.dialect = dialect;
+		this.sequenceQueryTemplate = sequenceQueryTemplate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.IdGeneration#sequencesSupported()
+	 */
+	@Override
+	public boolean sequencesSupported() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.IdGeneration#createSequenceQuery(org.springframework.data.relational.core.sql.SqlIdentifier)
+	 */
+	@Override
+	public String createSequenceQuery(SqlIdentifier sequenceName) {
+
+		Assert.notNull(sequenceName, "Sequence name must not be null");
+
+		return String.format(sequenceQueryTemplate, sequenceName.toSql(dialect.getIdentifierProcessing()));
+	}
+}
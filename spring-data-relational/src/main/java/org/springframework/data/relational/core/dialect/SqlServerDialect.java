@@ -15,8 +15,11 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.List;
+
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.util.Lazy;
 
@@ -37,6 +40,9 @@ public class SqlServerDialect extends AbstractDialect {
 
 	protected SqlServerDialect() {}
 
+	// SQL Server limits row constructors to 1000 rows and statements to 2100 parameters.
+	private static final MultiRowInsert MULTI_ROW_INSERT = MultiRowInsert.limitedTo(1000, 2000);
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		/*
@@ -84,13 +90,38 @@ public class SqlServerDialect extends AbstractDialect {
 		 */
 		@Override
 		public String getLock(LockOptions lockOptions) {
+			if (lockOptions.getWaitTimeout() != null) {
+				throw new UnsupportedOperationException(
+						"SQL Server does not support lock wait timeouts per statement; use SET LOCK_TIMEOUT instead");
+			}
+
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "WITH (UPDLOCK, ROWLOCK)";
+					return "WITH (UPDLOCK, ROWLOCK" + getWaitHint(lockOptions) + ")";
 
 				case PESSIMISTIC_READ:
-					return "WITH (HOLDLOCK, ROWLOCK)";
+
+					// READPAST is not allowed in combination with HOLDLOCK
+					if (lockOptions.getWaitPolicy() == LockWaitPolicy.SKIP_LOCKED) {
+						throw new UnsupportedOperationException("SQL Server cannot skip locked rows for PESSIMISTIC_READ");
+					}
+					return "WITH (HOLDLOCK, ROWLOCK" + getWaitHint(lockOptions) + ")";
+
+				default:
+					return "";
+			}
+		}
+
+		private String getWaitHint(LockOptions lockOptions) {
+
+			switch (lockOptions.getWaitPolicy()) {
+
+				case NO_WAIT:
+					return ", NOWAIT";
+
+				case SKIP_LOCKED:
+					return ", READPAST";
 
 				default:
 					return "";
@@ -150,4 +181,54 @@ public class SqlServerDialect extends AbstractDialect {
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.NONE;
 	}
+
+	private final IdGeneration idGeneration = new SequenceIdGeneration(this, "SELECT NEXT VALUE FOR %s");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdGeneration()
+	 */
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public Upsert upsert() {
+		return UPSERT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#multiRowInsert()
+	 */
+	@Override
+	public MultiRowInsert multiRowInsert() {
+		return MULTI_ROW_INSERT;
+	}
+
+	private static final Upsert UPSERT = new MergeUpsert() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MergeUpsert#getSource(java.lang.String, java.util.List, java.util.List)
+		 */
+		@Override
+		protected String getSource(String alias, List<String> columns, List<String> values) {
+			return "(VALUES (" + String.join(", ", values) + ")) AS " + alias + " (" + String.join(", ", columns) + ")";
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MergeUpsert#getTerminator()
+		 */
+		@Override
+		protected String getTerminator() {
+			return ";"; // SQL Server requires MERGE statements to be terminated
+		}
+	};
 }
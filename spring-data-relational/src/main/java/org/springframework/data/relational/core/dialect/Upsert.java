@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface declaring how a dialect renders an upsert: a single statement that inserts a row or updates the existing
+ * row with the same key.
+ *
+ * @since 2.3
+ */
+public interface Upsert {
+
+	/**
+	 * Returns {@literal true} if the dialect supports upserts.
+	 *
+	 * @return {@literal true} if the dialect supports upserts.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Renders an upsert statement. All arguments are already rendered SQL fragments. Columns not contained in
+	 * {@code keyColumns} get updated when a row with the same key exists.
+	 *
+	 * @param table the rendered table name.
+	 * @param columns the rendered names of all columns to insert, including the key columns.
+	 * @param values the value expressions, typically bind markers, in the same order as {@code columns}.
+	 * @param keyColumns the rendered names of the columns identifying an existing row. Must be contained in
+	 *          {@code columns}.
+	 * @return the rendered statement.
+	 * @throws UnsupportedOperationException if upserts are not supported.
+	 */
+	String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns);
+
+	/**
+	 * Renders an upsert statement for a table whose {@code generatedColumns} get their values generated by the database,
+	 * e.g. identity columns. Dialects that reject explicit values for such columns leave them out when inserting. The
+	 * default implementation renders {@link #getUpsert(String, List, List, Collection)}.
+	 *
+	 * @param table the rendered table name.
+	 * @param columns the rendered names of all columns to insert, including the key columns.
+	 * @param values the value expressions, typically bind markers, in the same order as {@code columns}.
+	 * @param keyColumns the rendered names of the columns identifying an existing row. Must be contained in
+	 *          {@code columns}.
+	 * @param generatedColumns the rendered names of the columns generated by the database.
+	 * @return the rendered statement.
+	 * @throws UnsupportedOperationException if upserts are not supported.
+	 */
+	default String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns,
+			Collection<String> generatedColumns) {
+		return getUpsert(table, columns, values, keyColumns);
+	}
+
+	/**
+	 * Returns the columns that get updated when a row with the same key exists.
+	 *
+	 * @param columns all columns.
+	 * @param keyColumns the key columns.
+	 * @return the columns of {@code columns} that are no key columns.
+	 */
+	static List<String> getUpdatedColumns(List<String> columns, Collection<String> keyColumns) {
+
+		List<String> updatedColumns = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			if (!keyColumns.contains(column)) {
+				updatedColumns.add(column);
+			}
+		}
+		return updatedColumns;
+	}
+
+	/**
+	 * Default {@link Upsert} implementation for dialects that do not support upserts.
+	 */
+	enum Unsupported implements Upsert {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Upsert#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.Collection)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> columns, List<String> values, Collection<String> keyColumns) {
+			throw new UnsupportedOperationException("Upserts not supported");
+		}
+	}
+}
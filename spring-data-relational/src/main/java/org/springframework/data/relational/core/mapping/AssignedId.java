@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an id property whose values get assigned by the application instead of being generated by the database.
+ * <p>
+ * Aggregate roots with such an id and without a version property are considered new only if their id is not set, so
+ * saving one with an id set can't tell whether its row exists. Saving writes the root with a single upsert, inserting
+ * the row or updating the existing one, if the dialect supports upserts.
+ * <p>
+ * Ids that are neither assigned nor backed by a {@link Sequence} are considered generated by the database, e.g. by an
+ * identity column, and upserts leave them out of the inserted values where the database rejects explicit values.
+ *
+ * @since 2.3
+ * @see org.springframework.data.relational.core.dialect.Upsert
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface AssignedId {}
@@ -27,6 +27,7 @@ import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Optionals;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -46,6 +47,10 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 	private final Lazy<SqlIdentifier> collectionKeyColumnName;
 	private final Lazy<Boolean> isEmbedded;
 	private final Lazy<String> embeddedPrefix;
+	private final Lazy<Optional<SqlIdentifier>> sequence;
+	private final Lazy<Boolean> isAssignedId;
+	private final Lazy<Boolean> isJsonColumn;
+	private final Lazy<Boolean> isLazy;
 	private final NamingStrategy namingStrategy;
 	private boolean forceQuote = true;
 
@@ -103,6 +108,19 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 				.findFirst() //
 				.map(this::createSqlIdentifier)); //
 
+		this.sequence = Lazy.of(() -> Optional.ofNullable(findAnnotation(Sequence.class)) //
+				.filter(it -> StringUtils.hasText(it.value())) //
+				.map(it -> StringUtils.hasText(it.schema()) //
+						? SqlIdentifier.from(createSqlIdentifier(it.schema()), createSqlIdentifier(it.value())) //
+						: createSqlIdentifier(it.value())));
+
+		this.isAssignedId = Lazy.of(() -> isIdProperty() && isAnnotationPresent(AssignedId.class));
+		this.isJsonColumn = Lazy.of(() -> isAnnotationPresent(JsonColumn.class));
+
+		this.isLazy = Lazy.of(() -> Optional.ofNullable(findAnnotation(MappedCollection.class)) //
+				.map(MappedCollection::lazy) //
+				.orElse(false));
+
 		this.collectionKeyColumnName = Lazy.of(() -> Optionals //
 				.toStream(Optional.ofNullable(findAnnotation(MappedCollection.class)).map(MappedCollection::keyColumn)) //
 				.filter(StringUtils::hasText).findFirst() //
@@ -137,7 +155,7 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 
 	@Override
 	public boolean isEntity() {
-		return super.isEntity() && !isAssociation();
+		return super.isEntity() && !isAssociation() && !isJsonColumn();
 	}
 
 	@Override
@@ -154,6 +172,43 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return columnName.get();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentProperty#getSequence()
+	 */
+	@Override
+	@Nullable
+	public SqlIdentifier getSequence() {
+		return sequence.get().orElse(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentProperty#isAssignedId()
+	 */
+	@Override
+	public boolean isAssignedId() {
+		return isAssignedId.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentProperty#isJsonColumn()
+	 */
+	@Override
+	public boolean isJsonColumn() {
+		return isJsonColumn.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentProperty#isLazy()
+	 */
+	@Override
+	public boolean isLazy() {
+		return isLazy.get();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.AbstractPersistentProperty#getOwner()
@@ -23,7 +23,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * A {@link NamingStrategy} to cache the results of the target one.
+ * A {@link NamingStrategy} to cache the results of the target one. The schema is not cached if the target resolves it
+ * {@link NamingStrategy#isSchemaPerCall() on each call}.
  *
  * @author Oliver Drotbohm
  * @since 1.1
@@ -68,6 +69,11 @@ class CachingNamingStrategy implements NamingStrategy {
 	@Override
 	@Deprecated
 	public String getQualifiedTableName(Class<?> type) {
+
+		if (delegate.isSchemaPerCall()) {
+			return delegate.getQualifiedTableName(type);
+		}
+
 		return qualifiedTableNames.computeIfAbsent(type, delegate::getQualifiedTableName);
 	}
 
@@ -104,7 +110,16 @@ class CachingNamingStrategy implements NamingStrategy {
 	 */
 	@Override
 	public String getSchema() {
-		return schema.get();
+		return delegate.isSchemaPerCall() ? delegate.getSchema() : schema.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.NamingStrategy#isSchemaPerCall()
+	 */
+	@Override
+	public boolean isSchemaPerCall() {
+		return delegate.isSchemaPerCall();
 	}
 
 	/*
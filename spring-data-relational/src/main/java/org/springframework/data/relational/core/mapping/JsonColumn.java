@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores the value of a property as a JSON document in a single column of the table of its owner instead of mapping it
+ * to a table of its own. This is meant for small collections, maps or objects of value objects that are always loaded
+ * and saved together with their owner: they get written and read as part of the row of the owner without additional
+ * statements. The values can't be referenced by queries other than through the functions the database provides for
+ * JSON columns.
+ * <p>
+ * The column should use the JSON type of the database if there is one, e.g. {@code jsonb} on PostgreSQL or
+ * {@code JSON} on MySQL and H2. Collections of simple values don't need this annotation as they get mapped to SQL
+ * arrays on databases supporting them.
+ *
+ * @since 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface JsonColumn {}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+/**
+ * Implemented by the collections and maps held by {@link MappedCollection#lazy() lazily loaded} properties. They load
+ * their content on first access.
+ *
+ * @since 2.3
+ */
+public interface LazyLoadingRelation {
+
+	/**
+	 * Returns whether the content got loaded already.
+	 *
+	 * @return {@literal true} if the content got loaded.
+	 */
+	boolean isResolved();
+}
@@ -51,4 +51,17 @@ public @interface MappedCollection {
 	 * @see NamingStrategy#getKeyColumn(RelationalPersistentProperty)
 	 */
 	String keyColumn() default "";
+
+	/**
+	 * Whether the collection gets loaded on first access instead of together with its owner. The property then holds a
+	 * {@link LazyLoadingRelation} which loads the collection when any of its methods gets called. Saving an aggregate
+	 * root leaves the rows of a lazily loaded collection it references directly untouched unless the collection got
+	 * loaded or replaced. Only properties of type {@link List}, {@link Set}, {@link Map}, {@link java.util.Collection} or
+	 * {@link Iterable} can be loaded lazily; others are loaded with their owner.
+	 * <p>
+	 * Loading happens outside of the transaction that loaded the owner unless that transaction is still active.
+	 *
+	 * @since 2.3
+	 */
+	boolean lazy() default false;
 }
@@ -50,6 +50,18 @@ public interface NamingStrategy {
 		return "";
 	}
 
+	/**
+	 * Returns whether {@link #getSchema()} depends on the calling context, for example on the tenant bound to the current
+	 * thread. Such schemas get resolved for every statement instead of once, and SQL rendered for one schema is never
+	 * used for another.
+	 *
+	 * @return {@literal true} if the schema is resolved on each call. Defaults to {@literal false}.
+	 * @since 2.3
+	 */
+	default boolean isSchemaPerCall() {
+		return false;
+	}
+
 	/**
 	 * The name of the table to be used for persisting entities having the type passed as an argument. The default
 	 * implementation takes the {@code type.getSimpleName()} and separates camel case parts with '_'.
@@ -40,4 +40,17 @@ public interface RelationalPersistentEntity<T> extends MutablePersistentEntity<T
 	 * @return will never be {@literal null}.
 	 */
 	SqlIdentifier getIdColumn();
+
+	/**
+	 * Returns whether the identifier of this entity gets assigned by the application as configured by
+	 * {@link AssignedId}.
+	 *
+	 * @return {@literal true} if the entity has an id property with application assigned values.
+	 * @since 2.3
+	 */
+	default boolean hasAssignedId() {
+
+		RelationalPersistentProperty idProperty = getIdProperty();
+		return idProperty != null && idProperty.isAssignedId();
+	}
 }
@@ -78,6 +78,50 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 		return null;
 	};
 
+	/**
+	 * Returns the name of the sequence providing values for this property as configured by {@link Sequence}.
+	 *
+	 * @return the sequence name or {@literal null} if the property is not backed by a sequence.
+	 * @since 2.3
+	 */
+	@Nullable
+	default SqlIdentifier getSequence() {
+		return null;
+	}
+
+	/**
+	 * Returns whether the values of this id property get assigned by the application as configured by
+	 * {@link AssignedId}.
+	 *
+	 * @return {@literal true} if the values get assigned by the application.
+	 * @since 2.3
+	 */
+	default boolean isAssignedId() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the value of this property is stored as a JSON document in a single column as configured by
+	 * {@link JsonColumn}.
+	 *
+	 * @return {@literal true} if the property is stored as JSON document.
+	 * @since 2.3
+	 */
+	default boolean isJsonColumn() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the collection or map referenced by this property gets loaded on first access as configured by
+	 * {@link MappedCollection#lazy()}.
+	 *
+	 * @return {@literal true} if the property gets loaded lazily.
+	 * @since 2.3
+	 */
+	default boolean isLazy() {
+		return false;
+	}
+
 	/**
 	 * Returns whether an empty embedded object is supposed to be created for this property.
 	 *
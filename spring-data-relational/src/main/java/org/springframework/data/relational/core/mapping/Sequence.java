@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies a database sequence providing the values of an id property. Instead of letting the database generate the
+ * id during the {@code INSERT}, the id gets obtained from the sequence beforehand and inserted like any other value.
+ * <p>
+ * With an {@link #allocationSize()} greater than one, a single call to the sequence reserves a block of ids: the value
+ * {@code v} returned by the sequence reserves the ids {@code v} to {@code v + allocationSize - 1}. The sequence must
+ * therefore be defined with an increment equal to the allocation size.
+ *
+ * @since 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Sequence {
+
+	/**
+	 * The name of the sequence.
+	 */
+	String value();
+
+	/**
+	 * The schema containing the sequence. Defaults to the schema of the table of the entity as returned by
+	 * {@link NamingStrategy#getSchema()}, or to the schema of the connection if that is empty.
+	 */
+	String schema() default "";
+
+	/**
+	 * The number of ids reserved by a single call to the sequence. Must match the increment of the sequence.
+	 */
+	int allocationSize() default 1;
+}
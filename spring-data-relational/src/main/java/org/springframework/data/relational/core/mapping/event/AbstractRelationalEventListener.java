@@ -57,6 +57,8 @@ public class AbstractRelationalEventListener<E> implements ApplicationListener<A
 
 		if (event instanceof AfterLoadEvent) {
 			onAfterLoad((AfterLoadEvent<E>) event);
+		} else if (event instanceof AfterLoadAllEvent) {
+			onAfterLoadAll((AfterLoadAllEvent<E>) event);
 		} else if (event instanceof AfterDeleteEvent) {
 			onAfterDelete((AfterDeleteEvent<E>) event);
 		} else if (event instanceof AfterSaveEvent) {
@@ -118,6 +120,19 @@ public class AbstractRelationalEventListener<E> implements ApplicationListener<A
 		}
 	}
 
+	/**
+	 * Captures {@link AfterLoadAllEvent}.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.3
+	 */
+	protected void onAfterLoadAll(AfterLoadAllEvent<E> event) {
+
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("onAfterLoadAll({})", event.getEntities());
+		}
+	}
+
 	/**
 	 * Captures {@link AfterDeleteEvent}.
 	 *
@@ -142,4 +157,11 @@ public class AbstractRelationalEventListener<E> implements ApplicationListener<A
 		}
 	}
 
+	/**
+	 * @return the type of entities this listener handles events for.
+	 */
+	Class<?> getDomainClass() {
+		return domainClass;
+	}
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Gets published once after all aggregates of a query got loaded and the {@link AfterLoadEvent}s and
+ * {@link AfterLoadCallback}s for the individual aggregates got processed. This allows to process the loaded aggregates
+ * as a batch, for example to load related data with a single query.
+ *
+ * @param <E> the type of the loaded aggregate roots.
+ * @since 2.3
+ */
+public class AfterLoadAllEvent<E> extends AbstractRelationalEvent<E> {
+
+	private static final long serialVersionUID = -2386207455163512047L;
+
+	private final List<E> entities;
+	private final Class<E> type;
+
+	/**
+	 * @param entities the loaded aggregate roots. Must not be {@literal null}.
+	 * @param type the type of the aggregate roots. Must not be {@literal null}.
+	 */
+	public AfterLoadAllEvent(List<E> entities, Class<E> type) {
+
+		super(entities);
+
+		Assert.notNull(type, "Type must not be null!");
+
+		this.entities = entities;
+		this.type = type;
+	}
+
+	/**
+	 * @return the loaded aggregate roots. Guaranteed to be not {@literal null}.
+	 */
+	public List<E> getEntities() {
+		return entities;
+	}
+
+	/**
+	 * @return always {@literal null} as this event refers to multiple entities.
+	 * @see #getEntities()
+	 */
+	@Nullable
+	@Override
+	public E getEntity() {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.event.RelationalEvent#getType()
+	 */
+	@Override
+	public Class<E> getType() {
+		return type;
+	}
+}
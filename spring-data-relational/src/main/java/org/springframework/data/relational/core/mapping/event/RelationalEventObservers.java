@@ -0,0 +1,274 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mapping.callback.EntityCallback;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Detects whether events and {@link EntityCallback}s for a given entity type have any observer registered with an
+ * {@link ApplicationContext}, so that unobserved events don't need to get created at all. Results are cached per event
+ * or callback type and entity type. The cache gets cleared whenever the {@link ApplicationContext} gets refreshed and
+ * cached listener lookups also whenever listeners get added to or removed from the context or one of its parents, for
+ * example through {@link ConfigurableApplicationContext#addApplicationListener(ApplicationListener)}.
+ * <p>
+ * Listeners are looked up as {@link ApplicationListener} beans and as listeners registered with the context, for
+ * example the ones created for {@link org.springframework.context.event.EventListener} methods, including the ones of
+ * parent contexts. Detection errs on the side of caution: callbacks whose entity type can't be determined count as
+ * observers, and all events count as observed while a context isn't active or if it uses a custom
+ * {@link org.springframework.context.event.ApplicationEventMulticaster}.
+ *
+ * @since 2.3
+ */
+public class RelationalEventObservers implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final RelationalEventObservers ALL = new RelationalEventObservers(null);
+
+	private final @Nullable ApplicationContext context;
+	private final Map<Class<?>, Map<Class<?>, Boolean>> listeners = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<Class<?>, Boolean>> callbacks = new ConcurrentHashMap<>();
+	private volatile int registeredListeners = -1;
+
+	private RelationalEventObservers(@Nullable ApplicationContext context) {
+		this.context = context;
+	}
+
+	/**
+	 * Creates {@link RelationalEventObservers} detecting the observers of events published through {@code publisher}.
+	 * Only {@link ApplicationContext}s allow detection, for other publishers all events count as observed.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @return the {@link RelationalEventObservers} for {@code publisher}.
+	 */
+	public static RelationalEventObservers of(ApplicationEventPublisher publisher) {
+
+		if (!(publisher instanceof ApplicationContext)) {
+			return ALL;
+		}
+
+		RelationalEventObservers observers = new RelationalEventObservers((ApplicationContext) publisher);
+
+		if (publisher instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) publisher).addApplicationListener(observers);
+		}
+
+		return observers;
+	}
+
+	/**
+	 * Returns {@link RelationalEventObservers} considering all events and callbacks observed.
+	 *
+	 * @return {@link RelationalEventObservers} considering all events and callbacks observed.
+	 */
+	public static RelationalEventObservers all() {
+		return ALL;
+	}
+
+	/**
+	 * Returns whether any listener would receive an event of the given type for an entity of the given type.
+	 *
+	 * @param eventType the type of the event. Must not be {@literal null}.
+	 * @param entityType the type of the entity the event refers to. Must not be {@literal null}.
+	 * @return whether an event of type {@code eventType} needs to get published.
+	 */
+	public boolean hasListeners(Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+
+		if (context != null) {
+
+			int registered = countRegisteredListeners(context);
+
+			if (registered != registeredListeners) {
+
+				listeners.clear();
+				registeredListeners = registered;
+			}
+		}
+
+		return isObserved(listeners, eventType, entityType, RelationalEventObservers::detectListeners);
+	}
+
+	/**
+	 * Returns whether any {@link EntityCallback} of the given type exists for an entity of the given type.
+	 *
+	 * @param callbackType the type of the callback. Must not be {@literal null}.
+	 * @param entityType the type of the entity the callback gets invoked for. Must not be {@literal null}.
+	 * @return whether callbacks of type {@code callbackType} need to get invoked.
+	 */
+	public boolean hasCallbacks(Class<? extends EntityCallback> callbackType, Class<?> entityType) {
+		return isObserved(callbacks, callbackType, entityType, RelationalEventObservers::detectCallbacks);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		listeners.clear();
+		callbacks.clear();
+	}
+
+	private boolean isObserved(Map<Class<?>, Map<Class<?>, Boolean>> cache, Class<?> type, Class<?> entityType,
+			Detection detection) {
+
+		if (context == null) {
+			return true;
+		}
+
+		Map<Class<?>, Boolean> byEntityType = cache.computeIfAbsent(type, it -> new ConcurrentHashMap<>());
+		Boolean observed = byEntityType.get(entityType);
+
+		if (observed == null) {
+
+			if (!isActive(context)) {
+				return true;
+			}
+
+			observed = detection.isObserved(context, type, entityType);
+			byEntityType.put(entityType, observed);
+		}
+
+		return observed;
+	}
+
+	private static boolean detectListeners(ApplicationContext context, Class<?> eventType, Class<?> entityType) {
+
+		ResolvableType resolvableEventType = eventType.getTypeParameters().length == 1
+				? ResolvableType.forClassWithGenerics(eventType, entityType)
+				: ResolvableType.forClass(eventType);
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			Collection<ApplicationListener<?>> candidates = getListeners(current);
+
+			if (candidates == null) {
+				return true;
+			}
+
+			for (ApplicationListener<?> candidate : candidates) {
+				if (supports(candidate, resolvableEventType, entityType)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Counts the listeners registered with {@code context} and its parents to detect listeners getting added or removed
+	 * after a lookup got cached.
+	 */
+	private static int countRegisteredListeners(ApplicationContext context) {
+
+		int count = 0;
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+			if (current instanceof AbstractApplicationContext) {
+				count += ((AbstractApplicationContext) current).getApplicationListeners().size();
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the listeners the {@link SimpleApplicationEventMulticaster} of {@code context} dispatches to or
+	 * {@literal null} if they can't be determined.
+	 */
+	@Nullable
+	@SuppressWarnings("rawtypes")
+	private static Collection<ApplicationListener<?>> getListeners(ApplicationContext context) {
+
+		if (!(context instanceof AbstractApplicationContext)) {
+			return null;
+		}
+
+		if (context.containsLocalBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+				&& context.getBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+						.getClass() != SimpleApplicationEventMulticaster.class) {
+			return null;
+		}
+
+		List<ApplicationListener<?>> listeners = new ArrayList<>(
+				((AbstractApplicationContext) context).getApplicationListeners());
+
+		for (ApplicationListener listener : context.getBeansOfType(ApplicationListener.class, true, false).values()) {
+			listeners.add(listener);
+		}
+
+		return listeners;
+	}
+
+	private static boolean supports(ApplicationListener<?> listener, ResolvableType eventType, Class<?> entityType) {
+
+		if (listener instanceof AbstractRelationalEventListener) {
+
+			return AbstractRelationalEvent.class.isAssignableFrom(eventType.toClass())
+					&& ((AbstractRelationalEventListener<?>) listener).getDomainClass().isAssignableFrom(entityType);
+		}
+
+		GenericApplicationListener genericListener = listener instanceof GenericApplicationListener
+				? (GenericApplicationListener) listener
+				: new GenericApplicationListenerAdapter(listener);
+
+		return genericListener.supportsEventType(eventType);
+	}
+
+	private static boolean detectCallbacks(ApplicationContext context, Class<?> callbackType, Class<?> entityType) {
+
+		for (Object callback : BeanFactoryUtils.beansOfTypeIncludingAncestors(context, callbackType, true, false)
+				.values()) {
+
+			Class<?> callbackEntityType = ResolvableType.forClass(ClassUtils.getUserClass(callback)).as(callbackType)
+					.resolveGeneric(0);
+
+			if (callbackEntityType == null || callbackEntityType.isAssignableFrom(entityType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isActive(ApplicationContext context) {
+		return !(context instanceof ConfigurableApplicationContext) || ((ConfigurableApplicationContext) context).isActive();
+	}
+
+	private interface Detection {
+		boolean isObserved(ApplicationContext context, Class<?> type, Class<?> entityType);
+	}
+}
@@ -32,12 +32,13 @@ class DefaultInsert implements Insert {
 
 	private final Into into;
 	private final List<Column> columns;
-	private final Values values;
+	private final List<Values> rows;
 
-	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values) {
+	DefaultInsert(@Nullable Table into, List<Column> columns, List<List<Expression>> rows) {
 		this.into = new Into(into);
 		this.columns = new ArrayList<>(columns);
-		this.values = new Values(new ArrayList<>(values));
+		this.rows = new ArrayList<>(rows.size());
+		rows.forEach(it -> this.rows.add(new Values(new ArrayList<>(it))));
 	}
 
 	/*
@@ -53,7 +54,7 @@ class DefaultInsert implements Insert {
 
 		into.visit(visitor);
 		columns.forEach(it -> it.visit(visitor));
-		values.visit(visitor);
+		rows.forEach(it -> it.visit(visitor));
 
 		visitor.leave(this);
 	}
@@ -73,7 +74,11 @@ class DefaultInsert implements Insert {
 			builder.append(" (").append(StringUtils.collectionToDelimitedString(this.columns, ", ")).append(")");
 		}
 
-		builder.append(" ").append(this.values);
+		builder.append(" VALUES");
+
+		for (int i = 0; i < this.rows.size(); i++) {
+			builder.append(i == 0 ? "" : ", ").append(this.rows.get(i).toRowString());
+		}
 
 		return builder.toString();
 	}
@@ -34,8 +34,13 @@ class DefaultInsertBuilder
 
 	private @Nullable Table into;
 	private List<Column> columns = new ArrayList<>();
+	private List<List<Expression>> rows = new ArrayList<>();
 	private List<Expression> values = new ArrayList<>();
 
+	DefaultInsertBuilder() {
+		rows.add(values);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.InsertBuilder#into(org.springframework.data.relational.core.sql.Table)
@@ -129,12 +134,39 @@ class DefaultInsertBuilder
 		return this;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.InsertBuilder.InsertValuesWithBuild#row(org.springframework.data.relational.core.sql.Expression[])
+	 */
+	@Override
+	public InsertValuesWithBuild row(Expression... values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		return row(Arrays.asList(values));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.InsertBuilder.InsertValuesWithBuild#row(java.util.Collection)
+	 */
+	@Override
+	public InsertValuesWithBuild row(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		this.values = new ArrayList<>(values);
+		this.rows.add(this.values);
+
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.InsertBuilder.BuildInsert#build()
 	 */
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+		return new DefaultInsert(this.into, this.columns, this.rows);
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,9 +42,12 @@ class DefaultSelect implements Select {
 	private final @Nullable Where where;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
+	private final @Nullable Duration lockWaitTimeout;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<Table> from, long limit, long offset,
-			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode,
+			LockWaitPolicy lockWaitPolicy, @Nullable Duration lockWaitTimeout) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
@@ -54,6 +58,8 @@ class DefaultSelect implements Select {
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
+		this.lockWaitTimeout = lockWaitTimeout;
 	}
 
 	/*
@@ -107,6 +113,25 @@ class DefaultSelect implements Select {
 		return lockMode;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Select#getLockWaitPolicy()
+	 */
+	@Override
+	public LockWaitPolicy getLockWaitPolicy() {
+		return lockWaitPolicy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Select#getLockWaitTimeout()
+	 */
+	@Nullable
+	@Override
+	public Duration getLockWaitTimeout() {
+		return lockWaitTimeout;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.Visitable#visit(org.springframework.data.relational.core.sql.Visitor)
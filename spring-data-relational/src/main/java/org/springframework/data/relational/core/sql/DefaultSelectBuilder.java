@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,6 +26,7 @@ import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectWhereAndOr;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default {@link SelectBuilder} implementation.
@@ -45,6 +47,8 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	private @Nullable Condition where;
 	private List<OrderByField> orderBy = new ArrayList<>();
 	private @Nullable LockMode lockMode;
+	private LockWaitPolicy lockWaitPolicy = LockWaitPolicy.WAIT;
+	private @Nullable Duration lockWaitTimeout;
 
 	/*
 	 * (non-Javadoc)
@@ -275,6 +279,39 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	public SelectLock lock(LockMode lockMode) {
 
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = LockWaitPolicy.WAIT;
+		this.lockWaitTimeout = null;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectLock#lock(org.springframework.data.relational.core.sql.LockMode, org.springframework.data.relational.core.sql.LockWaitPolicy)
+	 */
+	@Override
+	public SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy) {
+
+		Assert.notNull(waitPolicy, "LockWaitPolicy must not be null");
+
+		this.lockMode = lockMode;
+		this.lockWaitPolicy = waitPolicy;
+		this.lockWaitTimeout = null;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectLock#lock(org.springframework.data.relational.core.sql.LockMode, java.time.Duration)
+	 */
+	@Override
+	public SelectLock lock(LockMode lockMode, Duration waitTimeout) {
+
+		Assert.notNull(waitTimeout, "Wait timeout must not be null");
+		Assert.isTrue(!waitTimeout.isNegative(), "Wait timeout must not be negative");
+
+		this.lockMode = lockMode;
+		this.lockWaitPolicy = LockWaitPolicy.WAIT;
+		this.lockWaitTimeout = waitTimeout;
 		return this;
 	}
 
@@ -285,7 +322,8 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	@Override
 	public Select build() {
 
-		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy, lockMode);
+		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy, lockMode,
+				lockWaitPolicy, lockWaitTimeout);
 		SelectValidator.validate(select);
 		return select;
 	}
@@ -472,6 +510,26 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.lock(lockMode);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectLock#lock(org.springframework.data.relational.core.sql.LockMode, org.springframework.data.relational.core.sql.LockWaitPolicy)
+		 */
+		@Override
+		public SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, waitPolicy);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectLock#lock(org.springframework.data.relational.core.sql.LockMode, java.time.Duration)
+		 */
+		@Override
+		public SelectLock lock(LockMode lockMode, Duration waitTimeout) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, waitTimeout);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.sql.SelectBuilder.BuildSelect#build()
@@ -149,6 +149,26 @@ public interface InsertBuilder {
 		 */
 		@Override
 		InsertValuesWithBuild values(Collection<? extends Expression> values);
+
+		/**
+		 * Start a further row of {@link Expression values}, rendering a multi-row {@code INSERT … VALUES (…), (…)}.
+		 * Subsequent calls to {@link #value(Expression)} and {@link #values(Expression...)} add to the new row.
+		 *
+		 * @param values the values of the new row.
+		 * @return {@code this} builder.
+		 * @since 2.3
+		 */
+		InsertValuesWithBuild row(Expression... values);
+
+		/**
+		 * Start a further row of {@link Expression values}, rendering a multi-row {@code INSERT … VALUES (…), (…)}.
+		 * Subsequent calls to {@link #value(Expression)} and {@link #values(Expression...)} add to the new row.
+		 *
+		 * @param values the values of the new row.
+		 * @return {@code this} builder.
+		 * @since 2.3
+		 */
+		InsertValuesWithBuild row(Collection<? extends Expression> values);
 	}
 
 	/**
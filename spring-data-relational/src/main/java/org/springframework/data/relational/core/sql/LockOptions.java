@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -27,14 +30,36 @@ public class LockOptions {
 
 	private final LockMode lockMode;
 	private final From from;
+	private final LockWaitPolicy waitPolicy;
+	private final @Nullable Duration waitTimeout;
 
 	public LockOptions(LockMode lockMode, From from) {
+		this(lockMode, from, LockWaitPolicy.WAIT, null);
+	}
+
+	/**
+	 * Creates new {@link LockOptions}.
+	 *
+	 * @param lockMode the lock mode. Must not be {@literal null}.
+	 * @param from the tables to lock. Must not be {@literal null}.
+	 * @param waitPolicy how to deal with rows already locked. Must not be {@literal null}.
+	 * @param waitTimeout the maximum time to wait for a lock. Only applicable to {@link LockWaitPolicy#WAIT}.
+	 *          {@literal null} to wait as long as the database does by default.
+	 * @since 2.3
+	 */
+	public LockOptions(LockMode lockMode, From from, LockWaitPolicy waitPolicy, @Nullable Duration waitTimeout) {
 
 		Assert.notNull(lockMode, "LockMode must not be null");
 		Assert.notNull(from, "From must not be null");
+		Assert.notNull(waitPolicy, "LockWaitPolicy must not be null");
+		Assert.isTrue(waitTimeout == null || waitPolicy == LockWaitPolicy.WAIT,
+				"A wait timeout requires LockWaitPolicy.WAIT");
+		Assert.isTrue(waitTimeout == null || !waitTimeout.isNegative(), "Wait timeout must not be negative");
 
 		this.lockMode = lockMode;
 		this.from = from;
+		this.waitPolicy = waitPolicy;
+		this.waitTimeout = waitTimeout;
 	}
 
 	public LockMode getLockMode() {
@@ -44,4 +69,21 @@ public class LockOptions {
 	public From getFrom() {
 		return this.from;
 	}
+
+	/**
+	 * @return how to deal with rows already locked.
+	 * @since 2.3
+	 */
+	public LockWaitPolicy getWaitPolicy() {
+		return this.waitPolicy;
+	}
+
+	/**
+	 * @return the maximum time to wait for a lock or {@literal null} if not limited.
+	 * @since 2.3
+	 */
+	@Nullable
+	public Duration getWaitTimeout() {
+		return this.waitTimeout;
+	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * Policies for rows that are already locked by another transaction when a {@link Select} acquires its lock.
+ *
+ * @since 2.3
+ * @see LockOptions
+ */
+public enum LockWaitPolicy {
+
+	/**
+	 * Wait until the lock gets released, optionally limited by a wait timeout. This is the default.
+	 */
+	WAIT,
+
+	/**
+	 * Fail immediately instead of waiting ({@code NOWAIT}).
+	 */
+	NO_WAIT,
+
+	/**
+	 * Leave locked rows out of the result ({@code SKIP LOCKED}). Allows competing consumers to pick rows of a queue
+	 * table without blocking each other.
+	 */
+	SKIP_LOCKED
+}
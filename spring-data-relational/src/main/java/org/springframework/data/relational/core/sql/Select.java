@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.sql;
 
 import org.springframework.lang.Nullable;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.OptionalLong;
 
@@ -79,4 +80,17 @@ public interface Select extends Segment, Visitable {
 
 	@Nullable
 	LockMode getLockMode();
+
+	/**
+	 * @return how to deal with rows already locked. Only applicable if a {@link #getLockMode() lock mode} is set.
+	 * @since 2.3
+	 */
+	LockWaitPolicy getLockWaitPolicy();
+
+	/**
+	 * @return the maximum time to wait for a lock or {@literal null} if not limited.
+	 * @since 2.3
+	 */
+	@Nullable
+	Duration getLockWaitTimeout();
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.Collection;
 
 /**
@@ -544,6 +545,26 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectLock lock(LockMode lockMode);
+
+		/**
+		 * Apply lock to read and configure how to deal with rows already locked.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param waitPolicy how to deal with rows already locked.
+		 * @return {@code this} builder.
+		 * @since 2.3
+		 */
+		SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy);
+
+		/**
+		 * Apply lock to read, waiting at most {@code waitTimeout} for rows already locked.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param waitTimeout the maximum time to wait for a lock.
+		 * @return {@code this} builder.
+		 * @since 2.3
+		 */
+		SelectLock lock(LockMode lockMode, Duration waitTimeout);
 	}
 
 	/**
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.sql.render;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Insert;
 import org.springframework.data.relational.core.sql.Into;
@@ -33,11 +36,11 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 	private StringBuilder builder = new StringBuilder();
 	private StringBuilder into = new StringBuilder();
 	private StringBuilder columns = new StringBuilder();
-	private StringBuilder values = new StringBuilder();
+	private List<CharSequence> rows = new ArrayList<>();
 
 	private IntoClauseVisitor intoClauseVisitor;
 	private ColumnVisitor columnVisitor;
-	private ValuesVisitor valuesVisitor;
+	private RenderContext context;
 
 	InsertStatementVisitor(RenderContext context) {
 
@@ -59,7 +62,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 			columns.append(it);
 		});
 
-		this.valuesVisitor = new ValuesVisitor(context, values::append);
+		this.context = context;
 	}
 
 	/*
@@ -78,7 +81,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		}
 
 		if (segment instanceof Values) {
-			return Delegation.delegateTo(this.valuesVisitor);
+			return Delegation.delegateTo(new ValuesVisitor(context, rows::add));
 		}
 
 		return Delegation.retain();
@@ -101,7 +104,11 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 				builder.append(" (").append(columns).append(")");
 			}
 
-			builder.append(" VALUES (").append(values).append(")");
+			builder.append(" VALUES ");
+
+			for (int i = 0; i < rows.size(); i++) {
+				builder.append(i == 0 ? "(" : ", (").append(rows.get(i)).append(")");
+			}
 
 			return Delegation.leave();
 		}
@@ -116,6 +116,43 @@ public class BasicRelationalConverterUnitTests {
 		assertThat(result).isEqualTo(new MyValue("hello-world"));
 	}
 
+	@Test
+	public void shouldRejectUnknownEnumName() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> converter.readValue("DIMMED", ClassTypeInformation.from(MyEnum.class)));
+	}
+
+	@Test
+	public void shouldConvertBetweenNumberTypes() {
+
+		assertThat(converter.readValue(42, ClassTypeInformation.from(Long.class))).isEqualTo(42L);
+		assertThat(converter.readValue(42L, ClassTypeInformation.from(int.class))).isEqualTo(42);
+		assertThat(converter.readValue(42L, ClassTypeInformation.from(Number.class))).isEqualTo(42L);
+	}
+
+	@Test
+	public void shouldConsiderReadConverterForPrimitiveNumberTarget() {
+
+		Set<GenericConverter> converters = ConverterBuilder.reading(Long.class, Integer.class, it -> it.intValue() * 2)
+				.getConverters();
+		CustomConversions conversions = new CustomConversions(CustomConversions.StoreConversions.NONE, converters);
+		BasicRelationalConverter converter = new BasicRelationalConverter(context, conversions);
+
+		assertThat(converter.readValue(21L, ClassTypeInformation.from(int.class))).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldReuseValueReaderPerTypePair() {
+
+		BasicRelationalConverter basicConverter = (BasicRelationalConverter) converter;
+
+		assertThat(basicConverter.getValueReader(String.class, MyEnum.class))
+				.isSameAs(basicConverter.getValueReader(String.class, MyEnum.class));
+		assertThat(basicConverter.getValueReader(String.class, MyValue.class).isCustomConversion()).isTrue();
+		assertThat(basicConverter.getValueReader(String.class, MyEnum.class).isCustomConversion()).isFalse();
+	}
+
 	@Data
 	static class MyEntity {
 		boolean flag;
@@ -15,10 +15,13 @@
  */
 package org.springframework.data.relational.core.conversion;
 
-import org.junit.jupiter.api.Test;
-
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
 /**
  * Unit test for {@link DbActionExecutionException}.
  *
@@ -33,4 +36,16 @@ public class DbActionExecutionExceptionUnitTests {
 		new DbActionExecutionException(action, null);
 	}
 
+	@Test
+	public void reportsAllActionsExecutedTogether() {
+
+		DbAction<?> first = mock(DbAction.class);
+		DbAction<?> second = mock(DbAction.class);
+
+		assertThat(new DbActionExecutionException(Arrays.asList(first, second), null)) //
+				.hasMessageStartingWith("Failed to execute 2 actions together: [") //
+				.hasMessageContaining(first.toString()) //
+				.hasMessageContaining(second.toString());
+	}
+
 }
@@ -35,8 +35,12 @@ import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
+import org.springframework.data.relational.core.conversion.DbAction.MergeRoot;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
+import org.springframework.data.relational.core.mapping.AssignedId;
 import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.LazyLoadingRelation;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
@@ -162,6 +166,66 @@ public class RelationalEntityWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void existingEntityWithAssignedIdGetsConvertedToDeletePlusMerge() {
+
+		AssignedIdContainer entity = new AssignedIdContainer(SOME_ENTITY_ID);
+		entity.elements.add(new Element(null));
+
+		MutableAggregateChange<AssignedIdContainer> aggregateChange = //
+				new DefaultAggregateChange<>(AggregateChange.Kind.SAVE, AssignedIdContainer.class, entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, //
+						DbAction::getEntityType, //
+						DbActionTestSupport::extractPath, //
+						DbActionTestSupport::actualEntityType, //
+						DbActionTestSupport::isWithDependsOn) //
+				.containsExactly( //
+						tuple(MergeRoot.class, AssignedIdContainer.class, "", AssignedIdContainer.class, false), //
+						tuple(Delete.class, Element.class, "elements", null, false), //
+						tuple(Insert.class, Element.class, "elements", Element.class, true) //
+				);
+	}
+
+	@Test
+	public void unresolvedLazyRelationIsLeftAlone() {
+
+		LazyListContainer entity = new LazyListContainer(SOME_ENTITY_ID);
+		entity.elements = new LazyList(false);
+
+		MutableAggregateChange<LazyListContainer> aggregateChange = new DefaultAggregateChange<>(
+				AggregateChange.Kind.SAVE, LazyListContainer.class, entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType) //
+				.containsExactly(tuple(UpdateRoot.class, LazyListContainer.class));
+	}
+
+	@Test
+	public void resolvedLazyRelationTriggersDeletePlusInsert() {
+
+		LazyListContainer entity = new LazyListContainer(SOME_ENTITY_ID);
+		entity.elements = new LazyList(true);
+		entity.elements.add(new Element(null));
+
+		MutableAggregateChange<LazyListContainer> aggregateChange = new DefaultAggregateChange<>(
+				AggregateChange.Kind.SAVE, LazyListContainer.class, entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType) //
+				.containsExactly( //
+						tuple(UpdateRoot.class, LazyListContainer.class), //
+						tuple(Delete.class, Element.class), //
+						tuple(Insert.class, Element.class));
+	}
+
 	@Test // DATAJDBC-112
 	public void newReferenceTriggersDeletePlusInsert() {
 
@@ -690,6 +754,13 @@ public class RelationalEntityWriterUnitTests {
 		Set<Element> elements = new HashSet<>();
 	}
 
+	@RequiredArgsConstructor
+	private static class AssignedIdContainer {
+
+		@Id @AssignedId final Long id;
+		Set<Element> elements = new HashSet<>();
+	}
+
 	@RequiredArgsConstructor
 	private static class ListMapContainer {
 
@@ -716,6 +787,25 @@ public class RelationalEntityWriterUnitTests {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	private static class LazyListContainer {
+
+		@Id final Long id;
+		@MappedCollection(lazy = true) List<Element> elements = new ArrayList<>();
+	}
+
+	@SuppressWarnings("serial")
+	@RequiredArgsConstructor
+	private static class LazyList extends ArrayList<Element> implements LazyLoadingRelation {
+
+		final boolean resolved;
+
+		@Override
+		public boolean isResolved() {
+			return resolved;
+		}
+	}
+
 	@RequiredArgsConstructor
 	private static class ElementReference {
 		final Element element;
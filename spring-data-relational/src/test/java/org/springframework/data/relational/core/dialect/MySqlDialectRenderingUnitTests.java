@@ -21,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -123,4 +124,28 @@ public class MySqlDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 LOCK IN SHARE MODE");
 	}
+
+	@Test
+	public void shouldRenderSelectWithLockWriteSkipLocked() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR UPDATE SKIP LOCKED");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockReadNoWaitUsingForShare() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NO_WAIT).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR SHARE NOWAIT");
+	}
 }
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
@@ -83,4 +86,17 @@ public class MySqlDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("LOCK IN SHARE MODE");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Upsert upsert = MySqlDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("dummy", Arrays.asList("id", "name"), Arrays.asList(":id", ":name"),
+				Collections.singleton("id")))
+						.isEqualTo("INSERT INTO dummy (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+		assertThat(upsert.getUpsert("dummy", Collections.singletonList("id"), Collections.singletonList(":id"),
+				Collections.singleton("id"))).isEqualTo("INSERT INTO dummy (id) VALUES (:id) ON DUPLICATE KEY UPDATE id = id");
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Unit tests for {@link OracleDialect}.
+ */
+public class OracleDialectUnitTests {
+
+	@Test
+	public void shouldRenderUpsertSelectingFromDual() {
+
+		Upsert upsert = OracleDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("dummy", Arrays.asList("id", "name"), Arrays.asList(":id", ":name"),
+				Collections.singleton("id"))).isEqualTo("MERGE INTO dummy target " //
+						+ "USING (SELECT :id id, :name name FROM DUAL) source ON (target.id = source.id) " //
+						+ "WHEN MATCHED THEN UPDATE SET name = source.name " //
+						+ "WHEN NOT MATCHED THEN INSERT (id, name) VALUES (source.id, source.name)");
+	}
+
+	@Test
+	public void shouldRenderUpsertLeavingOutIdentityColumnsWhenInserting() {
+
+		Upsert upsert = OracleDialect.INSTANCE.upsert();
+
+		assertThat(upsert.getUpsert("dummy", Arrays.asList("id", "name"), Arrays.asList(":id", ":name"),
+				Collections.singleton("id"), Collections.singleton("id"))).isEqualTo("MERGE INTO dummy target " //
+						+ "USING (SELECT :id id, :name name FROM DUAL) source ON (target.id = source.id) " //
+						+ "WHEN MATCHED THEN UPDATE SET name = source.name " //
+						+ "WHEN NOT MATCHED THEN INSERT (name) VALUES (source.name)");
+	}
+
+	@Test
+	public void shouldRenderSequenceQuerySelectingFromDual() {
+
+		IdGeneration idGeneration = OracleDialect.INSTANCE.getIdGeneration();
+
+		assertThat(idGeneration.sequencesSupported()).isTrue();
+		assertThat(idGeneration.driverRequiresKeyColumnNames()).isTrue();
+		assertThat(idGeneration.createSequenceQuery(SqlIdentifier.unquoted("my_seq")))
+				.isEqualTo("SELECT my_seq.nextval FROM DUAL");
+	}
+
+	@Test
+	public void shouldRenderLockWaitPolicies() {
+
+		LockClause lock = OracleDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, from))).isEqualTo("FOR UPDATE");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, from, LockWaitPolicy.SKIP_LOCKED, null)))
+				.isEqualTo("FOR UPDATE SKIP LOCKED");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, from, LockWaitPolicy.NO_WAIT, null)))
+				.isEqualTo("FOR UPDATE NOWAIT");
+		assertThat(lock.getLock(
+				new LockOptions(LockMode.PESSIMISTIC_WRITE, from, LockWaitPolicy.WAIT, Duration.ofMillis(2500))))
+						.isEqualTo("FOR UPDATE WAIT 3");
+	}
+}
@@ -17,10 +17,13 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -147,4 +150,39 @@ public class PostgresDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR SHARE OF foo");
 	}
+
+	@Test
+	public void shouldRenderSelectWithLockWriteSkipLocked() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR UPDATE OF foo SKIP LOCKED");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockReadNoWait() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NO_WAIT).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR SHARE OF foo NOWAIT");
+	}
+
+	@Test
+	public void shouldRejectLockWaitTimeout() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, Duration.ofSeconds(5)).build();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> SqlRenderer.create(factory.createRenderContext()).render(select));
+	}
 }
@@ -17,12 +17,15 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
 import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 
 import java.util.Collections;
@@ -91,4 +94,28 @@ public class PostgresDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("FOR SHARE OF dummy_table");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Upsert upsert = PostgresDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("dummy", asList("id", "name", "age"), asList(":id", ":name", ":age"), singleton("id")))
+				.isEqualTo("INSERT INTO dummy (id, name, age) VALUES (:id, :name, :age) "
+						+ "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, age = EXCLUDED.age");
+		assertThat(upsert.getUpsert("dummy", singletonList("id"), singletonList(":id"), singleton("id")))
+				.isEqualTo("INSERT INTO dummy (id) VALUES (:id) ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	public void shouldRenderSequenceQuery() {
+
+		IdGeneration idGeneration = PostgresDialect.INSTANCE.getIdGeneration();
+
+		assertThat(idGeneration.sequencesSupported()).isTrue();
+		assertThat(idGeneration.createSequenceQuery(
+				SqlIdentifier.from(SqlIdentifier.unquoted("my_schema"), SqlIdentifier.unquoted("my_seq"))))
+						.isEqualTo("SELECT nextval('my_schema.my_seq')");
+	}
 }
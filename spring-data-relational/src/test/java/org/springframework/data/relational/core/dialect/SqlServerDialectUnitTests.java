@@ -18,6 +18,9 @@ package org.springframework.data.relational.core.dialect;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.From;
@@ -76,4 +79,29 @@ public class SqlServerDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("WITH (HOLDLOCK, ROWLOCK)");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_FROM_TABLE);
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Upsert upsert = SqlServerDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("dummy", Arrays.asList("id", "name"), Arrays.asList(":id", ":name"),
+				Collections.singleton("id"))).isEqualTo("MERGE INTO dummy AS target " //
+						+ "USING (VALUES (:id, :name)) AS source (id, name) ON (target.id = source.id) " //
+						+ "WHEN MATCHED THEN UPDATE SET name = source.name " //
+						+ "WHEN NOT MATCHED THEN INSERT (id, name) VALUES (source.id, source.name);");
+	}
+
+	@Test
+	public void shouldRenderUpsertLeavingOutIdentityColumnsWhenInserting() {
+
+		Upsert upsert = SqlServerDialect.INSTANCE.upsert();
+
+		assertThat(upsert.getUpsert("dummy", Arrays.asList("id", "name"), Arrays.asList(":id", ":name"),
+				Collections.singleton("id"), Collections.singleton("id"))).isEqualTo("MERGE INTO dummy AS target " //
+						+ "USING (VALUES (:id, :name)) AS source (id, name) ON (target.id = source.id) " //
+						+ "WHEN MATCHED THEN UPDATE SET name = source.name " //
+						+ "WHEN NOT MATCHED THEN INSERT (name) VALUES (source.name);");
+	}
 }
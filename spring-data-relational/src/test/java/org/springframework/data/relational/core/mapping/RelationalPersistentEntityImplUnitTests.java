@@ -72,6 +72,22 @@ public class RelationalPersistentEntityImplUnitTests {
 				.isEqualTo("\"MY_SCHEMA\".\"DUMMY_ENTITY_WITH_EMPTY_ANNOTATION\"");
 	}
 
+	@Test
+	public void namingStrategyWithSchemaPerCallResolvesSchemaOnEachCall() {
+
+		TenantNamingStrategy namingStrategy = new TenantNamingStrategy();
+		mappingContext = new RelationalMappingContext(namingStrategy);
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(DummyEntityWithEmptyAnnotation.class);
+
+		namingStrategy.tenant = "tenant_a";
+		assertThat(entity.getTableName().toSql(IdentifierProcessing.ANSI))
+				.isEqualTo("\"TENANT_A\".\"DUMMY_ENTITY_WITH_EMPTY_ANNOTATION\"");
+
+		namingStrategy.tenant = "tenant_b";
+		assertThat(entity.getTableName().toSql(IdentifierProcessing.ANSI))
+				.isEqualTo("\"TENANT_B\".\"DUMMY_ENTITY_WITH_EMPTY_ANNOTATION\"");
+	}
+
 	@Table("dummy_sub_entity")
 	static class DummySubEntity {
 		@Id @Column("renamedId") Long id;
@@ -90,4 +106,19 @@ public class RelationalPersistentEntityImplUnitTests {
 			return "my_schema";
 		}
 	}
+
+	static class TenantNamingStrategy implements NamingStrategy {
+
+		String tenant;
+
+		@Override
+		public String getSchema() {
+			return tenant;
+		}
+
+		@Override
+		public boolean isSchemaPerCall() {
+			return true;
+		}
+	}
 }
@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.mapping.event;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,14 @@ public class AbstractRelationalEventListenerUnitTests {
 		assertThat(events).containsExactly("afterLoad");
 	}
 
+	@Test
+	public void afterLoadAll() {
+
+		listener.onApplicationEvent(new AfterLoadAllEvent<>(Collections.singletonList(dummyEntity), DummyEntity.class));
+
+		assertThat(events).containsExactly("afterLoadAll");
+	}
+
 	@Test // DATAJDBC-454
 	public void beforeConvert() {
 
@@ -122,6 +131,11 @@ public class AbstractRelationalEventListenerUnitTests {
 			events.add("afterLoad");
 		}
 
+		@Override
+		protected void onAfterLoadAll(AfterLoadAllEvent<DummyEntity> event) {
+			events.add("afterLoadAll");
+		}
+
 		@Override
 		protected void onAfterDelete(AfterDeleteEvent<DummyEntity> event) {
 			events.add("afterDelete");
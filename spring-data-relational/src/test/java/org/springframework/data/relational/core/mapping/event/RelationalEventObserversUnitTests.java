@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Unit tests for {@link RelationalEventObservers}.
+ */
+public class RelationalEventObserversUnitTests {
+
+	@Test
+	public void considersAllEventsObservedForPlainPublisher() {
+
+		RelationalEventObservers observers = RelationalEventObservers.of(mock(ApplicationEventPublisher.class));
+
+		assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		assertThat(observers.hasCallbacks(AfterLoadCallback.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void detectsMissingListenersAndCallbacks() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+
+			context.refresh();
+			RelationalEventObservers observers = RelationalEventObservers.of(context);
+
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+			assertThat(observers.hasCallbacks(AfterLoadCallback.class, Person.class)).isFalse();
+		}
+	}
+
+	@Test
+	public void detectsRelationalEventListenerForDomainType() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				PersonListener.class)) {
+
+			RelationalEventObservers observers = RelationalEventObservers.of(context);
+
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+			assertThat(observers.hasListeners(AfterLoadAllEvent.class, Person.class)).isTrue();
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Address.class)).isFalse();
+		}
+	}
+
+	@Test
+	public void detectsEventListenerMethods() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				AfterLoadAllListener.class)) {
+
+			RelationalEventObservers observers = RelationalEventObservers.of(context);
+
+			assertThat(observers.hasListeners(AfterLoadAllEvent.class, Person.class)).isTrue();
+			assertThat(observers.hasListeners(AfterLoadAllEvent.class, Address.class)).isFalse();
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+		}
+	}
+
+	@Test
+	public void detectsListenersAddedAfterLookup() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+
+			context.refresh();
+			RelationalEventObservers observers = RelationalEventObservers.of(context);
+
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isFalse();
+
+			context.addApplicationListener(new PersonListener());
+
+			assertThat(observers.hasListeners(AfterLoadEvent.class, Person.class)).isTrue();
+		}
+	}
+
+	@Test
+	public void detectsCallbacksForEntityType() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				PersonCallback.class)) {
+
+			RelationalEventObservers observers = RelationalEventObservers.of(context);
+
+			assertThat(observers.hasCallbacks(AfterLoadCallback.class, Person.class)).isTrue();
+			assertThat(observers.hasCallbacks(AfterLoadCallback.class, Address.class)).isFalse();
+			assertThat(observers.hasCallbacks(BeforeConvertCallback.class, Person.class)).isFalse();
+		}
+	}
+
+	static class Person {}
+
+	static class Address {}
+
+	static class PersonListener extends AbstractRelationalEventListener<Person> {}
+
+	static class AfterLoadAllListener {
+
+		@EventListener
+		public void onAfterLoadAll(AfterLoadAllEvent<Person> event) {}
+	}
+
+	static class PersonCallback implements AfterLoadCallback<Person> {
+
+		@Override
+		public Person onAfterLoad(Person aggregate) {
+			return aggregate;
+		}
+	}
+}
@@ -71,4 +71,19 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES ()");
 	}
 
+	@Test
+	public void shouldRenderMultiRowInsert() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")) //
+				.values(SQL.bindMarker(":foo_0"), SQL.bindMarker(":baz_0")) //
+				.row(SQL.bindMarker(":foo_1"), SQL.bindMarker(":baz_1")) //
+				.row(SQL.bindMarker(":foo_2")).value(SQL.literalOf("baz")) //
+				.build();
+
+		assertThat(SqlRenderer.toString(insert))
+				.isEqualTo("INSERT INTO bar (foo, baz) VALUES (:foo_0, :baz_0), (:foo_1, :baz_1), (:foo_2, 'baz')");
+	}
+
 }